@@ -0,0 +1,47 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import org.apache.flink.dropwizard.metrics.DropwizardHistogramWrapper;
+import org.apache.flink.metrics.Histogram;
+
+import com.codahale.metrics.SlidingTimeWindowReservoir;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares updates/sec of the sliding time window reservoir histogram against the {@link IntervalHistogram},
+ * from several threads updating the same histogram as the async operators do. Run with -prof gc to see the
+ * allocation rate per update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Threads(4)
+public class HistogramUpdateBenchmark {
+    private static final long MAX_LATENCY_MS = 5_000L;
+    private Histogram slidingTimeWindowHistogram;
+    private Histogram intervalHistogram;
+
+    @Setup
+    public void setup() {
+        slidingTimeWindowHistogram = new DropwizardHistogramWrapper(
+                new com.codahale.metrics.Histogram(new SlidingTimeWindowReservoir(10, TimeUnit.SECONDS)));
+        intervalHistogram = new IntervalHistogram(2, IntervalHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE, 10_000L);
+    }
+
+    @Benchmark
+    public void slidingTimeWindowReservoir() {
+        slidingTimeWindowHistogram.update(ThreadLocalRandom.current().nextLong(MAX_LATENCY_MS));
+    }
+
+    @Benchmark
+    public void intervalHistogram() {
+        intervalHistogram.update(ThreadLocalRandom.current().nextLong(MAX_LATENCY_MS));
+    }
+}
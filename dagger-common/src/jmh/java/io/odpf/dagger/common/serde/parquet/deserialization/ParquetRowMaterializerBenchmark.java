@@ -0,0 +1,99 @@
+package io.odpf.dagger.common.serde.parquet.deserialization;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.apache.flink.types.Row;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.schema.MessageType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.DOUBLE;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.FLOAT;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+
+/**
+ * Compares rows/sec per core of building a {@link SimpleGroup} and deserializing it against
+ * materializing the row straight from the column values with {@link ParquetRowMaterializer}.
+ * Both read the same record through their parquet converters on a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class ParquetRowMaterializerBenchmark {
+    private SimpleGroupDeserializer simpleGroupDeserializer;
+    private GroupRecordConverter groupRecordConverter;
+    private ParquetRowMaterializer rowMaterializer;
+    private MessageType schema;
+    private SimpleGroup record;
+
+    @Setup
+    public void setup() {
+        Configuration configuration = new Configuration(ParameterTool.fromMap(new HashMap<>()));
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+        simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        schema = org.apache.parquet.schema.Types.buildMessage()
+                .optional(BINARY).named("service_type")
+                .optional(BINARY).named("order_number")
+                .optional(BINARY).named("order_url")
+                .optional(BINARY).named("status")
+                .optional(INT64).named("event_timestamp")
+                .optional(BINARY).named("customer_id")
+                .optional(BINARY).named("driver_id")
+                .optional(FLOAT).named("amount_paid_by_cash")
+                .optional(INT32).named("cancel_reason_id")
+                .optional(INT64).named("customer_total_fare_without_surge")
+                .optional(DOUBLE).named("cash_amount")
+                .repeated(BINARY).named("meta_array")
+                .optionalGroup()
+                .optional(BINARY).named("name")
+                .optional(DOUBLE).named("latitude")
+                .optional(DOUBLE).named("longitude")
+                .named("driver_pickup_location")
+                .named("TestGroupType");
+        record = new SimpleGroup(schema);
+        record.add("service_type", "GO_RIDE");
+        record.add("order_number", "order-1");
+        record.add("order_url", "https://www.abcd.com/order-1");
+        record.add("status", "COMPLETED");
+        record.add("event_timestamp", 1600000000123L);
+        record.add("customer_id", "144614");
+        record.add("driver_id", "7821");
+        record.add("amount_paid_by_cash", 12.5F);
+        record.add("cancel_reason_id", 3);
+        record.add("customer_total_fare_without_surge", 25000L);
+        record.add("cash_amount", 12.25D);
+        record.add("meta_array", "meta-1");
+        record.add("meta_array", "meta-2");
+        record.addGroup("driver_pickup_location").append("name", "Jakarta").append("latitude", -6.2).append("longitude", 106.8);
+        groupRecordConverter = new GroupRecordConverter(schema);
+        rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+    }
+
+    @Benchmark
+    public Row simpleGroupDeserializer() {
+        ParquetRecordReplayer.replay(record, schema, groupRecordConverter.getRootConverter());
+        return simpleGroupDeserializer.deserialize((SimpleGroup) groupRecordConverter.getCurrentRecord());
+    }
+
+    @Benchmark
+    public Row rowMaterializer() {
+        ParquetRecordReplayer.replay(record, rowMaterializer.getRequestedSchema(), rowMaterializer.getRootConverter());
+        return rowMaterializer.getCurrentRecord();
+    }
+}
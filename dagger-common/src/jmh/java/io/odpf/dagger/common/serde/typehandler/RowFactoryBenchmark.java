@@ -0,0 +1,61 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestPaymentOptionMetadata;
+import io.odpf.dagger.consumer.TestServiceType;
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Compares records/sec of the field-wise handler lookup against the precompiled {@link RowConverter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class RowFactoryBenchmark {
+    private DynamicMessage dynamicMessage;
+
+    @Setup
+    public void setup() throws InvalidProtocolBufferException {
+        TestBookingLogMessage bookingLogMessage = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setOrderUrl("https://www.abcd.com/order-1")
+                .setServiceType(TestServiceType.Enum.GO_RIDE)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(123).build())
+                .setCustomerId("144614")
+                .setDriverPickupLocation(TestLocation.newBuilder().setLatitude(-6.2).setLongitude(106.8).build())
+                .setPaymentOptionMetadata(TestPaymentOptionMetadata.newBuilder().setMaskedCard("4111").setNetwork("VISA").build())
+                .putMetadata("key", "value")
+                .addMetaArray("meta")
+                .build();
+        dynamicMessage = DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), bookingLogMessage.toByteArray());
+    }
+
+    @Benchmark
+    public Row fieldWiseHandlerLookup() {
+        List<FieldDescriptor> descriptorFields = dynamicMessage.getDescriptorForType().getFields();
+        Row row = new Row(descriptorFields.size() + 2);
+        for (FieldDescriptor fieldDescriptor : descriptorFields) {
+            TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
+            row.setField(fieldDescriptor.getIndex(), typeHandler.transformFromProto(dynamicMessage.getField(fieldDescriptor)));
+        }
+        return row;
+    }
+
+    @Benchmark
+    public Row precompiledRowConverter() {
+        return RowFactory.createRow(dynamicMessage, 2);
+    }
+}
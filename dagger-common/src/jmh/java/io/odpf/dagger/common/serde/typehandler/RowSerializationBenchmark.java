@@ -0,0 +1,102 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestServiceType;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time to serialize and deserialize the input/output row of the post processors through Kryo,
+ * as for a generic {@link Row}, against the {@link RowTypeInfo} built from the SQL types and the output proto.
+ * The serialized bytes per record of both are reported as the {@code serializedBytes} secondary result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowSerializationBenchmark {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private Row inputOutputRow;
+    private TypeSerializer<Row> kryoSerializer;
+    private TypeSerializer<Row> rowSerializer;
+    private DataOutputSerializer outputView;
+    private DataInputDeserializer inputView;
+
+    @Setup
+    public void setup() throws InvalidProtocolBufferException, IOException {
+        TestBookingLogMessage bookingLogMessage = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setOrderUrl("https://www.abcd.com/order-1")
+                .setServiceType(TestServiceType.Enum.GO_RIDE)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(123).build())
+                .setCustomerId("144614")
+                .setDriverPickupLocation(TestLocation.newBuilder().setLatitude(-6.2).setLongitude(106.8).build())
+                .build();
+        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), bookingLogMessage.toByteArray());
+        Row inputRow = Row.of("order-1", "144614", 1250.5D, LocalDateTime.of(2020, 9, 13, 12, 26, 40));
+        inputOutputRow = Row.of(inputRow, RowFactory.createRow(dynamicMessage));
+
+        RowTypeInfo inputRowType = new RowTypeInfo(Types.STRING, Types.STRING, Types.DOUBLE, Types.LOCAL_DATE_TIME);
+        TypeInformation<Row> outputRowType = TypeInformationFactory.getRowType(TestBookingLogMessage.getDescriptor());
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        kryoSerializer = new GenericTypeInfo<>(Row.class).createSerializer(executionConfig);
+        rowSerializer = new RowTypeInfo(inputRowType, outputRowType).createSerializer(executionConfig);
+        outputView = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+        inputView = new DataInputDeserializer();
+    }
+
+    private Row roundTrip(TypeSerializer<Row> serializer, SerializedSize serializedSize) throws IOException {
+        outputView.clear();
+        serializer.serialize(inputOutputRow, outputView);
+        serializedSize.serializedBytes = outputView.length();
+        inputView.setBuffer(outputView.getSharedBuffer(), 0, outputView.length());
+        return serializer.deserialize(inputView);
+    }
+
+    @Benchmark
+    public Row kryoGenericRow(SerializedSize serializedSize) throws IOException {
+        return roundTrip(kryoSerializer, serializedSize);
+    }
+
+    @Benchmark
+    public Row typedRow(SerializedSize serializedSize) throws IOException {
+        return roundTrip(rowSerializer, serializedSize);
+    }
+
+    /**
+     * The size of a serialized record, set rather than summed on every round trip so that the counter
+     * reads as the bytes of one record of the benchmark thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SerializedSize {
+        private long serializedBytes;
+
+        public long serializedBytes() {
+            return serializedBytes;
+        }
+    }
+}
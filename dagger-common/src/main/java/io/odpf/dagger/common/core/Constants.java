@@ -14,6 +14,12 @@ public class Constants {
     public static final String GAUGE_ASPECT_NAME = "value";
 
     public static final long SLIDING_TIME_WINDOW = 10;
+    public static final String METRIC_HISTOGRAM_INTERVAL_ENABLE_KEY = "METRIC_HISTOGRAM_INTERVAL_ENABLE";
+    public static final boolean METRIC_HISTOGRAM_INTERVAL_ENABLE_DEFAULT = false;
+    public static final String METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_KEY = "METRIC_HISTOGRAM_SIGNIFICANT_DIGITS";
+    public static final int METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_DEFAULT = 2;
+    public static final String METRIC_HISTOGRAM_INTERVAL_SECONDS_KEY = "METRIC_HISTOGRAM_INTERVAL_SECONDS";
+    public static final long METRIC_HISTOGRAM_INTERVAL_SECONDS_DEFAULT = SLIDING_TIME_WINDOW;
     public static final String STREAM_INPUT_SCHEMA_PROTO_CLASS = "INPUT_SCHEMA_PROTO_CLASS";
     public static final String STREAM_INPUT_SCHEMA_TABLE = "INPUT_SCHEMA_TABLE";
     public static final String INPUT_STREAMS = "STREAMS";
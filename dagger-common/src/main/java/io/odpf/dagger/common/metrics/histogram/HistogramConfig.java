@@ -0,0 +1,80 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import io.odpf.dagger.common.configuration.Configuration;
+
+import java.io.Serializable;
+
+import static io.odpf.dagger.common.core.Constants.*;
+
+/**
+ * The Histogram config, deciding between the sliding time window reservoir and the fixed memory
+ * {@link IntervalHistogram} for the histograms of the meter stats manager.
+ */
+public class HistogramConfig implements Serializable {
+    private final boolean intervalHistogramEnabled;
+    private final int significantDigits;
+    private final long intervalSeconds;
+
+    /**
+     * Instantiates a new Histogram config with the sliding time window reservoir.
+     */
+    public HistogramConfig() {
+        this(METRIC_HISTOGRAM_INTERVAL_ENABLE_DEFAULT, METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_DEFAULT, METRIC_HISTOGRAM_INTERVAL_SECONDS_DEFAULT);
+    }
+
+    /**
+     * Instantiates a new Histogram config.
+     *
+     * @param configuration the configuration
+     */
+    public HistogramConfig(Configuration configuration) {
+        this.intervalHistogramEnabled = configuration.getBoolean(METRIC_HISTOGRAM_INTERVAL_ENABLE_KEY, METRIC_HISTOGRAM_INTERVAL_ENABLE_DEFAULT);
+        if (intervalHistogramEnabled) {
+            this.significantDigits = configuration.getInteger(METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_KEY, METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_DEFAULT);
+            this.intervalSeconds = configuration.getLong(METRIC_HISTOGRAM_INTERVAL_SECONDS_KEY, METRIC_HISTOGRAM_INTERVAL_SECONDS_DEFAULT);
+        } else {
+            this.significantDigits = METRIC_HISTOGRAM_SIGNIFICANT_DIGITS_DEFAULT;
+            this.intervalSeconds = METRIC_HISTOGRAM_INTERVAL_SECONDS_DEFAULT;
+        }
+    }
+
+    /**
+     * Instantiates a new Histogram config with specified values.
+     *
+     * @param intervalHistogramEnabled whether to use the interval histogram
+     * @param significantDigits        the significant digits of the interval histogram
+     * @param intervalSeconds          the reporting interval of the interval histogram
+     */
+    public HistogramConfig(boolean intervalHistogramEnabled, int significantDigits, long intervalSeconds) {
+        this.intervalHistogramEnabled = intervalHistogramEnabled;
+        this.significantDigits = significantDigits;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Check if the interval histogram is enabled.
+     *
+     * @return the boolean
+     */
+    public boolean isIntervalHistogramEnabled() {
+        return intervalHistogramEnabled;
+    }
+
+    /**
+     * Gets significant digits.
+     *
+     * @return the significant digits
+     */
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    /**
+     * Gets interval seconds.
+     *
+     * @return the interval seconds
+     */
+    public long getIntervalSeconds() {
+        return intervalSeconds;
+    }
+}
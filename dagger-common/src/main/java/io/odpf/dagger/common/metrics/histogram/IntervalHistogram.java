@@ -0,0 +1,160 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.HistogramStatistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Histogram counting the values in a fixed set of log-linear buckets, as HdrHistogram does. Every
+ * bucket is narrower than its lowest value by the configured significant digits, so an update is
+ * a single atomic increment and the memory does not depend on the rate of updates. The statistics
+ * are of the values recorded during the last complete reporting interval; the buckets are drained
+ * into them when the statistics are read after the interval has passed.
+ */
+public class IntervalHistogram implements Histogram {
+    /**
+     * The highest value tracked by default, 2^40, values above it are counted as this value.
+     */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 1_099_511_627_776L;
+    private static final int MAX_SIGNIFICANT_DIGITS = 4;
+    private static final int DECIMAL_BASE = 10;
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private long intervalStartNanos;
+    private IntervalHistogramStatistics statistics;
+
+    /**
+     * Instantiates a new Interval histogram.
+     *
+     * @param significantDigits     the number of significant decimal digits the values are kept with, from 1 to 4
+     * @param highestTrackableValue the highest value to track
+     * @param intervalMillis        the reporting interval
+     */
+    public IntervalHistogram(int significantDigits, long highestTrackableValue, long intervalMillis) {
+        this(significantDigits, highestTrackableValue, intervalMillis, System::nanoTime);
+    }
+
+    /**
+     * Instantiates a new Interval histogram with specified clock.
+     *
+     * @param significantDigits     the number of significant decimal digits the values are kept with, from 1 to 4
+     * @param highestTrackableValue the highest value to track
+     * @param intervalMillis        the reporting interval
+     * @param nanoClock             the clock the interval is measured with
+     */
+    IntervalHistogram(int significantDigits, long highestTrackableValue, long intervalMillis, LongSupplier nanoClock) {
+        if (significantDigits < 1 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            throw new IllegalArgumentException("The significant digits of a histogram must be between 1 and " + MAX_SIGNIFICANT_DIGITS);
+        }
+        if (highestTrackableValue < 1 || intervalMillis < 1) {
+            throw new IllegalArgumentException("The highest trackable value and interval of a histogram must be positive");
+        }
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(DECIMAL_BASE, significantDigits);
+        this.subBucketBits = Long.SIZE - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+        this.subBucketCount = 1 << subBucketBits;
+        this.subBucketHalfCount = subBucketCount >> 1;
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+        this.totalCount = new LongAdder();
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.nanoClock = nanoClock;
+        this.intervalStartNanos = nanoClock.getAsLong();
+        this.statistics = new IntervalHistogramStatistics(new long[0], new long[0], 0L, 0L);
+    }
+
+    @Override
+    public void update(long value) {
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+    }
+
+    @Override
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    @Override
+    public synchronized HistogramStatistics getStatistics() {
+        long now = nanoClock.getAsLong();
+        if (now - intervalStartNanos >= intervalNanos) {
+            intervalStartNanos = now;
+            statistics = drain();
+        }
+        return statistics;
+    }
+
+    /**
+     * Drain the values recorded since the last drain into statistics, without waiting for the
+     * reporting interval to pass.
+     *
+     * @return the statistics of the drained values
+     */
+    public synchronized HistogramStatistics drainStatistics() {
+        intervalStartNanos = nanoClock.getAsLong();
+        statistics = drain();
+        return statistics;
+    }
+
+    /* values recorded while draining are either part of this interval or left for the next one */
+    private IntervalHistogramStatistics drain() {
+        int bucketCount = counts.length();
+        long[] drainedCounts = new long[bucketCount];
+        int nonEmptyBuckets = 0;
+        for (int index = 0; index < bucketCount; index++) {
+            if (counts.get(index) != 0) {
+                drainedCounts[index] = counts.getAndSet(index, 0);
+                nonEmptyBuckets++;
+            }
+        }
+        long[] values = new long[nonEmptyBuckets];
+        long[] valueCounts = new long[nonEmptyBuckets];
+        long min = 0L;
+        long max = 0L;
+        int position = 0;
+        for (int index = 0; index < bucketCount; index++) {
+            if (drainedCounts[index] != 0) {
+                if (position == 0) {
+                    min = lowestEquivalentValue(index);
+                }
+                max = Math.min(highestTrackableValue, lowestEquivalentValue(index) + bucketWidth(index) - 1);
+                values[position] = Math.min(highestTrackableValue, lowestEquivalentValue(index) + (bucketWidth(index) >> 1));
+                valueCounts[position] = drainedCounts[index];
+                position++;
+            }
+        }
+        return new IntervalHistogramStatistics(values, valueCounts, min, max);
+    }
+
+    int indexOf(long value) {
+        long trackedValue = Math.max(0L, Math.min(value, highestTrackableValue));
+        if (trackedValue < subBucketCount) {
+            return (int) trackedValue;
+        }
+        int bucketShift = Long.SIZE - Long.numberOfLeadingZeros(trackedValue) - subBucketBits;
+        return subBucketCount + (bucketShift - 1) * subBucketHalfCount + (int) ((trackedValue >>> bucketShift) - subBucketHalfCount);
+    }
+
+    long lowestEquivalentValue(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int bucketShift = (index - subBucketCount) / subBucketHalfCount + 1;
+        long subBucket = (index - subBucketCount) % subBucketHalfCount + subBucketHalfCount;
+        return subBucket << bucketShift;
+    }
+
+    private long bucketWidth(int index) {
+        return index < subBucketCount ? 1L : 1L << ((index - subBucketCount) / subBucketHalfCount + 1);
+    }
+}
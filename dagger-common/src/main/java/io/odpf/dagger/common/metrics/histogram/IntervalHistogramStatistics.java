@@ -0,0 +1,109 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import org.apache.flink.metrics.HistogramStatistics;
+
+/**
+ * Statistics of the values an {@link IntervalHistogram} recorded in an interval, kept as the
+ * representative value and count of every non-empty bucket.
+ */
+public class IntervalHistogramStatistics extends HistogramStatistics {
+    private final long[] values;
+    private final long[] counts;
+    private final long min;
+    private final long max;
+    private final long totalCount;
+
+    /**
+     * Instantiates a new Interval histogram statistics.
+     *
+     * @param values the representative values of the buckets, in ascending order
+     * @param counts the counts of the buckets
+     * @param min    the lowest value that may have been recorded
+     * @param max    the highest value that may have been recorded
+     */
+    public IntervalHistogramStatistics(long[] values, long[] counts, long min, long max) {
+        this.values = values;
+        this.counts = counts;
+        this.min = min;
+        this.max = max;
+        long count = 0L;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        this.totalCount = count;
+    }
+
+    @Override
+    public double getQuantile(double quantile) {
+        if (totalCount == 0) {
+            return 0D;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * totalCount));
+        long cumulativeCount = 0L;
+        for (int index = 0; index < values.length; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= rank) {
+                return values[index];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Gets the representative value of every recorded value, which takes memory linear to the count.
+     *
+     * @return the values
+     */
+    @Override
+    public long[] getValues() {
+        long[] allValues = new long[size()];
+        int position = 0;
+        for (int index = 0; index < values.length && position < allValues.length; index++) {
+            for (long count = 0; count < counts[index] && position < allValues.length; count++) {
+                allValues[position++] = values[index];
+            }
+        }
+        return allValues;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, totalCount);
+    }
+
+    @Override
+    public double getMean() {
+        if (totalCount == 0) {
+            return 0D;
+        }
+        double sum = 0D;
+        for (int index = 0; index < values.length; index++) {
+            sum += (double) values[index] * counts[index];
+        }
+        return sum / totalCount;
+    }
+
+    @Override
+    public double getStdDev() {
+        if (totalCount <= 1) {
+            return 0D;
+        }
+        double mean = getMean();
+        double squaredDeviations = 0D;
+        for (int index = 0; index < values.length; index++) {
+            double deviation = values[index] - mean;
+            squaredDeviations += deviation * deviation * counts[index];
+        }
+        return Math.sqrt(squaredDeviations / (totalCount - 1));
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+}
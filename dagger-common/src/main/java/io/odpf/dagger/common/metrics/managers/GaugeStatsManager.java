@@ -40,6 +40,21 @@ public class GaugeStatsManager {
         }
     }
 
+    /**
+     * Register a gauge aspect reporting the current value of the gauge.
+     *
+     * @param <T>        the gauge value type
+     * @param groupKey   the group key
+     * @param groupValue the group value
+     * @param aspect     the aspect
+     * @param gauge      the gauge
+     */
+    public <T> void register(String groupKey, String groupValue, Aspects aspect, Gauge<T> gauge) {
+        if (enabled) {
+            metricGroup.addGroup(groupKey, groupValue).gauge(aspect.getValue(), gauge);
+        }
+    }
+
     /**
      * Register integer gauge aspect.
      *
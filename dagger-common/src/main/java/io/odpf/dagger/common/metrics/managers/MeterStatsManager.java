@@ -9,6 +9,8 @@ import org.apache.flink.metrics.MetricGroup;
 import com.codahale.metrics.SlidingTimeWindowReservoir;
 import io.odpf.dagger.common.metrics.aspects.AspectType;
 import io.odpf.dagger.common.metrics.aspects.Aspects;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
+import io.odpf.dagger.common.metrics.histogram.IntervalHistogram;
 
 import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
@@ -21,6 +23,7 @@ import static io.odpf.dagger.common.core.Constants.SLIDING_TIME_WINDOW;
  */
 public class MeterStatsManager {
     private final HashMap<Aspects, Histogram> histogramMap;
+    private final HistogramConfig histogramConfig;
     private Boolean enabled;
     private HashMap<Aspects, Meter> meterMap;
     private MetricGroup metricGroup;
@@ -32,8 +35,20 @@ public class MeterStatsManager {
      * @param enabled     the enabled
      */
     public MeterStatsManager(MetricGroup metricGroup, Boolean enabled) {
+        this(metricGroup, enabled, new HistogramConfig());
+    }
+
+    /**
+     * Instantiates a new Meter stats manager with specified histogram config.
+     *
+     * @param metricGroup     the metric group
+     * @param enabled         the enabled
+     * @param histogramConfig the histogram config
+     */
+    public MeterStatsManager(MetricGroup metricGroup, Boolean enabled, HistogramConfig histogramConfig) {
         this.metricGroup = metricGroup;
         this.enabled = enabled;
+        this.histogramConfig = histogramConfig;
         histogramMap = new HashMap<>();
         meterMap = new HashMap<>();
     }
@@ -51,6 +66,7 @@ public class MeterStatsManager {
         this.enabled = enabled;
         this.histogramMap = histogramMap;
         this.meterMap = meterMap;
+        this.histogramConfig = new HistogramConfig();
     }
 
     /**
@@ -65,8 +81,13 @@ public class MeterStatsManager {
         }
     }
 
-    private com.codahale.metrics.Histogram getHistogram() {
-        return new com.codahale.metrics.Histogram(new SlidingTimeWindowReservoir(SLIDING_TIME_WINDOW, TimeUnit.SECONDS));
+    private Histogram getHistogram() {
+        if (histogramConfig.isIntervalHistogramEnabled()) {
+            return new IntervalHistogram(histogramConfig.getSignificantDigits(), IntervalHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE,
+                    TimeUnit.SECONDS.toMillis(histogramConfig.getIntervalSeconds()));
+        }
+        return new DropwizardHistogramWrapper(
+                new com.codahale.metrics.Histogram(new SlidingTimeWindowReservoir(SLIDING_TIME_WINDOW, TimeUnit.SECONDS)));
     }
 
     /**
@@ -92,6 +113,18 @@ public class MeterStatsManager {
         }
     }
 
+    /**
+     * Mark the given number of events at once.
+     *
+     * @param aspect the aspect
+     * @param count  the number of events
+     */
+    public void markEvent(Aspects aspect, long count) {
+        if (enabled) {
+            meterMap.get(aspect).markEvent(count);
+        }
+    }
+
     /**
      * Register aspects with specified group key and group value pair.
      *
@@ -108,7 +141,7 @@ public class MeterStatsManager {
     private void register(MetricGroup group, Aspects[] aspects) {
         for (Aspects aspect : aspects) {
             if (AspectType.Histogram.equals(aspect.getAspectType())) {
-                histogramMap.put(aspect, group.histogram(aspect.getValue(), new DropwizardHistogramWrapper(getHistogram())));
+                histogramMap.put(aspect, group.histogram(aspect.getValue(), getHistogram()));
             }
             if (AspectType.Metric.equals(aspect.getAspectType())) {
                 meterMap.put(aspect, group.meter(aspect.getValue(), new DropwizardMeterWrapper(new com.codahale.metrics.Meter())));
@@ -14,19 +14,39 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static io.odpf.dagger.common.core.Constants.ROWTIME;
 
 public class JsonDeserializer implements KafkaDeserializationSchema<Row>, DaggerDeserializer<Row> {
     private final JsonRowDeserializationSchema jsonRowDeserializationSchema;
     private final int rowtimeIdx;
+    private final int[] projectedIndexes;
     private final TypeInformation<Row> typeInformation;
 
     public JsonDeserializer(String jsonSchema, String rowtimeFieldName) {
+        this(jsonSchema, rowtimeFieldName, Collections.emptySet());
+    }
+
+    public JsonDeserializer(String jsonSchema, String rowtimeFieldName, Set<String> projectedFields) {
         this.typeInformation = new JsonType(jsonSchema, ROWTIME).getRowType();
-        this.jsonRowDeserializationSchema = new JsonRowDeserializationSchema.Builder(typeInformation).build();
         RowTypeInfo rowTypeInfo = (RowTypeInfo) typeInformation;
-        this.rowtimeIdx = rowTypeInfo.getFieldIndex(rowtimeFieldName);
+        this.projectedIndexes = getProjectedIndexes(rowTypeInfo, rowtimeFieldName, projectedFields);
+        RowTypeInfo projectedRowTypeInfo = RowTypeInfo.projectFields(rowTypeInfo, projectedIndexes);
+        this.jsonRowDeserializationSchema = new JsonRowDeserializationSchema.Builder(projectedRowTypeInfo).build();
+        this.rowtimeIdx = projectedRowTypeInfo.getFieldIndex(rowtimeFieldName);
+    }
+
+    private static int[] getProjectedIndexes(RowTypeInfo rowTypeInfo, String rowtimeFieldName, Set<String> projectedFields) {
+        String[] fieldNames = rowTypeInfo.getFieldNames();
+        if (projectedFields.isEmpty()) {
+            return IntStream.range(0, fieldNames.length).toArray();
+        }
+        return IntStream.range(0, fieldNames.length)
+                .filter(index -> index >= fieldNames.length - 2 || fieldNames[index].equals(rowtimeFieldName) || projectedFields.contains(fieldNames[index]))
+                .toArray();
     }
 
     @Override
@@ -46,14 +66,14 @@ public class JsonDeserializer implements KafkaDeserializationSchema<Row>, Dagger
 
     @Override
     public TypeInformation<Row> getProducedType() {
-        return jsonRowDeserializationSchema.getProducedType();
+        return typeInformation;
     }
 
     private Row addTimestampFieldToRow(Row row) {
-        Row finalRecord = new Row(row.getArity());
+        Row finalRecord = new Row(typeInformation.getArity());
 
         for (int i = 0; i < row.getArity() - 2; i++) {
-            finalRecord.setField(i, row.getField(i));
+            finalRecord.setField(projectedIndexes[i], row.getField(i));
         }
 
         Object rowtimeField = row.getField(rowtimeIdx);
@@ -0,0 +1,559 @@
+package io.odpf.dagger.common.serde.parquet.deserialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.odpf.dagger.common.serde.typehandler.PrimitiveTypeHandler;
+import io.odpf.dagger.common.serde.typehandler.RowConverter;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import io.odpf.dagger.common.serde.typehandler.complex.EnumHandler;
+import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
+import io.odpf.dagger.common.serde.typehandler.repeated.RepeatedEnumHandler;
+import io.odpf.dagger.common.serde.typehandler.repeated.RepeatedPrimitiveHandler;
+import org.apache.flink.types.Row;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+
+import java.lang.reflect.Array;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Materializes the records of a parquet file straight into rows, without building a
+ * {@link SimpleGroup} per record. The proto fields are mapped to the columns of the file schema
+ * once per file and only the columns of the projected fields and the rowtime field are requested.
+ * Primitive, enum and timestamp fields are converted as the column values are read. Messages, maps
+ * and the other nested fields are assembled into a group holding just that field and handed to
+ * their type handler, so the rows are the same as the ones of {@link SimpleGroupDeserializer}.
+ */
+public class ParquetRowMaterializer extends RecordMaterializer<Row> {
+    private static final String SECONDS_FIELD_NAME = "seconds";
+    private static final String NANOS_FIELD_NAME = "nanos";
+    private static final long SECOND_TO_MS_FACTOR = 1000L;
+    private static final int MS_TO_NANOS_FACTOR = 1000000;
+
+    private final int fieldCount;
+    private final boolean[] fieldMask;
+    private final FieldSlot[] fieldSlots;
+    private final DefaultValue[] defaultValues;
+    private final FieldSlot timestampSlot;
+    private final TimestampHandler timestampHandler;
+    private final SimpleGroup emptyGroup;
+    private final MessageType requestedSchema;
+    private final RecordConverter rootConverter;
+    private Row currentRecord;
+
+    /**
+     * Instantiates a new Parquet row materializer.
+     *
+     * @param descriptor          the descriptor of the rows
+     * @param fileSchema          the schema of the parquet file
+     * @param timestampFieldIndex the field number of the rowtime field
+     * @param projectedFields     the names of the fields to be converted, all of them when empty
+     */
+    public ParquetRowMaterializer(Descriptors.Descriptor descriptor, MessageType fileSchema, int timestampFieldIndex, Set<String> projectedFields) {
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(descriptor);
+        FieldDescriptor timestampField = descriptor.findFieldByNumber(timestampFieldIndex);
+        this.fieldCount = rowConverter.getFieldCount();
+        this.fieldMask = rowConverter.getFieldMask(projectedFields);
+        this.timestampHandler = new TimestampHandler(timestampField);
+
+        List<Type> requestedFields = new ArrayList<>();
+        List<FieldSlot> requestedSlots = new ArrayList<>();
+        this.fieldSlots = new FieldSlot[fieldCount];
+        FieldSlot rowtimeSlot = null;
+        for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+            int index = fieldDescriptor.getIndex();
+            boolean isTimestampField = fieldDescriptor.equals(timestampField);
+            String fieldName = fieldDescriptor.getName();
+            if (!(fieldMask[index] || isTimestampField) || !fileSchema.containsField(fieldName)) {
+                continue;
+            }
+            Type columnType = fileSchema.getType(fieldName);
+            FieldSlot fieldSlot = createFieldSlot(fieldDescriptor, rowConverter.getTypeHandler(index), columnType, fileSchema.getName(), isTimestampField);
+            fieldSlots[index] = fieldSlot;
+            requestedFields.add(columnType);
+            requestedSlots.add(fieldSlot);
+            if (isTimestampField) {
+                rowtimeSlot = fieldSlot;
+            }
+        }
+        this.timestampSlot = rowtimeSlot;
+        this.requestedSchema = new MessageType(fileSchema.getName(), requestedFields);
+        this.emptyGroup = new SimpleGroup(requestedSchema);
+        this.defaultValues = new DefaultValue[fieldCount];
+        for (int index = 0; index < fieldCount; index++) {
+            defaultValues[index] = new DefaultValue(rowConverter.getTypeHandler(index));
+        }
+        for (FieldSlot fieldSlot : requestedSlots) {
+            fieldSlot.defaultValue = defaultValues[fieldSlot.index];
+        }
+        this.rootConverter = new RecordConverter(requestedSlots.toArray(new FieldSlot[0]));
+    }
+
+    /**
+     * Gets the schema of the columns to be read from the file.
+     *
+     * @return the requested schema
+     */
+    public MessageType getRequestedSchema() {
+        return requestedSchema;
+    }
+
+    @Override
+    public Row getCurrentRecord() {
+        return currentRecord;
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+        return rootConverter;
+    }
+
+    private static FieldSlot createFieldSlot(FieldDescriptor fieldDescriptor, TypeHandler typeHandler, Type columnType, String schemaName, boolean isTimestampField) {
+        int index = fieldDescriptor.getIndex();
+        boolean isTimestampHandler = typeHandler instanceof TimestampHandler;
+        if (isTimestampField && !isTimestampHandler) {
+            return new GroupSlot(index, typeHandler, columnType, schemaName);
+        }
+        if (isTimestampHandler && !fieldDescriptor.isRepeated() && isTimestampGroup(columnType)) {
+            return new TimestampGroupSlot(index, columnType.asGroupType());
+        }
+        ColumnKind columnKind = getColumnKind(fieldDescriptor, typeHandler, columnType);
+        if (columnKind != null) {
+            boolean repeated = typeHandler instanceof RepeatedPrimitiveHandler || typeHandler instanceof RepeatedEnumHandler;
+            return new PrimitiveSlot(index, fieldDescriptor, columnKind, repeated);
+        }
+        return new GroupSlot(index, typeHandler, columnType, schemaName);
+    }
+
+    private static boolean isTimestampGroup(Type columnType) {
+        if (columnType.isPrimitive()) {
+            return false;
+        }
+        for (Type field : columnType.asGroupType().getFields()) {
+            boolean isSeconds = field.getName().equals(SECONDS_FIELD_NAME) && isPrimitive(field, PrimitiveTypeName.INT64);
+            boolean isNanos = field.getName().equals(NANOS_FIELD_NAME) && isPrimitive(field, PrimitiveTypeName.INT32);
+            if (!isSeconds && !isNanos) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ColumnKind getColumnKind(FieldDescriptor fieldDescriptor, TypeHandler typeHandler, Type columnType) {
+        if (typeHandler instanceof TimestampHandler) {
+            return !fieldDescriptor.isRepeated() && isPrimitive(columnType, PrimitiveTypeName.INT64) ? ColumnKind.TIMESTAMP_MILLIS : null;
+        }
+        if (typeHandler instanceof EnumHandler || typeHandler instanceof RepeatedEnumHandler) {
+            return isPrimitive(columnType, PrimitiveTypeName.BINARY) ? ColumnKind.ENUM : null;
+        }
+        if (!(typeHandler instanceof PrimitiveTypeHandler || typeHandler instanceof RepeatedPrimitiveHandler)) {
+            return null;
+        }
+        switch (fieldDescriptor.getJavaType()) {
+            case INT:
+                return isPrimitive(columnType, PrimitiveTypeName.INT32) ? ColumnKind.INT : null;
+            case LONG:
+                return isPrimitive(columnType, PrimitiveTypeName.INT64) ? ColumnKind.LONG : null;
+            case FLOAT:
+                return isPrimitive(columnType, PrimitiveTypeName.FLOAT) ? ColumnKind.FLOAT : null;
+            case DOUBLE:
+                return isPrimitive(columnType, PrimitiveTypeName.DOUBLE) ? ColumnKind.DOUBLE : null;
+            case BOOLEAN:
+                return isPrimitive(columnType, PrimitiveTypeName.BOOLEAN) ? ColumnKind.BOOLEAN : null;
+            case STRING:
+                return isPrimitive(columnType, PrimitiveTypeName.BINARY) ? ColumnKind.STRING : null;
+            case BYTE_STRING:
+                return isPrimitive(columnType, PrimitiveTypeName.BINARY) || isPrimitive(columnType, PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY)
+                        ? ColumnKind.BYTE_STRING : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isPrimitive(Type columnType, PrimitiveTypeName primitiveTypeName) {
+        return columnType.isPrimitive() && columnType.asPrimitiveType().getPrimitiveTypeName() == primitiveTypeName;
+    }
+
+    private static Row timestampFromMillis(long timeInMillis) {
+        long seconds = Math.floorDiv(timeInMillis, SECOND_TO_MS_FACTOR);
+        int nanos = (int) Math.floorMod(timeInMillis, SECOND_TO_MS_FACTOR) * MS_TO_NANOS_FACTOR;
+        return Row.of(seconds, nanos);
+    }
+
+    private enum ColumnKind {
+        INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, ENUM, BYTE_STRING, TIMESTAMP_MILLIS
+    }
+
+    private class RecordConverter extends GroupConverter {
+        private final FieldSlot[] requestedSlots;
+
+        RecordConverter(FieldSlot[] requestedSlots) {
+            this.requestedSlots = requestedSlots;
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return requestedSlots[fieldIndex].getConverter();
+        }
+
+        @Override
+        public void start() {
+            for (FieldSlot fieldSlot : requestedSlots) {
+                fieldSlot.start();
+            }
+        }
+
+        @Override
+        public void end() {
+            Row row = new Row(fieldCount + 2);
+            for (int index = 0; index < fieldCount; index++) {
+                if (fieldMask[index]) {
+                    row.setField(index, fieldSlots[index] != null ? fieldSlots[index].getValue() : defaultValues[index].get());
+                }
+            }
+            Row timestampRow = timestampSlot != null ? timestampSlot.getRowtime(timestampHandler) : (Row) timestampHandler.transformFromParquet(emptyGroup);
+            long seconds = timestampRow.getFieldAs(0);
+            int nanos = timestampRow.getFieldAs(1);
+            row.setField(fieldCount, true);
+            row.setField(fieldCount + 1, Timestamp.from(Instant.ofEpochSecond(seconds, nanos)));
+            currentRecord = row;
+        }
+    }
+
+    /**
+     * The value of a field when the record has none. It is the value the type handler returns for a
+     * group without the field, and is shared between the rows only when it cannot be mutated.
+     */
+    private class DefaultValue {
+        private final TypeHandler typeHandler;
+        private boolean cached;
+        private Object value;
+
+        DefaultValue(TypeHandler typeHandler) {
+            this.typeHandler = typeHandler;
+        }
+
+        Object get() {
+            if (cached) {
+                return value;
+            }
+            Object defaultValue = typeHandler.transformFromParquet(emptyGroup);
+            if (isImmutable(defaultValue)) {
+                value = defaultValue;
+                cached = true;
+            }
+            return defaultValue;
+        }
+
+        private boolean isImmutable(Object defaultValue) {
+            return defaultValue == null || defaultValue instanceof String || defaultValue instanceof Number
+                    || defaultValue instanceof Boolean || defaultValue instanceof ByteString
+                    || (defaultValue.getClass().isArray() && Array.getLength(defaultValue) == 0);
+        }
+    }
+
+    private abstract static class FieldSlot {
+        private final int index;
+        private DefaultValue defaultValue;
+
+        FieldSlot(int index) {
+            this.index = index;
+        }
+
+        abstract Converter getConverter();
+
+        abstract void start();
+
+        abstract Object getValue();
+
+        Row getRowtime(TimestampHandler rowtimeHandler) {
+            return (Row) getValue();
+        }
+
+        Object getDefaultValue() {
+            return defaultValue.get();
+        }
+    }
+
+    /**
+     * Converts the values of a primitive column as they are read. Only the first value is kept for
+     * a field that is not repeated, the same as the type handlers do.
+     */
+    private static class PrimitiveSlot extends FieldSlot {
+        private final FieldDescriptor fieldDescriptor;
+        private final ColumnKind columnKind;
+        private final boolean repeated;
+        private final List<Object> values = new ArrayList<>();
+        private final PrimitiveConverter converter = new ValueConverter();
+        private Object[] dictionaryValues;
+        private Object firstValue;
+        private int valueCount;
+
+        PrimitiveSlot(int index, FieldDescriptor fieldDescriptor, ColumnKind columnKind, boolean repeated) {
+            super(index);
+            this.fieldDescriptor = fieldDescriptor;
+            this.columnKind = columnKind;
+            this.repeated = repeated;
+        }
+
+        @Override
+        Converter getConverter() {
+            return converter;
+        }
+
+        @Override
+        void start() {
+            firstValue = null;
+            valueCount = 0;
+            if (repeated) {
+                values.clear();
+            }
+        }
+
+        @Override
+        Object getValue() {
+            if (valueCount == 0) {
+                return getDefaultValue();
+            }
+            return repeated ? toArray() : firstValue;
+        }
+
+        private void add(Object value) {
+            if (repeated) {
+                values.add(value);
+            } else if (valueCount == 0) {
+                firstValue = value;
+            }
+            valueCount++;
+        }
+
+        private Object fromBinary(Binary binary) {
+            switch (columnKind) {
+                case STRING:
+                    return binary.toStringUsingUTF8();
+                case ENUM:
+                    Descriptors.EnumValueDescriptor enumValueDescriptor = fieldDescriptor.getEnumType().findValueByName(binary.toStringUsingUTF8());
+                    return enumValueDescriptor == null ? fieldDescriptor.getEnumType().findValueByNumber(0).getName() : enumValueDescriptor.getName();
+                default:
+                    return ByteString.copyFrom(binary.getBytes());
+            }
+        }
+
+        private Object toArray() {
+            int size = values.size();
+            switch (columnKind) {
+                case INT:
+                    int[] intArray = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        intArray[i] = (Integer) values.get(i);
+                    }
+                    return intArray;
+                case FLOAT:
+                    float[] floatArray = new float[size];
+                    for (int i = 0; i < size; i++) {
+                        floatArray[i] = (Float) values.get(i);
+                    }
+                    return floatArray;
+                case DOUBLE:
+                    double[] doubleArray = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        doubleArray[i] = (Double) values.get(i);
+                    }
+                    return doubleArray;
+                case BOOLEAN:
+                    boolean[] booleanArray = new boolean[size];
+                    for (int i = 0; i < size; i++) {
+                        booleanArray[i] = (Boolean) values.get(i);
+                    }
+                    return booleanArray;
+                case LONG:
+                    return values.toArray(new Long[0]);
+                case BYTE_STRING:
+                    return values.toArray(new ByteString[0]);
+                default:
+                    return values.toArray(new String[0]);
+            }
+        }
+
+        private class ValueConverter extends PrimitiveConverter {
+            @Override
+            public boolean hasDictionarySupport() {
+                return columnKind == ColumnKind.STRING || columnKind == ColumnKind.ENUM || columnKind == ColumnKind.BYTE_STRING;
+            }
+
+            @Override
+            public void setDictionary(Dictionary dictionary) {
+                dictionaryValues = new Object[dictionary.getMaxId() + 1];
+                for (int id = 0; id <= dictionary.getMaxId(); id++) {
+                    dictionaryValues[id] = fromBinary(dictionary.decodeToBinary(id));
+                }
+            }
+
+            @Override
+            public void addValueFromDictionary(int dictionaryId) {
+                add(dictionaryValues[dictionaryId]);
+            }
+
+            @Override
+            public void addBinary(Binary value) {
+                add(fromBinary(value));
+            }
+
+            @Override
+            public void addBoolean(boolean value) {
+                add(value);
+            }
+
+            @Override
+            public void addDouble(double value) {
+                add(value);
+            }
+
+            @Override
+            public void addFloat(float value) {
+                add(value);
+            }
+
+            @Override
+            public void addInt(int value) {
+                add(value);
+            }
+
+            @Override
+            public void addLong(long value) {
+                add(columnKind == ColumnKind.TIMESTAMP_MILLIS ? timestampFromMillis(value) : value);
+            }
+        }
+    }
+
+    /**
+     * Converts a timestamp stored as a group of seconds and nanos. Only the first group is kept.
+     */
+    private static class TimestampGroupSlot extends FieldSlot {
+        private final GroupConverter converter;
+        private int groupCount;
+        private long seconds;
+        private int nanos;
+        private boolean hasSeconds;
+        private boolean hasNanos;
+
+        TimestampGroupSlot(int index, GroupType columnType) {
+            super(index);
+            Converter[] fieldConverters = new Converter[columnType.getFieldCount()];
+            for (int i = 0; i < fieldConverters.length; i++) {
+                fieldConverters[i] = columnType.getType(i).getName().equals(SECONDS_FIELD_NAME) ? new SecondsConverter() : new NanosConverter();
+            }
+            this.converter = new GroupConverter() {
+                @Override
+                public Converter getConverter(int fieldIndex) {
+                    return fieldConverters[fieldIndex];
+                }
+
+                @Override
+                public void start() {
+                    groupCount++;
+                }
+
+                @Override
+                public void end() {
+                }
+            };
+        }
+
+        @Override
+        Converter getConverter() {
+            return converter;
+        }
+
+        @Override
+        void start() {
+            groupCount = 0;
+            seconds = 0L;
+            nanos = 0;
+            hasSeconds = false;
+            hasNanos = false;
+        }
+
+        @Override
+        Object getValue() {
+            return groupCount == 0 ? getDefaultValue() : Row.of(seconds, nanos);
+        }
+
+        private class SecondsConverter extends PrimitiveConverter {
+            @Override
+            public void addLong(long value) {
+                if (groupCount == 1 && !hasSeconds) {
+                    seconds = value;
+                    hasSeconds = true;
+                }
+            }
+        }
+
+        private class NanosConverter extends PrimitiveConverter {
+            @Override
+            public void addInt(int value) {
+                if (groupCount == 1 && !hasNanos) {
+                    nanos = value;
+                    hasNanos = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Assembles the values of the field into a group holding just that field and converts it with
+     * the type handler of the field.
+     */
+    private static class GroupSlot extends FieldSlot {
+        private final TypeHandler typeHandler;
+        private final GroupRecordConverter fieldRecordConverter;
+        private final GroupConverter fieldRootConverter;
+
+        GroupSlot(int index, TypeHandler typeHandler, Type columnType, String schemaName) {
+            super(index);
+            this.typeHandler = typeHandler;
+            this.fieldRecordConverter = new GroupRecordConverter(new MessageType(schemaName, columnType));
+            this.fieldRootConverter = fieldRecordConverter.getRootConverter();
+        }
+
+        @Override
+        Converter getConverter() {
+            return fieldRootConverter.getConverter(0);
+        }
+
+        @Override
+        void start() {
+            fieldRootConverter.start();
+        }
+
+        @Override
+        Object getValue() {
+            return typeHandler.transformFromParquet(getGroup());
+        }
+
+        @Override
+        Row getRowtime(TimestampHandler rowtimeHandler) {
+            return (Row) rowtimeHandler.transformFromParquet(getGroup());
+        }
+
+        private SimpleGroup getGroup() {
+            return (SimpleGroup) fieldRecordConverter.getCurrentRecord();
+        }
+    }
+}
@@ -6,29 +6,50 @@ import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoType;
+import io.odpf.dagger.common.serde.typehandler.RowConverter;
 import io.odpf.dagger.common.serde.typehandler.RowFactory;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.types.Row;
 import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 public class SimpleGroupDeserializer implements DaggerDeserializer<Row> {
     private final String protoClassName;
     private final int timestampFieldIndex;
     private final StencilClientOrchestrator stencilClientOrchestrator;
     private final TypeInformation<Row> typeInformation;
+    private final Set<String> projectedFields;
+    private transient Descriptors.Descriptor fieldMaskDescriptor;
+    private transient boolean[] fieldMask;
 
     public SimpleGroupDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, Collections.emptySet());
+    }
+
+    public SimpleGroupDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, Set<String> projectedFields) {
         this.protoClassName = protoClassName;
+        this.projectedFields = projectedFields;
         this.timestampFieldIndex = timestampFieldIndex;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
         this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
     }
 
-    private Descriptors.Descriptor getProtoParser() {
+    /**
+     * Gets the descriptor of the proto the rows are built from.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
         Descriptors.Descriptor dsc = stencilClientOrchestrator.getStencilClient().get(protoClassName);
         if (dsc == null) {
             throw new DescriptorNotFoundException();
@@ -37,15 +58,65 @@ public class SimpleGroupDeserializer implements DaggerDeserializer<Row> {
     }
 
     public Row deserialize(SimpleGroup simpleGroup) {
-        Descriptors.Descriptor descriptor = getProtoParser();
+        Descriptors.Descriptor descriptor = getDescriptor();
         try {
-            Row row = RowFactory.createRow(descriptor, simpleGroup, 2);
+            Row row = projectedFields.isEmpty() ? RowFactory.createRow(descriptor, simpleGroup, 2) : createProjectedRow(descriptor, simpleGroup);
             return addTimestampFieldToRow(row, simpleGroup, descriptor);
         } catch (RuntimeException e) {
             throw new DaggerDeserializationException(e);
         }
     }
 
+    /**
+     * Create a materializer that reads the records of a parquet file with the given schema straight
+     * into the rows this deserializer produces.
+     *
+     * @param fileSchema the schema of the parquet file
+     * @return the parquet row materializer
+     */
+    public ParquetRowMaterializer createRowMaterializer(MessageType fileSchema) {
+        return new ParquetRowMaterializer(getDescriptor(), fileSchema, timestampFieldIndex, projectedFields);
+    }
+
+    /**
+     * Gets the field number of the rowtime field.
+     *
+     * @return the timestamp field index
+     */
+    public int getTimestampFieldIndex() {
+        return timestampFieldIndex;
+    }
+
+    /**
+     * Gets the schema of the columns to be read from a parquet file with the given schema. It holds
+     * the projected fields and the rowtime field, or every column when no projection is applied.
+     *
+     * @param fileSchema the schema of the parquet file
+     * @return the requested schema
+     */
+    public MessageType getRequestedSchema(MessageType fileSchema) {
+        if (projectedFields.isEmpty()) {
+            return fileSchema;
+        }
+        String timestampFieldName = getDescriptor().findFieldByNumber(timestampFieldIndex).getName();
+        List<Type> requestedFields = new ArrayList<>();
+        for (Type field : fileSchema.getFields()) {
+            if (projectedFields.contains(field.getName()) || field.getName().equals(timestampFieldName)) {
+                requestedFields.add(field);
+            }
+        }
+        return new MessageType(fileSchema.getName(), requestedFields);
+    }
+
+    private Row createProjectedRow(Descriptors.Descriptor descriptor, SimpleGroup simpleGroup) {
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(descriptor);
+        if (fieldMaskDescriptor != descriptor) {
+            fieldMask = rowConverter.getFieldMask(projectedFields);
+            fieldMaskDescriptor = descriptor;
+        }
+        return rowConverter.createRow(simpleGroup, 2, fieldMask);
+    }
+
     private Row addTimestampFieldToRow(Row row, SimpleGroup simpleGroup, Descriptors.Descriptor descriptor) {
         Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByNumber(timestampFieldIndex);
         TimestampHandler timestampHandler = new TimestampHandler(fieldDescriptor);
@@ -7,17 +7,23 @@ import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.typehandler.RowConverter;
 import io.odpf.dagger.common.serde.typehandler.RowFactory;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
 import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
-import java.time.Instant;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Deserializer for protobuf messages.
@@ -29,6 +35,13 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
     private final int timestampFieldIndex;
     private final StencilClientOrchestrator stencilClientOrchestrator;
     private final TypeInformation<Row> typeInformation;
+    private final Set<String> projectedFields;
+    private boolean isLateRecordDropEnabled;
+    private long watermarkDelayMs;
+    private transient Map<TopicPartition, Long> partitionMaxRowtimes;
+    private transient Descriptors.Descriptor fieldMaskDescriptor;
+    private transient boolean[] fieldMask;
+    private transient RowtimeAccessor rowtimeAccessor;
 
     /**
      * Instantiates a new Proto deserializer.
@@ -39,23 +52,61 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
      * @param stencilClientOrchestrator the stencil client orchestrator
      */
     public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, Collections.emptySet());
+    }
+
+    /**
+     * Instantiates a new Proto deserializer which only converts the projected fields.
+     * The other fields are left null in the row. An empty projection converts all the fields.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param projectedFields           the names of the fields to be converted
+     */
+    public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, Set<String> projectedFields) {
         this.protoClassName = protoClassName;
         this.timestampFieldIndex = timestampFieldIndex;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.projectedFields = projectedFields;
         this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
     }
 
+    /**
+     * Drops the records which are behind the watermark of their source, decoding only their rowtime,
+     * so that late records are not fully deserialized only to be dropped by the event time windows.
+     * The watermark is taken as the lowest of the latest rowtime of every partition read so far, less
+     * the watermark delay, which is never ahead of the watermark of the source.
+     *
+     * @param delayMs the watermark delay
+     */
+    public void enableLateRecordDrop(long delayMs) {
+        this.isLateRecordDropEnabled = true;
+        this.watermarkDelayMs = delayMs;
+    }
+
     @Override
     public boolean isEndOfStream(Row nextElement) {
         return false;
     }
 
+    @Override
+    public void deserialize(ConsumerRecord<byte[], byte[]> consumerRecord, Collector<Row> out) {
+        if (isLateRecordDropEnabled && isLate(consumerRecord)) {
+            return;
+        }
+        Row row = deserialize(consumerRecord);
+        if (row != null) {
+            out.collect(row);
+        }
+    }
+
     @Override
     public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
         Descriptors.Descriptor descriptor = getProtoParser();
         try {
-            DynamicMessage proto = DynamicMessage.parseFrom(descriptor, consumerRecord.value());
-            return addTimestampFieldToRow(proto);
+            return parse(descriptor, consumerRecord.value());
         } catch (DescriptorNotFoundException e) {
             throw new DescriptorNotFoundException(e);
         } catch (InvalidProtocolBufferException e) {
@@ -66,11 +117,92 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
         }
     }
 
+    /**
+     * Deserialize only the event timestamp of the record, without parsing the rest of the message.
+     * This lets event time decisions such as dropping late records be taken before a full decode.
+     * Invalid records get the same rowtime as their invalid row.
+     *
+     * @param consumerRecord the consumer record
+     * @return the rowtime
+     */
+    public Timestamp deserializeRowtime(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        try {
+            return getRowtimeAccessor(getProtoParser()).decodeRowtime(consumerRecord.value());
+        } catch (InvalidProtocolBufferException e) {
+            return new Timestamp(0);
+        }
+    }
+
     @Override
     public TypeInformation<Row> getProducedType() {
         return this.typeInformation;
     }
 
+    /**
+     * Parse the serialized message into a row with the rowtime columns set.
+     *
+     * @param descriptor the descriptor
+     * @param message    the serialized message
+     * @return the row
+     * @throws InvalidProtocolBufferException if the message is not a valid protobuf message
+     */
+    protected Row parse(Descriptors.Descriptor descriptor, byte[] message) throws InvalidProtocolBufferException {
+        DynamicMessage proto = DynamicMessage.parseFrom(descriptor, message);
+        return addTimestampFieldToRow(proto);
+    }
+
+    /**
+     * Gets the names of the fields to be converted. An empty set means all the fields.
+     *
+     * @return the projected fields
+     */
+    protected Set<String> getProjectedFields() {
+        return projectedFields;
+    }
+
+    /**
+     * Gets the rowtime accessor for the descriptor. The accessor is resolved again only when
+     * the descriptor changes, which happens when stencil refreshes the schema.
+     *
+     * @param descriptor the descriptor
+     * @return the rowtime accessor
+     */
+    protected RowtimeAccessor getRowtimeAccessor(Descriptors.Descriptor descriptor) {
+        if (rowtimeAccessor == null || rowtimeAccessor.getDescriptor() != descriptor) {
+            rowtimeAccessor = new RowtimeAccessor(descriptor, timestampFieldIndex);
+        }
+        return rowtimeAccessor;
+    }
+
+    /**
+     * Sets the rowtime columns at the end of the row.
+     *
+     * @param row     the row
+     * @param rowtime the rowtime
+     * @return the row
+     */
+    protected Row setRowtimeFields(Row row, Timestamp rowtime) {
+        row.setField(row.getArity() - 2, true);
+        row.setField(row.getArity() - 1, rowtime);
+        return row;
+    }
+
+    /* invalid records are never dropped, so that they still reach the invalid record handling */
+    private boolean isLate(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        long rowtime;
+        try {
+            rowtime = getRowtimeAccessor(getProtoParser()).decodeRowtime(consumerRecord.value()).getTime();
+        } catch (InvalidProtocolBufferException e) {
+            return false;
+        }
+        if (partitionMaxRowtimes == null) {
+            partitionMaxRowtimes = new HashMap<>();
+        }
+        partitionMaxRowtimes.merge(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()), rowtime, Math::max);
+        long watermark = Collections.min(partitionMaxRowtimes.values()) - watermarkDelayMs;
+        return rowtime < watermark;
+    }
+
     private Descriptors.Descriptor getProtoParser() {
         Descriptors.Descriptor dsc = stencilClientOrchestrator.getStencilClient().get(protoClassName);
         if (dsc == null) {
@@ -86,17 +218,18 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
         return row;
     }
 
-    private Row addTimestampFieldToRow(DynamicMessage proto) {
-        Row finalRecord = RowFactory.createRow(proto, 2);
-        Descriptors.FieldDescriptor fieldDescriptor = proto.getDescriptorForType().findFieldByNumber(timestampFieldIndex);
-        DynamicMessage timestampProto = (DynamicMessage) proto.getField(fieldDescriptor);
-        List<Descriptors.FieldDescriptor> timestampFields = timestampProto.getDescriptorForType().getFields();
-
-        long timestampSeconds = (long) timestampProto.getField(timestampFields.get(0));
-        long timestampNanos = (int) timestampProto.getField(timestampFields.get(1));
+    private Row createProjectedRow(DynamicMessage proto) {
+        Descriptors.Descriptor descriptor = proto.getDescriptorForType();
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(descriptor);
+        if (fieldMaskDescriptor != descriptor) {
+            fieldMask = rowConverter.getFieldMask(projectedFields);
+            fieldMaskDescriptor = descriptor;
+        }
+        return rowConverter.createRow(proto, 2, fieldMask);
+    }
 
-        finalRecord.setField(finalRecord.getArity() - 2, true);
-        finalRecord.setField(finalRecord.getArity() - 1, Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos)));
-        return finalRecord;
+    private Row addTimestampFieldToRow(DynamicMessage proto) {
+        Row finalRecord = projectedFields.isEmpty() ? RowFactory.createRow(proto, 2) : createProjectedRow(proto);
+        return setRowtimeFields(finalRecord, getRowtimeAccessor(proto.getDescriptorForType()).getRowtime(proto));
     }
 }
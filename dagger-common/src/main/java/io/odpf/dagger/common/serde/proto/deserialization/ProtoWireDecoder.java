@@ -0,0 +1,407 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.odpf.dagger.common.serde.typehandler.RowConverter;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import io.odpf.dagger.common.serde.typehandler.complex.StructMessageHandler;
+import io.odpf.dagger.common.serde.typehandler.repeated.RepeatedStructMessageHandler;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes the protobuf wire format of a message straight into a {@link Row}, without building
+ * an intermediate {@link DynamicMessage}. The rows produced are the same as the ones produced by
+ * converting the parsed {@link DynamicMessage} through {@link io.odpf.dagger.common.serde.typehandler.RowFactory}.
+ * Inputs which need protobuf merge semantics (a singular message field repeated on the wire) or
+ * use groups are handed over to the {@link DynamicMessage} path.
+ */
+public class ProtoWireDecoder {
+    private static final Map<String, ProtoWireDecoder> DECODER_MAP = new ConcurrentHashMap<>();
+    private static final int MAX_DIRECT_LOOKUP_FIELD_NUMBER = 1024;
+    private static final int RECURSION_LIMIT = 100;
+    private static final FullParseRequiredException FULL_PARSE_REQUIRED = new FullParseRequiredException();
+
+    private final Descriptors.Descriptor descriptor;
+    private final FieldDecoder[] fieldDecoders;
+    private final FieldDecoder[] fieldDecodersByNumber;
+    private final Map<Integer, FieldDecoder> fieldDecoderMap;
+    private final int[] requiredFieldIndexes;
+    private final boolean[] fieldMask;
+
+    /**
+     * Instantiates a new Proto wire decoder.
+     *
+     * @param descriptor the descriptor
+     */
+    public ProtoWireDecoder(Descriptors.Descriptor descriptor) {
+        this(descriptor, Collections.emptySet());
+    }
+
+    /**
+     * Instantiates a new Proto wire decoder which only decodes the projected top level fields.
+     * The other fields are skipped on the wire and left null. An empty projection decodes all the fields.
+     *
+     * @param descriptor      the descriptor
+     * @param projectedFields the names of the fields to be decoded
+     */
+    public ProtoWireDecoder(Descriptors.Descriptor descriptor, Set<String> projectedFields) {
+        this.descriptor = descriptor;
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(descriptor);
+        this.fieldMask = rowConverter.getFieldMask(projectedFields);
+        List<FieldDescriptor> descriptorFields = descriptor.getFields();
+        this.fieldDecoders = new FieldDecoder[descriptorFields.size()];
+        int maxFieldNumber = 0;
+        List<Integer> requiredFields = new ArrayList<>();
+        for (FieldDescriptor fieldDescriptor : descriptorFields) {
+            int index = fieldDescriptor.getIndex();
+            FieldDecoder fieldDecoder = new FieldDecoder(fieldDescriptor, rowConverter.getTypeHandler(index), fieldMask[index]);
+            fieldDecoders[index] = fieldDecoder;
+            maxFieldNumber = Math.max(maxFieldNumber, fieldDescriptor.getNumber());
+            if (fieldDescriptor.isRequired() && fieldDecoder.fieldKind != FieldKind.SKIPPED) {
+                requiredFields.add(index);
+            }
+        }
+        this.requiredFieldIndexes = requiredFields.stream().mapToInt(Integer::intValue).toArray();
+        if (maxFieldNumber <= MAX_DIRECT_LOOKUP_FIELD_NUMBER) {
+            this.fieldDecodersByNumber = new FieldDecoder[maxFieldNumber + 1];
+            this.fieldDecoderMap = null;
+            for (FieldDecoder fieldDecoder : fieldDecoders) {
+                fieldDecodersByNumber[fieldDecoder.fieldDescriptor.getNumber()] = fieldDecoder;
+            }
+        } else {
+            this.fieldDecodersByNumber = null;
+            this.fieldDecoderMap = new HashMap<>();
+            for (FieldDecoder fieldDecoder : fieldDecoders) {
+                fieldDecoderMap.put(fieldDecoder.fieldDescriptor.getNumber(), fieldDecoder);
+            }
+        }
+    }
+
+    /**
+     * Gets the decoder for the descriptor. The decoder is rebuilt when a different descriptor
+     * instance is passed for the same message, which happens when stencil refreshes the schema.
+     *
+     * @param descriptor the descriptor
+     * @return the proto wire decoder
+     */
+    public static ProtoWireDecoder getDecoder(Descriptors.Descriptor descriptor) {
+        ProtoWireDecoder decoder = DECODER_MAP.get(descriptor.getFullName());
+        if (decoder == null || decoder.descriptor != descriptor) {
+            decoder = new ProtoWireDecoder(descriptor);
+            DECODER_MAP.put(descriptor.getFullName(), decoder);
+        }
+        return decoder;
+    }
+
+    /**
+     * Gets the descriptor this decoder was built for.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Decode the serialized message into a row.
+     *
+     * @param message      the serialized message
+     * @param extraColumns the extra columns
+     * @return the row
+     * @throws InvalidProtocolBufferException if the message is not a valid protobuf message
+     */
+    public Row decode(byte[] message, int extraColumns) throws InvalidProtocolBufferException {
+        CodedInputStream input = CodedInputStream.newInstance(message);
+        Row row = new Row(fieldDecoders.length + extraColumns);
+        try {
+            decodeFields(input, row, 0);
+            input.checkLastTagWas(0);
+        } catch (FullParseRequiredException e) {
+            return TypeHandlerFactory.getRowConverter(descriptor).createRow(DynamicMessage.parseFrom(descriptor, message), extraColumns, fieldMask);
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e.getMessage());
+        }
+        return row;
+    }
+
+    private Row decodeNested(CodedInputStream input, int depth) throws IOException {
+        if (depth >= RECURSION_LIMIT) {
+            throw new InvalidProtocolBufferException("Protocol message had too many levels of nesting.");
+        }
+        int length = input.readRawVarint32();
+        int oldLimit = input.pushLimit(length);
+        Row row = new Row(fieldDecoders.length);
+        decodeFields(input, row, depth + 1);
+        input.checkLastTagWas(0);
+        input.popLimit(oldLimit);
+        return row;
+    }
+
+    private void decodeFields(CodedInputStream input, Row row, int depth) throws IOException {
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0 || WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_END_GROUP) {
+                break;
+            }
+            FieldDecoder fieldDecoder = findFieldDecoder(WireFormat.getTagFieldNumber(tag));
+            if (fieldDecoder == null || !fieldDecoder.read(input, row, WireFormat.getTagWireType(tag), depth)) {
+                input.skipField(tag);
+            }
+        }
+        for (int requiredFieldIndex : requiredFieldIndexes) {
+            if (row.getField(requiredFieldIndex) == null) {
+                throw new InvalidProtocolBufferException("Message missing required fields: " + fieldDecoders[requiredFieldIndex].fieldDescriptor.getName());
+            }
+        }
+        completeFields(row);
+    }
+
+    private Row createDefaultRow() {
+        Row row = new Row(fieldDecoders.length);
+        completeFields(row);
+        return row;
+    }
+
+    private void completeFields(Row row) {
+        for (FieldDecoder fieldDecoder : fieldDecoders) {
+            fieldDecoder.complete(row);
+        }
+    }
+
+    private FieldDecoder findFieldDecoder(int fieldNumber) {
+        if (fieldDecodersByNumber != null) {
+            return fieldNumber < fieldDecodersByNumber.length ? fieldDecodersByNumber[fieldNumber] : null;
+        }
+        return fieldDecoderMap.get(fieldNumber);
+    }
+
+    private enum FieldKind {
+        SCALAR,
+        MESSAGE,
+        REPEATED_SCALAR,
+        REPEATED_MESSAGE,
+        GROUP,
+        SKIPPED
+    }
+
+    private final class FieldDecoder {
+        private final FieldDescriptor fieldDescriptor;
+        private final TypeHandler typeHandler;
+        private final FieldKind fieldKind;
+        private final int index;
+        private final int wireType;
+        private final boolean packable;
+        private final boolean checkUtf8;
+        private final boolean openEnum;
+        private final int[] oneofSiblingIndexes;
+        private final Object defaultValue;
+        private ProtoWireDecoder messageDecoder;
+
+        FieldDecoder(FieldDescriptor fieldDescriptor, TypeHandler typeHandler, boolean projected) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.typeHandler = typeHandler;
+            this.fieldKind = projected ? getFieldKind(fieldDescriptor, typeHandler) : FieldKind.SKIPPED;
+            this.index = fieldDescriptor.getIndex();
+            this.wireType = fieldDescriptor.getLiteType().getWireType();
+            this.packable = fieldDescriptor.isPackable();
+            boolean isProto3 = fieldDescriptor.getFile().getSyntax() == Descriptors.FileDescriptor.Syntax.PROTO3;
+            this.checkUtf8 = isProto3;
+            this.openEnum = isProto3;
+            this.oneofSiblingIndexes = fieldDescriptor.getContainingOneof() == null ? new int[0]
+                    : fieldDescriptor.getContainingOneof().getFields().stream()
+                    .filter(sibling -> sibling != fieldDescriptor)
+                    .mapToInt(FieldDescriptor::getIndex)
+                    .toArray();
+            this.defaultValue = getDefaultValue();
+        }
+
+        private FieldKind getFieldKind(FieldDescriptor field, TypeHandler handler) {
+            if (handler instanceof StructMessageHandler || handler instanceof RepeatedStructMessageHandler) {
+                return FieldKind.SKIPPED;
+            }
+            if (field.getType() == FieldDescriptor.Type.GROUP) {
+                return FieldKind.GROUP;
+            }
+            if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                return field.isRepeated() ? FieldKind.REPEATED_MESSAGE : FieldKind.MESSAGE;
+            }
+            return field.isRepeated() ? FieldKind.REPEATED_SCALAR : FieldKind.SCALAR;
+        }
+
+        private Object getDefaultValue() {
+            switch (fieldKind) {
+                case SCALAR:
+                    return typeHandler.transformFromProto(fieldDescriptor.getDefaultValue());
+                case REPEATED_SCALAR:
+                    return typeHandler.transformFromProto(Collections.emptyList());
+                case REPEATED_MESSAGE:
+                    return new Object[0];
+                default:
+                    return null;
+            }
+        }
+
+        private ProtoWireDecoder getMessageDecoder() {
+            if (messageDecoder == null) {
+                messageDecoder = getDecoder(fieldDescriptor.getMessageType());
+            }
+            return messageDecoder;
+        }
+
+        boolean read(CodedInputStream input, Row row, int tagWireType, int depth) throws IOException {
+            switch (fieldKind) {
+                case SCALAR:
+                    if (tagWireType != wireType) {
+                        return false;
+                    }
+                    Object value = readValue(input);
+                    if (value != null) {
+                        clearOneofSiblings(row);
+                        row.setField(index, typeHandler.transformFromProto(value));
+                    }
+                    return true;
+                case MESSAGE:
+                    if (tagWireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        return false;
+                    }
+                    if (row.getField(index) != null) {
+                        throw FULL_PARSE_REQUIRED;
+                    }
+                    clearOneofSiblings(row);
+                    row.setField(index, getMessageDecoder().decodeNested(input, depth));
+                    return true;
+                case REPEATED_SCALAR:
+                    if (tagWireType == wireType) {
+                        addValue(getValues(row), readValue(input));
+                        return true;
+                    }
+                    if (packable && tagWireType == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        List<Object> values = getValues(row);
+                        int oldLimit = input.pushLimit(input.readRawVarint32());
+                        while (input.getBytesUntilLimit() > 0) {
+                            addValue(values, readValue(input));
+                        }
+                        input.popLimit(oldLimit);
+                        return true;
+                    }
+                    return false;
+                case REPEATED_MESSAGE:
+                    if (tagWireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        return false;
+                    }
+                    getValues(row).add(getMessageDecoder().decodeNested(input, depth));
+                    return true;
+                case GROUP:
+                    throw FULL_PARSE_REQUIRED;
+                default:
+                    return false;
+            }
+        }
+
+        void complete(Row row) {
+            Object value = row.getField(index);
+            switch (fieldKind) {
+                case MESSAGE:
+                    if (value == null) {
+                        row.setField(index, getMessageDecoder().createDefaultRow());
+                    }
+                    return;
+                case REPEATED_SCALAR:
+                    row.setField(index, value == null ? defaultValue : typeHandler.transformFromProto(value));
+                    return;
+                case REPEATED_MESSAGE:
+                    row.setField(index, value == null ? defaultValue : ((List<?>) value).toArray());
+                    return;
+                default:
+                    if (value == null) {
+                        row.setField(index, defaultValue);
+                    }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Object> getValues(Row row) {
+            List<Object> values = (List<Object>) row.getField(index);
+            if (values == null) {
+                values = new ArrayList<>();
+                row.setField(index, values);
+            }
+            return values;
+        }
+
+        private void addValue(List<Object> values, Object value) {
+            if (value != null) {
+                values.add(value);
+            }
+        }
+
+        private void clearOneofSiblings(Row row) {
+            for (int siblingIndex : oneofSiblingIndexes) {
+                row.setField(siblingIndex, null);
+            }
+        }
+
+        private Object readValue(CodedInputStream input) throws IOException {
+            switch (fieldDescriptor.getType()) {
+                case DOUBLE:
+                    return input.readDouble();
+                case FLOAT:
+                    return input.readFloat();
+                case INT64:
+                    return input.readInt64();
+                case UINT64:
+                    return input.readUInt64();
+                case INT32:
+                    return input.readInt32();
+                case FIXED64:
+                    return input.readFixed64();
+                case FIXED32:
+                    return input.readFixed32();
+                case BOOL:
+                    return input.readBool();
+                case STRING:
+                    return checkUtf8 ? input.readStringRequireUtf8() : input.readString();
+                case BYTES:
+                    return input.readBytes();
+                case UINT32:
+                    return input.readUInt32();
+                case ENUM:
+                    int enumNumber = input.readEnum();
+                    return openEnum ? fieldDescriptor.getEnumType().findValueByNumberCreatingIfUnknown(enumNumber)
+                            : fieldDescriptor.getEnumType().findValueByNumber(enumNumber);
+                case SFIXED32:
+                    return input.readSFixed32();
+                case SFIXED64:
+                    return input.readSFixed64();
+                case SINT32:
+                    return input.readSInt32();
+                case SINT64:
+                    return input.readSInt64();
+                default:
+                    throw FULL_PARSE_REQUIRED;
+            }
+        }
+    }
+
+    private static final class FullParseRequiredException extends RuntimeException {
+        FullParseRequiredException() {
+            super("Wire decoding requires a full parse of the message", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import org.apache.flink.types.Row;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Deserializer for protobuf messages which decodes the wire format straight into rows
+ * using {@link ProtoWireDecoder}, skipping the intermediate DynamicMessage.
+ */
+public class ProtoWireDeserializer extends ProtoDeserializer {
+    private transient ProtoWireDecoder projectedDecoder;
+
+    /**
+     * Instantiates a new Proto wire deserializer.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     */
+    public ProtoWireDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        super(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator);
+    }
+
+    /**
+     * Instantiates a new Proto wire deserializer which only decodes the projected fields.
+     * The other fields are skipped on the wire and left null in the row.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param projectedFields           the names of the fields to be decoded
+     */
+    public ProtoWireDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, Set<String> projectedFields) {
+        super(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, projectedFields);
+    }
+
+    @Override
+    protected Row parse(Descriptors.Descriptor descriptor, byte[] message) throws InvalidProtocolBufferException {
+        RowtimeAccessor rowtimeAccessor = getRowtimeAccessor(descriptor);
+        Descriptors.FieldDescriptor timestampField = rowtimeAccessor.getTimestampField();
+        Row row = getDecoder(descriptor, timestampField).decode(message, 2);
+        return setRowtimeFields(row, rowtimeAccessor.getRowtime((Row) row.getField(timestampField.getIndex())));
+    }
+
+    private ProtoWireDecoder getDecoder(Descriptors.Descriptor descriptor, Descriptors.FieldDescriptor timestampField) {
+        if (getProjectedFields().isEmpty()) {
+            return ProtoWireDecoder.getDecoder(descriptor);
+        }
+        if (projectedDecoder == null || projectedDecoder.getDescriptor() != descriptor) {
+            Set<String> decodedFields = new HashSet<>(getProjectedFields());
+            decodedFields.add(timestampField.getName());
+            projectedDecoder = new ProtoWireDecoder(descriptor, decodedFields);
+        }
+        return projectedDecoder;
+    }
+}
@@ -0,0 +1,135 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Accessor for the event timestamp of a proto message, resolved once per descriptor version.
+ * Besides reading the timestamp from a parsed message, it can decode the timestamp straight
+ * from the serialized bytes without materialising the message.
+ */
+public class RowtimeAccessor {
+    private final Descriptors.Descriptor descriptor;
+    private final Descriptors.FieldDescriptor timestampField;
+    private final Descriptors.FieldDescriptor secondsField;
+    private final Descriptors.FieldDescriptor nanosField;
+    private final int timestampFieldNumber;
+
+    /**
+     * Instantiates a new Rowtime accessor.
+     *
+     * @param descriptor          the descriptor
+     * @param timestampFieldIndex the field number of the event timestamp
+     */
+    public RowtimeAccessor(Descriptors.Descriptor descriptor, int timestampFieldIndex) {
+        this.descriptor = descriptor;
+        this.timestampField = descriptor.findFieldByNumber(timestampFieldIndex);
+        if (timestampField == null || timestampField.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+            throw new IllegalArgumentException("Field number " + timestampFieldIndex + " is not a timestamp field of " + descriptor.getFullName());
+        }
+        List<Descriptors.FieldDescriptor> timestampFields = timestampField.getMessageType().getFields();
+        this.secondsField = timestampFields.get(0);
+        this.nanosField = timestampFields.get(1);
+        this.timestampFieldNumber = timestampField.getNumber();
+    }
+
+    /**
+     * Gets the descriptor this accessor was resolved for.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Gets the event timestamp field.
+     *
+     * @return the timestamp field
+     */
+    public Descriptors.FieldDescriptor getTimestampField() {
+        return timestampField;
+    }
+
+    /**
+     * Gets the event timestamp from the converted timestamp row.
+     *
+     * @param timestampRow the timestamp row
+     * @return the rowtime
+     */
+    public Timestamp getRowtime(Row timestampRow) {
+        long timestampSeconds = (long) timestampRow.getField(secondsField.getIndex());
+        long timestampNanos = (int) timestampRow.getField(nanosField.getIndex());
+        return Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos));
+    }
+
+    /**
+     * Gets the event timestamp of a parsed message.
+     *
+     * @param proto the proto
+     * @return the rowtime
+     */
+    public Timestamp getRowtime(DynamicMessage proto) {
+        DynamicMessage timestampProto = (DynamicMessage) proto.getField(timestampField);
+        long timestampSeconds = (long) timestampProto.getField(secondsField);
+        long timestampNanos = (int) timestampProto.getField(nanosField);
+        return Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos));
+    }
+
+    /**
+     * Decodes the event timestamp from the serialized message, skipping every other field.
+     * A missing timestamp decodes to the epoch, the same as the default message value.
+     *
+     * @param message the serialized message
+     * @return the rowtime
+     * @throws InvalidProtocolBufferException if the message is not a valid protobuf message
+     */
+    public Timestamp decodeRowtime(byte[] message) throws InvalidProtocolBufferException {
+        CodedInputStream input = CodedInputStream.newInstance(message);
+        long timestampSeconds = 0;
+        long timestampNanos = 0;
+        try {
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                if (WireFormat.getTagFieldNumber(tag) != timestampFieldNumber || WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    input.skipField(tag);
+                    continue;
+                }
+                int oldLimit = input.pushLimit(input.readRawVarint32());
+                while (true) {
+                    int timestampTagValue = input.readTag();
+                    if (timestampTagValue == 0) {
+                        break;
+                    }
+                    int fieldNumber = WireFormat.getTagFieldNumber(timestampTagValue);
+                    boolean isVarint = WireFormat.getTagWireType(timestampTagValue) == WireFormat.WIRETYPE_VARINT;
+                    if (isVarint && fieldNumber == secondsField.getNumber()) {
+                        timestampSeconds = input.readInt64();
+                    } else if (isVarint && fieldNumber == nanosField.getNumber()) {
+                        timestampNanos = input.readInt32();
+                    } else {
+                        input.skipField(timestampTagValue);
+                    }
+                }
+                input.popLimit(oldLimit);
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e.getMessage());
+        }
+        return Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos));
+    }
+}
@@ -0,0 +1,218 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import org.apache.flink.types.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write plan of the output columns for a single descriptor version. The field path and the type
+ * handler of every column are resolved once, and the nested messages shared by the dotted columns
+ * are kept in builders of their own while a row is written, so that every nested message is built
+ * and set on its parent once per row instead of once per column.
+ */
+public class ProtoWritePlan {
+    private static final int ROOT = -1;
+    private static final DynamicMessage.Builder[] NO_NESTED_BUILDERS = new DynamicMessage.Builder[0];
+
+    private final Descriptors.Descriptor descriptor;
+    private final ColumnWriter[] columnWriters;
+    private final NestedMessage[] nestedMessages;
+
+    /**
+     * Instantiates a new Proto write plan.
+     *
+     * @param descriptor  the descriptor
+     * @param columnNames the column names of the rows, dotted for the nested fields
+     */
+    public ProtoWritePlan(Descriptors.Descriptor descriptor, String[] columnNames) {
+        this.descriptor = descriptor;
+        List<NestedMessage> nestedMessageList = new ArrayList<>();
+        this.columnWriters = new ColumnWriter[columnNames.length];
+        for (int index = 0; index < columnNames.length; index++) {
+            columnWriters[index] = compile(columnNames[index], nestedMessageList);
+        }
+        this.nestedMessages = nestedMessageList.toArray(new NestedMessage[0]);
+        for (ColumnWriter columnWriter : columnWriters) {
+            columnWriter.resolveOverwrittenMessages(nestedMessages);
+        }
+    }
+
+    /**
+     * Gets the descriptor this plan was compiled for.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Write the row into a message of the descriptor.
+     *
+     * @param row the row
+     * @return the message
+     */
+    public DynamicMessage write(Row row) {
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        DynamicMessage.Builder[] nestedBuilders = nestedMessages.length == 0
+                ? NO_NESTED_BUILDERS : new DynamicMessage.Builder[nestedMessages.length];
+        int numberOfElements = row.getArity();
+        for (int index = 0; index < numberOfElements; index++) {
+            columnWriters[index].write(builder, nestedBuilders, row.getField(index));
+        }
+        for (int index = nestedBuilders.length - 1; index >= 0; index--) {
+            if (nestedBuilders[index] != null) {
+                NestedMessage nestedMessage = nestedMessages[index];
+                DynamicMessage.Builder parentBuilder = nestedMessage.parent == ROOT ? builder : nestedBuilders[nestedMessage.parent];
+                parentBuilder.setField(nestedMessage.fieldDescriptor, nestedBuilders[index].build());
+            }
+        }
+        return builder.build();
+    }
+
+    private ColumnWriter compile(String columnName, List<NestedMessage> nestedMessageList) {
+        String[] nestedColumnNames = columnName.split("\\.");
+        if (nestedColumnNames.length == 1) {
+            return new ColumnWriter(ROOT, descriptor.findFieldByName(columnName));
+        }
+        if (descriptor.findFieldByName(nestedColumnNames[0]) == null) {
+            return new ColumnWriter(ROOT, null);
+        }
+        Descriptors.Descriptor parentDescriptor = descriptor;
+        int parent = ROOT;
+        int leafDepth = nestedColumnNames.length - 1;
+        for (int depth = 0; depth < leafDepth; depth++) {
+            Descriptors.FieldDescriptor fieldDescriptor = parentDescriptor.findFieldByName(nestedColumnNames[depth]);
+            if (fieldDescriptor == null) {
+                return missingColumn(nestedColumnNames[depth], parentDescriptor);
+            }
+            if (fieldDescriptor.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE || fieldDescriptor.isRepeated()) {
+                return new ColumnWriter(new InvalidColumnMappingException(String.format(
+                        "column %s is not a single message in the proto of %s", nestedColumnNames[depth], parentDescriptor.getFullName())));
+            }
+            parent = getNestedMessage(parent, fieldDescriptor, nestedMessageList);
+            parentDescriptor = fieldDescriptor.getMessageType();
+        }
+        Descriptors.FieldDescriptor leafFieldDescriptor = parentDescriptor.findFieldByName(nestedColumnNames[leafDepth]);
+        return leafFieldDescriptor == null ? missingColumn(nestedColumnNames[leafDepth], parentDescriptor) : new ColumnWriter(parent, leafFieldDescriptor);
+    }
+
+    private static ColumnWriter missingColumn(String columnName, Descriptors.Descriptor parentDescriptor) {
+        return new ColumnWriter(new InvalidColumnMappingException(String.format(
+                "column %s doesn't exists in the proto of %s", columnName, parentDescriptor.getFullName())));
+    }
+
+    private static int getNestedMessage(int parent, Descriptors.FieldDescriptor fieldDescriptor, List<NestedMessage> nestedMessageList) {
+        for (int index = 0; index < nestedMessageList.size(); index++) {
+            NestedMessage nestedMessage = nestedMessageList.get(index);
+            if (nestedMessage.parent == parent && nestedMessage.fieldDescriptor.equals(fieldDescriptor)) {
+                return index;
+            }
+        }
+        nestedMessageList.add(new NestedMessage(parent, fieldDescriptor));
+        return nestedMessageList.size() - 1;
+    }
+
+    private static DynamicMessage.Builder getNestedBuilder(int index, NestedMessage[] nestedMessages,
+                                                           DynamicMessage.Builder builder, DynamicMessage.Builder[] nestedBuilders) {
+        if (index == ROOT) {
+            return builder;
+        }
+        if (nestedBuilders[index] == null) {
+            NestedMessage nestedMessage = nestedMessages[index];
+            DynamicMessage.Builder parentBuilder = getNestedBuilder(nestedMessage.parent, nestedMessages, builder, nestedBuilders);
+            DynamicMessage.Builder nestedBuilder = DynamicMessage.newBuilder(nestedMessage.fieldDescriptor.getMessageType());
+            if (parentBuilder.hasField(nestedMessage.fieldDescriptor)) {
+                nestedBuilder.mergeFrom((DynamicMessage) parentBuilder.getField(nestedMessage.fieldDescriptor));
+            }
+            nestedBuilders[index] = nestedBuilder;
+        }
+        return nestedBuilders[index];
+    }
+
+    private static final class NestedMessage {
+        private final int parent;
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+
+        NestedMessage(int parent, Descriptors.FieldDescriptor fieldDescriptor) {
+            this.parent = parent;
+            this.fieldDescriptor = fieldDescriptor;
+        }
+    }
+
+    private static final class ColumnWriter {
+        private final int parent;
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+        private final TypeHandler typeHandler;
+        private final RuntimeException mappingException;
+        private NestedMessage[] nestedMessages;
+        private int[] overwrittenMessages;
+
+        ColumnWriter(int parent, Descriptors.FieldDescriptor fieldDescriptor) {
+            this.parent = parent;
+            this.fieldDescriptor = fieldDescriptor;
+            this.typeHandler = fieldDescriptor == null ? null : TypeHandlerFactory.getTypeHandler(fieldDescriptor);
+            this.mappingException = null;
+        }
+
+        ColumnWriter(RuntimeException mappingException) {
+            this.parent = ROOT;
+            this.fieldDescriptor = null;
+            this.typeHandler = null;
+            this.mappingException = mappingException;
+        }
+
+        /* a column holding a whole nested message replaces what the dotted columns before it wrote into that message */
+        void resolveOverwrittenMessages(NestedMessage[] allNestedMessages) {
+            this.nestedMessages = allNestedMessages;
+            boolean[] overwritten = new boolean[allNestedMessages.length];
+            int count = 0;
+            for (int index = 0; index < allNestedMessages.length; index++) {
+                NestedMessage nestedMessage = allNestedMessages[index];
+                boolean isOverwritten = fieldDescriptor != null && nestedMessage.parent == parent && nestedMessage.fieldDescriptor.equals(fieldDescriptor);
+                isOverwritten = isOverwritten || (nestedMessage.parent != ROOT && overwritten[nestedMessage.parent]);
+                overwritten[index] = isOverwritten;
+                count += isOverwritten ? 1 : 0;
+            }
+            this.overwrittenMessages = new int[count];
+            for (int index = 0, position = 0; index < overwritten.length; index++) {
+                if (overwritten[index]) {
+                    overwrittenMessages[position++] = index;
+                }
+            }
+        }
+
+        void write(DynamicMessage.Builder builder, DynamicMessage.Builder[] nestedBuilders, Object data) {
+            if (mappingException != null) {
+                throw mappingException;
+            }
+            if (fieldDescriptor == null) {
+                return;
+            }
+            DynamicMessage.Builder parentBuilder = getNestedBuilder(parent, nestedMessages, builder, nestedBuilders);
+            if (data == null) {
+                return;
+            }
+            try {
+                typeHandler.transformToProtoBuilder(parentBuilder, data);
+            } catch (IllegalArgumentException e) {
+                String protoType = fieldDescriptor.getType().toString();
+                if (fieldDescriptor.isRepeated()) {
+                    protoType = String.format("REPEATED %s", fieldDescriptor.getType());
+                }
+                String errMessage = String.format("column invalid: type mismatch of column %s, expecting %s type. Actual type %s", fieldDescriptor.getName(), protoType, data.getClass());
+                throw new InvalidColumnMappingException(errMessage, e);
+            }
+            for (int overwrittenMessage : overwrittenMessages) {
+                nestedBuilders[overwrittenMessage] = null;
+            }
+        }
+
+    }
+}
@@ -0,0 +1,180 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converter plan for a single descriptor version. The type handlers of all the fields
+ * are resolved once and kept in an array indexed by the field position, so that
+ * converting a record does not need any handler lookup.
+ */
+public class RowConverter {
+    private final Descriptors.Descriptor descriptor;
+    private final FieldDescriptor[] fieldDescriptors;
+    private final String[] fieldNames;
+    private final TypeHandler[] typeHandlers;
+
+    /**
+     * Instantiates a new Row converter.
+     *
+     * @param descriptor the descriptor
+     */
+    public RowConverter(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<FieldDescriptor> descriptorFields = descriptor.getFields();
+        int fieldCount = descriptorFields.size();
+        this.fieldDescriptors = new FieldDescriptor[fieldCount];
+        this.fieldNames = new String[fieldCount];
+        this.typeHandlers = new TypeHandler[fieldCount];
+        for (FieldDescriptor fieldDescriptor : descriptorFields) {
+            int index = fieldDescriptor.getIndex();
+            fieldDescriptors[index] = fieldDescriptor;
+            fieldNames[index] = fieldDescriptor.getName();
+            typeHandlers[index] = TypeHandlerFactory.createTypeHandler(fieldDescriptor);
+        }
+    }
+
+    /**
+     * Gets the descriptor this converter was compiled for.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Gets the number of fields in the descriptor.
+     *
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return fieldDescriptors.length;
+    }
+
+    /**
+     * Gets the type handler of the field at the given position.
+     *
+     * @param index the field index
+     * @return the type handler
+     */
+    public TypeHandler getTypeHandler(int index) {
+        return typeHandlers[index];
+    }
+
+    /**
+     * Gets the mask of the fields to be converted for the given projection. All the fields
+     * are selected when the projection is empty.
+     *
+     * @param projectedFields the names of the fields to be converted
+     * @return the field mask indexed by field position
+     */
+    public boolean[] getFieldMask(Set<String> projectedFields) {
+        boolean[] fieldMask = new boolean[fieldNames.length];
+        if (projectedFields == null || projectedFields.isEmpty()) {
+            Arrays.fill(fieldMask, true);
+            return fieldMask;
+        }
+        for (int index = 0; index < fieldNames.length; index++) {
+            fieldMask[index] = projectedFields.contains(fieldNames[index]);
+        }
+        return fieldMask;
+    }
+
+    /**
+     * Create row from specified input map.
+     *
+     * @param inputMap the input map
+     * @return the row
+     */
+    public Row createRow(Map<String, Object> inputMap) {
+        Row row = new Row(fieldDescriptors.length);
+        if (inputMap == null) {
+            return row;
+        }
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            Object value = inputMap.get(fieldNames[index]);
+            if (value != null) {
+                row.setField(index, typeHandlers[index].transformFromPostProcessor(value));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Create row from specified proto and extra columns.
+     *
+     * @param proto        the proto
+     * @param extraColumns the extra columns
+     * @return the row
+     */
+    public Row createRow(DynamicMessage proto, int extraColumns) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            row.setField(index, typeHandlers[index].transformFromProto(proto.getField(fieldDescriptors[index])));
+        }
+        return row;
+    }
+
+    /**
+     * Create row from specified proto and extra columns, converting only the fields selected
+     * by the field mask. The other fields are left null.
+     *
+     * @param proto        the proto
+     * @param extraColumns the extra columns
+     * @param fieldMask    the field mask
+     * @return the row
+     */
+    public Row createRow(DynamicMessage proto, int extraColumns, boolean[] fieldMask) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            if (fieldMask[index]) {
+                row.setField(index, typeHandlers[index].transformFromProto(proto.getField(fieldDescriptors[index])));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Create row from specified SimpleGroup and extra columns.
+     *
+     * @param simpleGroup  the simple group
+     * @param extraColumns the extra columns
+     * @return the row
+     */
+    public Row createRow(SimpleGroup simpleGroup, int extraColumns) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            row.setField(index, typeHandlers[index].transformFromParquet(simpleGroup));
+        }
+        return row;
+    }
+
+    /**
+     * Create row from specified SimpleGroup and extra columns, converting only the fields
+     * selected by the field mask. The other fields are left null.
+     *
+     * @param simpleGroup  the simple group
+     * @param extraColumns the extra columns
+     * @param fieldMask    the field mask
+     * @return the row
+     */
+    public Row createRow(SimpleGroup simpleGroup, int extraColumns, boolean[] fieldMask) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            if (fieldMask[index]) {
+                row.setField(index, typeHandlers[index].transformFromParquet(simpleGroup));
+            }
+        }
+        return row;
+    }
+}
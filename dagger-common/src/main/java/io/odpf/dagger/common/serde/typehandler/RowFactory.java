@@ -3,11 +3,9 @@ package io.odpf.dagger.common.serde.typehandler;
 import org.apache.flink.types.Row;
 
 import com.google.protobuf.Descriptors;
-import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.DynamicMessage;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,18 +20,7 @@ public class RowFactory {
      * @return the row
      */
     public static Row createRow(Map<String, Object> inputMap, Descriptors.Descriptor descriptor) {
-        List<FieldDescriptor> descriptorFields = descriptor.getFields();
-        Row row = new Row(descriptorFields.size());
-        if (inputMap == null) {
-            return row;
-        }
-        for (FieldDescriptor fieldDescriptor : descriptorFields) {
-            TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
-            if (inputMap.get(fieldDescriptor.getName()) != null) {
-                row.setField(fieldDescriptor.getIndex(), typeHandler.transformFromPostProcessor(inputMap.get(fieldDescriptor.getName())));
-            }
-        }
-        return row;
+        return TypeHandlerFactory.getRowConverter(descriptor).createRow(inputMap);
     }
 
     /**
@@ -44,23 +31,11 @@ public class RowFactory {
      * @return the row
      */
     public static Row createRow(DynamicMessage proto, int extraColumns) {
-        List<FieldDescriptor> descriptorFields = proto.getDescriptorForType().getFields();
-        Row row = new Row(descriptorFields.size() + extraColumns);
-        for (FieldDescriptor fieldDescriptor : descriptorFields) {
-            TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
-            row.setField(fieldDescriptor.getIndex(), typeHandler.transformFromProto(proto.getField(fieldDescriptor)));
-        }
-        return row;
+        return TypeHandlerFactory.getRowConverter(proto.getDescriptorForType()).createRow(proto, extraColumns);
     }
 
     public static Row createRow(Descriptors.Descriptor descriptor, SimpleGroup simpleGroup, int extraColumns) {
-        List<FieldDescriptor> descriptorFields = descriptor.getFields();
-        Row row = new Row(descriptorFields.size() + extraColumns);
-        for (FieldDescriptor fieldDescriptor : descriptorFields) {
-            TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
-            row.setField(fieldDescriptor.getIndex(), typeHandler.transformFromParquet(simpleGroup));
-        }
-        return row;
+        return TypeHandlerFactory.getRowConverter(descriptor).createRow(simpleGroup, extraColumns);
     }
 
     public static Row createRow(Descriptors.Descriptor descriptor, SimpleGroup simpleGroup) {
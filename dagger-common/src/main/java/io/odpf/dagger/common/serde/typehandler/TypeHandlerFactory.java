@@ -21,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class TypeHandlerFactory {
     private static Map<String, TypeHandler> typeHandlerMap = new ConcurrentHashMap<>();
+    private static Map<String, RowConverter> rowConverterMap = new ConcurrentHashMap<>();
 
     /**
      * Gets type handler.
@@ -29,9 +30,35 @@ public class TypeHandlerFactory {
      * @return the type handler
      */
     public static TypeHandler getTypeHandler(final Descriptors.FieldDescriptor fieldDescriptor) {
-        return typeHandlerMap.computeIfAbsent(fieldDescriptor.getFullName(),
-                k -> getSpecificHandlers(fieldDescriptor).stream().filter(TypeHandler::canHandle)
-                        .findFirst().orElseGet(() -> new PrimitiveTypeHandler(fieldDescriptor)));
+        return typeHandlerMap.computeIfAbsent(fieldDescriptor.getFullName(), k -> createTypeHandler(fieldDescriptor));
+    }
+
+    /**
+     * Gets the row converter compiled for the descriptor. The converter is rebuilt
+     * when a different descriptor instance is passed for the same message, which
+     * happens when stencil refreshes the schema.
+     *
+     * @param descriptor the descriptor
+     * @return the row converter
+     */
+    public static RowConverter getRowConverter(final Descriptors.Descriptor descriptor) {
+        RowConverter rowConverter = rowConverterMap.get(descriptor.getFullName());
+        if (rowConverter == null || rowConverter.getDescriptor() != descriptor) {
+            rowConverter = new RowConverter(descriptor);
+            rowConverterMap.put(descriptor.getFullName(), rowConverter);
+        }
+        return rowConverter;
+    }
+
+    /**
+     * Create a new type handler without looking up the cache.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return the type handler
+     */
+    static TypeHandler createTypeHandler(final Descriptors.FieldDescriptor fieldDescriptor) {
+        return getSpecificHandlers(fieldDescriptor).stream().filter(TypeHandler::canHandle)
+                .findFirst().orElseGet(() -> new PrimitiveTypeHandler(fieldDescriptor));
     }
 
     /**
@@ -39,6 +66,7 @@ public class TypeHandlerFactory {
      */
     protected static void clearTypeHandlerMap() {
         typeHandlerMap.clear();
+        rowConverterMap.clear();
     }
 
     private static List<TypeHandler> getSpecificHandlers(Descriptors.FieldDescriptor fieldDescriptor) {
@@ -0,0 +1,36 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class HistogramConfigTest {
+
+    @Test
+    public void shouldUseTheSlidingTimeWindowReservoirByDefault() {
+        HistogramConfig histogramConfig = new HistogramConfig(new Configuration(ParameterTool.fromMap(new HashMap<>())));
+
+        assertFalse(histogramConfig.isIntervalHistogramEnabled());
+        assertEquals(2, histogramConfig.getSignificantDigits());
+        assertEquals(10L, histogramConfig.getIntervalSeconds());
+    }
+
+    @Test
+    public void shouldReadTheIntervalHistogramConfig() {
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put("METRIC_HISTOGRAM_INTERVAL_ENABLE", "true");
+        configMap.put("METRIC_HISTOGRAM_SIGNIFICANT_DIGITS", "3");
+        configMap.put("METRIC_HISTOGRAM_INTERVAL_SECONDS", "60");
+
+        HistogramConfig histogramConfig = new HistogramConfig(new Configuration(ParameterTool.fromMap(configMap)));
+
+        assertTrue(histogramConfig.isIntervalHistogramEnabled());
+        assertEquals(3, histogramConfig.getSignificantDigits());
+        assertEquals(60L, histogramConfig.getIntervalSeconds());
+    }
+}
@@ -0,0 +1,131 @@
+package io.odpf.dagger.common.metrics.histogram;
+
+import org.apache.flink.metrics.HistogramStatistics;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class IntervalHistogramTest {
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private void advanceSeconds(long seconds) {
+        nanoClock.addAndGet(seconds * 1_000_000_000L);
+    }
+
+    @Test
+    public void shouldKeepValuesBelowTheSubBucketCountExactly() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1L << 40, 10_000L, nanoClock::get);
+        for (long value = 1; value <= 100; value++) {
+            histogram.update(value);
+        }
+        advanceSeconds(10);
+
+        HistogramStatistics statistics = histogram.getStatistics();
+
+        assertEquals(100, statistics.size());
+        assertEquals(1L, statistics.getMin());
+        assertEquals(100L, statistics.getMax());
+        assertEquals(50.5, statistics.getMean(), 0D);
+        assertEquals(50D, statistics.getQuantile(0.5), 0D);
+        assertEquals(99D, statistics.getQuantile(0.99), 0D);
+    }
+
+    @Test
+    public void shouldKeepLargeValuesWithinTheSignificantDigits() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1L << 40, 10_000L, nanoClock::get);
+        long[] values = {1_000L, 123_456L, 98_765_432L, 5_000_000_000L};
+        for (long value : values) {
+            histogram.update(value);
+        }
+        advanceSeconds(10);
+
+        HistogramStatistics statistics = histogram.getStatistics();
+
+        for (int index = 0; index < values.length; index++) {
+            double quantile = (index + 1D) / values.length;
+            assertEquals(values[index], statistics.getQuantile(quantile), values[index] * 0.01);
+        }
+        assertTrue(statistics.getMin() <= 1_000L);
+        assertTrue(statistics.getMax() >= 5_000_000_000L);
+    }
+
+    @Test
+    public void shouldMapEveryBucketBackToItsLowestValue() {
+        IntervalHistogram histogram = new IntervalHistogram(3, 1L << 40, 10_000L, nanoClock::get);
+
+        for (long value = 1; value < (1L << 40); value = value * 3 + 7) {
+            int index = histogram.indexOf(value);
+            assertTrue(histogram.lowestEquivalentValue(index) <= value);
+            assertTrue(histogram.lowestEquivalentValue(index + 1) > value);
+            assertEquals(index, histogram.indexOf(histogram.lowestEquivalentValue(index)));
+        }
+    }
+
+    @Test
+    public void shouldCountValuesAboveTheHighestTrackableValueAsIt() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1_000L, 10_000L, nanoClock::get);
+        histogram.update(Long.MAX_VALUE);
+        histogram.update(-5L);
+        advanceSeconds(10);
+
+        HistogramStatistics statistics = histogram.getStatistics();
+
+        assertEquals(2, statistics.size());
+        assertEquals(0L, statistics.getMin());
+        assertEquals(1_000L, statistics.getMax());
+    }
+
+    @Test
+    public void shouldReportTheValuesOfTheLastCompleteInterval() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1L << 40, 10_000L, nanoClock::get);
+        histogram.update(10L);
+        assertEquals(0, histogram.getStatistics().size());
+
+        advanceSeconds(10);
+        histogram.update(20L);
+        HistogramStatistics firstInterval = histogram.getStatistics();
+        advanceSeconds(5);
+        histogram.update(30L);
+
+        assertSame(firstInterval, histogram.getStatistics());
+        assertArrayEquals(new long[]{10L, 20L}, firstInterval.getValues());
+
+        advanceSeconds(5);
+        assertArrayEquals(new long[]{30L}, histogram.getStatistics().getValues());
+        assertEquals(3L, histogram.getCount());
+    }
+
+    @Test
+    public void shouldDrainTheValuesBeforeTheIntervalHasPassed() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1L << 40, 10_000L, nanoClock::get);
+        histogram.update(10L);
+        advanceSeconds(5);
+
+        assertArrayEquals(new long[]{10L}, histogram.drainStatistics().getValues());
+        histogram.update(20L);
+        advanceSeconds(5);
+        assertArrayEquals(new long[]{20L}, histogram.drainStatistics().getValues());
+        assertEquals(0, histogram.drainStatistics().size());
+    }
+
+    @Test
+    public void shouldReportEmptyStatisticsForAnIntervalWithoutValues() {
+        IntervalHistogram histogram = new IntervalHistogram(2, 1L << 40, 10_000L, nanoClock::get);
+        advanceSeconds(10);
+
+        HistogramStatistics statistics = histogram.getStatistics();
+
+        assertEquals(0, statistics.size());
+        assertEquals(0D, statistics.getMean(), 0D);
+        assertEquals(0D, statistics.getStdDev(), 0D);
+        assertEquals(0D, statistics.getQuantile(0.99), 0D);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForUnsupportedSignificantDigits() {
+        new IntervalHistogram(5, 1L << 40, 10_000L);
+    }
+}
@@ -52,4 +52,12 @@ public class GaugeStatsManagerTest {
         gaugeStatsManager.registerDouble("test_key", "test_value", TestAspects.TEST_ASPECT_ONE.getValue(), 0.01D);
         verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
     }
+
+    @Test
+    public void shouldRegisterGaugeReportingCurrentValueForSingleAspect() {
+        when(metricGroup.addGroup("test_key", "test_value")).thenReturn(metricGroup);
+        Gauge<Integer> gauge = () -> 1;
+        gaugeStatsManager.register("test_key", "test_value", TestAspects.TEST_ASPECT_ONE, gauge);
+        verify(metricGroup, times(1)).gauge(TestAspects.TEST_ASPECT_ONE.getValue(), gauge);
+    }
 }
@@ -5,6 +5,8 @@ import org.apache.flink.metrics.Histogram;
 import org.apache.flink.metrics.Meter;
 import org.apache.flink.metrics.MetricGroup;
 
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
+import io.odpf.dagger.common.metrics.histogram.IntervalHistogram;
 import io.odpf.dagger.common.metrics.managers.utils.TestAspects;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,6 +74,16 @@ public class MeterStatsManagerTest {
         verify(metricGroup, times(1)).meter(any(String.class), any(DropwizardMeterWrapper.class));
     }
 
+    @Test
+    public void shouldRegisterIntervalHistogramsWhenEnabled() {
+        String groupName = "test_groupName";
+        when(metricGroup.addGroup(groupName)).thenReturn(metricGroup);
+        meterStatsManager = new MeterStatsManager(metricGroup, true, new HistogramConfig(true, 2, 10L));
+
+        meterStatsManager.register(groupName, TestAspects.values());
+        verify(metricGroup, times(1)).histogram(any(String.class), any(IntervalHistogram.class));
+    }
+
     @Test
     public void shouldUpdateHistogram() {
         meterStatsManager = new MeterStatsManager(metricGroup, true, histogramMap, meterMap);
@@ -90,4 +102,13 @@ public class MeterStatsManagerTest {
         verify(meter, times(1)).markEvent();
     }
 
+    @Test
+    public void shouldMarkEventsInMeter() {
+        meterStatsManager = new MeterStatsManager(metricGroup, true, histogramMap, meterMap);
+        when(meterMap.get(TestAspects.TEST_ASPECT_TWO)).thenReturn(meter);
+
+        meterStatsManager.markEvent(TestAspects.TEST_ASPECT_TWO, 5L);
+        verify(meter, times(1)).markEvent(5L);
+    }
+
 }
@@ -12,6 +12,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashSet;
 
 import static org.apache.flink.api.common.typeinfo.Types.BIG_DEC;
 import static org.apache.flink.api.common.typeinfo.Types.BOOLEAN;
@@ -20,6 +22,7 @@ import static org.apache.flink.api.common.typeinfo.Types.STRING;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -163,4 +166,21 @@ public class JsonDeserializerTest {
         assertThrows(DaggerDeserializationException.class,
                 () -> jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data)));
     }
+
+    @Test
+    public void shouldOnlyDeserializeProjectedFieldsAndRowtimeField() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time", new HashSet<>(Collections.singletonList("random")));
+
+        byte[] data = "{ \"time\": 1637829201, \"id\": \"001\", \"random\": 1 }".getBytes();
+
+        Row row = jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data));
+
+        assertEquals(5, row.getArity());
+        assertNull(row.getField(0));
+        assertEquals(new BigDecimal("1637829201"), row.getField(1));
+        assertEquals(new BigDecimal("1"), row.getField(2));
+        assertEquals(java.sql.Timestamp.from(java.time.Instant.ofEpochSecond(1637829201L)), row.getField(4));
+        assertArrayEquals(new String[]{"id", "time", "random", "__internal_validation_field__", "rowtime"}, ((RowTypeInfo) jsonDeserializer.getProducedType()).getFieldNames());
+    }
 }
@@ -0,0 +1,52 @@
+package io.odpf.dagger.common.serde.parquet.deserialization;
+
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Feeds the values of a group to a parquet converter tree in the order a record reader would,
+ * reading only the columns of the requested schema.
+ */
+public class ParquetRecordReplayer {
+
+    public static void replay(Group group, GroupType requestedSchema, GroupConverter converter) {
+        converter.start();
+        for (int requestedField = 0; requestedField < requestedSchema.getFieldCount(); requestedField++) {
+            Type fieldType = requestedSchema.getType(requestedField);
+            int field = group.getType().getFieldIndex(fieldType.getName());
+            for (int index = 0; index < group.getFieldRepetitionCount(field); index++) {
+                if (fieldType.isPrimitive()) {
+                    replayValue(group, field, index, fieldType, converter.getConverter(requestedField).asPrimitiveConverter());
+                } else {
+                    replay(group.getGroup(field, index), fieldType.asGroupType(), converter.getConverter(requestedField).asGroupConverter());
+                }
+            }
+        }
+        converter.end();
+    }
+
+    private static void replayValue(Group group, int field, int index, Type fieldType, PrimitiveConverter converter) {
+        switch (fieldType.asPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+                converter.addInt(group.getInteger(field, index));
+                break;
+            case INT64:
+                converter.addLong(group.getLong(field, index));
+                break;
+            case FLOAT:
+                converter.addFloat(group.getFloat(field, index));
+                break;
+            case DOUBLE:
+                converter.addDouble(group.getDouble(field, index));
+                break;
+            case BOOLEAN:
+                converter.addBoolean(group.getBoolean(field, index));
+                break;
+            default:
+                converter.addBinary(group.getBinary(field, index));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package io.odpf.dagger.common.serde.parquet.deserialization;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestPrimitiveMessage;
+import org.apache.flink.types.Row;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ParquetRowMaterializerTest {
+
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+    }
+
+    private Row materialize(ParquetRowMaterializer rowMaterializer, SimpleGroup simpleGroup) {
+        ParquetRecordReplayer.replay(simpleGroup, rowMaterializer.getRequestedSchema(), rowMaterializer.getRootConverter());
+        return rowMaterializer.getCurrentRecord();
+    }
+
+    private MessageType bookingLogSchema() {
+        return org.apache.parquet.schema.Types.buildMessage()
+                .optional(BINARY).named("service_type")
+                .optional(BINARY).named("order_number")
+                .optionalGroup()
+                .required(INT64).named("seconds")
+                .required(INT32).named("nanos")
+                .named("event_timestamp")
+                .optional(FLOAT).named("amount_paid_by_cash")
+                .optionalGroup()
+                .optional(BINARY).named("name")
+                .optional(DOUBLE).named("latitude")
+                .named("driver_pickup_location")
+                .optional(INT32).named("cancel_reason_id")
+                .optional(INT64).named("customer_total_fare_without_surge")
+                .optional(BOOLEAN).named("customer_dynamic_surge_enabled")
+                .repeated(BINARY).named("meta_array")
+                .optional(DOUBLE).named("cash_amount")
+                .repeated(INT32).named("int_array_field")
+                .repeatedGroup()
+                .optional(BINARY).named("key")
+                .optional(BINARY).named("value")
+                .named("metadata")
+                .repeated(BINARY).named("test_enums")
+                .repeatedGroup()
+                .optional(FLOAT).named("distance_in_kms")
+                .named("routes")
+                .repeated(BOOLEAN).named("boolean_array_field")
+                .repeated(DOUBLE).named("double_array_field")
+                .repeated(FLOAT).named("float_array_field")
+                .repeated(INT64).named("long_array_field")
+                .optional(BINARY).named("unknown_column")
+                .named("TestGroupType");
+    }
+
+    private SimpleGroup bookingLogGroup(MessageType schema) {
+        SimpleGroup simpleGroup = new SimpleGroup(schema);
+        simpleGroup.add("service_type", "GO_SEND");
+        simpleGroup.add("order_number", "order-1");
+        simpleGroup.addGroup("event_timestamp").append("seconds", 1637829201L).append("nanos", 123);
+        simpleGroup.add("amount_paid_by_cash", 32.5F);
+        simpleGroup.addGroup("driver_pickup_location").append("name", "Jakarta").append("latitude", -6.2);
+        simpleGroup.add("cancel_reason_id", 7);
+        simpleGroup.add("customer_total_fare_without_surge", 25000L);
+        simpleGroup.add("customer_dynamic_surge_enabled", true);
+        simpleGroup.add("meta_array", "meta-1");
+        simpleGroup.add("meta_array", "meta-2");
+        simpleGroup.add("cash_amount", 12.25D);
+        simpleGroup.add("int_array_field", 3);
+        simpleGroup.add("int_array_field", 4);
+        simpleGroup.addGroup("metadata").append("key", "key-1").append("value", "value-1");
+        simpleGroup.add("test_enums", "TYPE2");
+        simpleGroup.add("test_enums", "NOT_AN_ENUM_VALUE");
+        simpleGroup.addGroup("routes").append("distance_in_kms", 1.5F);
+        simpleGroup.addGroup("routes").append("distance_in_kms", 2.5F);
+        simpleGroup.add("boolean_array_field", true);
+        simpleGroup.add("boolean_array_field", false);
+        simpleGroup.add("double_array_field", 1.25D);
+        simpleGroup.add("float_array_field", 2.5F);
+        simpleGroup.add("long_array_field", 9L);
+        simpleGroup.add("long_array_field", 10L);
+        simpleGroup.add("unknown_column", "ignored");
+        return simpleGroup;
+    }
+
+    @Test
+    public void shouldMaterializeTheSameRowAsSimpleGroupDeserializer() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = bookingLogSchema();
+        SimpleGroup simpleGroup = bookingLogGroup(schema);
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row row = materialize(rowMaterializer, simpleGroup);
+
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+        assertEquals(Timestamp.from(Instant.ofEpochSecond(1637829201L, 123)), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldMaterializeTheSameDefaultValuesAsSimpleGroupDeserializer() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = bookingLogSchema();
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row firstRow = materialize(rowMaterializer, new SimpleGroup(schema));
+        Row secondRow = materialize(rowMaterializer, new SimpleGroup(schema));
+
+        assertEquals(simpleGroupDeserializer.deserialize(new SimpleGroup(schema)), firstRow);
+        assertEquals(firstRow, secondRow);
+        int eventTimestampIndex = TestBookingLogMessage.getDescriptor().findFieldByName("event_timestamp").getIndex();
+        assertNotSame(firstRow.getField(eventTimestampIndex), secondRow.getField(eventTimestampIndex));
+    }
+
+    @Test
+    public void shouldNotCarryValuesOverToTheNextRecord() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = bookingLogSchema();
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        materialize(rowMaterializer, bookingLogGroup(schema));
+        Row row = materialize(rowMaterializer, new SimpleGroup(schema));
+
+        assertEquals(simpleGroupDeserializer.deserialize(new SimpleGroup(schema)), row);
+    }
+
+    @Test
+    public void shouldMaterializePrimitiveFieldsAndInt64TimestampSameAsSimpleGroupDeserializer() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime", stencilClientOrchestrator);
+        MessageType schema = org.apache.parquet.schema.Types.buildMessage()
+                .required(BOOLEAN).named("is_valid")
+                .required(BINARY).named("order_number")
+                .required(BINARY).named("order_hash")
+                .required(DOUBLE).named("latitude")
+                .required(FLOAT).named("price")
+                .required(INT32).named("packet_count")
+                .required(INT64).named("phone")
+                .required(INT64).named("event_timestamp")
+                .required(BINARY).named("service_type")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(schema);
+        simpleGroup.add("is_valid", true);
+        simpleGroup.add("order_number", "ORDER_1322432");
+        simpleGroup.add("order_hash", Binary.fromConstantByteArray("g362vxv3ydg73g2ss".getBytes()));
+        simpleGroup.add("latitude", Double.MAX_VALUE);
+        simpleGroup.add("price", Float.MAX_VALUE);
+        simpleGroup.add("packet_count", Integer.MAX_VALUE);
+        simpleGroup.add("phone", Long.MAX_VALUE);
+        simpleGroup.add("event_timestamp", -1637829201001L);
+        simpleGroup.add("service_type", "GO_RIDE");
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row row = materialize(rowMaterializer, simpleGroup);
+
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+    }
+
+    @Test
+    public void shouldOnlyRequestTheProjectedAndRowtimeColumns() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime",
+                stencilClientOrchestrator, new HashSet<>(Collections.singletonList("order_number")));
+        MessageType schema = bookingLogSchema();
+        SimpleGroup simpleGroup = bookingLogGroup(schema);
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row row = materialize(rowMaterializer, simpleGroup);
+
+        MessageType expectedRequestedSchema = org.apache.parquet.schema.Types.buildMessage()
+                .addField(schema.getType("order_number"))
+                .addField(schema.getType("event_timestamp"))
+                .named("TestGroupType");
+        assertEquals(expectedRequestedSchema, rowMaterializer.getRequestedSchema());
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+        assertNull(row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("event_timestamp").getIndex()));
+    }
+
+    @Test
+    public void shouldUseDefaultRowtimeWhenRowtimeColumnIsMissing() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = org.apache.parquet.schema.Types.buildMessage()
+                .optional(BINARY).named("order_number")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(schema);
+        simpleGroup.add("order_number", "order-1");
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row row = materialize(rowMaterializer, simpleGroup);
+
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+        assertEquals(Timestamp.from(Instant.EPOCH), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldDecodeDictionaryValuesOnce() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = org.apache.parquet.schema.Types.buildMessage()
+                .optional(BINARY).named("service_type")
+                .optional(BINARY).named("order_number")
+                .named("TestGroupType");
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+        PrimitiveConverter serviceTypeConverter = rowMaterializer.getRootConverter().getConverter(0).asPrimitiveConverter();
+        PrimitiveConverter orderNumberConverter = rowMaterializer.getRootConverter().getConverter(1).asPrimitiveConverter();
+        assertTrue(orderNumberConverter.hasDictionarySupport());
+        serviceTypeConverter.setDictionary(new TestDictionary("GO_FOOD", "NOT_AN_ENUM_VALUE"));
+        orderNumberConverter.setDictionary(new TestDictionary("order-1", "order-2"));
+
+        rowMaterializer.getRootConverter().start();
+        serviceTypeConverter.addValueFromDictionary(1);
+        orderNumberConverter.addValueFromDictionary(1);
+        rowMaterializer.getRootConverter().end();
+        Row row = rowMaterializer.getCurrentRecord();
+
+        SimpleGroup simpleGroup = new SimpleGroup(schema);
+        simpleGroup.add("service_type", "NOT_AN_ENUM_VALUE");
+        simpleGroup.add("order_number", "order-2");
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+    }
+
+    @Test
+    public void shouldKeepTheFirstValueOfARepeatedColumnForANonRepeatedField() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        MessageType schema = org.apache.parquet.schema.Types.buildMessage()
+                .repeated(BINARY).named("order_number")
+                .repeated(INT64).named("event_timestamp")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(schema);
+        simpleGroup.add("order_number", "order-1");
+        simpleGroup.add("order_number", "order-2");
+        simpleGroup.add("event_timestamp", 1637829201000L);
+        simpleGroup.add("event_timestamp", 1637829202000L);
+        ParquetRowMaterializer rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+
+        Row row = materialize(rowMaterializer, simpleGroup);
+
+        assertEquals(simpleGroupDeserializer.deserialize(simpleGroup), row);
+    }
+
+    private static class TestDictionary extends Dictionary {
+        private final String[] values;
+
+        TestDictionary(String... values) {
+            super(Encoding.PLAIN_DICTIONARY);
+            this.values = values;
+        }
+
+        @Override
+        public Binary decodeToBinary(int id) {
+            return Binary.fromString(values[id]);
+        }
+
+        @Override
+        public int getMaxId() {
+            return values.length - 1;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.apache.flink.types.Row;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.junit.Assert;
 import org.junit.Before;
@@ -20,6 +21,8 @@ import org.mockito.Mock;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
 
 import static io.odpf.dagger.common.core.Constants.*;
 import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT;
@@ -172,7 +175,60 @@ public class SimpleGroupDeserializerTest {
                 () -> new SimpleGroupDeserializer(String.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator));
     }
 
+    @Test
+    public void shouldOnlyDeserializeProjectedFieldsOfSimpleGroup() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime",
+                stencilClientOrchestrator, new HashSet<>(Collections.singletonList("order_number")));
+        GroupType parquetSchema = org.apache.parquet.schema.Types.requiredGroup()
+                .required(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .required(PrimitiveType.PrimitiveTypeName.FLOAT).named("price")
+                .required(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(parquetSchema);
+        simpleGroup.add("order_number", "ORDER_1322432");
+        simpleGroup.add("price", Float.MAX_VALUE);
+        simpleGroup.add("event_timestamp", 1637829201000L);
+
+        Row row = simpleGroupDeserializer.deserialize(simpleGroup);
+
+        assertEquals("ORDER_1322432", row.getField(getProtoIndex("order_number")));
+        assertNull(row.getField(getProtoIndex("price")));
+        assertNull(row.getField(getProtoIndex("event_timestamp")));
+        assertEquals(Timestamp.from(Instant.ofEpochSecond(1637829201L)), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldRequestOnlyTheProjectedAndRowtimeColumns() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime",
+                stencilClientOrchestrator, new HashSet<>(Collections.singletonList("order_number")));
+        MessageType fileSchema = org.apache.parquet.schema.Types.buildMessage()
+                .required(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .required(PrimitiveType.PrimitiveTypeName.FLOAT).named("price")
+                .required(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestGroupType");
+
+        MessageType requestedSchema = simpleGroupDeserializer.getRequestedSchema(fileSchema);
+
+        MessageType expectedSchema = org.apache.parquet.schema.Types.buildMessage()
+                .required(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .required(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestGroupType");
+        assertEquals(expectedSchema, requestedSchema);
+    }
+
+    @Test
+    public void shouldRequestAllTheColumnsWhenNoFieldsAreProjected() {
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime", stencilClientOrchestrator);
+        MessageType fileSchema = org.apache.parquet.schema.Types.buildMessage()
+                .required(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .required(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestGroupType");
+
+        assertEquals(fileSchema, simpleGroupDeserializer.getRequestedSchema(fileSchema));
+    }
+
     private int getProtoIndex(String propertyName) {
         return TestPrimitiveMessage.getDescriptor().findFieldByName(propertyName).getIndex();
     }
+
 }
@@ -1,5 +1,6 @@
 package io.odpf.dagger.common.serde.proto.deserialization;
 
+import org.apache.flink.api.common.functions.util.ListCollector;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
@@ -23,7 +24,12 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static io.odpf.dagger.common.core.Constants.*;
@@ -269,6 +275,91 @@ public class ProtoDeserializerTest {
                 () -> new ProtoDeserializer(String.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator));
     }
 
+    @Test
+    public void shouldOnlyConvertProjectedFields() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setCustomerId("customer-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).build())
+                .build().toByteArray();
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime",
+                stencilClientOrchestrator, new HashSet<>(Collections.singletonList("order_number")));
+
+        Row row = protoDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes));
+
+        assertEquals(TestBookingLogMessage.getDescriptor().getFields().size() + 2, row.getArity());
+        assertEquals("order-1", row.getField(bookingLogFieldIndex("order_number")));
+        assertNull(row.getField(bookingLogFieldIndex("customer_id")));
+        assertNull(row.getField(bookingLogFieldIndex("event_timestamp")));
+        assertEquals(new java.sql.Timestamp(1600000000000L), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldDeserializeOnlyRowtimeOfRecord() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(500).build())
+                .build().toByteArray();
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes);
+
+        java.sql.Timestamp rowtime = protoDeserializer.deserializeRowtime(consumerRecord);
+
+        assertEquals(protoDeserializer.deserialize(consumerRecord).getField(TestBookingLogMessage.getDescriptor().getFields().size() + 1), rowtime);
+    }
+
+    @Test
+    public void shouldDeserializeRowtimeOfInvalidRecordAsEpoch() {
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        assertEquals(new java.sql.Timestamp(0), protoDeserializer.deserializeRowtime(new ConsumerRecord<>("test-topic", 0, 0, null, "test".getBytes())));
+    }
+
+    private ConsumerRecord<byte[], byte[]> bookingRecord(int partition, long eventSeconds) {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-" + eventSeconds)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(eventSeconds).build())
+                .build().toByteArray();
+        return new ConsumerRecord<>("test-topic", partition, 0, null, protoBytes);
+    }
+
+    private List<Row> deserializeAll(ProtoDeserializer protoDeserializer, List<ConsumerRecord<byte[], byte[]>> consumerRecords) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        for (ConsumerRecord<byte[], byte[]> consumerRecord : consumerRecords) {
+            protoDeserializer.deserialize(consumerRecord, new ListCollector<>(rows));
+        }
+        return rows;
+    }
+
+    @Test
+    public void shouldDropRecordsBehindTheWatermarkWhenLateRecordDropIsEnabled() throws IOException {
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        protoDeserializer.enableLateRecordDrop(10000L);
+
+        List<Row> rows = deserializeAll(protoDeserializer, Arrays.asList(bookingRecord(0, 100L), bookingRecord(0, 95L), bookingRecord(0, 80L),
+                bookingRecord(1, 50L), bookingRecord(0, 70L)));
+
+        assertEquals(4, rows.size());
+        assertEquals("order-100", rows.get(0).getField(bookingLogFieldIndex("order_number")));
+        assertEquals("order-95", rows.get(1).getField(bookingLogFieldIndex("order_number")));
+        assertEquals("order-50", rows.get(2).getField(bookingLogFieldIndex("order_number")));
+        assertEquals("order-70", rows.get(3).getField(bookingLogFieldIndex("order_number")));
+    }
+
+    @Test
+    public void shouldNotDropInvalidOrLateRecordsWhenLateRecordDropIsNotEnabled() throws IOException {
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        ProtoDeserializer droppingProtoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        droppingProtoDeserializer.enableLateRecordDrop(10000L);
+        List<ConsumerRecord<byte[], byte[]>> consumerRecords = Arrays.asList(bookingRecord(0, 100L), bookingRecord(0, 10L),
+                new ConsumerRecord<>("test-topic", 0, 0, null, "test".getBytes()));
+
+        assertEquals(3, deserializeAll(protoDeserializer, consumerRecords).size());
+        List<Row> rows = deserializeAll(droppingProtoDeserializer, consumerRecords);
+        assertEquals(2, rows.size());
+        assertEquals(false, rows.get(1).getField(rows.get(1).getArity() - 2));
+    }
+
     private int bookingLogFieldIndex(String propertyName) {
         return TestBookingLogMessage.getDescriptor().findFieldByName(propertyName).getIndex();
     }
@@ -277,5 +368,4 @@ public class ProtoDeserializerTest {
         return TestRoute.getDescriptor().findFieldByName(propertyName).getIndex();
     }
 
-
 }
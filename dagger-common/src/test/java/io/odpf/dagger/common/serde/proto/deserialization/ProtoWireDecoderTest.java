@@ -0,0 +1,149 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.Value;
+import io.odpf.dagger.common.serde.typehandler.RowFactory;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import io.odpf.dagger.consumer.TestEnumType;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestMessage;
+import io.odpf.dagger.consumer.TestNestedRepeatedMessage;
+import io.odpf.dagger.consumer.TestRoute;
+import io.odpf.dagger.consumer.TestServiceType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class ProtoWireDecoderTest {
+
+    @Test
+    public void shouldDecodeSameRowAsDynamicMessageForAllFieldKinds() throws InvalidProtocolBufferException {
+        TestBookingLogMessage message = TestBookingLogMessage.newBuilder()
+                .setServiceType(TestServiceType.Enum.GO_SEND)
+                .setOrderNumber("order-1")
+                .setStatus(TestBookingStatus.Enum.COMPLETED)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(42).build())
+                .setAmountPaidByCash(12.5F)
+                .setDriverPickupLocation(TestLocation.newBuilder().setName("pickup").setLatitude(1.5).build())
+                .setCancelReasonId(7)
+                .addMetaArray("a")
+                .addMetaArray("b")
+                .setProfileData(Struct.newBuilder().putFields("k", Value.newBuilder().setStringValue("v").build()).build())
+                .addIntArrayField(1)
+                .addIntArrayField(2)
+                .putMetadata("key", "value")
+                .addTestEnums(TestEnumType.Enum.TYPE2)
+                .addRoutes(TestRoute.newBuilder().setDistanceInKms(3.0F).setRouteOrder(1).build())
+                .addBooleanArrayField(true)
+                .addDoubleArrayField(2.5)
+                .addFloatArrayField(1.5F)
+                .addLongArrayField(9L)
+                .build();
+
+        assertDecodedSameAsDynamicMessage(TestBookingLogMessage.getDescriptor(), message.toByteArray());
+    }
+
+    @Test
+    public void shouldDecodeSameRowAsDynamicMessageForEmptyMessage() throws InvalidProtocolBufferException {
+        assertDecodedSameAsDynamicMessage(TestBookingLogMessage.getDescriptor(), new byte[0]);
+    }
+
+    @Test
+    public void shouldDecodeSameRowAsDynamicMessageForNestedRepeatedMessages() throws InvalidProtocolBufferException {
+        TestNestedRepeatedMessage message = TestNestedRepeatedMessage.newBuilder()
+                .setSingleMessage(TestMessage.newBuilder().setOrderNumber("single").build())
+                .addRepeatedMessage(TestMessage.newBuilder().setOrderNumber("first").build())
+                .addRepeatedMessage(TestMessage.newBuilder().setOrderNumber("second").build())
+                .addRepeatedNumberField(10)
+                .addRepeatedLongField(20L)
+                .build();
+
+        assertDecodedSameAsDynamicMessage(TestNestedRepeatedMessage.getDescriptor(), message.toByteArray());
+    }
+
+    @Test
+    public void shouldKeepLastValueForRepeatedScalarOnWire() throws InvalidProtocolBufferException {
+        byte[] first = TestBookingLogMessage.newBuilder().setOrderNumber("first").addIntArrayField(1).build().toByteArray();
+        byte[] second = TestBookingLogMessage.newBuilder().setOrderNumber("second").addIntArrayField(2).build().toByteArray();
+
+        assertDecodedSameAsDynamicMessage(TestBookingLogMessage.getDescriptor(), concat(first, second));
+    }
+
+    @Test
+    public void shouldFallBackToDynamicMessageWhenNestedMessageNeedsMerging() throws InvalidProtocolBufferException {
+        byte[] first = TestBookingLogMessage.newBuilder().setEventTimestamp(Timestamp.newBuilder().setSeconds(10L).build()).build().toByteArray();
+        byte[] second = TestBookingLogMessage.newBuilder().setEventTimestamp(Timestamp.newBuilder().setNanos(5).build()).build().toByteArray();
+
+        Row row = assertDecodedSameAsDynamicMessage(TestBookingLogMessage.getDescriptor(), concat(first, second));
+
+        assertEquals(Row.of(10L, 5), row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("event_timestamp").getIndex()));
+    }
+
+    @Test
+    public void shouldSkipUnknownFields() throws InvalidProtocolBufferException {
+        byte[] message = TestBookingLogMessage.newBuilder().setOrderNumber("order-1").setCancelReasonId(3).build().toByteArray();
+
+        Row row = ProtoWireDecoder.getDecoder(TestMessage.getDescriptor()).decode(message, 0);
+
+        assertEquals(RowFactory.createRow(DynamicMessage.parseFrom(TestMessage.getDescriptor(), message)), row);
+    }
+
+    @Test
+    public void shouldReuseDecoderForSameDescriptor() {
+        assertSame(ProtoWireDecoder.getDecoder(TestBookingLogMessage.getDescriptor()), ProtoWireDecoder.getDecoder(TestBookingLogMessage.getDescriptor()));
+    }
+
+    @Test(expected = InvalidProtocolBufferException.class)
+    public void shouldThrowExceptionForInvalidMessage() throws InvalidProtocolBufferException {
+        ProtoWireDecoder.getDecoder(TestBookingLogMessage.getDescriptor()).decode("invalid".getBytes(), 2);
+    }
+
+    @Test
+    public void shouldSkipFieldsOutsideProjection() throws InvalidProtocolBufferException {
+        byte[] message = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setDriverPickupLocation(TestLocation.newBuilder().setName("pickup").build())
+                .addRoutes(TestRoute.newBuilder().setRouteOrder(1).build())
+                .build().toByteArray();
+        ProtoWireDecoder decoder = new ProtoWireDecoder(TestBookingLogMessage.getDescriptor(), new HashSet<>(Arrays.asList("order_number", "routes")));
+
+        Row row = decoder.decode(message, 2);
+
+        assertEquals("order-1", row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("order_number").getIndex()));
+        assertEquals(1, ((Object[]) row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("routes").getIndex())).length);
+        assertNull(row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("driver_pickup_location").getIndex()));
+        assertNull(row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("customer_id").getIndex()));
+    }
+
+    private Row assertDecodedSameAsDynamicMessage(com.google.protobuf.Descriptors.Descriptor descriptor, byte[] message) throws InvalidProtocolBufferException {
+        Row expected = RowFactory.createRow(DynamicMessage.parseFrom(descriptor, message), 2);
+
+        Row actual = ProtoWireDecoder.getDecoder(descriptor).decode(message, 2);
+
+        assertEquals(expected, actual);
+        return actual;
+    }
+
+    private byte[] concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            outputStream.write(first);
+            outputStream.write(second);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
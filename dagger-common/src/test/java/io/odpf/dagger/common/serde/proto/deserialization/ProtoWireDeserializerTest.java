@@ -0,0 +1,85 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.Timestamp;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ProtoWireDeserializerTest {
+
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+    }
+
+    @Test
+    public void shouldDeserializeSameRowAsProtoDeserializer() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(500).build())
+                .setDriverPickupLocation(TestLocation.newBuilder().setName("pickup").build())
+                .addIntArrayField(4)
+                .putMetadata("key", "value")
+                .build().toByteArray();
+        ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes);
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        ProtoWireDeserializer protoWireDeserializer = new ProtoWireDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        Row row = protoWireDeserializer.deserialize(consumerRecord);
+
+        assertEquals(protoDeserializer.deserialize(consumerRecord), row);
+        assertTrue((boolean) row.getField(row.getArity() - 2));
+        assertEquals(java.sql.Timestamp.from(java.time.Instant.ofEpochSecond(1600000000L, 500)), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldReturnInvalidRow() {
+        ProtoWireDeserializer protoWireDeserializer = new ProtoWireDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        Row row = protoWireDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, "test".getBytes()));
+
+        assertFalse((boolean) row.getField(row.getArity() - 2));
+        assertEquals(new java.sql.Timestamp(0), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldOnlyDecodeProjectedFieldsAndTimestamp() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setCustomerId("customer-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).build())
+                .build().toByteArray();
+        ProtoWireDeserializer protoWireDeserializer = new ProtoWireDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime",
+                stencilClientOrchestrator, new HashSet<>(Collections.singletonList("order_number")));
+
+        Row row = protoWireDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes));
+
+        assertEquals("order-1", row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("order_number").getIndex()));
+        assertNull(row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("customer_id").getIndex()));
+        assertEquals(Row.of(1600000000L, 0), row.getField(TestBookingLogMessage.getDescriptor().findFieldByName("event_timestamp").getIndex()));
+        assertEquals(new java.sql.Timestamp(1600000000000L), row.getField(row.getArity() - 1));
+    }
+}
@@ -0,0 +1,89 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.junit.Assert.*;
+
+public class RowtimeAccessorTest {
+
+    private final RowtimeAccessor rowtimeAccessor = new RowtimeAccessor(TestBookingLogMessage.getDescriptor(), 5);
+
+    @Test
+    public void shouldResolveTimestampFieldByNumber() {
+        assertEquals("event_timestamp", rowtimeAccessor.getTimestampField().getName());
+        assertSame(TestBookingLogMessage.getDescriptor(), rowtimeAccessor.getDescriptor());
+    }
+
+    @Test
+    public void shouldGetRowtimeFromParsedMessage() throws InvalidProtocolBufferException {
+        byte[] message = TestBookingLogMessage.newBuilder()
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(500).build())
+                .build().toByteArray();
+
+        java.sql.Timestamp rowtime = rowtimeAccessor.getRowtime(DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), message));
+
+        assertEquals(java.sql.Timestamp.from(Instant.ofEpochSecond(1600000000L, 500)), rowtime);
+    }
+
+    @Test
+    public void shouldGetRowtimeFromTimestampRow() {
+        assertEquals(java.sql.Timestamp.from(Instant.ofEpochSecond(1600000000L, 500)), rowtimeAccessor.getRowtime(Row.of(1600000000L, 500)));
+    }
+
+    @Test
+    public void shouldDecodeRowtimeFromSerializedMessage() throws InvalidProtocolBufferException {
+        byte[] message = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setDriverPickupLocation(TestLocation.newBuilder().setName("pickup").build())
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(500).build())
+                .setBookingCreationTime(Timestamp.newBuilder().setSeconds(1500000000L).build())
+                .addMetaArray("meta")
+                .build().toByteArray();
+
+        assertEquals(java.sql.Timestamp.from(Instant.ofEpochSecond(1600000000L, 500)), rowtimeAccessor.decodeRowtime(message));
+    }
+
+    @Test
+    public void shouldDecodeMergedRowtimeLikeParsedMessage() throws InvalidProtocolBufferException {
+        byte[] first = TestBookingLogMessage.newBuilder().setEventTimestamp(Timestamp.newBuilder().setSeconds(10L).setNanos(7).build()).build().toByteArray();
+        byte[] second = TestBookingLogMessage.newBuilder().setEventTimestamp(Timestamp.newBuilder().setSeconds(20L).build()).build().toByteArray();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            outputStream.write(first);
+            outputStream.write(second);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        byte[] message = outputStream.toByteArray();
+
+        assertEquals(rowtimeAccessor.getRowtime(DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), message)), rowtimeAccessor.decodeRowtime(message));
+    }
+
+    @Test
+    public void shouldDecodeEpochWhenTimestampIsMissing() throws InvalidProtocolBufferException {
+        byte[] message = TestBookingLogMessage.newBuilder().setOrderNumber("order-1").build().toByteArray();
+
+        assertEquals(new java.sql.Timestamp(0), rowtimeAccessor.decodeRowtime(message));
+    }
+
+    @Test(expected = InvalidProtocolBufferException.class)
+    public void shouldThrowExceptionForInvalidMessage() throws InvalidProtocolBufferException {
+        rowtimeAccessor.decodeRowtime("test".getBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionWhenFieldIsNotATimestamp() {
+        new RowtimeAccessor(TestBookingLogMessage.getDescriptor(), 2);
+    }
+}
@@ -0,0 +1,87 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestEnrichedBookingLogMessage;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProtoWritePlanTest {
+
+    @Test
+    public void shouldWriteTheColumnsOfSeveralLevelsOfNestedMessages() throws InvalidProtocolBufferException {
+        String[] columnNames = {"booking_log.driver_pickup_location.name", "booking_log.order_number",
+                "booking_log.driver_pickup_location.latitude", "customer_profile.name", "driver_profile.driver_id"};
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestEnrichedBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = writePlan.write(Row.of("driver_name", "order_number", 876D, "customer_name", "driver_id"));
+
+        TestEnrichedBookingLogMessage actualValue = TestEnrichedBookingLogMessage.parseFrom(message.toByteArray());
+        assertEquals("driver_name", actualValue.getBookingLog().getDriverPickupLocation().getName());
+        assertEquals(876D, actualValue.getBookingLog().getDriverPickupLocation().getLatitude(), 0D);
+        assertEquals("order_number", actualValue.getBookingLog().getOrderNumber());
+        assertEquals("customer_name", actualValue.getCustomerProfile().getName());
+        assertEquals("driver_id", actualValue.getDriverProfile().getDriverId());
+    }
+
+    @Test
+    public void shouldSetTheNestedMessagesOfNullColumns() throws InvalidProtocolBufferException {
+        String[] columnNames = {"customer_profile.name", "booking_log.order_number"};
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestEnrichedBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = writePlan.write(Row.of(null, "order_number"));
+
+        TestEnrichedBookingLogMessage actualValue = TestEnrichedBookingLogMessage.parseFrom(message.toByteArray());
+        assertTrue(actualValue.hasCustomerProfile());
+        assertEquals("", actualValue.getCustomerProfile().getName());
+        assertEquals("order_number", actualValue.getBookingLog().getOrderNumber());
+    }
+
+    @Test
+    public void shouldMergeTheNestedColumnsIntoTheMessageOfAnEarlierColumn() throws InvalidProtocolBufferException {
+        String[] columnNames = {"customer_profile", "customer_profile.email"};
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestEnrichedBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = writePlan.write(Row.of(Row.of("customer_id", "customer_name"), "customer_email"));
+
+        TestEnrichedBookingLogMessage actualValue = TestEnrichedBookingLogMessage.parseFrom(message.toByteArray());
+        assertEquals("customer_id", actualValue.getCustomerProfile().getCustomerId());
+        assertEquals("customer_name", actualValue.getCustomerProfile().getName());
+        assertEquals("customer_email", actualValue.getCustomerProfile().getEmail());
+    }
+
+    @Test
+    public void shouldReplaceTheNestedColumnsWithTheMessageOfALaterColumn() throws InvalidProtocolBufferException {
+        String[] columnNames = {"booking_log.driver_pickup_location.name", "booking_log.customer_email", "booking_log", "booking_log.order_number"};
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestEnrichedBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = writePlan.write(Row.of("driver_name", "customer_email", Row.of(null, "order_number_from_row"), "order_number"));
+
+        TestEnrichedBookingLogMessage actualValue = TestEnrichedBookingLogMessage.parseFrom(message.toByteArray());
+        assertFalse(actualValue.getBookingLog().hasDriverPickupLocation());
+        assertEquals("", actualValue.getBookingLog().getCustomerEmail());
+        assertEquals("order_number", actualValue.getBookingLog().getOrderNumber());
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenANestedColumnIsNotAMessage() {
+        String[] columnNames = {"booking_log.order_number.invalid"};
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestEnrichedBookingLogMessage.getDescriptor(), columnNames);
+
+        InvalidColumnMappingException exception = assertThrows(InvalidColumnMappingException.class,
+                () -> writePlan.write(Row.of("value")));
+        assertEquals("column order_number is not a single message in the proto of io.odpf.dagger.consumer.TestBookingLogMessage",
+                exception.getMessage());
+    }
+
+    @Test
+    public void shouldKeepTheDescriptorItWasCompiledFor() {
+        ProtoWritePlan writePlan = new ProtoWritePlan(TestBookingLogMessage.getDescriptor(), new String[]{"order_number"});
+
+        assertSame(TestBookingLogMessage.getDescriptor(), writePlan.getDescriptor());
+    }
+}
@@ -0,0 +1,124 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
+import io.odpf.dagger.common.serde.typehandler.repeated.RepeatedMessageHandler;
+import io.odpf.dagger.consumer.TestFeedbackLogMessage;
+import io.odpf.dagger.consumer.TestReason;
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.schema.GroupType;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RowConverterTest {
+
+    @Test
+    public void shouldResolveTypeHandlersByFieldPosition() {
+        RowConverter rowConverter = new RowConverter(TestFeedbackLogMessage.getDescriptor());
+
+        assertEquals(TestFeedbackLogMessage.getDescriptor().getFields().size(), rowConverter.getFieldCount());
+        assertEquals(TimestampHandler.class, rowConverter.getTypeHandler(1).getClass());
+        assertEquals(RepeatedMessageHandler.class, rowConverter.getTypeHandler(10).getClass());
+    }
+
+    @Test
+    public void shouldCreateSameRowAsFieldWiseConversionForDynamicMessage() throws InvalidProtocolBufferException {
+        TestFeedbackLogMessage feedbackLogMessage = TestFeedbackLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1600000000L).setNanos(123).build())
+                .setFeedbackRating(4)
+                .addReason(TestReason.newBuilder().setReasonId("reason-1").setGroupId("group-1").build())
+                .build();
+        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(TestFeedbackLogMessage.getDescriptor(), feedbackLogMessage.toByteArray());
+        RowConverter rowConverter = new RowConverter(TestFeedbackLogMessage.getDescriptor());
+
+        Row row = rowConverter.createRow(dynamicMessage, 2);
+
+        Row expectedRow = new Row(TestFeedbackLogMessage.getDescriptor().getFields().size() + 2);
+        TestFeedbackLogMessage.getDescriptor().getFields().forEach(fieldDescriptor -> expectedRow.setField(fieldDescriptor.getIndex(),
+                TypeHandlerFactory.getTypeHandler(fieldDescriptor).transformFromProto(dynamicMessage.getField(fieldDescriptor))));
+        assertEquals(expectedRow.getArity(), row.getArity());
+        assertEquals("order-1", row.getField(0));
+        assertEquals(Row.of(1600000000L, 123), row.getField(1));
+        assertArrayEquals(new Object[]{Row.of("reason-1", "group-1")}, (Object[]) row.getField(10));
+        assertEquals(expectedRow.toString(), row.toString());
+    }
+
+    @Test
+    public void shouldCreateRowFromInputMapSettingOnlyPresentFields() {
+        Map<String, Object> inputMap = new HashMap<>();
+        inputMap.put("group_id", "group-1");
+        RowConverter rowConverter = new RowConverter(TestReason.getDescriptor());
+
+        Row row = rowConverter.createRow(inputMap);
+
+        assertEquals(2, row.getArity());
+        assertNull(row.getField(0));
+        assertEquals("group-1", row.getField(1));
+    }
+
+    @Test
+    public void shouldReturnEmptyRowForNullInputMap() {
+        RowConverter rowConverter = new RowConverter(TestReason.getDescriptor());
+
+        assertEquals(new Row(2), rowConverter.createRow((Map<String, Object>) null));
+    }
+
+    @Test
+    public void shouldCreateRowFromSimpleGroupWithExtraColumns() {
+        GroupType parquetSchema = org.apache.parquet.schema.Types.requiredGroup()
+                .required(BINARY).named("reason_id")
+                .required(BINARY).named("group_id")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(parquetSchema);
+        simpleGroup.add("reason_id", "some reason id");
+        simpleGroup.add("group_id", "some group id");
+        RowConverter rowConverter = new RowConverter(TestReason.getDescriptor());
+
+        Row row = rowConverter.createRow(simpleGroup, 2);
+
+        assertEquals(4, row.getArity());
+        assertEquals("some reason id", row.getField(0));
+        assertEquals("some group id", row.getField(1));
+        assertNull(row.getField(2));
+        assertNull(row.getField(3));
+    }
+
+    @Test
+    public void shouldOnlyConvertFieldsSelectedByFieldMask() throws InvalidProtocolBufferException {
+        TestFeedbackLogMessage feedbackLogMessage = TestFeedbackLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setFeedbackRating(4)
+                .build();
+        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(TestFeedbackLogMessage.getDescriptor(), feedbackLogMessage.toByteArray());
+        RowConverter rowConverter = new RowConverter(TestFeedbackLogMessage.getDescriptor());
+        boolean[] fieldMask = rowConverter.getFieldMask(new HashSet<>(Collections.singletonList("order_number")));
+
+        Row row = rowConverter.createRow(dynamicMessage, 2, fieldMask);
+
+        assertTrue(fieldMask[0]);
+        assertEquals("order-1", row.getField(0));
+        assertNull(row.getField(TestFeedbackLogMessage.getDescriptor().findFieldByName("feedback_rating").getIndex()));
+    }
+
+    @Test
+    public void shouldSelectAllFieldsForEmptyProjection() {
+        RowConverter rowConverter = new RowConverter(TestReason.getDescriptor());
+
+        assertArrayEquals(new boolean[]{true, true}, rowConverter.getFieldMask(Collections.emptySet()));
+    }
+}
@@ -22,6 +22,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class TypeHandlerFactoryTest {
     @Before
@@ -132,4 +134,25 @@ public class TypeHandlerFactoryTest {
         assertEquals(PrimitiveTypeHandler.class, newTypeHandler.getClass());
         assertEquals(typeHandler, newTypeHandler);
     }
+
+    @Test
+    public void shouldReturnTheSameRowConverterForTheSameDescriptor() {
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(TestBookingLogMessage.getDescriptor());
+        RowConverter newRowConverter = TypeHandlerFactory.getRowConverter(TestBookingLogMessage.getDescriptor());
+        assertSame(rowConverter, newRowConverter);
+    }
+
+    @Test
+    public void shouldRebuildRowConverterWhenDescriptorIsRefreshed() throws Descriptors.DescriptorValidationException {
+        Descriptors.FileDescriptor fileDescriptor = TestBookingLogMessage.getDescriptor().getFile();
+        Descriptors.FileDescriptor refreshedFileDescriptor = Descriptors.FileDescriptor.buildFrom(fileDescriptor.toProto(),
+                fileDescriptor.getDependencies().toArray(new Descriptors.FileDescriptor[0]));
+        Descriptors.Descriptor refreshedDescriptor = refreshedFileDescriptor.findMessageTypeByName("TestBookingLogMessage");
+
+        RowConverter rowConverter = TypeHandlerFactory.getRowConverter(TestBookingLogMessage.getDescriptor());
+        RowConverter refreshedRowConverter = TypeHandlerFactory.getRowConverter(refreshedDescriptor);
+
+        assertNotSame(rowConverter, refreshedRowConverter);
+        assertSame(refreshedDescriptor, refreshedRowConverter.getDescriptor());
+    }
 }
@@ -21,8 +21,11 @@ import io.odpf.dagger.core.source.StreamsFactory;
 import io.odpf.dagger.core.utils.Constants;
 import io.odpf.dagger.functions.udfs.python.PythonUdfConfig;
 import io.odpf.dagger.functions.udfs.python.PythonUdfManager;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.streaming.api.CheckpointingMode;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.table.api.ApiExpression;
 import org.apache.flink.table.api.Table;
@@ -203,10 +206,13 @@ public class StreamManager {
      * @return the stream info
      */
     protected StreamInfo createStreamInfo(Table table) {
-        DataStream<Row> stream = tableEnvironment
-                .toRetractStream(table, Row.class)
+        DataStream<Tuple2<Boolean, Row>> retractStream = tableEnvironment.toRetractStream(table, Row.class);
+        SingleOutputStreamOperator<Row> stream = retractStream
                 .filter(value -> value.f0)
                 .map(value -> value.f1);
+        if (configuration.getBoolean(PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_KEY, PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_DEFAULT)) {
+            stream = stream.returns(((TupleTypeInfo<Tuple2<Boolean, Row>>) retractStream.getType()).<Row>getTypeAt(1));
+        }
         return new StreamInfo(stream, table.getSchema().getFieldNames());
     }
 
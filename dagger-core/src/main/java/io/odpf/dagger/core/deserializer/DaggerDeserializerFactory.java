@@ -30,7 +30,7 @@ public class DaggerDeserializerFactory {
 
     private static List<DaggerDeserializerProvider<Row>> getDaggerDeserializerProviders(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator) {
         return Stream.of(
-                        new JsonDeserializerProvider(streamConfig),
+                        new JsonDeserializerProvider(streamConfig, configuration),
                         new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator),
                         new SimpleGroupDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator))
                 .collect(Collectors.toList());
@@ -1,5 +1,6 @@
 package io.odpf.dagger.core.deserializer;
 
+import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.DataTypes;
 import io.odpf.dagger.common.serde.json.deserialization.JsonDeserializer;
@@ -10,6 +11,7 @@ import org.apache.flink.types.Row;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 import static io.odpf.dagger.common.serde.DataTypes.JSON;
 import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_SOURCE;
@@ -17,16 +19,19 @@ import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_CONSUMER
 
 public class JsonDeserializerProvider implements DaggerDeserializerProvider<Row> {
     private final StreamConfig streamConfig;
+    private final Configuration configuration;
     private static final HashSet<SourceName> COMPATIBLE_SOURCES = new HashSet<>(Arrays.asList(KAFKA_SOURCE, KAFKA_CONSUMER));
     private static final DataTypes COMPATIBLE_INPUT_SCHEMA_TYPE = JSON;
 
-    public JsonDeserializerProvider(StreamConfig streamConfig) {
+    public JsonDeserializerProvider(StreamConfig streamConfig, Configuration configuration) {
         this.streamConfig = streamConfig;
+        this.configuration = configuration;
     }
 
     @Override
     public DaggerDeserializer<Row> getDaggerDeserializer() {
-        return new JsonDeserializer(streamConfig.getJsonSchema(), streamConfig.getJsonEventTimestampFieldName());
+        Set<String> projectedFields = new SourceFieldProjection(configuration).getProjectedFields();
+        return new JsonDeserializer(streamConfig.getJsonSchema(), streamConfig.getJsonEventTimestampFieldName(), projectedFields);
     }
 
     @Override
@@ -5,19 +5,26 @@ import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.DataTypes;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.ProtoWireDeserializer;
 import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.config.models.ProtoDecoderType;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import org.apache.flink.types.Row;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 import static io.odpf.dagger.common.serde.DataTypes.PROTO;
 import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_CONSUMER;
 import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_SOURCE;
 import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT;
 import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_KEY;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_DELAY_MS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_DELAY_MS_KEY;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_KEY;
 
 public class ProtoDeserializerProvider implements DaggerDeserializerProvider<Row> {
     private static final HashSet<SourceName> COMPATIBLE_SOURCES = new HashSet<>(Arrays.asList(KAFKA_SOURCE, KAFKA_CONSUMER));
@@ -37,7 +44,14 @@ public class ProtoDeserializerProvider implements DaggerDeserializerProvider<Row
         int timestampFieldIndex = Integer.parseInt(streamConfig.getEventTimestampFieldIndex());
         String protoClassName = streamConfig.getProtoClass();
         String rowTimeAttributeName = configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT);
-        return new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator);
+        Set<String> projectedFields = new SourceFieldProjection(configuration).getProjectedFields();
+        ProtoDeserializer protoDeserializer = streamConfig.getProtoDecoderType() == ProtoDecoderType.WIRE_FORMAT
+                ? new ProtoWireDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, projectedFields)
+                : new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, projectedFields);
+        if (configuration.getBoolean(FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_KEY, FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_DEFAULT)) {
+            protoDeserializer.enableLateRecordDrop(configuration.getLong(FLINK_WATERMARK_DELAY_MS_KEY, FLINK_WATERMARK_DELAY_MS_DEFAULT));
+        }
+        return protoDeserializer;
     }
 
     @Override
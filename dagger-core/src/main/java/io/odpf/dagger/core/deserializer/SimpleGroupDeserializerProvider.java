@@ -10,6 +10,8 @@ import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import org.apache.flink.types.Row;
 
+import java.util.Set;
+
 import static io.odpf.dagger.common.serde.DataTypes.PROTO;
 import static io.odpf.dagger.core.source.config.models.SourceName.PARQUET_SOURCE;
 import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT;
@@ -33,7 +35,8 @@ public class SimpleGroupDeserializerProvider implements DaggerDeserializerProvid
         int timestampFieldIndex = Integer.parseInt(streamConfig.getEventTimestampFieldIndex());
         String protoClassName = streamConfig.getProtoClass();
         String rowTimeAttributeName = configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT);
-        return new SimpleGroupDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator);
+        Set<String> projectedFields = new SourceFieldProjection(configuration).getProjectedFields();
+        return new SimpleGroupDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, projectedFields);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package io.odpf.dagger.core.deserializer;
+
+import io.odpf.dagger.common.configuration.Configuration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_POSTPROCESSOR_CONFIG_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_POSTPROCESSOR_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_POSTPROCESSOR_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_PREPROCESSOR_CONFIG_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_PREPROCESSOR_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_PREPROCESSOR_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PROJECTION_PUSHDOWN_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PROJECTION_PUSHDOWN_ENABLE_KEY;
+
+/**
+ * Works out the input fields the job can refer to, so that the deserializers can skip the rest.
+ * Every identifier appearing in the SQL query and in the pre and post processor configs is treated
+ * as used, which keeps the projection a superset of the fields actually read. No projection is
+ * applied when the query selects a wildcard.
+ */
+public class SourceFieldProjection {
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)(\\bselect\\s+((all|distinct)\\s+)?\\*|,\\s*\\*|\\.\\s*\\*)");
+    private final Configuration configuration;
+
+    /**
+     * Instantiates a new Source field projection.
+     *
+     * @param configuration the configuration
+     */
+    public SourceFieldProjection(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Gets the names of the fields to be deserialized. An empty set means all the fields.
+     *
+     * @return the projected fields
+     */
+    public Set<String> getProjectedFields() {
+        if (!configuration.getBoolean(SOURCE_PROJECTION_PUSHDOWN_ENABLE_KEY, SOURCE_PROJECTION_PUSHDOWN_ENABLE_DEFAULT)) {
+            return Collections.emptySet();
+        }
+        String sqlQuery = configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT);
+        if (sqlQuery == null || sqlQuery.trim().isEmpty() || WILDCARD_PATTERN.matcher(sqlQuery).find()) {
+            return Collections.emptySet();
+        }
+        Set<String> projectedFields = new HashSet<>();
+        addIdentifiers(projectedFields, sqlQuery);
+        if (configuration.getBoolean(PROCESSOR_PREPROCESSOR_ENABLE_KEY, PROCESSOR_PREPROCESSOR_ENABLE_DEFAULT)) {
+            addIdentifiers(projectedFields, configuration.getString(PROCESSOR_PREPROCESSOR_CONFIG_KEY, ""));
+        }
+        if (configuration.getBoolean(PROCESSOR_POSTPROCESSOR_ENABLE_KEY, PROCESSOR_POSTPROCESSOR_ENABLE_DEFAULT)) {
+            addIdentifiers(projectedFields, configuration.getString(PROCESSOR_POSTPROCESSOR_CONFIG_KEY, ""));
+        }
+        return projectedFields;
+    }
+
+    private void addIdentifiers(Set<String> identifiers, String text) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = IDENTIFIER_PATTERN.matcher(text);
+        while (matcher.find()) {
+            identifiers.add(matcher.group());
+        }
+    }
+}
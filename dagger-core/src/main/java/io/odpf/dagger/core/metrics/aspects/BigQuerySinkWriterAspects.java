@@ -0,0 +1,31 @@
+package io.odpf.dagger.core.metrics.aspects;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum BigQuery sink writer aspects.
+ */
+public enum BigQuerySinkWriterAspects implements Aspects {
+    IN_FLIGHT_BATCHES("in_flight_batches", AspectType.Gauge),
+    BATCH_PUSH_TIME("batch_push_time", AspectType.Histogram),
+    BATCH_SIZE_BYTES("batch_size_bytes", AspectType.Histogram);
+
+    private final String value;
+    private final AspectType aspectType;
+
+    BigQuerySinkWriterAspects(String value, AspectType aspectType) {
+        this.value = value;
+        this.aspectType = aspectType;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return aspectType;
+    }
+}
@@ -25,7 +25,19 @@ public enum ExternalSourceAspects implements Aspects {
     FAILURE_CODE_5XX("failures_code5XX", AspectType.Metric),
     FAILURE_CODE_4XX("failures_code4XX", AspectType.Metric),
     FAILURE_CODE_404("failures_code404", AspectType.Metric),
-    GRPC_CHANNEL_NOT_AVAILABLE("grpc_channel_not_available", AspectType.Metric);
+    GRPC_CHANNEL_NOT_AVAILABLE("grpc_channel_not_available", AspectType.Metric),
+    COALESCED_REQUESTS("coalesced_requests", AspectType.Metric),
+    COALESCED_BATCH_SIZE("coalesced_batch_size", AspectType.Histogram),
+    CACHE_HITS("cache_hits", AspectType.Metric),
+    CACHE_MISSES("cache_misses", AspectType.Metric),
+    CACHE_EVICTIONS("cache_evictions", AspectType.Metric),
+    CONCURRENCY_LIMIT("concurrency_limit", AspectType.Gauge),
+    PENDING_REQUESTS("pending_requests", AspectType.Gauge),
+    HEDGED_REQUESTS("hedged_requests", AspectType.Metric),
+    HEDGES_WON("hedges_won", AspectType.Metric),
+    HEDGES_LOST("hedges_lost", AspectType.Metric),
+    PRIMARY_RESPONSE_TIME("primary_response_time", AspectType.Histogram),
+    HEDGED_RESPONSE_TIME("hedged_response_time", AspectType.Histogram);
 
     private String value;
     private AspectType aspectType;
@@ -0,0 +1,31 @@
+package io.odpf.dagger.core.metrics.aspects;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum InfluxDB writer aspects.
+ */
+public enum InfluxDBWriterAspects implements Aspects {
+    POINTS_WRITTEN("points_written", AspectType.Metric),
+    BATCH_SIZE("batch_size", AspectType.Histogram),
+    WRITE_TIME("write_time", AspectType.Histogram);
+
+    private final String value;
+    private final AspectType aspectType;
+
+    InfluxDBWriterAspects(String value, AspectType aspectType) {
+        this.value = value;
+        this.aspectType = aspectType;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return aspectType;
+    }
+}
@@ -16,7 +16,9 @@ public enum LongbowWriterAspects implements Aspects {
     SUCCESS_ON_WRITE_DOCUMENT("success_on_write_document", AspectType.Metric),
     SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME("success_on_write_document_response_time", AspectType.Histogram),
     FAILED_ON_WRITE_DOCUMENT("failed_on_write_document", AspectType.Metric),
-    FAILED_ON_WRITE_DOCUMENT_RESPONSE_TIME("failed_on_write_document_response_time", AspectType.Histogram);
+    FAILED_ON_WRITE_DOCUMENT_RESPONSE_TIME("failed_on_write_document_response_time", AspectType.Histogram),
+    WRITE_BATCH_SIZE("write_batch_size", AspectType.Histogram),
+    WRITE_BATCH_FLUSH_TIME("write_batch_flush_time", AspectType.Histogram);
 
     private String value;
     private AspectType aspectType;
@@ -7,8 +7,11 @@ public enum ParquetReaderAspects implements Aspects {
     READER_CREATED("reader_created", AspectType.Counter),
     READER_CLOSED("reader_closed", AspectType.Counter),
     READER_ROWS_EMITTED("reader_rows_emitted", AspectType.Counter),
+    READER_ROWS_FILTERED("reader_rows_filtered", AspectType.Counter),
+    READER_ROW_GROUPS_SKIPPED("reader_row_groups_skipped", AspectType.Counter),
     READER_ROW_DESERIALIZATION_TIME("reader_row_deserialization_time", AspectType.Histogram),
-    READER_ROW_READ_TIME("reader_row_read_time", AspectType.Histogram);
+    READER_ROW_READ_TIME("reader_row_read_time", AspectType.Histogram),
+    READER_PREFETCH_WAIT_TIME("reader_prefetch_wait_time", AspectType.Histogram);
 
     private final String value;
     private final AspectType aspectType;
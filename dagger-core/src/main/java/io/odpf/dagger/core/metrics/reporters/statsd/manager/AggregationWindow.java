@@ -0,0 +1,70 @@
+package io.odpf.dagger.core.metrics.reporters.statsd.manager;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when the measurements aggregated by a manager are flushed to StatsD: once the flush
+ * interval has passed since the last flush, or once the given number of events is aggregated. The
+ * clock is only read every few events, so a window may go on for a few events past the interval.
+ */
+public class AggregationWindow implements Serializable {
+    private static final int CLOCK_CHECK_EVERY_EVENTS = 64;
+    private final long flushIntervalNanos;
+    private final int flushEveryEvents;
+    private final SerializableNanoClock nanoClock;
+    private long windowStartNanos;
+    private int windowEvents;
+
+    /**
+     * Instantiates a new Aggregation window.
+     *
+     * @param flushIntervalMillis the longest time to aggregate for
+     * @param flushEveryEvents    the most events to aggregate
+     */
+    public AggregationWindow(long flushIntervalMillis, int flushEveryEvents) {
+        this(flushIntervalMillis, flushEveryEvents, System::nanoTime);
+    }
+
+    /**
+     * Instantiates a new Aggregation window with specified clock.
+     *
+     * @param flushIntervalMillis the longest time to aggregate for
+     * @param flushEveryEvents    the most events to aggregate
+     * @param nanoClock           the clock the interval is measured with
+     */
+    AggregationWindow(long flushIntervalMillis, int flushEveryEvents, SerializableNanoClock nanoClock) {
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushEveryEvents = flushEveryEvents;
+        this.nanoClock = nanoClock;
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Count an aggregated event.
+     *
+     * @return true when the aggregated measurements should be flushed
+     */
+    public boolean addEvent() {
+        windowEvents++;
+        if (windowEvents >= flushEveryEvents) {
+            return true;
+        }
+        return windowEvents % CLOCK_CHECK_EVERY_EVENTS == 0 && nanoClock.getAsLong() - windowStartNanos >= flushIntervalNanos;
+    }
+
+    /**
+     * Start a new window after a flush.
+     */
+    public void reset() {
+        windowEvents = 0;
+        windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * The clock of the window, serializable as the managers are.
+     */
+    interface SerializableNanoClock extends LongSupplier, Serializable {
+    }
+}
@@ -7,13 +7,28 @@ import io.odpf.dagger.core.metrics.reporters.statsd.tags.StatsDTag;
 import io.odpf.depot.metrics.StatsDReporter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Counter manager sending every change of a counter to StatsD, or with an aggregation window,
+ * summing the changes of every counter locally and sending the sums once the window is over.
+ * An aggregating manager is meant to be used from a single thread and flushed when done with.
+ */
 public class DaggerCounterManager implements MeasurementManager, Counter {
     private final StatsDReporter statsDReporter;
+    private final AggregationWindow aggregationWindow;
+    private final HashMap<Aspects, long[]> aggregatedCounts;
     private String[] formattedTags;
 
     public DaggerCounterManager(SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this(statsDReporterSupplier, null);
+    }
+
+    public DaggerCounterManager(SerializedStatsDReporterSupplier statsDReporterSupplier, AggregationWindow aggregationWindow) {
         this.statsDReporter = statsDReporterSupplier.buildStatsDReporter();
+        this.aggregationWindow = aggregationWindow;
+        this.aggregatedCounts = new HashMap<>();
     }
 
     @Override
@@ -32,7 +47,7 @@ public class DaggerCounterManager implements MeasurementManager, Counter {
 
     @Override
     public void increment(Aspects aspect, long positiveCount) {
-        statsDReporter.captureCount(aspect.getValue(), positiveCount, formattedTags);
+        capture(aspect, positiveCount);
     }
 
     @Override
@@ -42,6 +57,33 @@ public class DaggerCounterManager implements MeasurementManager, Counter {
 
     @Override
     public void decrement(Aspects aspect, long negativeCount) {
-        statsDReporter.captureCount(aspect.getValue(), negativeCount, formattedTags);
+        capture(aspect, negativeCount);
+    }
+
+    private void capture(Aspects aspect, long count) {
+        if (aggregationWindow == null) {
+            statsDReporter.captureCount(aspect.getValue(), count, formattedTags);
+            return;
+        }
+        aggregatedCounts.computeIfAbsent(aspect, key -> new long[1])[0] += count;
+        if (aggregationWindow.addEvent()) {
+            flush();
+        }
+    }
+
+    /**
+     * Send the sums of the counters aggregated since the last flush.
+     */
+    public void flush() {
+        for (Map.Entry<Aspects, long[]> aggregatedCount : aggregatedCounts.entrySet()) {
+            long count = aggregatedCount.getValue()[0];
+            if (count != 0) {
+                statsDReporter.captureCount(aggregatedCount.getKey().getValue(), count, formattedTags);
+                aggregatedCount.getValue()[0] = 0;
+            }
+        }
+        if (aggregationWindow != null) {
+            aggregationWindow.reset();
+        }
     }
 }
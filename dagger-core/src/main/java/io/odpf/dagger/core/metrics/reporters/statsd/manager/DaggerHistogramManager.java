@@ -1,19 +1,42 @@
 package io.odpf.dagger.core.metrics.reporters.statsd.manager;
 
+import org.apache.flink.metrics.HistogramStatistics;
+
 import io.odpf.dagger.common.metrics.aspects.Aspects;
+import io.odpf.dagger.common.metrics.histogram.IntervalHistogram;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.metrics.reporters.statsd.measurement.Histogram;
 import io.odpf.dagger.core.metrics.reporters.statsd.tags.StatsDTag;
 import io.odpf.depot.metrics.StatsDReporter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Histogram manager sending every value to StatsD, or with an aggregation window, recording the
+ * values into a local {@link IntervalHistogram} per aspect and sending a percentile summary of
+ * each once the window is over. The summary is sent as the _50_percentile, _95_percentile,
+ * _99_percentile, _upper and _mean gauges and the _count count of the aspect. An aggregating
+ * manager is meant to be used from a single thread and flushed when done with.
+ */
 public class DaggerHistogramManager implements MeasurementManager, Histogram {
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double MEDIAN = 0.5;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
     private final StatsDReporter statsDReporter;
+    private final AggregationWindow aggregationWindow;
+    private transient HashMap<Aspects, IntervalHistogram> aggregatedHistograms;
     private String[] formattedTags;
 
     public DaggerHistogramManager(SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this(statsDReporterSupplier, null);
+    }
+
+    public DaggerHistogramManager(SerializedStatsDReporterSupplier statsDReporterSupplier, AggregationWindow aggregationWindow) {
         this.statsDReporter = statsDReporterSupplier.buildStatsDReporter();
+        this.aggregationWindow = aggregationWindow;
     }
 
     @Override
@@ -27,6 +50,47 @@ public class DaggerHistogramManager implements MeasurementManager, Histogram {
 
     @Override
     public void recordValue(Aspects aspect, long value) {
-        statsDReporter.captureHistogram(aspect.getValue(), value, formattedTags);
+        if (aggregationWindow == null) {
+            statsDReporter.captureHistogram(aspect.getValue(), value, formattedTags);
+            return;
+        }
+        getAggregatedHistograms()
+                .computeIfAbsent(aspect, key -> new IntervalHistogram(SIGNIFICANT_DIGITS, IntervalHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE, Long.MAX_VALUE))
+                .update(value);
+        if (aggregationWindow.addEvent()) {
+            flush();
+        }
+    }
+
+    private HashMap<Aspects, IntervalHistogram> getAggregatedHistograms() {
+        if (aggregatedHistograms == null) {
+            aggregatedHistograms = new HashMap<>();
+        }
+        return aggregatedHistograms;
+    }
+
+    /**
+     * Send the summaries of the values aggregated since the last flush.
+     */
+    public void flush() {
+        for (Map.Entry<Aspects, IntervalHistogram> aggregatedHistogram : getAggregatedHistograms().entrySet()) {
+            HistogramStatistics statistics = aggregatedHistogram.getValue().drainStatistics();
+            if (statistics.size() > 0) {
+                String metric = aggregatedHistogram.getKey().getValue();
+                statsDReporter.gauge(metric + "_50_percentile", toGaugeValue(statistics.getQuantile(MEDIAN)), formattedTags);
+                statsDReporter.gauge(metric + "_95_percentile", toGaugeValue(statistics.getQuantile(P95)), formattedTags);
+                statsDReporter.gauge(metric + "_99_percentile", toGaugeValue(statistics.getQuantile(P99)), formattedTags);
+                statsDReporter.gauge(metric + "_upper", toGaugeValue(statistics.getMax()), formattedTags);
+                statsDReporter.gauge(metric + "_mean", toGaugeValue(statistics.getMean()), formattedTags);
+                statsDReporter.captureCount(metric + "_count", (long) statistics.size(), formattedTags);
+            }
+        }
+        if (aggregationWindow != null) {
+            aggregationWindow.reset();
+        }
+    }
+
+    private static Integer toGaugeValue(double value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(value));
     }
 }
@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.processors;
 
 import io.odpf.dagger.common.core.DaggerContext;
+import org.apache.flink.api.common.functions.InvalidTypesException;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
@@ -10,10 +12,13 @@ import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
 import io.odpf.dagger.core.processors.common.FetchOutputDecorator;
 import io.odpf.dagger.core.processors.common.InitializationDecorator;
+import io.odpf.dagger.core.processors.common.RowTypeInfoFactory;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.external.ExternalPostProcessor;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
+import io.odpf.dagger.core.processors.internal.FusedInternalDecorator;
 import io.odpf.dagger.core.processors.internal.InternalPostProcessor;
+import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
 import io.odpf.dagger.core.processors.transformers.TransformProcessor;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.utils.Constants;
@@ -57,21 +62,22 @@ public class ParentPostProcessor implements PostProcessor {
         if (!canProcess(postProcessorConfig)) {
             return streamInfo;
         }
-        DataStream<Row> resultStream = streamInfo.getDataStream();
         ColumnNameManager columnNameManager = new ColumnNameManager(streamInfo.getColumnNames(), postProcessorConfig.getOutputColumnNames());
-
-        InitializationDecorator initializationDecorator = new InitializationDecorator(columnNameManager);
-        resultStream = initializationDecorator.decorate(resultStream);
-        streamInfo = new StreamInfo(resultStream, streamInfo.getColumnNames());
         SchemaConfig schemaConfig = new SchemaConfig(daggerContext.getConfiguration(), stencilClientOrchestrator, columnNameManager);
-
-        List<PostProcessor> enabledPostProcessors = getEnabledPostProcessors(telemetrySubscriber, schemaConfig);
-        for (PostProcessor postProcessor : enabledPostProcessors) {
-            streamInfo = postProcessor.process(streamInfo);
+        boolean isTyped = daggerContext.getConfiguration()
+                .getBoolean(Constants.PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_KEY, Constants.PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_DEFAULT);
+        if (isTyped) {
+            schemaConfig.setRowTypes(new RowTypeInfoFactory(schemaConfig, getRowType(streamInfo.getDataStream()),
+                    postProcessorConfig.getInternalSource()));
         }
-
         FetchOutputDecorator fetchOutputDecorator = new FetchOutputDecorator(schemaConfig, postProcessorConfig.hasSQLTransformer());
-        resultStream = fetchOutputDecorator.decorate(streamInfo.getDataStream());
+        List<PostProcessor> enabledPostProcessors = getEnabledPostProcessors(telemetrySubscriber, schemaConfig);
+
+        boolean isFused = daggerContext.getConfiguration()
+                .getBoolean(Constants.PROCESSOR_POSTPROCESSOR_FUSED_ENABLE_KEY, Constants.PROCESSOR_POSTPROCESSOR_FUSED_ENABLE_DEFAULT);
+        DataStream<Row> resultStream = isFused
+                ? processFused(streamInfo, enabledPostProcessors, schemaConfig, fetchOutputDecorator)
+                : processUnfused(streamInfo, enabledPostProcessors, schemaConfig, fetchOutputDecorator);
         StreamInfo resultantStreamInfo = new StreamInfo(resultStream, columnNameManager.getOutputColumnNames());
         TransformProcessor transformProcessor = new TransformProcessor(postProcessorConfig.getTransformers(), daggerContext);
         if (transformProcessor.canProcess(postProcessorConfig)) {
@@ -81,6 +87,49 @@ public class ParentPostProcessor implements PostProcessor {
         return resultantStreamInfo;
     }
 
+    private DataStream<Row> processUnfused(StreamInfo streamInfo, List<PostProcessor> enabledPostProcessors,
+                                           SchemaConfig schemaConfig, FetchOutputDecorator fetchOutputDecorator) {
+        InitializationDecorator initializationDecorator = new InitializationDecorator(schemaConfig.getColumnNameManager(), schemaConfig.getInputOutputRowType());
+        streamInfo = new StreamInfo(initializationDecorator.decorate(streamInfo.getDataStream()), streamInfo.getColumnNames());
+        for (PostProcessor postProcessor : enabledPostProcessors) {
+            streamInfo = postProcessor.process(streamInfo);
+        }
+        return fetchOutputDecorator.decorate(streamInfo.getDataStream());
+    }
+
+    /*
+     * The internal post processors run after the async ones, so they are all fused with fetching the
+     * output into the last operator. Without any async post processor the rows are wrapped there too.
+     */
+    private DataStream<Row> processFused(StreamInfo streamInfo, List<PostProcessor> enabledPostProcessors,
+                                         SchemaConfig schemaConfig, FetchOutputDecorator fetchOutputDecorator) {
+        ColumnNameManager columnNameManager = schemaConfig.getColumnNameManager();
+        List<InternalConfigProcessor> internalConfigProcessors = new ArrayList<>();
+        boolean isInputWrapped = false;
+        for (PostProcessor postProcessor : enabledPostProcessors) {
+            if (postProcessor instanceof InternalPostProcessor) {
+                internalConfigProcessors.addAll(((InternalPostProcessor) postProcessor).getInternalConfigProcessors(columnNameManager));
+                continue;
+            }
+            if (!isInputWrapped) {
+                InitializationDecorator initializationDecorator = new InitializationDecorator(columnNameManager, schemaConfig.getInputOutputRowType());
+                streamInfo = new StreamInfo(initializationDecorator.decorate(streamInfo.getDataStream()), streamInfo.getColumnNames());
+                isInputWrapped = true;
+            }
+            streamInfo = postProcessor.process(streamInfo);
+        }
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(internalConfigProcessors, columnNameManager, isInputWrapped, fetchOutputDecorator);
+        return fusedInternalDecorator.decorate(streamInfo.getDataStream());
+    }
+
+    private static TypeInformation<Row> getRowType(DataStream<Row> dataStream) {
+        try {
+            return dataStream.getType();
+        } catch (InvalidTypesException e) {
+            return null;
+        }
+    }
+
     @Override
     public boolean canProcess(PostProcessorConfig config) {
         return config != null && !config.isEmpty();
@@ -17,10 +17,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.singleton;
 
@@ -32,7 +32,7 @@ public class EndpointHandler {
     private MeterStatsManager meterStatsManager;
     private ErrorReporter errorReporter;
     private String[] inputProtoClasses;
-    private Map<String, Descriptors.FieldDescriptor> descriptorMap;
+    private final Map<String, VariableBindings> variableBindings = new ConcurrentHashMap<>();
     private ColumnNameManager columnNameManager;
     private DescriptorManager descriptorManager;
     private Descriptors.Descriptor descriptor;
@@ -73,29 +73,9 @@ public class EndpointHandler {
             return new Object[0];
         }
 
-        String[] requiredInputColumns = variables.split(",");
-        ArrayList<Object> inputColumnValues = new ArrayList<>();
-        if (descriptorMap == null) {
-            descriptorMap = createDescriptorMap(requiredInputColumns, inputProtoClasses, resultFuture);
-        }
-
-        for (String inputColumnName : requiredInputColumns) {
-            int inputColumnIndex = columnNameManager.getInputIndex(inputColumnName);
-            if (inputColumnIndex == -1) {
-                throw new InvalidConfigurationException(String.format("Column '%s' not found as configured in the '%s' variable", inputColumnName, variableType));
-            }
-
-            Descriptors.FieldDescriptor fieldDescriptor = descriptorMap.get(inputColumnName);
-            Object singleColumnValue;
-            if (fieldDescriptor != null) {
-                TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
-                singleColumnValue = typeHandler.transformToJson(rowManager.getFromInput(inputColumnIndex));
-            } else {
-                singleColumnValue = rowManager.getFromInput(inputColumnIndex);
-            }
-            inputColumnValues.add(singleColumnValue);
-        }
-        return inputColumnValues.toArray();
+        VariableBindings bindings = variableBindings.computeIfAbsent(variables,
+                variablesKey -> new VariableBindings(variableType, variablesKey.split(","), resultFuture));
+        return bindings.getValues(rowManager);
     }
 
     /**
@@ -147,4 +127,37 @@ public class EndpointHandler {
         errorReporter.reportFatalException(exception);
         resultFuture.completeExceptionally(exception);
     }
+
+    /**
+     * The input column indexes and type handlers of a variables config, resolved once.
+     */
+    private class VariableBindings {
+        private final int[] inputColumnIndexes;
+        private final TypeHandler[] typeHandlers;
+
+        VariableBindings(ExternalPostProcessorVariableType variableType, String[] requiredInputColumns, ResultFuture<Row> resultFuture) {
+            Map<String, Descriptors.FieldDescriptor> descriptorMap = createDescriptorMap(requiredInputColumns, inputProtoClasses, resultFuture);
+            inputColumnIndexes = new int[requiredInputColumns.length];
+            typeHandlers = new TypeHandler[requiredInputColumns.length];
+            for (int i = 0; i < requiredInputColumns.length; i++) {
+                String inputColumnName = requiredInputColumns[i];
+                int inputColumnIndex = columnNameManager.getInputIndex(inputColumnName);
+                if (inputColumnIndex == -1) {
+                    throw new InvalidConfigurationException(String.format("Column '%s' not found as configured in the '%s' variable", inputColumnName, variableType));
+                }
+                inputColumnIndexes[i] = inputColumnIndex;
+                Descriptors.FieldDescriptor fieldDescriptor = descriptorMap.get(inputColumnName);
+                typeHandlers[i] = fieldDescriptor != null ? TypeHandlerFactory.getTypeHandler(fieldDescriptor) : null;
+            }
+        }
+
+        Object[] getValues(RowManager rowManager) {
+            Object[] inputColumnValues = new Object[inputColumnIndexes.length];
+            for (int i = 0; i < inputColumnIndexes.length; i++) {
+                Object singleColumnValue = rowManager.getFromInput(inputColumnIndexes[i]);
+                inputColumnValues[i] = typeHandlers[i] != null ? typeHandlers[i].transformToJson(singleColumnValue) : singleColumnValue;
+            }
+            return inputColumnValues;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.google.protobuf.Descriptors;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import io.odpf.dagger.core.processors.types.MapDecorator;
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
@@ -26,6 +27,7 @@ public class FetchOutputDecorator implements MapDecorator {
     private StencilClientOrchestrator stencilClientOrchestrator;
     private String outputProtoClassName;
     private boolean hasSQLTransformer;
+    private transient TypeInformation<Row> outputRowType;
 
     /**
      * Instantiates a new Fetch output decorator.
@@ -38,6 +40,7 @@ public class FetchOutputDecorator implements MapDecorator {
         this.stencilClientOrchestrator = schemaConfig.getStencilClientOrchestrator();
         this.outputProtoClassName = schemaConfig.getOutputProtoClassName();
         this.hasSQLTransformer = hasSQLTransformer;
+        this.outputRowType = schemaConfig.getOutputRowType();
     }
 
     @Override
@@ -47,14 +50,33 @@ public class FetchOutputDecorator implements MapDecorator {
 
     @Override
     public Row map(Row input) {
-        RowManager rowManager = new RowManager(input);
-        return hasSQLTransformer ? convertLocalDateTime(rowManager.getOutputData()) : rowManager.getOutputData();
+        return getOutput(new RowManager(input));
     }
 
+    /**
+     * Gets the output row of the post processors.
+     *
+     * @param rowManager the row manager
+     * @return the output row
+     */
+    public Row getOutput(RowManager rowManager) {
+        return hasSQLTransformer ? convertLocalDateTime(rowManager.getOutputData()) : rowManager.getOutputData();
+    }
 
     @Override
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
-        return hasSQLTransformer ? inputStream.map(this).returns(getTypeInformation()) : inputStream.map(this);
+        return decorate(inputStream, this);
+    }
+
+    /**
+     * Decorate the stream with a map function producing the output rows, typed as this decorator would.
+     *
+     * @param inputStream  the input stream
+     * @param outputMapper the map function producing the output rows
+     * @return the output stream
+     */
+    public DataStream<Row> decorate(DataStream<Row> inputStream, MapFunction<Row, Row> outputMapper) {
+        return hasSQLTransformer ? inputStream.map(outputMapper).returns(getTypeInformation()) : withRowType(inputStream.map(outputMapper), outputRowType);
     }
 
     private TypeInformation<Row> getTypeInformation() {
@@ -3,6 +3,8 @@ package io.odpf.dagger.core.processors.common;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.types.MapDecorator;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
 /**
@@ -11,6 +13,7 @@ import org.apache.flink.types.Row;
 public class InitializationDecorator implements MapDecorator {
 
     private ColumnNameManager columnNameManager;
+    private transient TypeInformation<Row> inputOutputRowType;
 
     /**
      * Instantiates a new Initialization decorator.
@@ -18,7 +21,18 @@ public class InitializationDecorator implements MapDecorator {
      * @param columnNameManager the column name manager
      */
     public InitializationDecorator(ColumnNameManager columnNameManager) {
+        this(columnNameManager, null);
+    }
+
+    /**
+     * Instantiates a new Initialization decorator declaring the type of the rows it produces.
+     *
+     * @param columnNameManager  the column name manager
+     * @param inputOutputRowType the input output row type, null when the rows are not typed
+     */
+    public InitializationDecorator(ColumnNameManager columnNameManager, TypeInformation<Row> inputOutputRowType) {
         this.columnNameManager = columnNameManager;
+        this.inputOutputRowType = inputOutputRowType;
     }
 
     @Override
@@ -32,5 +46,10 @@ public class InitializationDecorator implements MapDecorator {
         return rowManager.getAll();
     }
 
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        return withRowType(inputStream.map(this), inputOutputRowType);
+    }
+
 
 }
@@ -0,0 +1,99 @@
+package io.odpf.dagger.core.processors.common;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * Compiled form of a request pattern of an external source. Patterns made only of literal
+ * text, {@code %s} and {@code %%} are split once into literal segments and rendered by
+ * appending the variable values in between, the same as {@link String#format} would.
+ * Patterns using any other format specifier are rendered with {@link String#format}.
+ * A template is built once per external source, when its connector is built.
+ */
+public class RequestTemplate implements Serializable {
+    private static final int VALUE_LENGTH_ESTIMATE = 16;
+
+    private final String pattern;
+    private final String[] literals;
+    private final int literalsLength;
+
+    /**
+     * Instantiates a new Request template.
+     *
+     * @param pattern the pattern
+     */
+    public RequestTemplate(String pattern) {
+        this.pattern = pattern;
+        this.literals = pattern == null ? null : split(pattern);
+        int length = 0;
+        if (literals != null) {
+            for (String literal : literals) {
+                length += literal.length();
+            }
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Check if the pattern is rendered without {@link String#format}.
+     *
+     * @return the boolean
+     */
+    public boolean isCompiled() {
+        return literals != null;
+    }
+
+    /**
+     * Render the pattern with the variable values.
+     *
+     * @param values the variable values
+     * @return the rendered string
+     * @throws java.util.IllegalFormatException if the values do not fit the pattern
+     */
+    public String render(Object[] values) {
+        if (literals == null) {
+            return String.format(pattern, values);
+        }
+        int placeholders = literals.length - 1;
+        if (values.length < placeholders) {
+            throw new MissingFormatArgumentException("%s");
+        }
+        StringBuilder builder = new StringBuilder(literalsLength + placeholders * VALUE_LENGTH_ESTIMATE);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders; i++) {
+            builder.append(values[i]).append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static String[] split(String pattern) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < pattern.length()) {
+            char current = pattern.charAt(index);
+            if (current != '%') {
+                literal.append(current);
+                index++;
+                continue;
+            }
+            if (index + 1 >= pattern.length()) {
+                return null;
+            }
+            char conversion = pattern.charAt(index + 1);
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 's') {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            } else {
+                return null;
+            }
+            index += 2;
+        }
+        segments.add(literal.toString());
+        return segments.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,115 @@
+package io.odpf.dagger.core.processors.common;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.internal.InternalSourceConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.odpf.dagger.core.processors.internal.processor.sql.fields.SqlInternalConfigProcessor.SQL_CONFIG_HANDLER_TYPE;
+import static io.odpf.dagger.core.utils.Constants.SQL_PATH_SELECT_ALL_CONFIG_VALUE;
+
+/**
+ * Builds the row types of the streams between the post processors, so that Flink serializes the rows
+ * field by field rather than through Kryo. An output column copied from an input column by a sql
+ * internal source takes the type of that input column. Any other output column takes the type of its
+ * field in the output proto, else the type of the input column of the same name, and is left generic
+ * when neither exists. Timestamp fields are left generic too, as the post processors set them to
+ * strings or timestamps rather than to rows of seconds and nanos.
+ */
+public class RowTypeInfoFactory {
+    private final ColumnNameManager columnNameManager;
+    private final Descriptors.Descriptor outputDescriptor;
+    private final TypeInformation<Row> inputRowType;
+    private final Map<String, String> copiedInputColumns;
+
+    /**
+     * Instantiates a new Row type info factory.
+     *
+     * @param schemaConfig          the schema config
+     * @param inputRowType          the type of the rows given to the post processors, null when unknown
+     * @param internalSourceConfigs the internal sources of the post processors, null when there are none
+     */
+    public RowTypeInfoFactory(SchemaConfig schemaConfig, TypeInformation<Row> inputRowType, List<InternalSourceConfig> internalSourceConfigs) {
+        this.columnNameManager = schemaConfig.getColumnNameManager();
+        this.outputDescriptor = schemaConfig.getStencilClientOrchestrator().getStencilClient().get(schemaConfig.getOutputProtoClassName());
+        this.inputRowType = inputRowType != null ? inputRowType : new GenericTypeInfo<>(Row.class);
+        this.copiedInputColumns = getCopiedInputColumns(internalSourceConfigs);
+    }
+
+    private Map<String, String> getCopiedInputColumns(List<InternalSourceConfig> internalSourceConfigs) {
+        Map<String, String> inputColumnsByOutputColumn = new HashMap<>();
+        if (internalSourceConfigs == null) {
+            return inputColumnsByOutputColumn;
+        }
+        for (InternalSourceConfig internalSourceConfig : internalSourceConfigs) {
+            if (!SQL_CONFIG_HANDLER_TYPE.equals(internalSourceConfig.getType())) {
+                continue;
+            }
+            if (SQL_PATH_SELECT_ALL_CONFIG_VALUE.equals(internalSourceConfig.getOutputField())) {
+                for (String inputColumnName : columnNameManager.getInputColumnNames()) {
+                    inputColumnsByOutputColumn.put(inputColumnName, inputColumnName);
+                }
+            } else {
+                inputColumnsByOutputColumn.put(internalSourceConfig.getOutputField(), internalSourceConfig.getValue());
+            }
+        }
+        return inputColumnsByOutputColumn;
+    }
+
+    /**
+     * Gets the type of the output rows.
+     *
+     * @return the output row type
+     */
+    public RowTypeInfo getOutputRowType() {
+        String[] outputColumnNames = columnNameManager.getOutputColumnNames();
+        TypeInformation[] typeInformations = new TypeInformation[outputColumnNames.length];
+        for (int index = 0; index < outputColumnNames.length; index++) {
+            typeInformations[index] = getOutputColumnType(outputColumnNames[index]);
+        }
+        return new RowTypeInfo(typeInformations, outputColumnNames);
+    }
+
+    /**
+     * Gets the type of the rows holding the input and the output rows, as handled by the {@link RowManager}.
+     *
+     * @return the input output row type
+     */
+    public RowTypeInfo getInputOutputRowType() {
+        return new RowTypeInfo(inputRowType, getOutputRowType());
+    }
+
+    private TypeInformation<?> getOutputColumnType(String outputColumnName) {
+        String copiedInputColumn = copiedInputColumns.get(outputColumnName);
+        if (SQL_PATH_SELECT_ALL_CONFIG_VALUE.equals(copiedInputColumn)) {
+            return inputRowType;
+        }
+        if (copiedInputColumn != null) {
+            return getInputColumnType(copiedInputColumn);
+        }
+        Descriptors.FieldDescriptor fieldDescriptor = outputDescriptor != null ? outputDescriptor.findFieldByName(outputColumnName) : null;
+        if (fieldDescriptor != null) {
+            TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
+            return typeHandler instanceof TimestampHandler ? TypeInformation.of(Object.class) : typeHandler.getTypeInformation();
+        }
+        return getInputColumnType(outputColumnName);
+    }
+
+    private TypeInformation<?> getInputColumnType(String inputColumnName) {
+        int inputIndex = columnNameManager.getInputIndex(inputColumnName);
+        if (inputIndex != -1 && inputRowType instanceof RowTypeInfo && inputIndex < inputRowType.getArity()) {
+            return ((RowTypeInfo) inputRowType).getTypeAt(inputIndex);
+        }
+        return TypeInformation.of(Object.class);
+    }
+}
@@ -4,6 +4,8 @@ import com.google.gson.Gson;
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.processors.ColumnNameManager;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.types.Row;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -22,6 +24,8 @@ public class SchemaConfig implements Serializable {
     private ColumnNameManager columnNameManager;
     private String[] inputProtoClasses;
     private String outputProtoClassName;
+    private transient TypeInformation<Row> inputOutputRowType;
+    private transient TypeInformation<Row> outputRowType;
     private static final Gson GSON = new Gson();
 
     /**
@@ -75,6 +79,34 @@ public class SchemaConfig implements Serializable {
         return outputProtoClassName;
     }
 
+    /**
+     * Gets the type of the rows holding the input and output rows, null when the rows are not typed.
+     *
+     * @return the input output row type
+     */
+    public TypeInformation<Row> getInputOutputRowType() {
+        return inputOutputRowType;
+    }
+
+    /**
+     * Gets the type of the output rows, null when the rows are not typed.
+     *
+     * @return the output row type
+     */
+    public TypeInformation<Row> getOutputRowType() {
+        return outputRowType;
+    }
+
+    /**
+     * Sets the types the post processors declare for the rows they produce.
+     *
+     * @param rowTypeInfoFactory the row type info factory
+     */
+    public void setRowTypes(RowTypeInfoFactory rowTypeInfoFactory) {
+        this.inputOutputRowType = rowTypeInfoFactory.getInputOutputRowType();
+        this.outputRowType = rowTypeInfoFactory.getOutputRowType();
+    }
+
     private String[] getMessageProtoClasses() {
         String jsonArrayString = configuration.getString(INPUT_STREAMS, "");
         Map[] streamsConfig = GSON.fromJson(jsonArrayString, Map[].class);
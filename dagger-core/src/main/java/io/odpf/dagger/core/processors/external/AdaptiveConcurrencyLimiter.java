@@ -0,0 +1,261 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * Limits the calls to an external source in flight with an AIMD policy. The limit grows
+ * by one every limit successful calls, and is cut by a tenth when a call fails, times
+ * out, or when the recent call latency rises well above the long term latency. Only the
+ * calls completed with the response of the external source count as successful, the calls
+ * completed on an error path of the handlers count as failed. Calls over
+ * the limit wait in a queue and are dispatched as the calls in flight complete. Since calls
+ * complete on the threads of the external source clients, queued calls are handed to the
+ * dispatch executor, which runs them on the task thread.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double SHORT_LATENCY_SMOOTHING = 0.2;
+    private static final double LONG_LATENCY_SMOOTHING = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Clock clock;
+    private final Executor dispatchExecutor;
+    private final Deque<LimitedCall> pendingCalls = new ArrayDeque<>();
+    private final Map<Row, LimitedCall> calls = new IdentityHashMap<>();
+    private double limit;
+    private int inFlight;
+    private double shortLatency;
+    private double longLatency;
+    private int callsUntilNextBackoff;
+
+    /**
+     * Instantiates a new Adaptive concurrency limiter.
+     *
+     * @param initialLimit the initial limit
+     * @param maxLimit     the max limit
+     * @param clock        the clock
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, Clock clock) {
+        this(initialLimit, maxLimit, clock, Runnable::run);
+    }
+
+    /**
+     * Instantiates a new Adaptive concurrency limiter.
+     *
+     * @param initialLimit     the initial limit
+     * @param maxLimit         the max limit
+     * @param clock            the clock
+     * @param dispatchExecutor the executor the queued calls are dispatched on
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, Clock clock, Executor dispatchExecutor) {
+        this.minLimit = 1;
+        this.maxLimit = Math.max(minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(minLimit, initialLimit));
+        this.clock = clock;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /**
+     * Dispatches the call for the input when the limit allows it, or queues it until a call
+     * in flight completes. The call is dispatched with a result future that releases its slot.
+     *
+     * @param input        the input
+     * @param resultFuture the result future
+     * @param dispatcher   the dispatcher of the call
+     */
+    public void submit(Row input, ResultFuture<Row> resultFuture, BiConsumer<Row, ResultFuture<Row>> dispatcher) {
+        LimitedCall call = new LimitedCall(input, resultFuture, dispatcher);
+        boolean dispatch;
+        synchronized (this) {
+            calls.put(input, call);
+            dispatch = inFlight < (int) limit;
+            if (dispatch) {
+                start(call);
+            } else {
+                pendingCalls.add(call);
+            }
+        }
+        if (dispatch) {
+            call.dispatch();
+        }
+    }
+
+    /**
+     * Dispatches the call for the input only when the limit allows it right away, without
+     * queueing it. This is meant for optional calls, such as hedged attempts.
+     *
+     * @param input        the input
+     * @param resultFuture the result future
+     * @param dispatcher   the dispatcher of the call
+     * @return whether the call was dispatched
+     */
+    public boolean trySubmit(Row input, ResultFuture<Row> resultFuture, BiConsumer<Row, ResultFuture<Row>> dispatcher) {
+        LimitedCall call = new LimitedCall(input, resultFuture, dispatcher);
+        synchronized (this) {
+            if (inFlight >= (int) limit || !pendingCalls.isEmpty()) {
+                return false;
+            }
+            calls.put(input, call);
+            start(call);
+        }
+        call.dispatch();
+        return true;
+    }
+
+    /**
+     * Releases the call of a timed out input, counting it as dropped. A queued call is
+     * discarded without being dispatched.
+     *
+     * @param input the input
+     */
+    public void timeout(Row input) {
+        LimitedCall call;
+        synchronized (this) {
+            call = calls.get(input);
+            if (call == null) {
+                return;
+            }
+            if (pendingCalls.remove(call)) {
+                calls.remove(input);
+                call.finished = true;
+                return;
+            }
+        }
+        finish(call, true);
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the number of calls in flight.
+     *
+     * @return the in flight count
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the number of queued calls.
+     *
+     * @return the pending count
+     */
+    public synchronized int getPendingCount() {
+        return pendingCalls.size();
+    }
+
+    private void start(LimitedCall call) {
+        inFlight++;
+        call.startedAt = clock.millis();
+    }
+
+    private void finish(LimitedCall call, boolean dropped) {
+        List<LimitedCall> nextCalls = new ArrayList<>();
+        synchronized (this) {
+            if (call.finished) {
+                return;
+            }
+            call.finished = true;
+            calls.remove(call.input);
+            inFlight--;
+            adjustLimit(clock.millis() - call.startedAt, dropped);
+            while (inFlight < (int) limit && !pendingCalls.isEmpty()) {
+                LimitedCall nextCall = pendingCalls.poll();
+                start(nextCall);
+                nextCalls.add(nextCall);
+            }
+        }
+        for (LimitedCall nextCall : nextCalls) {
+            try {
+                dispatchExecutor.execute(nextCall::dispatch);
+            } catch (RejectedExecutionException e) {
+                nextCall.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void adjustLimit(long latency, boolean dropped) {
+        boolean congested = dropped;
+        if (!dropped) {
+            if (longLatency == 0) {
+                shortLatency = latency;
+                longLatency = latency;
+            }
+            shortLatency += SHORT_LATENCY_SMOOTHING * (latency - shortLatency);
+            longLatency += LONG_LATENCY_SMOOTHING * (latency - longLatency);
+            congested = shortLatency > LATENCY_TOLERANCE * longLatency;
+        }
+        if (callsUntilNextBackoff > 0) {
+            callsUntilNextBackoff--;
+        }
+        if (congested && callsUntilNextBackoff == 0) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            callsUntilNextBackoff = (int) limit;
+        } else if (!congested) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private class LimitedCall implements ResponseResultFuture {
+        private final Row input;
+        private final ResultFuture<Row> resultFuture;
+        private final BiConsumer<Row, ResultFuture<Row>> dispatcher;
+        private long startedAt;
+        private boolean finished;
+
+        LimitedCall(Row input, ResultFuture<Row> resultFuture, BiConsumer<Row, ResultFuture<Row>> dispatcher) {
+            this.input = input;
+            this.resultFuture = resultFuture;
+            this.dispatcher = dispatcher;
+        }
+
+        void dispatch() {
+            synchronized (AdaptiveConcurrencyLimiter.this) {
+                if (finished) {
+                    return;
+                }
+            }
+            dispatcher.accept(input, this);
+        }
+
+        @Override
+        public void completeWithResponse(Collection<Row> result) {
+            ResponseResultFuture.completeWithResponse(resultFuture, result);
+            finish(this, false);
+        }
+
+        @Override
+        public void complete(Collection<Row> result) {
+            resultFuture.complete(result);
+            finish(this, true);
+        }
+
+        @Override
+        public void completeExceptionally(Throwable error) {
+            resultFuture.completeExceptionally(error);
+            finish(this, true);
+        }
+    }
+}
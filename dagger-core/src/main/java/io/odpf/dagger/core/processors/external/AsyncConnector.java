@@ -8,6 +8,7 @@ import org.apache.flink.types.Row;
 
 import com.google.protobuf.Descriptors;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.exception.InvalidConfigurationException;
 import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
@@ -21,12 +22,16 @@ import io.odpf.dagger.core.processors.common.EndpointHandler;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import org.apache.commons.lang3.StringUtils;
 
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.IllegalFormatException;
 import java.util.List;
 import java.util.Map;
 import java.util.UnknownFormatConversionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.singleton;
@@ -45,6 +50,12 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
     private Map<String, List<String>> metrics = new HashMap<>();
     private Descriptors.Descriptor outputDescriptor;
     private EndpointHandler endpointHandler;
+    private RequestCoalescer requestCoalescer;
+    private ResponseCache responseCache;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private GaugeStatsManager gaugeStatsManager;
+    private RequestHedger requestHedger;
+    private transient Executor taskExecutor;
 
     /**
      * Instantiates a new Async connector.
@@ -88,6 +99,99 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
         return endpointHandler;
     }
 
+    /**
+     * Gets request coalescer.
+     *
+     * @return the request coalescer, or null when request coalescing is disabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Gets response cache.
+     *
+     * @return the response cache, or null when responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets concurrency limiter.
+     *
+     * @return the concurrency limiter, or null when the capacity is not adaptive
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Gets request hedger.
+     *
+     * @return the request hedger, or null when calls are not hedged
+     */
+    public RequestHedger getRequestHedger() {
+        return requestHedger;
+    }
+
+    /**
+     * Sets the executor running commands on the task thread of the operator.
+     *
+     * @param taskExecutor the task executor
+     */
+    public void setTaskExecutor(Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Gets the executor running commands on the task thread of the operator. Outside of an
+     * operator, as in tests, commands run on the calling thread.
+     *
+     * @return the task executor
+     */
+    protected Executor getTaskExecutor() {
+        return taskExecutor != null ? taskExecutor : Runnable::run;
+    }
+
+    /**
+     * Gets the hedge config of the external source.
+     *
+     * @return the hedge config, or null when the external source does not hedge calls
+     */
+    protected HedgeConfig getHedgeConfig() {
+        return null;
+    }
+
+    /**
+     * Gets the capacity of the external source, the max number of calls in flight.
+     *
+     * @return the capacity
+     */
+    protected abstract int getCapacity();
+
+    /**
+     * Gets the input columns the request to the external source is built from.
+     *
+     * @return the request columns
+     */
+    protected List<String> getRequestColumns() {
+        return splitVariables(sourceConfig.getVariables());
+    }
+
+    /**
+     * Split comma separated variables into column names.
+     *
+     * @param variables the variables
+     * @return the column names
+     */
+    protected List<String> splitVariables(String variables) {
+        if (StringUtils.isEmpty(variables)) {
+            return new ArrayList<>();
+        }
+        return Arrays.asList(variables.split(","));
+    }
+
     /**
      * Gets column name manager.
      *
@@ -115,6 +219,15 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
         this.meterStatsManager = meterStatsManager;
     }
 
+    /**
+     * Sets gauge stats manager.
+     *
+     * @param gaugeStatsManager the gauge stats manager
+     */
+    public void setGaugeStatsManager(GaugeStatsManager gaugeStatsManager) {
+        this.gaugeStatsManager = gaugeStatsManager;
+    }
+
     /**
      * Sets descriptor manager.
      *
@@ -158,16 +271,41 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
                     .getErrorReporter(getRuntimeContext().getMetricGroup(), externalMetricConfig.isTelemetryEnabled(), externalMetricConfig.getShutDownPeriod());
         }
         if (meterStatsManager == null) {
-            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true, externalMetricConfig.getHistogramConfig());
         }
         if (endpointHandler == null) {
             endpointHandler = new EndpointHandler(meterStatsManager, errorReporter,
                     schemaConfig.getInputProtoClasses(), schemaConfig.getColumnNameManager(), descriptorManager);
         }
+        if (requestCoalescer == null && sourceConfig.isRequestCoalescingEnabled()) {
+            requestCoalescer = new RequestCoalescer(schemaConfig.getColumnNameManager(), getRequestColumns(), sourceConfig.getOutputColumns(), meterStatsManager);
+        }
+        ResponseCacheConfig cacheConfig = sourceConfig.getCacheConfig();
+        if (responseCache == null && cacheConfig != null) {
+            cacheConfig.validateFields();
+            responseCache = new ResponseCache(cacheConfig, schemaConfig.getColumnNameManager(), getRequestColumns(),
+                    sourceConfig.getOutputColumns(), meterStatsManager, Clock.systemUTC());
+        }
 
         String groupKey = TelemetryTypes.SOURCE_METRIC_ID.getValue();
         String groupValue = sourceType + "." + externalMetricConfig.getMetricId();
         meterStatsManager.register(groupKey, groupValue, ExternalSourceAspects.values());
+
+        if (concurrencyLimiter == null && sourceConfig.isAdaptiveCapacityEnabled()) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(getCapacity() / 2, getCapacity(), Clock.systemUTC(), getTaskExecutor());
+            if (gaugeStatsManager == null) {
+                gaugeStatsManager = new GaugeStatsManager(getRuntimeContext().getMetricGroup(), true);
+            }
+            gaugeStatsManager.register(groupKey, groupValue, ExternalSourceAspects.CONCURRENCY_LIMIT, concurrencyLimiter::getLimit);
+            gaugeStatsManager.register(groupKey, groupValue, ExternalSourceAspects.PENDING_REQUESTS, concurrencyLimiter::getPendingCount);
+        }
+        if (requestHedger == null && getHedgeConfig() != null) {
+            requestHedger = new RequestHedger(getHedgeConfig(), meterStatsManager, Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "hedged-" + sourceType + "-requests");
+                thread.setDaemon(true);
+                return thread;
+            }), Clock.systemUTC(), getTaskExecutor());
+        }
     }
 
     /**
@@ -184,23 +322,90 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
      */
     protected abstract void process(Row input, ResultFuture<Row> resultFuture) throws Exception;
 
+    /**
+     * Process async, either as the first attempt of a call or as its hedged attempt.
+     *
+     * @param input        the input
+     * @param resultFuture the result future
+     * @param hedge        whether the call is the hedged attempt
+     * @throws Exception the exception
+     */
+    protected void process(Row input, ResultFuture<Row> resultFuture, boolean hedge) throws Exception {
+        process(input, resultFuture);
+    }
+
     @Override
     public void asyncInvoke(Row input, ResultFuture<Row> resultFuture) throws Exception {
+        if (responseCache != null && responseCache.lookup(input)) {
+            resultFuture.complete(singleton(input));
+            return;
+        }
+        ResultFuture<Row> requestFuture = resultFuture;
+        if (requestCoalescer != null) {
+            requestFuture = requestCoalescer.coalesce(input, resultFuture);
+            if (requestFuture == null) {
+                meterStatsManager.markEvent(ExternalSourceAspects.COALESCED_REQUESTS);
+                return;
+            }
+        }
+        if (responseCache != null) {
+            requestFuture = responseCache.caching(input, requestFuture);
+        }
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.submit(input, requestFuture, this::dispatchLimited);
+            return;
+        }
+        dispatch(input, requestFuture);
+    }
 
+    private void dispatchLimited(Row input, ResultFuture<Row> requestFuture) {
         try {
-            process(input, resultFuture);
+            dispatch(input, requestFuture);
+        } catch (Exception e) {
+            requestFuture.completeExceptionally(e);
+        }
+    }
+
+    private void dispatch(Row input, ResultFuture<Row> requestFuture) throws Exception {
+        if (requestHedger != null) {
+            requestHedger.submit(input, requestFuture, this::dispatchAttempt);
+            return;
+        }
+        call(input, requestFuture, false);
+    }
+
+    /* a hedged attempt takes a slot of the concurrency limit, and is dropped when there is none left */
+    private boolean dispatchAttempt(Row input, ResultFuture<Row> requestFuture, boolean hedge) {
+        if (hedge && concurrencyLimiter != null) {
+            return concurrencyLimiter.trySubmit(input, requestFuture, (attemptInput, attemptFuture) -> callAttempt(attemptInput, attemptFuture, true));
+        }
+        callAttempt(input, requestFuture, hedge);
+        return true;
+    }
+
+    private void callAttempt(Row input, ResultFuture<Row> requestFuture, boolean hedge) {
+        try {
+            call(input, requestFuture, hedge);
+        } catch (Exception e) {
+            requestFuture.completeExceptionally(e);
+        }
+    }
+
+    private void call(Row input, ResultFuture<Row> requestFuture, boolean hedge) throws Exception {
+        try {
+            process(input, requestFuture, hedge);
             meterStatsManager.markEvent(ExternalSourceAspects.TOTAL_EXTERNAL_CALLS);
         } catch (UnknownFormatConversionException e) {
             meterStatsManager.markEvent(ExternalSourceAspects.INVALID_CONFIGURATION);
             Exception invalidConfigurationException = new InvalidConfigurationException(String.format("pattern config '%s' is invalid", sourceConfig.getPattern()));
-            reportAndThrowError(resultFuture, invalidConfigurationException);
+            reportAndThrowError(requestFuture, invalidConfigurationException);
         } catch (IllegalFormatException e) {
             meterStatsManager.markEvent(ExternalSourceAspects.INVALID_CONFIGURATION);
             Exception invalidConfigurationException = new InvalidConfigurationException(String.format("pattern config '%s' is incompatible with the variable config '%s'", sourceConfig.getPattern(), sourceConfig.getVariables()));
-            reportAndThrowError(resultFuture, invalidConfigurationException);
+            reportAndThrowError(requestFuture, invalidConfigurationException);
         } catch (InvalidConfigurationException e) {
             meterStatsManager.markEvent(ExternalSourceAspects.INVALID_CONFIGURATION);
-            reportAndThrowError(resultFuture, e);
+            reportAndThrowError(requestFuture, e);
         }
     }
 
@@ -218,6 +423,15 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
     @Override
     public void timeout(Row input, ResultFuture<Row> resultFuture) {
         meterStatsManager.markEvent(ExternalSourceAspects.TIMEOUTS);
+        if (requestCoalescer != null) {
+            requestCoalescer.release(input);
+        }
+        if (requestHedger != null) {
+            requestHedger.timeout(input);
+        }
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.timeout(input);
+        }
         Exception timeoutException = new TimeoutException("Timeout in external source call!");
         if (sourceConfig.isFailOnErrors()) {
             reportAndThrowError(resultFuture, timeoutException);
@@ -229,7 +443,9 @@ public abstract class AsyncConnector extends RichAsyncFunction<Row, Row> impleme
 
     @Override
     public void close() throws Exception {
-
+        if (requestHedger != null) {
+            requestHedger.close();
+        }
         super.close();
     }
 
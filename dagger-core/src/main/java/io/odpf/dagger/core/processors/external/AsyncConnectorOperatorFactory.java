@@ -0,0 +1,57 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.api.common.operators.MailboxExecutor;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.Utils;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.streaming.api.datastream.AsyncDataStream;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.streaming.api.functions.async.AsyncFunction;
+import org.apache.flink.streaming.api.operators.async.AsyncWaitOperatorFactory;
+import org.apache.flink.types.Row;
+
+/**
+ * The factory of the async wait operator of an {@link AsyncConnector}. It hands the mailbox executor
+ * of the operator to the connector, so that the work the connector starts from the threads of the
+ * external source clients, such as dispatching queued calls, runs on the task thread.
+ */
+public class AsyncConnectorOperatorFactory extends AsyncWaitOperatorFactory<Row, Row> {
+    private static final String OPERATOR_NAME = "async wait operator";
+    private final AsyncConnector asyncConnector;
+
+    /**
+     * Instantiates a new Async connector operator factory.
+     *
+     * @param asyncConnector the async connector
+     * @param timeout        the timeout in milliseconds
+     * @param capacity       the capacity
+     */
+    public AsyncConnectorOperatorFactory(AsyncConnector asyncConnector, long timeout, int capacity) {
+        super(asyncConnector, timeout, capacity, AsyncDataStream.OutputMode.ORDERED);
+        this.asyncConnector = asyncConnector;
+    }
+
+    @Override
+    public void setMailboxExecutor(MailboxExecutor mailboxExecutor) {
+        super.setMailboxExecutor(mailboxExecutor);
+        asyncConnector.setTaskExecutor(command -> mailboxExecutor.execute(command::run, "external source call"));
+    }
+
+    /**
+     * Applies the async connector to the stream keeping the order of the records, as
+     * {@link AsyncDataStream#orderedWait} does.
+     *
+     * @param inputStream    the input stream
+     * @param asyncConnector the async connector
+     * @param timeout        the timeout in milliseconds
+     * @param capacity       the capacity
+     * @return the output stream
+     */
+    public static SingleOutputStreamOperator<Row> orderedWait(DataStream<Row> inputStream, AsyncConnector asyncConnector, long timeout, int capacity) {
+        TypeInformation<Row> outputType = TypeExtractor.getUnaryOperatorReturnType(asyncConnector, AsyncFunction.class, 0, 1,
+                new int[]{1, 0}, inputStream.getType(), Utils.getCallLocationName(), true);
+        AsyncConnector cleanedAsyncConnector = inputStream.getExecutionEnvironment().clean(asyncConnector);
+        return inputStream.transform(OPERATOR_NAME, outputType, new AsyncConnectorOperatorFactory(cleanedAsyncConnector, timeout, capacity));
+    }
+}
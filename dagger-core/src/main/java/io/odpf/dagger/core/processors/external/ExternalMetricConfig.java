@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.processors.external;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
 import io.odpf.dagger.core.utils.Constants;
 
@@ -12,6 +13,7 @@ import java.io.Serializable;
 public class ExternalMetricConfig implements Serializable {
     private final long shutDownPeriod;
     private final boolean telemetryEnabled;
+    private final HistogramConfig histogramConfig;
     private TelemetrySubscriber telemetrySubscriber;
     private String metricId;
 
@@ -24,6 +26,7 @@ public class ExternalMetricConfig implements Serializable {
     public ExternalMetricConfig(Configuration configuration, TelemetrySubscriber telemetrySubscriber) {
         this.shutDownPeriod = configuration.getLong(Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_KEY, Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_DEFAULT);
         this.telemetryEnabled = configuration.getBoolean(Constants.METRIC_TELEMETRY_ENABLE_KEY, Constants.METRIC_TELEMETRY_ENABLE_VALUE_DEFAULT);
+        this.histogramConfig = new HistogramConfig(configuration);
         this.telemetrySubscriber = telemetrySubscriber;
     }
 
@@ -38,6 +41,7 @@ public class ExternalMetricConfig implements Serializable {
         this.metricId = metricId;
         this.shutDownPeriod = shutDownPeriod;
         this.telemetryEnabled = telemetryEnabled;
+        this.histogramConfig = new HistogramConfig();
     }
 
     /**
@@ -84,4 +88,13 @@ public class ExternalMetricConfig implements Serializable {
     public long getShutDownPeriod() {
         return shutDownPeriod;
     }
+
+    /**
+     * Gets histogram config.
+     *
+     * @return the histogram config
+     */
+    public HistogramConfig getHistogramConfig() {
+        return histogramConfig;
+    }
 }
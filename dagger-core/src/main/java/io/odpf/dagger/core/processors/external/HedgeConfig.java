@@ -0,0 +1,61 @@
+package io.odpf.dagger.core.processors.external;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A class that holds the request hedging configuration of an external source.
+ */
+public class HedgeConfig implements Serializable {
+    private static final int DEFAULT_PERCENTILE = 95;
+    private static final double DEFAULT_BUDGET = 0.1;
+
+    private String percentile;
+    private String budget;
+
+    /**
+     * Instantiates a new Hedge config.
+     *
+     * @param percentile the latency percentile after which a call is hedged
+     * @param budget     the max ratio of hedged calls to calls
+     */
+    public HedgeConfig(String percentile, String budget) {
+        this.percentile = percentile;
+        this.budget = budget;
+    }
+
+    /**
+     * Gets percentile.
+     *
+     * @return the percentile
+     */
+    public Integer getPercentile() {
+        return percentile == null ? DEFAULT_PERCENTILE : Integer.parseInt(percentile);
+    }
+
+    /**
+     * Gets budget.
+     *
+     * @return the budget
+     */
+    public Double getBudget() {
+        return budget == null ? DEFAULT_BUDGET : Double.parseDouble(budget);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HedgeConfig that = (HedgeConfig) o;
+        return Objects.equals(percentile, that.percentile) && Objects.equals(budget, that.budget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percentile, budget);
+    }
+}
@@ -0,0 +1,140 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Coalesces the requests to an external source that have the same request variables.
+ * The first request for a set of variable values is dispatched as usual, every identical
+ * request arriving while it is in flight waits for its response instead of making a call
+ * of its own, and gets the output columns of the first request copied in.
+ */
+public class RequestCoalescer {
+    private final MeterStatsManager meterStatsManager;
+    private final RequestKeyExtractor requestKeyExtractor;
+    private final int[] outputIndexes;
+    private final Map<List<Object>, CoalescedRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Request coalescer.
+     *
+     * @param columnNameManager the column name manager
+     * @param keyColumns        the input columns the request depends on
+     * @param outputColumns     the output columns populated by the external source
+     * @param meterStatsManager the meter stats manager
+     */
+    public RequestCoalescer(ColumnNameManager columnNameManager, List<String> keyColumns, List<String> outputColumns, MeterStatsManager meterStatsManager) {
+        this.meterStatsManager = meterStatsManager;
+        this.requestKeyExtractor = new RequestKeyExtractor(columnNameManager, keyColumns);
+        this.outputIndexes = outputColumns.stream().mapToInt(columnNameManager::getOutputIndex).filter(index -> index != -1).toArray();
+    }
+
+    /**
+     * Registers the request for the input. Returns the result future the request should be
+     * dispatched with, or null when the input was attached to an identical in-flight request
+     * and must not be dispatched.
+     *
+     * @param input        the input
+     * @param resultFuture the result future of the input
+     * @return the result future to dispatch the request with, or null
+     */
+    public ResultFuture<Row> coalesce(Row input, ResultFuture<Row> resultFuture) {
+        List<Object> key = requestKeyExtractor.getKey(input);
+        if (key == null) {
+            return resultFuture;
+        }
+        CoalescedRequest request = inFlightRequests.compute(key, (requestKey, inFlightRequest) -> {
+            if (inFlightRequest == null) {
+                return new CoalescedRequest(requestKey, input, resultFuture);
+            }
+            inFlightRequest.followers.add(new Follower(input, resultFuture));
+            return inFlightRequest;
+        });
+        return request.leaderInput == input ? request : null;
+    }
+
+    /**
+     * Stops coalescing with the in-flight request of the input, if the input leads one.
+     * Requests already attached still get its response.
+     *
+     * @param input the input
+     */
+    public void release(Row input) {
+        List<Object> key = requestKeyExtractor.getKey(input);
+        if (key != null) {
+            inFlightRequests.computeIfPresent(key, (requestKey, inFlightRequest) -> inFlightRequest.leaderInput == input ? null : inFlightRequest);
+        }
+    }
+
+    /**
+     * Gets the number of distinct requests in flight.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlightRequestCount() {
+        return inFlightRequests.size();
+    }
+
+    private static class Follower {
+        private final Row input;
+        private final ResultFuture<Row> resultFuture;
+
+        Follower(Row input, ResultFuture<Row> resultFuture) {
+            this.input = input;
+            this.resultFuture = resultFuture;
+        }
+    }
+
+    private class CoalescedRequest implements ResultFuture<Row> {
+        private final List<Object> key;
+        private final Row leaderInput;
+        private final ResultFuture<Row> leaderResultFuture;
+        private final Queue<Follower> followers = new ConcurrentLinkedQueue<>();
+
+        CoalescedRequest(List<Object> key, Row leaderInput, ResultFuture<Row> leaderResultFuture) {
+            this.key = key;
+            this.leaderInput = leaderInput;
+            this.leaderResultFuture = leaderResultFuture;
+        }
+
+        @Override
+        public void complete(Collection<Row> result) {
+            inFlightRequests.remove(key, this);
+            leaderResultFuture.complete(result);
+            meterStatsManager.updateHistogram(ExternalSourceAspects.COALESCED_BATCH_SIZE, followers.size() + 1);
+            if (followers.isEmpty()) {
+                return;
+            }
+            Row leaderOutput = result.isEmpty() ? null : new RowManager(result.iterator().next()).getOutputData();
+            for (Follower follower : followers) {
+                RowManager followerRowManager = new RowManager(follower.input);
+                for (int outputIndex : outputIndexes) {
+                    followerRowManager.setInOutput(outputIndex, leaderOutput == null ? null : leaderOutput.getField(outputIndex));
+                }
+                follower.resultFuture.complete(singleton(followerRowManager.getAll()));
+            }
+        }
+
+        @Override
+        public void completeExceptionally(Throwable error) {
+            inFlightRequests.remove(key, this);
+            leaderResultFuture.completeExceptionally(error);
+            for (Follower follower : followers) {
+                follower.resultFuture.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
+import io.odpf.dagger.core.processors.common.RowManager;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedges the calls to an external source. A call that has not completed within the configured
+ * percentile of the recent call latency is sent once more, and the first attempt to complete
+ * wins. The hedged attempt writes into its own copy of the output row, so the losing attempt
+ * never touches the row that was emitted. Hedges are paid for from a budget that grows by the
+ * configured ratio on every call, which caps the extra load on the external source. The hedged
+ * attempts are sent from the task executor, and the dispatcher may turn one down, as when the
+ * concurrency limit of the external source has no room left for it.
+ */
+public class RequestHedger {
+    private static final int LATENCY_WINDOW = 128;
+    private static final int MIN_LATENCY_SAMPLES = 32;
+    private static final int DELAY_REFRESH_INTERVAL = 16;
+    private static final double MAX_BUDGET_TOKENS = 10;
+    private static final double PERCENT = 100.0;
+
+    private final double percentile;
+    private final double budget;
+    private final MeterStatsManager meterStatsManager;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+    private final Executor taskExecutor;
+    private final Map<Row, HedgedCall> calls = new IdentityHashMap<>();
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencySamples;
+    private int samplesUntilDelayRefresh;
+    private long hedgeDelay = -1;
+    private double budgetTokens;
+
+    /**
+     * Instantiates a new Request hedger.
+     *
+     * @param hedgeConfig       the hedge config
+     * @param meterStatsManager the meter stats manager
+     * @param scheduler         the scheduler of the hedged attempts
+     * @param clock             the clock
+     */
+    public RequestHedger(HedgeConfig hedgeConfig, MeterStatsManager meterStatsManager, ScheduledExecutorService scheduler, Clock clock) {
+        this(hedgeConfig, meterStatsManager, scheduler, clock, Runnable::run);
+    }
+
+    /**
+     * Instantiates a new Request hedger.
+     *
+     * @param hedgeConfig       the hedge config
+     * @param meterStatsManager the meter stats manager
+     * @param scheduler         the scheduler of the hedged attempts
+     * @param clock             the clock
+     * @param taskExecutor      the executor the hedged attempts are sent from
+     */
+    public RequestHedger(HedgeConfig hedgeConfig, MeterStatsManager meterStatsManager, ScheduledExecutorService scheduler, Clock clock,
+                         Executor taskExecutor) {
+        this.percentile = hedgeConfig.getPercentile();
+        this.budget = hedgeConfig.getBudget();
+        this.meterStatsManager = meterStatsManager;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Dispatches the call for the input and schedules its hedged attempt.
+     *
+     * @param input        the input
+     * @param resultFuture the result future
+     * @param dispatcher   the dispatcher of the attempts
+     */
+    public void submit(Row input, ResultFuture<Row> resultFuture, AttemptDispatcher dispatcher) {
+        HedgedCall call = new HedgedCall(input, resultFuture, dispatcher);
+        long delay;
+        synchronized (this) {
+            budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budget);
+            delay = hedgeDelay;
+            if (delay >= 0) {
+                calls.put(input, call);
+            }
+        }
+        if (delay >= 0) {
+            call.timer = scheduler.schedule(() -> hedgeOnTaskExecutor(call), delay, TimeUnit.MILLISECONDS);
+        }
+        call.dispatchFirstAttempt();
+    }
+
+    /**
+     * Finishes the call of a timed out input, so that it is not hedged anymore. Its attempts
+     * in flight are left to complete, without effect.
+     *
+     * @param input the input
+     */
+    public void timeout(Row input) {
+        HedgedCall call;
+        synchronized (this) {
+            call = calls.get(input);
+        }
+        if (call != null) {
+            call.finish();
+        }
+    }
+
+    /**
+     * Gets the delay after which a call is hedged.
+     *
+     * @return the hedge delay in milliseconds, or -1 while too few calls completed
+     */
+    public synchronized long getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * Stops scheduling hedged attempts.
+     */
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized boolean acquireBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens--;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + 1);
+    }
+
+    private synchronized void remove(HedgedCall call) {
+        calls.remove(call.input, call);
+    }
+
+    private void hedgeOnTaskExecutor(HedgedCall call) {
+        try {
+            taskExecutor.execute(call::hedge);
+        } catch (RejectedExecutionException e) {
+            call.finish();
+        }
+    }
+
+    private synchronized void recordLatency(long latency) {
+        latencies[latencySamples % LATENCY_WINDOW] = latency;
+        latencySamples++;
+        if (latencySamples < MIN_LATENCY_SAMPLES || --samplesUntilDelayRefresh > 0) {
+            return;
+        }
+        samplesUntilDelayRefresh = DELAY_REFRESH_INTERVAL;
+        long[] window = Arrays.copyOf(latencies, Math.min(latencySamples, LATENCY_WINDOW));
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile / PERCENT * window.length) - 1;
+        hedgeDelay = window[Math.max(0, Math.min(window.length - 1, index))];
+    }
+
+    private static Row copyOutput(Row input) {
+        if (input.getArity() != 2 || !(input.getField(RowManager.OUTPUT_ROW_INDEX) instanceof Row)) {
+            return null;
+        }
+        Row copy = new Row(2);
+        copy.setField(RowManager.INPUT_ROW_INDEX, input.getField(RowManager.INPUT_ROW_INDEX));
+        copy.setField(RowManager.OUTPUT_ROW_INDEX, Row.copy((Row) input.getField(RowManager.OUTPUT_ROW_INDEX)));
+        return copy;
+    }
+
+    /**
+     * Dispatches an attempt of a call to the external source.
+     */
+    @FunctionalInterface
+    public interface AttemptDispatcher {
+        /**
+         * Dispatch the attempt. The first attempt of a call is always dispatched, while the
+         * hedged attempt may be turned down.
+         *
+         * @param input        the input the attempt writes its response into
+         * @param resultFuture the result future of the attempt
+         * @param hedge        whether the attempt is the hedged one
+         * @return whether the attempt was dispatched
+         */
+        boolean dispatch(Row input, ResultFuture<Row> resultFuture, boolean hedge);
+    }
+
+    private class HedgedCall {
+        private final Row input;
+        private final ResultFuture<Row> resultFuture;
+        private final AttemptDispatcher dispatcher;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final AtomicInteger attemptsInFlight = new AtomicInteger();
+        private volatile boolean hedged;
+        private volatile ScheduledFuture<?> timer;
+
+        HedgedCall(Row input, ResultFuture<Row> resultFuture, AttemptDispatcher dispatcher) {
+            this.input = input;
+            this.resultFuture = resultFuture;
+            this.dispatcher = dispatcher;
+        }
+
+        void dispatchFirstAttempt() {
+            attemptsInFlight.incrementAndGet();
+            dispatcher.dispatch(input, new Attempt(this, false, clock.millis()), false);
+        }
+
+        void hedge() {
+            if (finished.get()) {
+                return;
+            }
+            Row attemptInput = copyOutput(input);
+            if (attemptInput == null || !acquireBudget()) {
+                return;
+            }
+            attemptsInFlight.incrementAndGet();
+            hedged = true;
+            if (!dispatcher.dispatch(attemptInput, new Attempt(this, true, clock.millis()), true)) {
+                hedged = false;
+                attemptsInFlight.decrementAndGet();
+                refundBudget();
+                return;
+            }
+            meterStatsManager.markEvent(ExternalSourceAspects.HEDGED_REQUESTS);
+        }
+
+        boolean finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return false;
+            }
+            remove(this);
+            ScheduledFuture<?> scheduledHedge = timer;
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel(false);
+            }
+            return true;
+        }
+    }
+
+    private class Attempt implements ResponseResultFuture {
+        private final HedgedCall call;
+        private final boolean hedge;
+        private final long startedAt;
+
+        Attempt(HedgedCall call, boolean hedge, long startedAt) {
+            this.call = call;
+            this.hedge = hedge;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void completeWithResponse(Collection<Row> result) {
+            complete(result, true);
+        }
+
+        @Override
+        public void complete(Collection<Row> result) {
+            complete(result, false);
+        }
+
+        private void complete(Collection<Row> result, boolean withResponse) {
+            long latency = clock.millis() - startedAt;
+            recordLatency(latency);
+            meterStatsManager.updateHistogram(hedge ? ExternalSourceAspects.HEDGED_RESPONSE_TIME : ExternalSourceAspects.PRIMARY_RESPONSE_TIME, latency);
+            call.attemptsInFlight.decrementAndGet();
+            if (!call.finish()) {
+                return;
+            }
+            if (hedge) {
+                meterStatsManager.markEvent(ExternalSourceAspects.HEDGES_WON);
+            } else if (call.hedged) {
+                meterStatsManager.markEvent(ExternalSourceAspects.HEDGES_LOST);
+            }
+            if (withResponse) {
+                ResponseResultFuture.completeWithResponse(call.resultFuture, result);
+            } else {
+                call.resultFuture.complete(result);
+            }
+        }
+
+        @Override
+        public void completeExceptionally(Throwable error) {
+            if (call.attemptsInFlight.decrementAndGet() > 0) {
+                return;
+            }
+            if (call.finish()) {
+                call.resultFuture.completeExceptionally(error);
+            }
+        }
+    }
+}
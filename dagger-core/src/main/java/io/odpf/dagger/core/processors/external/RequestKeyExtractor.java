@@ -0,0 +1,44 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.types.Row;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Extracts the key identifying the request to an external source, which is the values of
+ * the input columns the request is built from.
+ */
+public class RequestKeyExtractor {
+    private final int[] keyIndexes;
+
+    /**
+     * Instantiates a new Request key extractor.
+     *
+     * @param columnNameManager the column name manager
+     * @param keyColumns        the input columns the request is built from
+     */
+    public RequestKeyExtractor(ColumnNameManager columnNameManager, List<String> keyColumns) {
+        this.keyIndexes = keyColumns.stream().mapToInt(columnNameManager::getInputIndex).toArray();
+    }
+
+    /**
+     * Gets the request key of the input.
+     *
+     * @param input the input
+     * @return the request key, or null when a request column is not in the input
+     */
+    public List<Object> getKey(Row input) {
+        Row inputData = new RowManager(input).getInputData();
+        Object[] values = new Object[keyIndexes.length];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            if (keyIndexes[i] == -1) {
+                return null;
+            }
+            values[i] = inputData.getField(keyIndexes[i]);
+        }
+        return Arrays.asList(values);
+    }
+}
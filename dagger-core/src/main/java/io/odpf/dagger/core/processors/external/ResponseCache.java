@@ -0,0 +1,218 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local cache of the responses of an external source, keyed on the values of the request
+ * variables. It holds the output columns populated for a request, expires them after the
+ * configured ttl and evicts the least recently used entries beyond the configured size.
+ * Responses that populate no output column are only cached when a negative ttl is set.
+ * Only rows completed with a response are cached, never the rows completed on an error path.
+ * The cache is bounded by entry count with an LRU policy rather than by bytes with W-TinyLFU
+ * admission, since the output values are arbitrary objects whose size is not known and the
+ * repo carries no caching library.
+ */
+public class ResponseCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final RequestKeyExtractor requestKeyExtractor;
+    private final int[] outputIndexes;
+    private final long ttl;
+    private final long negativeTtl;
+    private final MeterStatsManager meterStatsManager;
+    private final Clock clock;
+    private final LinkedHashMap<List<Object>, CacheEntry> entries;
+
+    /**
+     * Instantiates a new Response cache.
+     *
+     * @param cacheConfig       the cache config
+     * @param columnNameManager the column name manager
+     * @param keyColumns        the input columns the request is built from
+     * @param outputColumns     the output columns populated by the external source
+     * @param meterStatsManager the meter stats manager
+     * @param clock             the clock
+     */
+    public ResponseCache(ResponseCacheConfig cacheConfig, ColumnNameManager columnNameManager, List<String> keyColumns,
+                         List<String> outputColumns, MeterStatsManager meterStatsManager, Clock clock) {
+        this.requestKeyExtractor = new RequestKeyExtractor(columnNameManager, keyColumns);
+        this.outputIndexes = outputColumns.stream().mapToInt(columnNameManager::getOutputIndex).filter(index -> index != -1).toArray();
+        this.ttl = cacheConfig.getTtl();
+        this.negativeTtl = cacheConfig.getNegativeTtl();
+        this.meterStatsManager = meterStatsManager;
+        this.clock = clock;
+        int maxEntries = cacheConfig.getMaxEntries();
+        this.entries = new LinkedHashMap<List<Object>, CacheEntry>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    meterStatsManager.markEvent(ExternalSourceAspects.CACHE_EVICTIONS);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Populates the output columns of the input from the cache.
+     *
+     * @param input the input
+     * @return true if the response was cached
+     */
+    public boolean lookup(Row input) {
+        List<Object> key = requestKeyExtractor.getKey(input);
+        if (key == null) {
+            return false;
+        }
+        Object[] values = get(key);
+        if (values == null) {
+            meterStatsManager.markEvent(ExternalSourceAspects.CACHE_MISSES);
+            return false;
+        }
+        meterStatsManager.markEvent(ExternalSourceAspects.CACHE_HITS);
+        RowManager rowManager = new RowManager(input);
+        for (int i = 0; i < outputIndexes.length; i++) {
+            rowManager.setInOutput(outputIndexes[i], copy(values[i]));
+        }
+        return true;
+    }
+
+    /**
+     * Wraps the result future of the input, caching the response it completes with. Rows
+     * completed without a response, on the error paths, are passed on without being cached.
+     *
+     * @param input        the input
+     * @param resultFuture the result future
+     * @return the caching result future
+     */
+    public ResultFuture<Row> caching(Row input, ResultFuture<Row> resultFuture) {
+        List<Object> key = requestKeyExtractor.getKey(input);
+        if (key == null) {
+            return resultFuture;
+        }
+        return new ResponseResultFuture() {
+            private boolean failed;
+
+            @Override
+            public void completeWithResponse(Collection<Row> result) {
+                if (!failed && !result.isEmpty()) {
+                    put(key, new RowManager(result.iterator().next()).getOutputData());
+                }
+                ResponseResultFuture.completeWithResponse(resultFuture, result);
+            }
+
+            @Override
+            public void complete(Collection<Row> result) {
+                resultFuture.complete(result);
+            }
+
+            @Override
+            public void completeExceptionally(Throwable error) {
+                failed = true;
+                resultFuture.completeExceptionally(error);
+            }
+        };
+    }
+
+    /**
+     * Gets the number of cached responses.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Object[] get(List<Object> key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.values;
+    }
+
+    private void put(List<Object> key, Row outputData) {
+        Object[] values = new Object[outputIndexes.length];
+        boolean empty = true;
+        for (int i = 0; i < outputIndexes.length; i++) {
+            values[i] = copy(outputData.getField(outputIndexes[i]));
+            empty &= values[i] == null;
+        }
+        long entryTtl = empty ? negativeTtl : ttl;
+        if (entryTtl <= 0) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(values, clock.millis() + entryTtl);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    /* the cached values are copied in and out, so no emitted row shares them with another */
+    private static Object copy(Object value) {
+        if (value instanceof Row) {
+            Row row = (Row) value;
+            Row copy = new Row(row.getKind(), row.getArity());
+            for (int i = 0; i < row.getArity(); i++) {
+                copy.setField(i, copy(row.getField(i)));
+            }
+            return copy;
+        }
+        if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            Object[] copy = Arrays.copyOf(array, array.length);
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = copy(copy[i]);
+            }
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                copy.add(copy(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        return value;
+    }
+
+    private static class CacheEntry {
+        private final Object[] values;
+        private final long expiresAt;
+
+        CacheEntry(Object[] values, long expiresAt) {
+            this.values = values;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
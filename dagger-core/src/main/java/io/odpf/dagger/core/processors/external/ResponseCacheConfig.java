@@ -0,0 +1,82 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.core.processors.types.Validator;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * A class that holds the response cache configuration of an external source.
+ */
+public class ResponseCacheConfig implements Serializable, Validator {
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private String ttl;
+    private String maxEntries;
+    private String negativeTtl;
+
+    /**
+     * Instantiates a new Response cache config.
+     *
+     * @param ttl         the time to live of a cached response in ms
+     * @param maxEntries  the max number of cached responses
+     * @param negativeTtl the time to live of a cached empty response in ms
+     */
+    public ResponseCacheConfig(String ttl, String maxEntries, String negativeTtl) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * Gets ttl.
+     *
+     * @return the ttl in ms
+     */
+    public Long getTtl() {
+        return Long.parseLong(ttl);
+    }
+
+    /**
+     * Gets max entries.
+     *
+     * @return the max entries
+     */
+    public Integer getMaxEntries() {
+        return maxEntries == null ? DEFAULT_MAX_ENTRIES : Integer.parseInt(maxEntries);
+    }
+
+    /**
+     * Gets negative ttl. Empty responses are not cached when it is zero.
+     *
+     * @return the negative ttl in ms
+     */
+    public Long getNegativeTtl() {
+        return negativeTtl == null ? 0L : Long.parseLong(negativeTtl);
+    }
+
+    @Override
+    public HashMap<String, Object> getMandatoryFields() {
+        HashMap<String, Object> mandatoryFields = new HashMap<>();
+        mandatoryFields.put("ttl", ttl);
+        return mandatoryFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ResponseCacheConfig that = (ResponseCacheConfig) o;
+        return Objects.equals(ttl, that.ttl) && Objects.equals(maxEntries, that.maxEntries) && Objects.equals(negativeTtl, that.negativeTtl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ttl, maxEntries, negativeTtl);
+    }
+}
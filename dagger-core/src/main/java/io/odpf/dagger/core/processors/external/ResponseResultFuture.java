@@ -0,0 +1,35 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+
+import java.util.Collection;
+
+/**
+ * A result future which tells the rows completed with the response of the external source apart
+ * from the rows completed on an error path, which are emitted without their output populated.
+ */
+public interface ResponseResultFuture extends ResultFuture<Row> {
+
+    /**
+     * Completes the result future with the rows populated from a successful response.
+     *
+     * @param result the result
+     */
+    void completeWithResponse(Collection<Row> result);
+
+    /**
+     * Completes the result future with the rows populated from a successful response, passing
+     * the response on when the result future keeps track of it.
+     *
+     * @param resultFuture the result future
+     * @param result       the result
+     */
+    static void completeWithResponse(ResultFuture<Row> resultFuture, Collection<Row> result) {
+        if (resultFuture instanceof ResponseResultFuture) {
+            ((ResponseResultFuture) resultFuture).completeWithResponse(result);
+        } else {
+            resultFuture.complete(result);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.odpf.dagger.core.processors.external.es;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
@@ -31,6 +32,7 @@ import java.util.List;
 public class EsAsyncConnector extends AsyncConnector {
 
     private final EsSourceConfig esSourceConfig;
+    private final RequestTemplate endpointTemplate;
     private RestClient esClient;
 
     /**
@@ -61,6 +63,12 @@ public class EsAsyncConnector extends AsyncConnector {
     public EsAsyncConnector(EsSourceConfig esSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
         super(Constants.ES_TYPE, esSourceConfig, externalMetricConfig, schemaConfig);
         this.esSourceConfig = esSourceConfig;
+        this.endpointTemplate = new RequestTemplate(esSourceConfig.getPattern());
+    }
+
+    @Override
+    protected int getCapacity() {
+        return esSourceConfig.getCapacity();
     }
 
     @Override
@@ -83,7 +91,7 @@ public class EsAsyncConnector extends AsyncConnector {
         if (getEndpointHandler().isQueryInvalid(resultFuture, rowManager, esSourceConfig.getVariables(), endpointVariablesValues)) {
             return;
         }
-        String esEndpoint = String.format(esSourceConfig.getPattern(), endpointVariablesValues);
+        String esEndpoint = endpointTemplate.render(endpointVariablesValues);
         Request esRequest = new Request("GET", esEndpoint);
         EsResponseHandler esResponseHandler = new EsResponseHandler(esSourceConfig, getMeterStatsManager(), rowManager,
                 getColumnNameManager(), getOutputDescriptor(resultFuture), resultFuture, getErrorReporter(), new PostResponseTelemetry());
@@ -16,6 +16,7 @@ import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
 import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import org.apache.http.ParseException;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Response;
@@ -80,6 +81,7 @@ public class EsResponseHandler implements ResponseListener {
 
     @Override
     public void onSuccess(Response response) {
+        boolean hasResponse = false;
         try {
             if (response.getStatusLine().getStatusCode() != SC_OK) {
                 return;
@@ -100,6 +102,7 @@ public class EsResponseHandler implements ResponseListener {
                 int outputColumnIndex = columnNameManager.getOutputIndex(outputColumnName);
                 setField(esSourceConfig, outputColumnIndex, outputValue, outputColumnName);
             });
+            hasResponse = true;
         } catch (ParseException e) {
             meterStatsManager.markEvent(ExternalSourceAspects.ERROR_PARSING_RESPONSE);
             System.err.printf("ESResponseHandler : error parsing response, error msg : %s, response : %s\n", e.getMessage(), response.toString());
@@ -117,7 +120,11 @@ public class EsResponseHandler implements ResponseListener {
             e.printStackTrace();
         } finally {
             postResponseTelemetry.sendSuccessTelemetry(meterStatsManager, startTime);
-            resultFuture.complete(singleton(rowManager.getAll()));
+            if (hasResponse) {
+                ResponseResultFuture.completeWithResponse(resultFuture, singleton(rowManager.getAll()));
+            } else {
+                resultFuture.complete(singleton(rowManager.getAll()));
+            }
         }
     }
 
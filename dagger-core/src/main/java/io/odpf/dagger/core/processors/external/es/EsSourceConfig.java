@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.processors.external.es;
 
 import io.odpf.dagger.core.processors.common.OutputMapping;
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import com.google.gson.annotations.SerializedName;
 import org.apache.commons.lang3.StringUtils;
@@ -34,6 +35,9 @@ public class EsSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
     private final String metricId;
     private final boolean retainResponseType;
+    private boolean coalesceRequests;
+    private boolean adaptiveCapacity;
+    private ResponseCacheConfig cache;
 
 
     /**
@@ -234,6 +238,48 @@ public class EsSourceConfig implements Serializable, SourceConfig {
         return retainResponseType;
     }
 
+    @Override
+    public boolean isRequestCoalescingEnabled() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Sets coalesce requests.
+     *
+     * @param coalesceRequests the coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    @Override
+    public boolean isAdaptiveCapacityEnabled() {
+        return adaptiveCapacity;
+    }
+
+    /**
+     * Sets adaptive capacity.
+     *
+     * @param adaptiveCapacity the adaptive capacity
+     */
+    public void setAdaptiveCapacity(boolean adaptiveCapacity) {
+        this.adaptiveCapacity = adaptiveCapacity;
+    }
+
+    @Override
+    public ResponseCacheConfig getCacheConfig() {
+        return cache;
+    }
+
+    /**
+     * Sets cache.
+     *
+     * @param cache the cache config
+     */
+    public void setCache(ResponseCacheConfig cache) {
+        this.cache = cache;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -243,11 +289,11 @@ public class EsSourceConfig implements Serializable, SourceConfig {
             return false;
         }
         EsSourceConfig that = (EsSourceConfig) o;
-        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(host, that.host) && Objects.equals(port, that.port) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(endpointPattern, that.endpointPattern) && Objects.equals(endpointVariables, that.endpointVariables) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(retryTimeout, that.retryTimeout) && Objects.equals(socketTimeout, that.socketTimeout) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
+        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && coalesceRequests == that.coalesceRequests && adaptiveCapacity == that.adaptiveCapacity && Objects.equals(cache, that.cache) && Objects.equals(host, that.host) && Objects.equals(port, that.port) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(endpointPattern, that.endpointPattern) && Objects.equals(endpointVariables, that.endpointVariables) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(retryTimeout, that.retryTimeout) && Objects.equals(socketTimeout, that.socketTimeout) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, port, user, password, endpointPattern, endpointVariables, type, capacity, retryTimeout, socketTimeout, streamTimeout, connectTimeout, failOnErrors, outputMapping, metricId, retainResponseType);
+        return Objects.hash(host, port, user, password, endpointPattern, endpointVariables, type, capacity, retryTimeout, socketTimeout, streamTimeout, connectTimeout, failOnErrors, outputMapping, metricId, retainResponseType, coalesceRequests, adaptiveCapacity, cache);
     }
 }
@@ -1,15 +1,13 @@
 package io.odpf.dagger.core.processors.external.es;
 
+import io.odpf.dagger.core.processors.external.AsyncConnectorOperatorFactory;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
 
-import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * The decorator for ElasticSearch stream.
  */
@@ -41,6 +39,6 @@ public class EsStreamDecorator implements StreamDecorator {
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
         EsAsyncConnector esAsyncConnector = new EsAsyncConnector(esSourceConfig, externalMetricConfig, schemaConfig);
         esAsyncConnector.notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
-        return AsyncDataStream.orderedWait(inputStream, esAsyncConnector, esSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, esSourceConfig.getCapacity());
+        return withRowType(AsyncConnectorOperatorFactory.orderedWait(inputStream, esAsyncConnector, esSourceConfig.getStreamTimeout(), esSourceConfig.getCapacity()), schemaConfig.getInputOutputRowType());
     }
 }
@@ -2,9 +2,11 @@ package io.odpf.dagger.core.processors.external.grpc;
 
 import io.odpf.dagger.core.processors.common.DescriptorManager;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.external.AsyncConnector;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.HedgeConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.external.grpc.client.GrpcRequestHandler;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
@@ -33,6 +35,7 @@ public class GrpcAsyncConnector extends AsyncConnector {
     private static final Logger LOGGER = LoggerFactory.getLogger(GrpcAsyncConnector.class.getName());
 
     private GrpcSourceConfig grpcSourceConfig;
+    private final RequestTemplate requestTemplate;
 
     private GrpcClient grpcClient;
 
@@ -66,6 +69,7 @@ public class GrpcAsyncConnector extends AsyncConnector {
     public GrpcAsyncConnector(GrpcSourceConfig grpcSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
         super(Constants.GRPC_TYPE, grpcSourceConfig, externalMetricConfig, schemaConfig);
         this.grpcSourceConfig = grpcSourceConfig;
+        this.requestTemplate = new RequestTemplate(grpcSourceConfig.getPattern());
 
     }
 
@@ -74,17 +78,35 @@ public class GrpcAsyncConnector extends AsyncConnector {
         return new DescriptorManager(schemaConfig.getStencilClientOrchestrator(), grpcSourceConfig.getGrpcStencilUrl());
     }
 
+    @Override
+    protected int getCapacity() {
+        return grpcSourceConfig.getCapacity();
+    }
+
+    @Override
+    protected HedgeConfig getHedgeConfig() {
+        return grpcSourceConfig.getHedgeConfig();
+    }
+
     @Override
     protected void createClient() {
 
         if (this.grpcClient == null) {
             this.grpcClient = new GrpcClient(grpcSourceConfig);
             this.grpcClient.addChannel();
+            if (grpcSourceConfig.getHedgeConfig() != null) {
+                this.grpcClient.addHedgeChannel();
+            }
         }
     }
 
     @Override
     protected void process(Row input, ResultFuture<Row> resultFuture) throws Exception {
+        process(input, resultFuture, false);
+    }
+
+    @Override
+    protected void process(Row input, ResultFuture<Row> resultFuture, boolean hedge) throws Exception {
 
         try {
 
@@ -96,7 +118,7 @@ public class GrpcAsyncConnector extends AsyncConnector {
                 return;
             }
 
-            GrpcRequestHandler grpcRequestHandler = new GrpcRequestHandler(grpcSourceConfig, getDescriptorManager());
+            GrpcRequestHandler grpcRequestHandler = new GrpcRequestHandler(grpcSourceConfig, getDescriptorManager(), requestTemplate);
             DynamicMessage message = grpcRequestHandler.create(requestVariablesValues);
 
             GrpcResponseHandler grpcResponseHandler = new GrpcResponseHandler(grpcSourceConfig, getMeterStatsManager(),
@@ -104,7 +126,7 @@ public class GrpcAsyncConnector extends AsyncConnector {
 
             grpcResponseHandler.startTimer();
 
-            this.grpcClient.asyncUnaryCall(message, grpcResponseHandler, getInputDescriptorForGrpcRequest(resultFuture), getOutputDescriptorForGrpcResponse(resultFuture));
+            this.grpcClient.asyncUnaryCall(message, grpcResponseHandler, getInputDescriptorForGrpcRequest(resultFuture), getOutputDescriptorForGrpcResponse(resultFuture), hedge);
         } catch (InvalidGrpcBodyException e) {
             getMeterStatsManager().markEvent(ExternalSourceAspects.INVALID_CONFIGURATION);
             resultFuture.completeExceptionally(e);
@@ -142,7 +164,8 @@ public class GrpcAsyncConnector extends AsyncConnector {
     }
 
     @Override
-    public void close() {
+    public void close() throws Exception {
+        super.close();
         grpcClient.close();
         grpcClient = null;
         getMeterStatsManager().markEvent(ExternalSourceAspects.CLOSE_CONNECTION_ON_EXTERNAL_CLIENT);
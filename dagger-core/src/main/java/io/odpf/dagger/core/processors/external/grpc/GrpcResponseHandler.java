@@ -7,6 +7,7 @@ import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
 import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import io.odpf.dagger.common.serde.typehandler.TypeHandler;
 import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import com.google.protobuf.Descriptors;
@@ -98,7 +99,7 @@ public class GrpcResponseHandler implements StreamObserver<DynamicMessage> {
             return;
         }
         postResponseTelemetry.sendSuccessTelemetry(meterStatsManager, startTime);
-        resultFuture.complete(Collections.singleton(rowManager.getAll()));
+        ResponseResultFuture.completeWithResponse(resultFuture, Collections.singleton(rowManager.getAll()));
 
     }
 
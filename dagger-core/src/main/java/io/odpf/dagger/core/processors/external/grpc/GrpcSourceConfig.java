@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.processors.external.grpc;
 
 import io.odpf.dagger.core.processors.common.OutputMapping;
+import io.odpf.dagger.core.processors.external.HedgeConfig;
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import com.google.gson.annotations.SerializedName;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +38,10 @@ public class GrpcSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
     private String metricId;
     private int capacity;
+    private boolean coalesceRequests;
+    private boolean adaptiveCapacity;
+    private ResponseCacheConfig cache;
+    private HedgeConfig hedge;
 
     /**
      * Instantiates a new Grpc source config.
@@ -236,6 +242,66 @@ public class GrpcSourceConfig implements Serializable, SourceConfig {
         return retainResponseType;
     }
 
+    @Override
+    public boolean isRequestCoalescingEnabled() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Sets coalesce requests.
+     *
+     * @param coalesceRequests the coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    @Override
+    public boolean isAdaptiveCapacityEnabled() {
+        return adaptiveCapacity;
+    }
+
+    /**
+     * Sets adaptive capacity.
+     *
+     * @param adaptiveCapacity the adaptive capacity
+     */
+    public void setAdaptiveCapacity(boolean adaptiveCapacity) {
+        this.adaptiveCapacity = adaptiveCapacity;
+    }
+
+    @Override
+    public ResponseCacheConfig getCacheConfig() {
+        return cache;
+    }
+
+    /**
+     * Sets cache.
+     *
+     * @param cache the cache config
+     */
+    public void setCache(ResponseCacheConfig cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets hedge config.
+     *
+     * @return the hedge config, or null when calls are not hedged
+     */
+    public HedgeConfig getHedgeConfig() {
+        return hedge;
+    }
+
+    /**
+     * Sets hedge.
+     *
+     * @param hedge the hedge config
+     */
+    public void setHedge(HedgeConfig hedge) {
+        this.hedge = hedge;
+    }
+
     /**
      * Sets fail on errors.
      *
@@ -1,14 +1,12 @@
 package io.odpf.dagger.core.processors.external.grpc;
 
+import io.odpf.dagger.core.processors.external.AsyncConnectorOperatorFactory;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
-import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * The Decorator for Grpc stream.
  */
@@ -42,6 +40,6 @@ public class GrpcStreamDecorator implements StreamDecorator {
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
         GrpcAsyncConnector grpcAsyncConnector = new GrpcAsyncConnector(grpcSourceConfig, externalMetricConfig, schemaConfig);
         grpcAsyncConnector.notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
-        return AsyncDataStream.orderedWait(inputStream, grpcAsyncConnector, grpcSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, grpcSourceConfig.getCapacity());
+        return withRowType(AsyncConnectorOperatorFactory.orderedWait(inputStream, grpcAsyncConnector, grpcSourceConfig.getStreamTimeout(), grpcSourceConfig.getCapacity()), schemaConfig.getInputOutputRowType());
     }
 }
@@ -26,6 +26,8 @@ public class GrpcClient {
 
     private Channel decoratedChannel;
 
+    private Channel hedgeChannel;
+
     /**
      * Instantiates a new Grpc client.
      *
@@ -39,6 +41,18 @@ public class GrpcClient {
      * Add channel.
      */
     public void addChannel() {
+        decoratedChannel = createChannel();
+    }
+
+    /**
+     * Add the channel hedged calls are sent on. It holds its own connection, so that a
+     * balancer in front of the endpoint can route the hedged calls to another server.
+     */
+    public void addHedgeChannel() {
+        hedgeChannel = createChannel();
+    }
+
+    private Channel createChannel() {
         Channel channel = ManagedChannelBuilder.forAddress(grpcConfig.getEndpoint(), grpcConfig.getServicePort()).usePlaintext().build();
 
         Metadata metadata = new Metadata();
@@ -48,10 +62,8 @@ public class GrpcClient {
                 metadata.put(Metadata.Key.of(header.getKey(), Metadata.ASCII_STRING_MARSHALLER), header.getValue());
             }
         }
-        decoratedChannel = ClientInterceptors.intercept(channel,
+        return ClientInterceptors.intercept(channel,
                 MetadataUtils.newAttachHeadersInterceptor(metadata));
-
-
     }
 
     /**
@@ -66,20 +78,37 @@ public class GrpcClient {
     public void asyncUnaryCall(
             DynamicMessage request,
             StreamObserver<DynamicMessage> responseObserver, Descriptor inputDescriptor, Descriptor outputDescriptor) throws Exception {
+        asyncUnaryCall(request, responseObserver, inputDescriptor, outputDescriptor, false);
+    }
+
+    /**
+     * Async unary call, sent on the hedge channel when it is the hedged call and the hedge channel is added.
+     *
+     * @param request          the request
+     * @param responseObserver the response observer
+     * @param inputDescriptor  the input descriptor
+     * @param outputDescriptor the output descriptor
+     * @param hedge            whether the call is the hedged call
+     * @throws Exception the exception
+     */
+    public void asyncUnaryCall(
+            DynamicMessage request,
+            StreamObserver<DynamicMessage> responseObserver, Descriptor inputDescriptor, Descriptor outputDescriptor, boolean hedge) throws Exception {
 
-        if (decoratedChannel == null) {
+        Channel channel = hedge && hedgeChannel != null ? hedgeChannel : decoratedChannel;
+        if (channel == null) {
             throw new ChannelNotAvailableException("channel not available");
         }
 
         ClientCalls.asyncUnaryCall(
-                createCall(CallOptions.DEFAULT, inputDescriptor, outputDescriptor),
+                createCall(channel, CallOptions.DEFAULT, inputDescriptor, outputDescriptor),
                 request,
                 responseObserver);
     }
 
-    private ClientCall<DynamicMessage, DynamicMessage> createCall(CallOptions callOptions, Descriptor inputDescriptor, Descriptor outputDescriptor) {
+    private ClientCall<DynamicMessage, DynamicMessage> createCall(Channel channel, CallOptions callOptions, Descriptor inputDescriptor, Descriptor outputDescriptor) {
 
-        return decoratedChannel.newCall(MethodDescriptor.newBuilder(new DynamicMessageMarshaller(inputDescriptor), new DynamicMessageMarshaller(outputDescriptor))
+        return channel.newCall(MethodDescriptor.newBuilder(new DynamicMessageMarshaller(inputDescriptor), new DynamicMessageMarshaller(outputDescriptor))
                 .setType(MethodDescriptor.MethodType.UNARY)
                 .setFullMethodName(grpcConfig.getGrpcMethodUrl())
                 .build(), callOptions);
@@ -90,6 +119,7 @@ public class GrpcClient {
      */
     public void close() {
         this.decoratedChannel = null;
+        this.hedgeChannel = null;
     }
 
     /**
@@ -100,5 +130,14 @@ public class GrpcClient {
     public Channel getDecoratedChannel() {
         return decoratedChannel;
     }
+
+    /**
+     * Gets hedge channel.
+     *
+     * @return the hedge channel
+     */
+    public Channel getHedgeChannel() {
+        return hedgeChannel;
+    }
 }
 
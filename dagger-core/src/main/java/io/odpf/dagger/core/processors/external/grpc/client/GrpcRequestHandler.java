@@ -2,6 +2,7 @@ package io.odpf.dagger.core.processors.external.grpc.client;
 
 import io.odpf.dagger.core.exception.InvalidGrpcBodyException;
 import io.odpf.dagger.core.processors.common.DescriptorManager;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
 import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.util.JsonFormat;
@@ -13,6 +14,7 @@ public class GrpcRequestHandler {
 
     private GrpcSourceConfig grpcSourceConfig;
     private DescriptorManager descriptorManager;
+    private RequestTemplate requestTemplate;
 
     /**
      * Instantiates a new Grpc request handler.
@@ -21,8 +23,20 @@ public class GrpcRequestHandler {
      * @param descriptorManager the descriptor manager
      */
     public GrpcRequestHandler(GrpcSourceConfig grpcSourceConfig, DescriptorManager descriptorManager) {
+        this(grpcSourceConfig, descriptorManager, new RequestTemplate(grpcSourceConfig.getPattern()));
+    }
+
+    /**
+     * Instantiates a new Grpc request handler with the request template of the source.
+     *
+     * @param grpcSourceConfig  the grpc source config
+     * @param descriptorManager the descriptor manager
+     * @param requestTemplate   the request template
+     */
+    public GrpcRequestHandler(GrpcSourceConfig grpcSourceConfig, DescriptorManager descriptorManager, RequestTemplate requestTemplate) {
         this.grpcSourceConfig = grpcSourceConfig;
         this.descriptorManager = descriptorManager;
+        this.requestTemplate = requestTemplate;
     }
 
     /**
@@ -32,7 +46,7 @@ public class GrpcRequestHandler {
      * @return the dynamic message
      */
     public DynamicMessage create(Object[] requestVariablesValues) {
-        String requestBody = String.format(grpcSourceConfig.getPattern(), requestVariablesValues).replaceAll("'", "\"");
+        String requestBody = requestTemplate.render(requestVariablesValues).replace('\'', '"');
 
         try {
 
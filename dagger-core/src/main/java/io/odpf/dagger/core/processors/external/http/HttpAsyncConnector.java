@@ -6,9 +6,11 @@ import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.processors.common.DescriptorManager;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.external.AsyncConnector;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.HedgeConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.external.http.request.HttpRequestFactory;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
@@ -21,6 +23,9 @@ import org.asynchttpclient.BoundRequestBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.asynchttpclient.Dsl.asyncHttpClient;
 import static org.asynchttpclient.Dsl.config;
 
@@ -32,6 +37,8 @@ public class HttpAsyncConnector extends AsyncConnector {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpAsyncConnector.class.getName());
     private AsyncHttpClient httpClient;
     private HttpSourceConfig httpSourceConfig;
+    private final RequestTemplate requestTemplate;
+    private final RequestTemplate headerTemplate;
 
     /**
      * Instantiates a new Http async connector with specified http client.
@@ -63,6 +70,8 @@ public class HttpAsyncConnector extends AsyncConnector {
     public HttpAsyncConnector(HttpSourceConfig httpSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
         super(Constants.HTTP_TYPE, httpSourceConfig, externalMetricConfig, schemaConfig);
         this.httpSourceConfig = httpSourceConfig;
+        this.requestTemplate = new RequestTemplate(httpSourceConfig.getPattern());
+        this.headerTemplate = new RequestTemplate(httpSourceConfig.getHeaderPattern());
     }
 
     /**
@@ -74,6 +83,16 @@ public class HttpAsyncConnector extends AsyncConnector {
         return httpClient;
     }
 
+    @Override
+    protected int getCapacity() {
+        return httpSourceConfig.getCapacity();
+    }
+
+    @Override
+    protected HedgeConfig getHedgeConfig() {
+        return httpSourceConfig.getHedgeConfig();
+    }
+
     @Override
     protected void createClient() {
         if (httpClient == null) {
@@ -83,12 +102,20 @@ public class HttpAsyncConnector extends AsyncConnector {
 
     @Override
     public void close() throws Exception {
+        super.close();
         httpClient.close();
         httpClient = null;
         getMeterStatsManager().markEvent(ExternalSourceAspects.CLOSE_CONNECTION_ON_EXTERNAL_CLIENT);
         LOGGER.error("HTTP Connector : Connection closed");
     }
 
+    @Override
+    protected List<String> getRequestColumns() {
+        List<String> requestColumns = new ArrayList<>(super.getRequestColumns());
+        requestColumns.addAll(splitVariables(httpSourceConfig.getHeaderVariables()));
+        return requestColumns;
+    }
+
     @Override
     protected void process(Row input, ResultFuture<Row> resultFuture) {
         try {
@@ -102,7 +129,8 @@ public class HttpAsyncConnector extends AsyncConnector {
                 return;
             }
 
-            BoundRequestBuilder request = HttpRequestFactory.createRequest(httpSourceConfig, httpClient, requestVariablesValues, dynamicHeaderVariablesValues);
+            BoundRequestBuilder request = HttpRequestFactory.createRequest(httpSourceConfig, httpClient, requestTemplate, headerTemplate,
+                    requestVariablesValues, dynamicHeaderVariablesValues);
             HttpResponseHandler httpResponseHandler = new HttpResponseHandler(httpSourceConfig, getMeterStatsManager(),
                     rowManager, getColumnNameManager(), getOutputDescriptor(resultFuture), resultFuture, getErrorReporter(), new PostResponseTelemetry());
             httpResponseHandler.startTimer();
@@ -7,6 +7,7 @@ import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
 import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import io.odpf.dagger.common.serde.typehandler.TypeHandler;
 import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import com.google.protobuf.Descriptors;
@@ -116,7 +117,7 @@ public class HttpResponseHandler extends AsyncCompletionHandler<Object> {
             setField(key, value, fieldIndex);
         });
         postResponseTelemetry.sendSuccessTelemetry(meterStatsManager, startTime);
-        resultFuture.complete(Collections.singleton(rowManager.getAll()));
+        ResponseResultFuture.completeWithResponse(resultFuture, Collections.singleton(rowManager.getAll()));
     }
 
     /**
@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.processors.external.http;
 
 import io.odpf.dagger.core.processors.common.OutputMapping;
+import io.odpf.dagger.core.processors.external.HedgeConfig;
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import com.google.gson.annotations.SerializedName;
 import org.apache.commons.lang3.StringUtils;
@@ -34,6 +36,10 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
     private String metricId;
     private boolean retainResponseType;
+    private boolean coalesceRequests;
+    private boolean adaptiveCapacity;
+    private ResponseCacheConfig cache;
+    private HedgeConfig hedge;
 
     /**
      * Instantiates a new Http source config.
@@ -223,6 +229,66 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
         return retainResponseType;
     }
 
+    @Override
+    public boolean isRequestCoalescingEnabled() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Sets coalesce requests.
+     *
+     * @param coalesceRequests the coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    @Override
+    public boolean isAdaptiveCapacityEnabled() {
+        return adaptiveCapacity;
+    }
+
+    /**
+     * Sets adaptive capacity.
+     *
+     * @param adaptiveCapacity the adaptive capacity
+     */
+    public void setAdaptiveCapacity(boolean adaptiveCapacity) {
+        this.adaptiveCapacity = adaptiveCapacity;
+    }
+
+    @Override
+    public ResponseCacheConfig getCacheConfig() {
+        return cache;
+    }
+
+    /**
+     * Sets cache.
+     *
+     * @param cache the cache config
+     */
+    public void setCache(ResponseCacheConfig cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets hedge config.
+     *
+     * @return the hedge config, or null when calls are not hedged
+     */
+    public HedgeConfig getHedgeConfig() {
+        return hedge;
+    }
+
+    /**
+     * Sets hedge.
+     *
+     * @param hedge the hedge config
+     */
+    public void setHedge(HedgeConfig hedge) {
+        this.hedge = hedge;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -232,11 +298,11 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
             return false;
         }
         HttpSourceConfig that = (HttpSourceConfig) o;
-        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(endpoint, that.endpoint) && Objects.equals(verb, that.verb) && Objects.equals(requestPattern, that.requestPattern) && Objects.equals(requestVariables, that.requestVariables) && Objects.equals(headerPattern, that.headerPattern) && Objects.equals(headerVariables, that.headerVariables) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(headers, that.headers) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
+        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && coalesceRequests == that.coalesceRequests && adaptiveCapacity == that.adaptiveCapacity && Objects.equals(cache, that.cache) && Objects.equals(hedge, that.hedge) && Objects.equals(endpoint, that.endpoint) && Objects.equals(verb, that.verb) && Objects.equals(requestPattern, that.requestPattern) && Objects.equals(requestVariables, that.requestVariables) && Objects.equals(headerPattern, that.headerPattern) && Objects.equals(headerVariables, that.headerVariables) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(headers, that.headers) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(endpoint, verb, requestPattern, requestVariables, headerPattern, headerVariables, streamTimeout, connectTimeout, failOnErrors, type, capacity, headers, outputMapping, metricId, retainResponseType);
+        return Objects.hash(endpoint, verb, requestPattern, requestVariables, headerPattern, headerVariables, streamTimeout, connectTimeout, failOnErrors, type, capacity, headers, outputMapping, metricId, retainResponseType, coalesceRequests, adaptiveCapacity, cache, hedge);
     }
 }
@@ -1,15 +1,13 @@
 package io.odpf.dagger.core.processors.external.http;
 
+import io.odpf.dagger.core.processors.external.AsyncConnectorOperatorFactory;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
 
-import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * The decorator for Http stream.
  */
@@ -41,6 +39,6 @@ public class HttpStreamDecorator implements StreamDecorator {
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
         HttpAsyncConnector httpAsyncConnector = new HttpAsyncConnector(httpSourceConfig, externalMetricConfig, schemaConfig);
         httpAsyncConnector.notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
-        return AsyncDataStream.orderedWait(inputStream, httpAsyncConnector, httpSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, httpSourceConfig.getCapacity());
+        return withRowType(AsyncConnectorOperatorFactory.orderedWait(inputStream, httpAsyncConnector, httpSourceConfig.getStreamTimeout(), httpSourceConfig.getCapacity()), schemaConfig.getInputOutputRowType());
     }
 }
@@ -3,6 +3,7 @@ package io.odpf.dagger.core.processors.external.http.request;
 import com.google.gson.Gson;
 import io.netty.util.internal.StringUtil;
 import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
 import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.BoundRequestBuilder;
@@ -17,6 +18,8 @@ import java.util.UnknownFormatConversionException;
 public class HttpGetRequestHandler implements HttpRequestHandler {
     private HttpSourceConfig httpSourceConfig;
     private AsyncHttpClient httpClient;
+    private RequestTemplate requestTemplate;
+    private RequestTemplate headerTemplate;
     private Object[] requestVariablesValues;
     private Object[] dynamicHeaderVariablesValues;
 
@@ -28,22 +31,40 @@ public class HttpGetRequestHandler implements HttpRequestHandler {
      * @param requestVariablesValues the request variables values
      */
     public HttpGetRequestHandler(HttpSourceConfig httpSourceConfig, AsyncHttpClient httpClient, Object[] requestVariablesValues, Object[] dynamicHeaderVariablesValues) {
+        this(httpSourceConfig, httpClient, new RequestTemplate(httpSourceConfig.getPattern()), new RequestTemplate(httpSourceConfig.getHeaderPattern()),
+                requestVariablesValues, dynamicHeaderVariablesValues);
+    }
+
+    /**
+     * Instantiates a new Http get request handler with the request templates of the source.
+     *
+     * @param httpSourceConfig             the http source config
+     * @param httpClient                   the http client
+     * @param requestTemplate              the request template
+     * @param headerTemplate               the header template
+     * @param requestVariablesValues       the request variables values
+     * @param dynamicHeaderVariablesValues the dynamic header variables values
+     */
+    public HttpGetRequestHandler(HttpSourceConfig httpSourceConfig, AsyncHttpClient httpClient, RequestTemplate requestTemplate, RequestTemplate headerTemplate,
+                                 Object[] requestVariablesValues, Object[] dynamicHeaderVariablesValues) {
         this.httpSourceConfig = httpSourceConfig;
         this.httpClient = httpClient;
+        this.requestTemplate = requestTemplate;
+        this.headerTemplate = headerTemplate;
         this.requestVariablesValues = requestVariablesValues;
         this.dynamicHeaderVariablesValues = dynamicHeaderVariablesValues;
     }
 
     @Override
     public BoundRequestBuilder create() {
-        String endpointPath = String.format(httpSourceConfig.getPattern(), requestVariablesValues);
+        String endpointPath = requestTemplate.render(requestVariablesValues);
         String endpoint = httpSourceConfig.getEndpoint();
         String requestEndpoint = endpoint + endpointPath;
         BoundRequestBuilder getRequest = httpClient.prepareGet(requestEndpoint);
         Map<String, String> headers = httpSourceConfig.getHeaders();
         if (!StringUtil.isNullOrEmpty(httpSourceConfig.getHeaderPattern())) {
             try {
-                String dynamicHeader = String.format(httpSourceConfig.getHeaderPattern(), dynamicHeaderVariablesValues);
+                String dynamicHeader = headerTemplate.render(dynamicHeaderVariablesValues);
                 headers.putAll(new Gson().fromJson(dynamicHeader, HashMap.class));
             } catch (UnknownFormatConversionException e) {
                 throw new InvalidConfigurationException(String.format("pattern config '%s' is invalid", httpSourceConfig.getHeaderPattern()));
@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.processors.external.http.request;
 
 import io.odpf.dagger.core.exception.InvalidHttpVerbException;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
 import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.BoundRequestBuilder;
@@ -20,10 +21,27 @@ public class HttpRequestFactory {
      * @return the bound request builder
      */
     public static BoundRequestBuilder createRequest(HttpSourceConfig httpSourceConfig, AsyncHttpClient httpClient, Object[] requestVariablesValues,  Object[] headerVariablesValues) {
+        return createRequest(httpSourceConfig, httpClient, new RequestTemplate(httpSourceConfig.getPattern()),
+                new RequestTemplate(httpSourceConfig.getHeaderPattern()), requestVariablesValues, headerVariablesValues);
+    }
+
+    /**
+     * Create request bound request builder with the request templates of the source.
+     *
+     * @param httpSourceConfig       the http source config
+     * @param httpClient             the http client
+     * @param requestTemplate        the request template
+     * @param headerTemplate         the header template
+     * @param requestVariablesValues the request variables values
+     * @param headerVariablesValues  the header variables values
+     * @return the bound request builder
+     */
+    public static BoundRequestBuilder createRequest(HttpSourceConfig httpSourceConfig, AsyncHttpClient httpClient, RequestTemplate requestTemplate,
+                                                    RequestTemplate headerTemplate, Object[] requestVariablesValues, Object[] headerVariablesValues) {
 
         ArrayList<HttpRequestHandler> httpRequestHandlers = new ArrayList<>();
-        httpRequestHandlers.add(new HttpPostRequestHandler(httpSourceConfig, httpClient, requestVariablesValues, headerVariablesValues));
-        httpRequestHandlers.add(new HttpGetRequestHandler(httpSourceConfig, httpClient, requestVariablesValues, headerVariablesValues));
+        httpRequestHandlers.add(new HttpPostRequestHandler(httpSourceConfig, httpClient, requestTemplate, headerTemplate, requestVariablesValues, headerVariablesValues));
+        httpRequestHandlers.add(new HttpGetRequestHandler(httpSourceConfig, httpClient, requestTemplate, headerTemplate, requestVariablesValues, headerVariablesValues));
 
         HttpRequestHandler httpRequestHandler = httpRequestHandlers
                 .stream()
@@ -4,6 +4,7 @@ import io.odpf.dagger.core.exception.InvalidConfigurationException;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
+import io.odpf.dagger.core.processors.common.RequestTemplate;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
@@ -34,6 +35,7 @@ import static io.odpf.dagger.core.utils.Constants.MAX_EVENT_LOOP_EXECUTE_TIME_DE
 public class PgAsyncConnector extends AsyncConnector {
     private static final Logger LOGGER = LoggerFactory.getLogger(PgAsyncConnector.class.getName());
     private final PgSourceConfig pgSourceConfig;
+    private final RequestTemplate queryTemplate;
     private PgPool pgClient;
 
     /**
@@ -64,6 +66,12 @@ public class PgAsyncConnector extends AsyncConnector {
     public PgAsyncConnector(PgSourceConfig pgSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
         super(Constants.PG_TYPE, pgSourceConfig, externalMetricConfig, schemaConfig);
         this.pgSourceConfig = pgSourceConfig;
+        this.queryTemplate = new RequestTemplate(pgSourceConfig.getPattern());
+    }
+
+    @Override
+    protected int getCapacity() {
+        return pgSourceConfig.getCapacity();
     }
 
     @Override
@@ -95,7 +103,7 @@ public class PgAsyncConnector extends AsyncConnector {
             return;
         }
 
-        String query = String.format(pgSourceConfig.getPattern(), queryVariablesValues);
+        String query = queryTemplate.render(queryVariablesValues);
         PgResponseHandler pgResponseHandler = new PgResponseHandler(pgSourceConfig, getMeterStatsManager(), rowManager,
                 getColumnNameManager(), getOutputDescriptor(resultFuture), resultFuture, getErrorReporter(), new PostResponseTelemetry());
 
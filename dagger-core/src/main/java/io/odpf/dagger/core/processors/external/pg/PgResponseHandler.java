@@ -6,6 +6,7 @@ import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
 import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import io.odpf.dagger.common.serde.typehandler.TypeHandler;
 import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import com.google.protobuf.Descriptors;
@@ -109,7 +110,7 @@ public class PgResponseHandler implements Handler<AsyncResult<RowSet<io.vertx.sq
             }
         });
         postResponseTelemetry.sendSuccessTelemetry(meterStatsManager, startTime);
-        resultFuture.complete(Collections.singleton(rowManager.getAll()));
+        ResponseResultFuture.completeWithResponse(resultFuture, Collections.singleton(rowManager.getAll()));
     }
 
     private void failureHandler(Throwable e) {
@@ -1,5 +1,6 @@
 package io.odpf.dagger.core.processors.external.pg;
 
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import com.google.gson.annotations.SerializedName;
 import org.apache.commons.lang3.StringUtils;
@@ -32,6 +33,9 @@ public class PgSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
     private String metricId;
     private boolean retainResponseType;
+    private boolean coalesceRequests;
+    private boolean adaptiveCapacity;
+    private ResponseCacheConfig cache;
 
     /**
      * Instantiates a new Postgre source config.
@@ -237,4 +241,46 @@ public class PgSourceConfig implements Serializable, SourceConfig {
     public boolean isRetainResponseType() {
         return retainResponseType;
     }
+
+    @Override
+    public boolean isRequestCoalescingEnabled() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Sets coalesce requests.
+     *
+     * @param coalesceRequests the coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    @Override
+    public boolean isAdaptiveCapacityEnabled() {
+        return adaptiveCapacity;
+    }
+
+    /**
+     * Sets adaptive capacity.
+     *
+     * @param adaptiveCapacity the adaptive capacity
+     */
+    public void setAdaptiveCapacity(boolean adaptiveCapacity) {
+        this.adaptiveCapacity = adaptiveCapacity;
+    }
+
+    @Override
+    public ResponseCacheConfig getCacheConfig() {
+        return cache;
+    }
+
+    /**
+     * Sets cache.
+     *
+     * @param cache the cache config
+     */
+    public void setCache(ResponseCacheConfig cache) {
+        this.cache = cache;
+    }
 }
@@ -1,15 +1,13 @@
 package io.odpf.dagger.core.processors.external.pg;
 
+import io.odpf.dagger.core.processors.external.AsyncConnectorOperatorFactory;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
 
-import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * The Decorator for Postgre stream.
  */
@@ -42,6 +40,6 @@ public class PgStreamDecorator implements StreamDecorator {
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
         PgAsyncConnector pgAsyncConnector = new PgAsyncConnector(pgSourceConfig, externalMetricConfig, schemaConfig);
         pgAsyncConnector.notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
-        return AsyncDataStream.orderedWait(inputStream, pgAsyncConnector, pgSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, pgSourceConfig.getCapacity());
+        return withRowType(AsyncConnectorOperatorFactory.orderedWait(inputStream, pgAsyncConnector, pgSourceConfig.getStreamTimeout(), pgSourceConfig.getCapacity()), schemaConfig.getInputOutputRowType());
     }
 }
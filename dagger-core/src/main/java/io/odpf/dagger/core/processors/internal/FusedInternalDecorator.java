@@ -0,0 +1,67 @@
+package io.odpf.dagger.core.processors.internal;
+
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.FetchOutputDecorator;
+import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
+import io.odpf.dagger.core.processors.types.MapDecorator;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+
+import java.util.List;
+
+/**
+ * The decorator running all the internal post processors and fetching the output in a single map
+ * operator. When no async stage runs before it, the input rows are taken as they are and wrapped
+ * here too, so the input and output pair is never serialized between operators.
+ */
+public class FusedInternalDecorator implements MapDecorator {
+
+    private final InternalConfigProcessor[] internalConfigProcessors;
+    private final ColumnNameManager columnNameManager;
+    private final boolean isInputWrapped;
+    private final FetchOutputDecorator fetchOutputDecorator;
+
+    /**
+     * Instantiates a new Fused internal decorator.
+     *
+     * @param internalConfigProcessors the internal config processors, in the order to run them
+     * @param columnNameManager        the column name manager
+     * @param isInputWrapped           whether the input rows already hold the input and output rows
+     * @param fetchOutputDecorator     the fetch output decorator
+     */
+    public FusedInternalDecorator(List<InternalConfigProcessor> internalConfigProcessors, ColumnNameManager columnNameManager,
+                                  boolean isInputWrapped, FetchOutputDecorator fetchOutputDecorator) {
+        this.internalConfigProcessors = internalConfigProcessors.toArray(new InternalConfigProcessor[0]);
+        this.columnNameManager = columnNameManager;
+        this.isInputWrapped = isInputWrapped;
+        this.fetchOutputDecorator = fetchOutputDecorator;
+    }
+
+    @Override
+    public Boolean canDecorate() {
+        return true;
+    }
+
+    @Override
+    public Row map(Row input) {
+        RowManager rowManager = isInputWrapped ? getWrappedRowManager(input) : new RowManager(input, columnNameManager.getOutputSize());
+        for (InternalConfigProcessor internalConfigProcessor : internalConfigProcessors) {
+            internalConfigProcessor.process(rowManager);
+        }
+        return fetchOutputDecorator.getOutput(rowManager);
+    }
+
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        return fetchOutputDecorator.decorate(inputStream, this);
+    }
+
+    private RowManager getWrappedRowManager(Row input) {
+        Row outputRow = (Row) input.getField(RowManager.OUTPUT_ROW_INDEX);
+        if (outputRow != null && outputRow.getArity() != columnNameManager.getOutputSize()) {
+            input.setField(RowManager.OUTPUT_ROW_INDEX, new Row(columnNameManager.getOutputSize()));
+        }
+        return new RowManager(input);
+    }
+}
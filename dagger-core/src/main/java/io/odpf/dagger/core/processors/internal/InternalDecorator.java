@@ -5,6 +5,8 @@ import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.types.MapDecorator;
 import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
 /**
@@ -17,6 +19,7 @@ public class InternalDecorator implements MapDecorator {
     private InternalSourceConfig internalSourceConfig;
     private InternalConfigProcessor internalConfigProcessor;
     private ColumnNameManager columnNameManager;
+    private transient TypeInformation<Row> inputOutputRowType;
 
     /**
      * Instantiates a new Internal decorator.
@@ -26,9 +29,23 @@ public class InternalDecorator implements MapDecorator {
      * @param columnNameManager       the column name manager
      */
     public InternalDecorator(InternalSourceConfig internalSourceConfig, InternalConfigProcessor internalConfigProcessor, ColumnNameManager columnNameManager) {
+        this(internalSourceConfig, internalConfigProcessor, columnNameManager, null);
+    }
+
+    /**
+     * Instantiates a new Internal decorator declaring the type of the rows it produces.
+     *
+     * @param internalSourceConfig    the internal source config
+     * @param internalConfigProcessor the internal config processor
+     * @param columnNameManager       the column name manager
+     * @param inputOutputRowType      the input output row type, null when the rows are not typed
+     */
+    public InternalDecorator(InternalSourceConfig internalSourceConfig, InternalConfigProcessor internalConfigProcessor, ColumnNameManager columnNameManager,
+                             TypeInformation<Row> inputOutputRowType) {
         this.internalSourceConfig = internalSourceConfig;
         this.internalConfigProcessor = internalConfigProcessor;
         this.columnNameManager = columnNameManager;
+        this.inputOutputRowType = inputOutputRowType;
     }
 
     @Override
@@ -47,6 +64,11 @@ public class InternalDecorator implements MapDecorator {
         return rowManager.getAll();
     }
 
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        return withRowType(inputStream.map(this), inputOutputRowType);
+    }
+
     private boolean outputColumnSizeIsDifferent(Row outputRow) {
         return outputRow != null && outputRow.getArity() != columnNameManager.getOutputSize();
     }
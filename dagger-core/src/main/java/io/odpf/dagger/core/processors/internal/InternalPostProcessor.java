@@ -5,7 +5,6 @@ import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
-import io.odpf.dagger.core.processors.types.Validator;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
@@ -14,6 +13,9 @@ import io.odpf.dagger.core.processors.internal.processor.InternalConfigHandlerFa
 import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
 import io.odpf.dagger.core.processors.internal.processor.sql.SqlConfigTypePathParser;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The Internal post processor.
  */
@@ -44,14 +46,14 @@ public class InternalPostProcessor implements PostProcessor {
         ColumnNameManager columnNameManager = new ColumnNameManager(streamInfo.getColumnNames(), postProcessorConfig.getOutputColumnNames());
 
         for (InternalSourceConfig internalSourceConfig : postProcessorConfig.getInternalSource()) {
-            resultStream = enrichStream(resultStream, internalSourceConfig, getInternalDecorator(internalSourceConfig, columnNameManager));
+            resultStream = enrichStream(resultStream, internalSourceConfig, columnNameManager);
         }
         return new StreamInfo(resultStream, columnNameManager.getOutputColumnNames());
     }
 
-    private DataStream<Row> enrichStream(DataStream<Row> resultStream, Validator configs, StreamDecorator decorator) {
-        configs.validateFields();
-        return decorator.decorate(resultStream);
+    private DataStream<Row> enrichStream(DataStream<Row> resultStream, InternalSourceConfig internalSourceConfig, ColumnNameManager columnNameManager) {
+        internalSourceConfig.validateFields();
+        return getInternalDecorator(internalSourceConfig, columnNameManager).decorate(resultStream);
     }
 
     /**
@@ -62,9 +64,34 @@ public class InternalPostProcessor implements PostProcessor {
      * @return the internal decorator
      */
     protected StreamDecorator getInternalDecorator(InternalSourceConfig internalSourceConfig, ColumnNameManager columnNameManager) {
+        return new InternalDecorator(internalSourceConfig, getInternalConfigProcessor(internalSourceConfig, columnNameManager), columnNameManager,
+                schemaConfig.getInputOutputRowType());
+    }
+
+    /**
+     * Gets the validated internal config processors, in the order of the internal source configs.
+     *
+     * @param columnNameManager the column name manager
+     * @return the internal config processors
+     */
+    public List<InternalConfigProcessor> getInternalConfigProcessors(ColumnNameManager columnNameManager) {
+        List<InternalConfigProcessor> internalConfigProcessors = new ArrayList<>();
+        for (InternalSourceConfig internalSourceConfig : postProcessorConfig.getInternalSource()) {
+            internalSourceConfig.validateFields();
+            internalConfigProcessors.add(getInternalConfigProcessor(internalSourceConfig, columnNameManager));
+        }
+        return internalConfigProcessors;
+    }
+
+    /**
+     * Gets internal config processor.
+     *
+     * @param internalSourceConfig the internal source config
+     * @param columnNameManager    the column name manager
+     * @return the internal config processor
+     */
+    protected InternalConfigProcessor getInternalConfigProcessor(InternalSourceConfig internalSourceConfig, ColumnNameManager columnNameManager) {
         SqlConfigTypePathParser sqlPathParser = new SqlConfigTypePathParser(internalSourceConfig, columnNameManager);
-        InternalConfigProcessor processor = InternalConfigHandlerFactory
-                .getProcessor(internalSourceConfig, columnNameManager, sqlPathParser, schemaConfig);
-        return new InternalDecorator(internalSourceConfig, processor, columnNameManager);
+        return InternalConfigHandlerFactory.getProcessor(internalSourceConfig, columnNameManager, sqlPathParser, schemaConfig);
     }
 }
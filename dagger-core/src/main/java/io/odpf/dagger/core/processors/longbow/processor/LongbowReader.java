@@ -5,6 +5,7 @@ import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.aspects.LongbowReaderAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
@@ -99,7 +100,7 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
             longBowStore = LongbowStore.create(configuration);
         }
         if (meterStatsManager == null) {
-            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true, new HistogramConfig(configuration));
         }
         if (errorReporter == null) {
             errorReporter = ErrorReporterFactory.getErrorReporter(getRuntimeContext().getMetricGroup(), configuration);
@@ -1,10 +1,14 @@
 package io.odpf.dagger.core.processors.longbow.processor;
 
+import org.apache.flink.runtime.state.FunctionInitializationContext;
+import org.apache.flink.runtime.state.FunctionSnapshotContext;
+import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
@@ -16,6 +20,7 @@ import io.odpf.dagger.core.processors.longbow.exceptions.LongbowWriterException;
 import io.odpf.dagger.core.processors.longbow.outputRow.WriterOutputRow;
 import io.odpf.dagger.core.processors.longbow.request.PutRequestFactory;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowWriteBuffer;
 import io.odpf.dagger.core.processors.longbow.storage.PutRequest;
 import io.odpf.dagger.core.utils.Constants;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -23,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,14 +36,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static java.time.Duration.between;
 
 /**
- * The Longbow writer.
+ * The Longbow writer. With a write batch size above one the documents are buffered and
+ * written as bulk mutations, and the buffer is flushed on every checkpoint.
  */
-public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher {
+public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher, CheckpointedFunction {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LongbowWriter.class.getName());
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
@@ -52,6 +62,11 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
     private LongbowStore longBowStore;
     private Map<String, List<String>> metrics = new HashMap<>();
     private ErrorReporter errorReporter;
+    private int writeBatchSize;
+    private long writeBatchBytes;
+    private long writeFlushIntervalMs;
+    private LongbowWriteBuffer writeBuffer;
+    private ScheduledExecutorService flushScheduler;
 
     /**
      * Instantiates a new Longbow writer.
@@ -71,6 +86,12 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
         this.tableId = tableId;
         this.writerOutputRow = writerOutputRow;
         this.configuration = configuration;
+        this.writeBatchSize = configuration.getInteger(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_SIZE_KEY,
+                Constants.PROCESSOR_LONGBOW_WRITE_BATCH_SIZE_DEFAULT);
+        this.writeBatchBytes = configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_BYTES_KEY,
+                Constants.PROCESSOR_LONGBOW_WRITE_BATCH_BYTES_DEFAULT);
+        this.writeFlushIntervalMs = configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_FLUSH_INTERVAL_MS_KEY,
+                Constants.PROCESSOR_LONGBOW_WRITE_FLUSH_INTERVAL_MS_DEFAULT);
     }
 
     /**
@@ -101,7 +122,7 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
         }
 
         if (meterStatsManager == null) {
-            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true, new HistogramConfig(configuration));
         }
         meterStatsManager.register("longbow.writer", LongbowWriterAspects.values());
 
@@ -129,6 +150,29 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
                 throw ex;
             }
         }
+
+        if (writeBuffer == null && writeBatchSize > 1) {
+            writeBuffer = new LongbowWriteBuffer(longBowStore, tableId, writeBatchSize, writeBatchBytes, meterStatsManager, Clock.systemUTC());
+            if (writeFlushIntervalMs > 0) {
+                flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "longbow-writer-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                flushScheduler.scheduleWithFixedDelay(writeBuffer::flush, writeFlushIntervalMs, writeFlushIntervalMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void snapshotState(FunctionSnapshotContext context) {
+        if (writeBuffer != null) {
+            writeBuffer.flush().handle((aVoid, throwable) -> null).join();
+        }
+    }
+
+    @Override
+    public void initializeState(FunctionInitializationContext context) {
     }
 
     @Override
@@ -140,7 +184,7 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
     public void asyncInvoke(Row input, ResultFuture<Row> resultFuture) throws Exception {
         PutRequest putRequest = putRequestFactory.create(input);
         Instant startTime = Instant.now();
-        CompletableFuture<Void> writeFuture = longBowStore.put(putRequest);
+        CompletableFuture<Void> writeFuture = writeBuffer != null ? writeBuffer.put(putRequest) : longBowStore.put(putRequest);
         writeFuture.exceptionally(throwable -> logException(throwable, startTime)).thenAccept(aVoid -> {
             meterStatsManager.markEvent(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT);
             meterStatsManager.updateHistogram(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME,
@@ -170,6 +214,12 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
     @Override
     public void close() throws Exception {
         super.close();
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        if (writeBuffer != null) {
+            writeBuffer.flush().handle((aVoid, throwable) -> null).join();
+        }
         if (longBowStore != null) {
             longBowStore.close();
         }
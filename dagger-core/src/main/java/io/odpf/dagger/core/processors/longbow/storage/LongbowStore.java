@@ -10,14 +10,15 @@ import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
 import org.apache.hadoop.hbase.client.AsyncTable;
 import org.apache.hadoop.hbase.client.BigtableAsyncConnection;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.threeten.bp.Duration;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.cloud.bigtable.admin.v2.models.GCRules.GCRULES;
 
@@ -32,14 +33,11 @@ public class LongbowStore {
     private LongbowStore(BigtableTableAdminClient adminClient, BigtableAsyncConnection tableClient) {
         this.adminClient = adminClient;
         this.tableClient = tableClient;
-        this.tables = new HashMap<>();
+        this.tables = new ConcurrentHashMap<>();
     }
 
     private AsyncTable<AdvancedScanResultConsumer> getTable(String tableId) {
-        if (!tables.containsKey(tableId)) {
-            tables.put(tableId, tableClient.getTable(TableName.valueOf(tableId)));
-        }
-        return tables.get(tableId);
+        return tables.computeIfAbsent(tableId, id -> tableClient.getTable(TableName.valueOf(id)));
     }
 
     /**
@@ -93,6 +91,17 @@ public class LongbowStore {
         return getTable(putRequest.getTableId()).put(putRequest.get());
     }
 
+    /**
+     * Put all the puts to the table in a single bulk mutation.
+     *
+     * @param tableId the table id
+     * @param puts    the puts
+     * @return the completable future
+     */
+    public CompletableFuture<Void> putAll(String tableId, List<Put> puts) {
+        return getTable(tableId).putAll(puts);
+    }
+
     /**
      * Scan all completable future.
      *
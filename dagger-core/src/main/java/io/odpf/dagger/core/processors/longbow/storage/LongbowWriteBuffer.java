@@ -0,0 +1,116 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
+import org.apache.hadoop.hbase.client.Put;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Buffers the puts of the longbow writer and writes them to the table as bulk mutations. The
+ * buffer is flushed when it holds the max number of puts or the max bytes, and whenever
+ * {@link #flush()} is called. Each put gets a future that completes when its batch commits.
+ */
+public class LongbowWriteBuffer {
+    private final LongbowStore longbowStore;
+    private final String tableId;
+    private final int maxPuts;
+    private final long maxBytes;
+    private final MeterStatsManager meterStatsManager;
+    private final Clock clock;
+    private List<Put> puts = new ArrayList<>();
+    private List<CompletableFuture<Void>> putFutures = new ArrayList<>();
+    private long bufferedBytes;
+
+    /**
+     * Instantiates a new Longbow write buffer.
+     *
+     * @param longbowStore      the longbow store
+     * @param tableId           the table id
+     * @param maxPuts           the max number of puts in a batch
+     * @param maxBytes          the max heap size of the puts in a batch
+     * @param meterStatsManager the meter stats manager
+     * @param clock             the clock
+     */
+    public LongbowWriteBuffer(LongbowStore longbowStore, String tableId, int maxPuts, long maxBytes, MeterStatsManager meterStatsManager, Clock clock) {
+        this.longbowStore = longbowStore;
+        this.tableId = tableId;
+        this.maxPuts = maxPuts;
+        this.maxBytes = maxBytes;
+        this.meterStatsManager = meterStatsManager;
+        this.clock = clock;
+    }
+
+    /**
+     * Add the put request to the buffer.
+     *
+     * @param putRequest the put request
+     * @return the completable future that completes when the put is written
+     */
+    public CompletableFuture<Void> put(PutRequest putRequest) {
+        Put put = putRequest.get();
+        CompletableFuture<Void> putFuture = new CompletableFuture<>();
+        boolean full;
+        synchronized (this) {
+            puts.add(put);
+            putFutures.add(putFuture);
+            bufferedBytes += put.heapSize();
+            full = puts.size() >= maxPuts || bufferedBytes >= maxBytes;
+        }
+        if (full) {
+            flush();
+        }
+        return putFuture;
+    }
+
+    /**
+     * Write the buffered puts to the table.
+     *
+     * @return the completable future that completes when the batch is written
+     */
+    public CompletableFuture<Void> flush() {
+        List<Put> batch;
+        List<CompletableFuture<Void>> batchFutures;
+        synchronized (this) {
+            if (puts.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            batch = puts;
+            batchFutures = putFutures;
+            puts = new ArrayList<>();
+            putFutures = new ArrayList<>();
+            bufferedBytes = 0;
+        }
+        long startTime = clock.millis();
+        meterStatsManager.updateHistogram(LongbowWriterAspects.WRITE_BATCH_SIZE, batch.size());
+        CompletableFuture<Void> batchFuture;
+        try {
+            batchFuture = longbowStore.putAll(tableId, batch);
+        } catch (RuntimeException e) {
+            batchFuture = new CompletableFuture<>();
+            batchFuture.completeExceptionally(e);
+        }
+        return batchFuture.whenComplete((aVoid, throwable) -> {
+            meterStatsManager.updateHistogram(LongbowWriterAspects.WRITE_BATCH_FLUSH_TIME, clock.millis() - startTime);
+            for (CompletableFuture<Void> putFuture : batchFutures) {
+                if (throwable == null) {
+                    putFuture.complete(null);
+                } else {
+                    putFuture.completeExceptionally(throwable);
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the number of buffered puts.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return puts.size();
+    }
+}
@@ -1,5 +1,7 @@
 package io.odpf.dagger.core.processors.types;
 
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
+
 import java.util.List;
 
 /**
@@ -47,4 +49,25 @@ public interface SourceConfig extends Validator {
      * @return the type
      */
     String getType();
+
+    /**
+     * Check if identical in-flight requests to the source are coalesced into one.
+     *
+     * @return the boolean
+     */
+    boolean isRequestCoalescingEnabled();
+
+    /**
+     * Check if the capacity is an upper bound for an adaptive limit of the calls in flight.
+     *
+     * @return the boolean
+     */
+    boolean isAdaptiveCapacityEnabled();
+
+    /**
+     * Gets the response cache config.
+     *
+     * @return the response cache config, or null when responses are not cached
+     */
+    ResponseCacheConfig getCacheConfig();
 }
@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.processors.types;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
@@ -23,4 +25,15 @@ public interface StreamDecorator extends Serializable {
      * @return the data stream
      */
     DataStream<Row> decorate(DataStream<Row> inputStream);
+
+    /**
+     * Declare the type of the decorated rows, when it is known.
+     *
+     * @param outputStream the decorated stream
+     * @param rowType      the row type, null when unknown
+     * @return the data stream
+     */
+    default DataStream<Row> withRowType(SingleOutputStreamOperator<Row> outputStream, TypeInformation<Row> rowType) {
+        return rowType == null ? outputStream : outputStream.returns(rowType);
+    }
 }
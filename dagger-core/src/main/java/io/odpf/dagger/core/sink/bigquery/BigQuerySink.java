@@ -2,6 +2,9 @@ package io.odpf.dagger.core.sink.bigquery;
 
 import com.google.common.base.Splitter;
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializer;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporterFactory;
@@ -62,6 +65,9 @@ public class BigQuerySink implements Sink<Row, Void, Void, Void> {
         int batchSize = configuration.getInteger(
                 Constants.SINK_BIGQUERY_BATCH_SIZE,
                 Constants.SINK_BIGQUERY_BATCH_SIZE_DEFAULT);
+        int maxInFlightBatches = configuration.getInteger(
+                Constants.SINK_BIGQUERY_MAX_IN_FLIGHT_BATCHES,
+                Constants.SINK_BIGQUERY_MAX_IN_FLIGHT_BATCHES_DEFAULT);
         String errorsForFailing = configuration.getString(
                 Constants.SINK_ERROR_TYPES_FOR_FAILURE,
                 Constants.SINK_ERROR_TYPES_FOR_FAILURE_DEFAULT);
@@ -69,7 +75,10 @@ public class BigQuerySink implements Sink<Row, Void, Void, Void> {
         for (String s : Splitter.on(",").omitEmptyStrings().split(errorsForFailing)) {
             errorTypesForFailing.add(ErrorType.valueOf(s.trim()));
         }
-        return new BigQuerySinkWriter(protoSerializer, odpfSink, batchSize, errorReporter, errorTypesForFailing);
+        MeterStatsManager meterStatsManager = new MeterStatsManager(context.metricGroup(), true, new HistogramConfig(configuration));
+        GaugeStatsManager gaugeStatsManager = new GaugeStatsManager(context.metricGroup(), true);
+        return new BigQuerySinkWriter(protoSerializer, odpfSink, batchSize, maxInFlightBatches, errorReporter, errorTypesForFailing,
+                meterStatsManager, gaugeStatsManager);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package io.odpf.dagger.core.sink.bigquery;
 
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializer;
 import io.odpf.dagger.core.exception.BigQueryWriterException;
+import io.odpf.dagger.core.metrics.aspects.BigQuerySinkWriterAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.depot.OdpfSink;
 import io.odpf.depot.OdpfSinkResponse;
@@ -11,66 +14,189 @@ import io.odpf.depot.exception.OdpfSinkException;
 import io.odpf.depot.message.OdpfMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.flink.api.connector.sink.SinkWriter;
+import org.apache.flink.metrics.Gauge;
 import org.apache.flink.types.Row;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class BigQuerySinkWriter implements SinkWriter<Row, Void, Void> {
+    private static final String METRIC_GROUP_KEY = "sink";
+    private static final String METRIC_GROUP_VALUE = "bigquery";
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
     private final ProtoSerializer protoSerializer;
     private final OdpfSink bigquerySink;
     private final int batchSize;
     private final ErrorReporter errorReporter;
     private final Set<ErrorType> errorTypesForFailing;
-    private final List<OdpfMessage> messages = new ArrayList<>();
+    private final int maxInFlightBatches;
+    private final MeterStatsManager meterStatsManager;
+    private final ExecutorService pushExecutor;
+    private final Semaphore inFlightBatchPermits;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final AtomicReference<Exception> pushFailure = new AtomicReference<>();
+    private List<OdpfMessage> messages = new ArrayList<>();
     private int currentBatchSize;
+    private long currentBatchBytes;
 
     public BigQuerySinkWriter(ProtoSerializer protoSerializer, OdpfSink bigquerySink, int batchSize, ErrorReporter errorReporter, Set<ErrorType> errorTypesForFailing) {
+        this(protoSerializer, bigquerySink, batchSize, 0, errorReporter, errorTypesForFailing,
+                new MeterStatsManager(null, false), new GaugeStatsManager(null, false));
+    }
+
+    /**
+     * Instantiates a new BigQuery sink writer. With in flight batches allowed, the full batches are pushed one
+     * after the other on a separate thread while the next ones are serialized on the task thread.
+     *
+     * @param protoSerializer      the proto serializer
+     * @param bigquerySink         the bigquery sink
+     * @param batchSize            the number of records pushed in one batch
+     * @param maxInFlightBatches   the number of batches pushed or waiting to be pushed, 0 to push on the task thread
+     * @param errorReporter        the error reporter
+     * @param errorTypesForFailing the error types to fail the job on
+     * @param meterStatsManager    the meter stats manager
+     * @param gaugeStatsManager    the gauge stats manager
+     */
+    public BigQuerySinkWriter(ProtoSerializer protoSerializer, OdpfSink bigquerySink, int batchSize, int maxInFlightBatches,
+                              ErrorReporter errorReporter, Set<ErrorType> errorTypesForFailing,
+                              MeterStatsManager meterStatsManager, GaugeStatsManager gaugeStatsManager) {
         this.protoSerializer = protoSerializer;
         this.bigquerySink = bigquerySink;
         this.batchSize = batchSize;
         this.errorReporter = errorReporter;
         this.errorTypesForFailing = errorTypesForFailing;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.meterStatsManager = meterStatsManager;
+        this.meterStatsManager.register(METRIC_GROUP_KEY, METRIC_GROUP_VALUE, BigQuerySinkWriterAspects.values());
+        gaugeStatsManager.register(METRIC_GROUP_KEY, METRIC_GROUP_VALUE, BigQuerySinkWriterAspects.IN_FLIGHT_BATCHES,
+                (Gauge<Integer>) inFlightBatches::get);
+        /* the depot sink is not known to be thread safe, so the batches are pushed one at a time by a single thread */
+        if (maxInFlightBatches > 0) {
+            this.inFlightBatchPermits = new Semaphore(maxInFlightBatches);
+            this.pushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "bigquery-sink-push");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.inFlightBatchPermits = null;
+            this.pushExecutor = null;
+        }
     }
 
     @Override
     public void write(Row element, Context context) throws IOException {
         log.info("adding row to BQ batch : " + element);
+        throwPushFailure();
         byte[] key = protoSerializer.serializeKey(element);
         byte[] value = protoSerializer.serializeValue(element);
         OdpfMessage message = new OdpfMessage(key, value);
         if (currentBatchSize < batchSize) {
             messages.add(message);
             currentBatchSize++;
+            currentBatchBytes += (key == null ? 0 : key.length) + (value == null ? 0 : value.length);
         }
         if (currentBatchSize >= batchSize) {
-            pushToBq();
+            pushBatch();
+        }
+    }
+
+    private void pushBatch() throws IOException {
+        if (pushExecutor == null) {
+            pushToBq(messages, currentBatchSize, currentBatchBytes);
             messages.clear();
             currentBatchSize = 0;
+            currentBatchBytes = 0;
+            return;
         }
+        List<OdpfMessage> batch = messages;
+        int batchRecords = currentBatchSize;
+        long batchBytes = currentBatchBytes;
+        messages = new ArrayList<>();
+        currentBatchSize = 0;
+        currentBatchBytes = 0;
+        acquireInFlightBatchPermits(1);
+        inFlightBatches.incrementAndGet();
+        pushExecutor.execute(() -> {
+            try {
+                if (pushFailure.get() == null) {
+                    pushToBq(batch, batchRecords, batchBytes);
+                }
+            } catch (Exception e) {
+                pushFailure.compareAndSet(null, e);
+            } catch (Throwable t) {
+                pushFailure.compareAndSet(null, new IOException("Failed to push the batch to BigQuery", t));
+            } finally {
+                inFlightBatches.decrementAndGet();
+                inFlightBatchPermits.release();
+            }
+        });
     }
 
-    private void pushToBq() throws OdpfSinkException, BigQueryWriterException {
-        log.info("Pushing " + currentBatchSize + " records to bq");
+    private void pushToBq(List<OdpfMessage> batch, int batchRecords, long batchBytes) throws OdpfSinkException, BigQueryWriterException {
+        log.info("Pushing " + batchRecords + " records to bq");
         OdpfSinkResponse odpfSinkResponse;
+        Instant startTime = Instant.now();
         try {
-            odpfSinkResponse = bigquerySink.pushToSink(messages);
+            odpfSinkResponse = bigquerySink.pushToSink(batch);
         } catch (Exception e) {
             errorReporter.reportFatalException(e);
             throw e;
         }
+        meterStatsManager.updateHistogram(BigQuerySinkWriterAspects.BATCH_PUSH_TIME, Duration.between(startTime, Instant.now()).toMillis());
+        meterStatsManager.updateHistogram(BigQuerySinkWriterAspects.BATCH_SIZE_BYTES, batchBytes);
         if (odpfSinkResponse.hasErrors()) {
-            logErrors(odpfSinkResponse, messages);
+            logErrors(odpfSinkResponse, batch);
             checkAndThrow(odpfSinkResponse);
         }
     }
 
+    private void acquireInFlightBatchPermits(int permits) throws InterruptedIOException {
+        try {
+            inFlightBatchPermits.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the batches pushed to BigQuery");
+        }
+    }
+
+    private void waitForInFlightBatches() throws IOException {
+        if (pushExecutor != null) {
+            acquireInFlightBatchPermits(maxInFlightBatches);
+            inFlightBatchPermits.release(maxInFlightBatches);
+        }
+        throwPushFailure();
+    }
+
+    private void throwPushFailure() throws IOException {
+        Exception exception = pushFailure.get();
+        if (exception == null) {
+            return;
+        }
+        if (exception instanceof IOException) {
+            throw (IOException) exception;
+        }
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        throw new IOException(exception);
+    }
+
     protected void checkAndThrow(OdpfSinkResponse sinkResponse) throws BigQueryWriterException {
         Map<Boolean, List<ErrorInfo>> failedErrorTypes = sinkResponse.getErrors().values().stream().collect(
                 Collectors.partitioningBy(errorInfo -> errorTypesForFailing.contains(errorInfo.getErrorType())));
@@ -98,6 +224,8 @@ public class BigQuerySinkWriter implements SinkWriter<Row, Void, Void> {
 
     /**
      * This will be called before we checkpoint the Writer's state in Streaming execution mode.
+     * The records not pushed yet are pushed, and the batches in flight are waited for, so that
+     * every record written before the checkpoint is in BigQuery once it returns.
      *
      * @param flush – Whether flushing the un-staged data or not
      * @return The data is ready to commit.
@@ -105,14 +233,21 @@ public class BigQuerySinkWriter implements SinkWriter<Row, Void, Void> {
      */
     @Override
     public List<Void> prepareCommit(boolean flush) throws IOException {
-        pushToBq();
-        messages.clear();
-        currentBatchSize = 0;
+        if (pushExecutor == null || currentBatchSize > 0) {
+            pushBatch();
+        }
+        waitForInFlightBatches();
         return Collections.emptyList();
     }
 
     @Override
     public void close() throws Exception {
+        if (pushExecutor != null) {
+            pushExecutor.shutdown();
+            if (!pushExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                pushExecutor.shutdownNow();
+            }
+        }
         bigquerySink.close();
     }
 
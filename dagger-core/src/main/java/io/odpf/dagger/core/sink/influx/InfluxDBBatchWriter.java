@@ -0,0 +1,182 @@
+package io.odpf.dagger.core.sink.influx;
+
+import org.apache.flink.api.connector.sink.Sink.ProcessingTimeService;
+import org.apache.flink.api.connector.sink.SinkWriter;
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.InfluxDBWriterAspects;
+import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
+import org.influxdb.InfluxDB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static io.odpf.dagger.core.utils.Constants.*;
+
+/**
+ * Influx writer encoding the rows into line protocol and writing them to InfluxDB in batches on a
+ * separate thread, so that the next batch is encoded while the previous one is being written. A
+ * batch is written once it has the configured number of points, once the flush duration has
+ * passed, and before every checkpoint, which waits for the batch being written.
+ */
+public class InfluxDBBatchWriter implements SinkWriter<Row, Void, Void> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InfluxDBBatchWriter.class.getName());
+    private static final String METRIC_GROUP_KEY = "sink";
+    private static final String METRIC_GROUP_VALUE = "influx";
+    private static final int MAX_IN_FLIGHT_BATCHES = 1;
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+    private final String databaseName;
+    private final String retentionPolicy;
+    private final int batchSize;
+    private final long flushDurationMs;
+    private final InfluxDB influxDB;
+    private final InfluxLineProtocolEncoder encoder;
+    private final ErrorHandler errorHandler;
+    private final ErrorReporter errorReporter;
+    private final ProcessingTimeService processingTimeService;
+    private final MeterStatsManager meterStatsManager;
+    private final ExecutorService writeExecutor;
+    private final Semaphore inFlightBatchPermits;
+    private final StringBuilder buffer;
+    private int bufferedPoints;
+    private volatile boolean isClosed;
+
+    /**
+     * Instantiates a new InfluxDB batch writer.
+     *
+     * @param configuration         the configuration
+     * @param influxDB              the influx db client, with its own batching disabled
+     * @param columnNames           the column names
+     * @param errorHandler          the error handler
+     * @param errorReporter         the error reporter
+     * @param processingTimeService the processing time service to flush on
+     * @param meterStatsManager     the meter stats manager
+     */
+    public InfluxDBBatchWriter(Configuration configuration, InfluxDB influxDB, String[] columnNames, ErrorHandler errorHandler,
+                               ErrorReporter errorReporter, ProcessingTimeService processingTimeService, MeterStatsManager meterStatsManager) {
+        this.databaseName = configuration.getString(SINK_INFLUX_DB_NAME_KEY, SINK_INFLUX_DB_NAME_DEFAULT);
+        this.retentionPolicy = configuration.getString(SINK_INFLUX_RETENTION_POLICY_KEY, SINK_INFLUX_RETENTION_POLICY_DEFAULT);
+        this.batchSize = Math.max(1, configuration.getInteger(SINK_INFLUX_BATCH_SIZE_KEY, SINK_INFLUX_BATCH_SIZE_DEFAULT));
+        this.flushDurationMs = configuration.getInteger(SINK_INFLUX_FLUSH_DURATION_MS_KEY, SINK_INFLUX_FLUSH_DURATION_MS_DEFAULT);
+        this.encoder = new InfluxLineProtocolEncoder(
+                configuration.getString(SINK_INFLUX_MEASUREMENT_NAME_KEY, SINK_INFLUX_MEASUREMENT_NAME_DEFAULT), columnNames);
+        this.influxDB = influxDB;
+        this.errorHandler = errorHandler;
+        this.errorReporter = errorReporter;
+        this.processingTimeService = processingTimeService;
+        this.meterStatsManager = meterStatsManager;
+        this.meterStatsManager.register(METRIC_GROUP_KEY, METRIC_GROUP_VALUE, InfluxDBWriterAspects.values());
+        this.inFlightBatchPermits = new Semaphore(MAX_IN_FLIGHT_BATCHES);
+        this.buffer = new StringBuilder();
+        this.writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "influx-sink-write");
+            thread.setDaemon(true);
+            return thread;
+        });
+        registerFlushTimer();
+    }
+
+    @Override
+    public void write(Row row, Context context) throws IOException {
+        addErrorMetricsAndThrow();
+        if (bufferedPoints > 0) {
+            buffer.append('\n');
+        }
+        encoder.encode(row, buffer);
+        bufferedPoints++;
+        if (bufferedPoints >= batchSize) {
+            writeBatch();
+        }
+    }
+
+    private void registerFlushTimer() {
+        if (flushDurationMs > 0) {
+            processingTimeService.registerProcessingTimer(processingTimeService.getCurrentProcessingTime() + flushDurationMs, time -> {
+                if (!isClosed) {
+                    if (bufferedPoints > 0) {
+                        writeBatch();
+                    }
+                    registerFlushTimer();
+                }
+            });
+        }
+    }
+
+    private void writeBatch() throws InterruptedIOException {
+        String records = buffer.toString();
+        int points = bufferedPoints;
+        buffer.setLength(0);
+        bufferedPoints = 0;
+        acquireInFlightBatchPermits(1);
+        writeExecutor.execute(() -> {
+            try {
+                Instant startTime = Instant.now();
+                influxDB.write(databaseName, retentionPolicy, InfluxDB.ConsistencyLevel.ONE, records);
+                meterStatsManager.updateHistogram(InfluxDBWriterAspects.WRITE_TIME, Duration.between(startTime, Instant.now()).toMillis());
+                meterStatsManager.updateHistogram(InfluxDBWriterAspects.BATCH_SIZE, points);
+                meterStatsManager.markEvent(InfluxDBWriterAspects.POINTS_WRITTEN, points);
+            } catch (Throwable throwable) {
+                LOGGER.warn("Error writing " + points + " points to influx", throwable);
+                errorHandler.getExceptionHandler().accept(Collections.emptyList(), throwable);
+            } finally {
+                inFlightBatchPermits.release();
+            }
+        });
+    }
+
+    private void acquireInFlightBatchPermits(int permits) throws InterruptedIOException {
+        try {
+            inFlightBatchPermits.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the batches written to influx");
+        }
+    }
+
+    private void addErrorMetricsAndThrow() throws IOException {
+        if (errorHandler.getError().isPresent() && errorHandler.getError().get().hasException()) {
+            IOException currentException = errorHandler.getError().get().getCurrentException();
+            errorReporter.reportFatalException(currentException);
+            throw currentException;
+        }
+    }
+
+    @Override
+    public List<Void> prepareCommit(boolean flush) throws IOException {
+        if (bufferedPoints > 0) {
+            writeBatch();
+        }
+        acquireInFlightBatchPermits(MAX_IN_FLIGHT_BATCHES);
+        inFlightBatchPermits.release(MAX_IN_FLIGHT_BATCHES);
+        addErrorMetricsAndThrow();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Void> snapshotState(long checkpointId) throws IOException {
+        addErrorMetricsAndThrow();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        isClosed = true;
+        writeExecutor.shutdown();
+        if (!writeExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            writeExecutor.shutdownNow();
+        }
+        influxDB.close();
+    }
+}
@@ -8,6 +8,8 @@ import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.histogram.HistogramConfig;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporterFactory;
 import org.influxdb.InfluxDB;
@@ -40,12 +42,16 @@ public class InfluxDBSink implements Sink<Row, Void, Void, Void> {
                 configuration.getString(SINK_INFLUX_USERNAME_KEY, SINK_INFLUX_USERNAME_DEFAULT),
                 configuration.getString(SINK_INFLUX_PASSWORD_KEY, SINK_INFLUX_PASSWORD_DEFAULT));
         errorHandler.init(context);
-        influxDB.enableBatch(configuration.getInteger(SINK_INFLUX_BATCH_SIZE_KEY, SINK_INFLUX_BATCH_SIZE_DEFAULT),
-                configuration.getInteger(SINK_INFLUX_FLUSH_DURATION_MS_KEY, SINK_INFLUX_FLUSH_DURATION_MS_DEFAULT),
-                TimeUnit.MILLISECONDS, Executors.defaultThreadFactory(), errorHandler.getExceptionHandler());
         if (errorReporter == null) {
             errorReporter = ErrorReporterFactory.getErrorReporter(context.metricGroup(), configuration);
         }
+        if (configuration.getBoolean(SINK_INFLUX_LINE_PROTOCOL_ENABLE_KEY, SINK_INFLUX_LINE_PROTOCOL_ENABLE_DEFAULT)) {
+            return new InfluxDBBatchWriter(configuration, influxDB, columnNames, errorHandler, errorReporter,
+                    context.getProcessingTimeService(), new MeterStatsManager(context.metricGroup(), true, new HistogramConfig(configuration)));
+        }
+        influxDB.enableBatch(configuration.getInteger(SINK_INFLUX_BATCH_SIZE_KEY, SINK_INFLUX_BATCH_SIZE_DEFAULT),
+                configuration.getInteger(SINK_INFLUX_FLUSH_DURATION_MS_KEY, SINK_INFLUX_FLUSH_DURATION_MS_DEFAULT),
+                TimeUnit.MILLISECONDS, Executors.defaultThreadFactory(), errorHandler.getExceptionHandler());
 
         InfluxDBWriter influxDBWriter = new InfluxDBWriter(configuration, influxDB, columnNames, errorHandler, errorReporter);
         return influxDBWriter;
@@ -0,0 +1,177 @@
+package io.odpf.dagger.core.sink.influx;
+
+import org.apache.flink.types.Row;
+
+import com.google.common.base.Strings;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Encodes rows into InfluxDB line protocol. The columns are classified as the time, tags and fields
+ * of the point once, sorted by their keys as the influx client does, so that encoding a row only
+ * appends its values to the buffer.
+ */
+public class InfluxLineProtocolEncoder {
+    private static final String TIME_COLUMN_NAME = "window_timestamp";
+    private static final String TAG_COLUMN_PREFIX = "tag_";
+    private static final String LABEL_COLUMN_PREFIX = "label_";
+    private static final int MAXIMUM_FRACTION_DIGITS = 340;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final String escapedMeasurementName;
+    private final int timeColumnIndex;
+    private final int[] tagColumnIndexes;
+    private final String[] escapedTagKeys;
+    private final boolean[] labelColumns;
+    private final int[] fieldColumnIndexes;
+    private final String[] escapedFieldKeys;
+    private final NumberFormat numberFormat;
+
+    /**
+     * Instantiates a new Influx line protocol encoder.
+     *
+     * @param measurementName the measurement name
+     * @param columnNames     the column names of the rows
+     */
+    public InfluxLineProtocolEncoder(String measurementName, String[] columnNames) {
+        this.escapedMeasurementName = escapeMeasurement(measurementName);
+        int timeColumn = -1;
+        Map<String, Integer> tagColumns = new TreeMap<>();
+        Map<String, Integer> fieldColumns = new TreeMap<>();
+        for (int index = 0; index < columnNames.length; index++) {
+            String columnName = columnNames[index];
+            if (columnName.equals(TIME_COLUMN_NAME)) {
+                timeColumn = index;
+            } else if (columnName.startsWith(TAG_COLUMN_PREFIX)) {
+                tagColumns.put(columnName, index);
+            } else if (columnName.startsWith(LABEL_COLUMN_PREFIX)) {
+                tagColumns.put(columnName.substring(LABEL_COLUMN_PREFIX.length()), index);
+            } else if (!Strings.isNullOrEmpty(columnName)) {
+                fieldColumns.put(columnName, index);
+            }
+        }
+        this.timeColumnIndex = timeColumn;
+        this.tagColumnIndexes = new int[tagColumns.size()];
+        this.escapedTagKeys = new String[tagColumns.size()];
+        this.labelColumns = new boolean[tagColumns.size()];
+        int position = 0;
+        for (Map.Entry<String, Integer> tagColumn : tagColumns.entrySet()) {
+            tagColumnIndexes[position] = tagColumn.getValue();
+            escapedTagKeys[position] = tagColumn.getKey().isEmpty() ? null : escapeKey(tagColumn.getKey());
+            labelColumns[position] = columnNames[tagColumn.getValue()].startsWith(LABEL_COLUMN_PREFIX);
+            position++;
+        }
+        this.fieldColumnIndexes = new int[fieldColumns.size()];
+        this.escapedFieldKeys = new String[fieldColumns.size()];
+        position = 0;
+        for (Map.Entry<String, Integer> fieldColumn : fieldColumns.entrySet()) {
+            fieldColumnIndexes[position] = fieldColumn.getValue();
+            escapedFieldKeys[position] = escapeKey(fieldColumn.getKey());
+            position++;
+        }
+        this.numberFormat = NumberFormat.getInstance(Locale.ENGLISH);
+        numberFormat.setMaximumFractionDigits(MAXIMUM_FRACTION_DIGITS);
+        numberFormat.setGroupingUsed(false);
+        numberFormat.setMinimumFractionDigits(1);
+    }
+
+    /**
+     * Append the line of the row to the buffer, without a line break. Nothing is appended when the
+     * row can not be encoded.
+     *
+     * @param row    the row
+     * @param buffer the buffer
+     * @throws IllegalArgumentException when the row has no fields
+     * @throws NullPointerException     when the row has a null label
+     */
+    public void encode(Row row, StringBuilder buffer) {
+        int lineStart = buffer.length();
+        try {
+            appendLine(row, buffer);
+        } catch (RuntimeException e) {
+            buffer.setLength(lineStart);
+            throw e;
+        }
+    }
+
+    private void appendLine(Row row, StringBuilder buffer) {
+        buffer.append(escapedMeasurementName);
+        for (int position = 0; position < tagColumnIndexes.length; position++) {
+            Object value = row.getField(tagColumnIndexes[position]);
+            if (labelColumns[position] && value == null) {
+                throw new NullPointerException("value");
+            }
+            String tagValue = labelColumns[position] ? (String) value : String.valueOf(value);
+            if (escapedTagKeys[position] != null && !tagValue.isEmpty()) {
+                buffer.append(',').append(escapedTagKeys[position]).append('=');
+                appendEscapedKey(tagValue, buffer);
+            }
+        }
+        buffer.append(' ');
+        int fieldsStart = buffer.length();
+        for (int position = 0; position < fieldColumnIndexes.length; position++) {
+            Object value = row.getField(fieldColumnIndexes[position]);
+            if (value != null) {
+                if (buffer.length() > fieldsStart) {
+                    buffer.append(',');
+                }
+                buffer.append(escapedFieldKeys[position]).append('=');
+                appendFieldValue(value, buffer);
+            }
+        }
+        if (buffer.length() == fieldsStart) {
+            throw new IllegalArgumentException("Point must have at least one field specified.");
+        }
+        if (timeColumnIndex >= 0) {
+            LocalDateTime timeField = (LocalDateTime) row.getField(timeColumnIndex);
+            buffer.append(' ').append(timeField.atZone(ZoneOffset.UTC).toInstant().toEpochMilli() * NANOS_PER_MILLI);
+        }
+    }
+
+    private void appendFieldValue(Object value, StringBuilder buffer) {
+        if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            buffer.append(numberFormat.format(value));
+        } else if (value instanceof Number) {
+            buffer.append(value).append('i');
+        } else if (value instanceof String) {
+            String stringValue = (String) value;
+            buffer.append('"');
+            for (int index = 0; index < stringValue.length(); index++) {
+                char character = stringValue.charAt(index);
+                if (character == '\\' || character == '"') {
+                    buffer.append('\\');
+                }
+                buffer.append(character);
+            }
+            buffer.append('"');
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private static void appendEscapedKey(String key, StringBuilder buffer) {
+        for (int index = 0; index < key.length(); index++) {
+            char character = key.charAt(index);
+            if (character == ' ' || character == ',' || character == '=') {
+                buffer.append('\\');
+            }
+            buffer.append(character);
+        }
+    }
+
+    private static String escapeKey(String key) {
+        StringBuilder escapedKey = new StringBuilder(key.length());
+        appendEscapedKey(key, escapedKey);
+        return escapedKey.toString();
+    }
+
+    private static String escapeMeasurement(String measurementName) {
+        return measurementName.replace(",", "\\,").replace(" ", "\\ ");
+    }
+}
@@ -5,10 +5,12 @@ import io.odpf.dagger.core.source.config.adapter.DaggerSASLMechanismAdaptor;
 import io.odpf.dagger.core.source.config.adapter.DaggerSecurityProtocolAdaptor;
 import io.odpf.dagger.core.source.config.adapter.FileDateRangeAdaptor;
 import io.odpf.dagger.core.source.config.adapter.SourceParquetFilePathsAdapter;
+import io.odpf.dagger.core.source.config.models.ProtoDecoderType;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import io.odpf.dagger.core.source.parquet.SourceParquetReadMode;
 import io.odpf.dagger.core.source.parquet.SourceParquetReadOrderStrategy;
 import io.odpf.dagger.core.source.parquet.SourceParquetSchemaMatchStrategy;
 import org.apache.flink.connector.kafka.source.enumerator.initializer.OffsetsInitializer;
@@ -98,6 +100,9 @@ public class StreamConfig {
     @Getter
     private String eventTimestampFieldIndex;
 
+    @SerializedName(STREAM_INPUT_SCHEMA_PROTO_DECODER_KEY)
+    private ProtoDecoderType protoDecoderType;
+
     @SerializedName(STREAM_INPUT_DATATYPE)
     private String dataType;
 
@@ -112,6 +117,9 @@ public class StreamConfig {
     @SerializedName(STREAM_SOURCE_PARQUET_READ_ORDER_STRATEGY_KEY)
     private SourceParquetReadOrderStrategy parquetFilesReadOrderStrategy;
 
+    @SerializedName(STREAM_SOURCE_PARQUET_READ_MODE_KEY)
+    private SourceParquetReadMode parquetReadMode;
+
     @SerializedName(STREAM_SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY_KEY)
     @Getter
     private SourceParquetSchemaMatchStrategy parquetSchemaMatchStrategy;
@@ -121,6 +129,21 @@ public class StreamConfig {
     @Getter
     private TimeRangePool parquetFileDateRange;
 
+    @SerializedName(STREAM_SOURCE_PARQUET_FILTER_PUSHDOWN_ENABLE_KEY)
+    private Boolean parquetFilterPushdownEnable;
+
+    @SerializedName(STREAM_SOURCE_PARQUET_ROW_GROUP_SPLIT_ENABLE_KEY)
+    private Boolean parquetRowGroupSplitEnable;
+
+    @SerializedName(STREAM_SOURCE_PARQUET_PREFETCH_MEMORY_BYTES_KEY)
+    private Long parquetPrefetchMemoryBytes;
+
+    @SerializedName(STREAM_SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY)
+    private Long parquetDiscoveryIntervalSeconds;
+
+    @SerializedName(STREAM_SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS_KEY)
+    private Long parquetPartitionAllowedLatenessSeconds;
+
     public String getDataType() {
         if (dataType == null) {
             dataType = "PROTO";
@@ -144,6 +167,43 @@ public class StreamConfig {
         }
     }
 
+    public SourceParquetReadMode getParquetReadMode() {
+        if (parquetReadMode == null) {
+            return SourceParquetReadMode.SIMPLE_GROUP;
+        } else {
+            return parquetReadMode;
+        }
+    }
+
+    public boolean isParquetFilterPushdownEnabled() {
+        return parquetFilterPushdownEnable != null && parquetFilterPushdownEnable;
+    }
+
+    public boolean isParquetRowGroupSplitEnabled() {
+        return parquetRowGroupSplitEnable != null && parquetRowGroupSplitEnable;
+    }
+
+    public long getParquetPrefetchMemoryBytes() {
+        return parquetPrefetchMemoryBytes == null ? 0L : parquetPrefetchMemoryBytes;
+    }
+
+    public long getParquetDiscoveryIntervalSeconds() {
+        return parquetDiscoveryIntervalSeconds == null ? STREAM_SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT : parquetDiscoveryIntervalSeconds;
+    }
+
+    public long getParquetPartitionAllowedLatenessSeconds() {
+        return parquetPartitionAllowedLatenessSeconds == null
+                ? STREAM_SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS_DEFAULT : parquetPartitionAllowedLatenessSeconds;
+    }
+
+    public ProtoDecoderType getProtoDecoderType() {
+        if (protoDecoderType == null) {
+            return ProtoDecoderType.DYNAMIC_MESSAGE;
+        } else {
+            return protoDecoderType;
+        }
+    }
+
     public String getAutoOffsetReset() {
         if (autoOffsetReset == null) {
             autoOffsetReset = "latest";
@@ -0,0 +1,13 @@
+package io.odpf.dagger.core.source.config.models;
+
+import com.google.gson.annotations.SerializedName;
+
+import static io.odpf.dagger.core.utils.Constants.STREAM_INPUT_SCHEMA_PROTO_DECODER_DYNAMIC_MESSAGE;
+import static io.odpf.dagger.core.utils.Constants.STREAM_INPUT_SCHEMA_PROTO_DECODER_WIRE_FORMAT;
+
+public enum ProtoDecoderType {
+    @SerializedName(STREAM_INPUT_SCHEMA_PROTO_DECODER_DYNAMIC_MESSAGE)
+    DYNAMIC_MESSAGE,
+    @SerializedName(STREAM_INPUT_SCHEMA_PROTO_DECODER_WIRE_FORMAT)
+    WIRE_FORMAT
+}
@@ -11,6 +11,9 @@ import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
+import io.odpf.dagger.core.source.parquet.enumerator.PartitionDiscoveringFileEnumerator;
+import io.odpf.dagger.core.source.parquet.filter.ColumnFilter;
+import io.odpf.dagger.core.source.parquet.filter.SourceParquetFilter;
 import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
 import io.odpf.dagger.core.source.parquet.reader.ParquetReader;
 import io.odpf.dagger.core.source.parquet.reader.ReaderProvider;
@@ -19,24 +22,33 @@ import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.connector.file.src.FileSource;
 import org.apache.flink.connector.file.src.assigners.FileSplitAssigner;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
 import org.apache.flink.core.fs.Path;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static io.odpf.dagger.core.source.config.models.SourceName.PARQUET_SOURCE;
 import static io.odpf.dagger.core.source.config.models.SourceType.BOUNDED;
+import static io.odpf.dagger.core.source.config.models.SourceType.UNBOUNDED;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_PREPROCESSOR_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_PREPROCESSOR_ENABLE_KEY;
 
 public class ParquetDaggerSource implements DaggerSource<Row> {
     private final DaggerDeserializer<Row> deserializer;
     private final StreamConfig streamConfig;
     private final Configuration configuration;
     private final SerializedStatsDReporterSupplier statsDReporterSupplier;
-    private static final SourceType SUPPORTED_SOURCE_TYPE = BOUNDED;
+    private static final List<SourceType> SUPPORTED_SOURCE_TYPES = Arrays.asList(BOUNDED, UNBOUNDED);
     private static final SourceName SUPPORTED_SOURCE_NAME = PARQUET_SOURCE;
     private final StatsDErrorReporter statsDErrorReporter;
 
@@ -61,7 +73,7 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
         } else {
             SourceName sourceName = sourceDetailsArray[0].getSourceName();
             SourceType sourceType = sourceDetailsArray[0].getSourceType();
-            return sourceName.equals(SUPPORTED_SOURCE_NAME) && sourceType.equals(SUPPORTED_SOURCE_TYPE)
+            return sourceName.equals(SUPPORTED_SOURCE_NAME) && SUPPORTED_SOURCE_TYPES.contains(sourceType)
                     && deserializer instanceof SimpleGroupDeserializer;
         }
     }
@@ -71,17 +83,28 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
         ParquetFileRecordFormat parquetFileRecordFormat = buildParquetFileRecordFormat();
         FileSplitAssigner.Provider splitAssignerProvider = buildParquetFileSplitAssignerProvider();
         Path[] filePaths = buildFlinkFilePaths();
+        SourceType sourceType = streamConfig.getSourceDetails()[0].getSourceType();
+        if (sourceType == UNBOUNDED) {
+            parquetFileSourceBuilder.setFileEnumerator(buildPartitionDiscoveringFileEnumeratorProvider())
+                    .setDiscoveryInterval(Duration.ofSeconds(streamConfig.getParquetDiscoveryIntervalSeconds()));
+        }
 
         ParquetFileSource parquetFileSource = parquetFileSourceBuilder.setFilePaths(filePaths)
                 .setConfiguration(configuration)
                 .setFileRecordFormat(parquetFileRecordFormat)
-                .setSourceType(SUPPORTED_SOURCE_TYPE)
+                .setSourceType(sourceType)
                 .setFileSplitAssigner(splitAssignerProvider)
                 .setStatsDReporterSupplier(statsDReporterSupplier)
                 .build();
         return parquetFileSource.buildFileSource();
     }
 
+    private FileEnumerator.Provider buildPartitionDiscoveringFileEnumeratorProvider() {
+        boolean splittable = streamConfig.isParquetRowGroupSplitEnabled();
+        long allowedLatenessSeconds = streamConfig.getParquetPartitionAllowedLatenessSeconds();
+        return () -> new PartitionDiscoveringFileEnumerator(new HourDatePathParser(), splittable, Duration.ofSeconds(allowedLatenessSeconds));
+    }
+
     private Path[] buildFlinkFilePaths() {
         String[] parquetFilePaths = streamConfig.getParquetFilePaths();
         return Arrays.stream(parquetFilePaths)
@@ -109,13 +132,26 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
 
     private ParquetFileRecordFormat buildParquetFileRecordFormat() {
         SimpleGroupDeserializer simpleGroupDeserializer = (SimpleGroupDeserializer) deserializer;
-        ReaderProvider parquetFileReaderProvider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplier);
+        ReaderProvider parquetFileReaderProvider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer,
+                streamConfig.getParquetReadMode(), buildSourceParquetFilter(), streamConfig.getParquetPrefetchMemoryBytes(), statsDReporterSupplier);
         ParquetFileRecordFormat.Builder parquetFileRecordFormatBuilder = ParquetFileRecordFormat.Builder.getInstance();
         Supplier<TypeInformation<Row>> typeInformationProvider = (Supplier<TypeInformation<Row>> & Serializable) simpleGroupDeserializer::getProducedType;
         return parquetFileRecordFormatBuilder
                 .setParquetFileReaderProvider(parquetFileReaderProvider)
                 .setTypeInformationProvider(typeInformationProvider)
+                .setSplittable(streamConfig.isParquetRowGroupSplitEnabled())
                 .setStatsDReporterSupplier(statsDReporterSupplier)
                 .build();
     }
+
+    SourceParquetFilter buildSourceParquetFilter() {
+        if (!streamConfig.isParquetFilterPushdownEnabled()) {
+            return null;
+        }
+        /* the pre processors run before the query, so its WHERE clause may not hold on the input rows */
+        List<ColumnFilter> columnFilters = configuration.getBoolean(PROCESSOR_PREPROCESSOR_ENABLE_KEY, PROCESSOR_PREPROCESSOR_ENABLE_DEFAULT)
+                ? Collections.emptyList()
+                : ColumnFilter.parse(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT), streamConfig.getSchemaTable());
+        return new SourceParquetFilter(streamConfig.getParquetFileDateRange(), columnFilters);
+    }
 }
@@ -23,29 +23,39 @@ public class ParquetFileRecordFormat implements FileRecordFormat<Row> {
     private final ReaderProvider parquetFileReaderProvider;
     private final Supplier<TypeInformation<Row>> typeInformationProvider;
     private final Supplier<StatsDErrorReporter> statsDErrorReporterSupplier;
+    private final boolean splittable;
 
-    private ParquetFileRecordFormat(ReaderProvider parquetFileReaderProvider, Supplier<TypeInformation<Row>> typeInformationProvider, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+    private ParquetFileRecordFormat(ReaderProvider parquetFileReaderProvider, Supplier<TypeInformation<Row>> typeInformationProvider,
+                                    boolean splittable, SerializedStatsDReporterSupplier statsDReporterSupplier) {
         this.parquetFileReaderProvider = parquetFileReaderProvider;
         this.typeInformationProvider = typeInformationProvider;
+        this.splittable = splittable;
         this.statsDErrorReporterSupplier = (Supplier<StatsDErrorReporter> & Serializable) () -> new StatsDErrorReporter(statsDReporterSupplier);
     }
 
     @Override
     public Reader<Row> createReader(Configuration config, Path filePath, long splitOffset, long splitLength) {
+        if (splittable) {
+            return parquetFileReaderProvider.getReader(filePath.toString(), splitOffset, splitOffset + splitLength);
+        }
         return parquetFileReaderProvider.getReader(filePath.toString());
     }
 
+    /* a split is restored by reading its range from the starting position of the row group it was reading, so that the
+    row groups before it are neither read nor decoded again */
     @Override
     public Reader<Row> restoreReader(Configuration config, Path filePath, long restoredOffset, long splitOffset, long splitLength) {
-        UnsupportedOperationException ex = new UnsupportedOperationException("Error: ParquetReader do not have offsets and hence cannot be restored "
-                + "via this method.");
-        statsDErrorReporterSupplier.get().reportFatalException(ex);
-        throw ex;
+        try {
+            return parquetFileReaderProvider.getReader(filePath.toString(), restoredOffset, splitOffset + splitLength);
+        } catch (UnsupportedOperationException ex) {
+            statsDErrorReporterSupplier.get().reportFatalException(ex);
+            throw ex;
+        }
     }
 
     @Override
     public boolean isSplittable() {
-        return false;
+        return splittable;
     }
 
     @Override
@@ -57,6 +67,7 @@ public class ParquetFileRecordFormat implements FileRecordFormat<Row> {
         private ReaderProvider parquetFileReaderProvider;
         private Supplier<TypeInformation<Row>> typeInformationProvider;
         private SerializedStatsDReporterSupplier statsDReporterSupplier;
+        private boolean splittable;
 
         public static Builder getInstance() {
             return new Builder();
@@ -66,6 +77,7 @@ public class ParquetFileRecordFormat implements FileRecordFormat<Row> {
             this.parquetFileReaderProvider = null;
             this.typeInformationProvider = null;
             this.statsDReporterSupplier = null;
+            this.splittable = false;
         }
 
         public Builder setParquetFileReaderProvider(ReaderProvider parquetFileReaderProvider) {
@@ -83,12 +95,17 @@ public class ParquetFileRecordFormat implements FileRecordFormat<Row> {
             return this;
         }
 
+        public Builder setSplittable(boolean splittable) {
+            this.splittable = splittable;
+            return this;
+        }
+
         public ParquetFileRecordFormat build() {
             try {
                 checkArgument(parquetFileReaderProvider != null, "ReaderProvider is required but is set as null");
                 checkArgument(typeInformationProvider != null, "TypeInformationProvider is required but is set as null");
                 checkArgument(statsDReporterSupplier != null, "SerializedStatsDReporterSupplier is required but is set as null");
-                return new ParquetFileRecordFormat(parquetFileReaderProvider, typeInformationProvider, statsDReporterSupplier);
+                return new ParquetFileRecordFormat(parquetFileReaderProvider, typeInformationProvider, splittable, statsDReporterSupplier);
             } catch (IllegalArgumentException ex) {
                 if (statsDReporterSupplier != null) {
                     new StatsDErrorReporter(statsDReporterSupplier).reportFatalException(ex);
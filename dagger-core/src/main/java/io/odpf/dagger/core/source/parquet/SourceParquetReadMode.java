@@ -0,0 +1,13 @@
+package io.odpf.dagger.core.source.parquet;
+
+import com.google.gson.annotations.SerializedName;
+
+import static io.odpf.dagger.core.utils.Constants.STREAM_SOURCE_PARQUET_READ_MODE_ROW;
+import static io.odpf.dagger.core.utils.Constants.STREAM_SOURCE_PARQUET_READ_MODE_SIMPLE_GROUP;
+
+public enum SourceParquetReadMode {
+    @SerializedName(STREAM_SOURCE_PARQUET_READ_MODE_SIMPLE_GROUP)
+    SIMPLE_GROUP,
+    @SerializedName(STREAM_SOURCE_PARQUET_READ_MODE_ROW)
+    ROW
+}
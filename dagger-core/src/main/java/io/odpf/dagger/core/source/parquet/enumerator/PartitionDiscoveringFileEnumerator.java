@@ -0,0 +1,125 @@
+package io.odpf.dagger.core.source.parquet.enumerator;
+
+import io.odpf.dagger.core.source.parquet.path.PathParser;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.compression.StandardDeCompressors;
+import org.apache.flink.connector.file.src.enumerate.BlockSplittingRecursiveEnumerator;
+import org.apache.flink.connector.file.src.enumerate.DefaultFileFilter;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
+import org.apache.flink.connector.file.src.enumerate.NonSplittingRecursiveEnumerator;
+import org.apache.flink.core.fs.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Enumerates the files of date and hour partitioned paths again and again as new partitions are
+ * written. A partition is taken as complete once a partition starting after its end is found and
+ * its end is older than the allowed lateness, so files written late to a partition are still found
+ * for as long as the allowed lateness. The directories of the complete partitions are not listed
+ * again by the later enumerations.
+ */
+public class PartitionDiscoveringFileEnumerator implements FileEnumerator {
+    private static final String DATE_PARTITION_PREFIX = "dt=";
+    private static final String HOUR_PARTITION_PREFIX = "hr=";
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionDiscoveringFileEnumerator.class.getName());
+
+    private final PathParser pathParser;
+    private final Predicate<Path> defaultFileFilter;
+    private final FileEnumerator recursiveEnumerator;
+    private final Duration allowedLateness;
+    private final Clock clock;
+    private final List<Partition> listedPartitions;
+    private Instant completePartitionsEnd;
+
+    /**
+     * Instantiates a new Partition discovering file enumerator.
+     *
+     * @param pathParser      the parser of the partition paths
+     * @param splittable      whether the files are split at the block size of the file system
+     * @param allowedLateness how long after its end files are still looked for in a partition
+     */
+    public PartitionDiscoveringFileEnumerator(PathParser pathParser, boolean splittable, Duration allowedLateness) {
+        this(pathParser, splittable, allowedLateness, Clock.systemUTC());
+    }
+
+    PartitionDiscoveringFileEnumerator(PathParser pathParser, boolean splittable, Duration allowedLateness, Clock clock) {
+        this.pathParser = pathParser;
+        this.allowedLateness = allowedLateness;
+        this.clock = clock;
+        this.defaultFileFilter = new DefaultFileFilter();
+        this.listedPartitions = new ArrayList<>();
+        this.completePartitionsEnd = Instant.MIN;
+        Predicate<Path> fileFilter = this::isToBeListed;
+        this.recursiveEnumerator = splittable
+                ? new BlockSplittingRecursiveEnumerator(fileFilter, StandardDeCompressors.getCommonSuffixes().toArray(new String[0]))
+                : new NonSplittingRecursiveEnumerator(fileFilter);
+    }
+
+    @Override
+    public Collection<FileSourceSplit> enumerateSplits(Path[] paths, int minDesiredSplits) throws IOException {
+        listedPartitions.clear();
+        Collection<FileSourceSplit> splits = recursiveEnumerator.enumerateSplits(paths, minDesiredSplits);
+        Instant latestPartitionStart = listedPartitions.stream().map(Partition::getStart).max(Instant::compareTo).orElse(Instant.MIN);
+        Instant latenessCutoff = clock.instant().minus(allowedLateness);
+        Instant completeBefore = latestPartitionStart.isBefore(latenessCutoff) ? latestPartitionStart : latenessCutoff;
+        for (Partition partition : listedPartitions) {
+            if (!partition.getEnd().isAfter(completeBefore) && partition.getEnd().isAfter(completePartitionsEnd)) {
+                completePartitionsEnd = partition.getEnd();
+            }
+        }
+        String logMessage = String.format("Enumerated %d splits, the partitions ending before %s are complete", splits.size(), completePartitionsEnd);
+        LOGGER.info(logMessage);
+        return splits;
+    }
+
+    private boolean isToBeListed(Path path) {
+        if (!defaultFileFilter.test(path)) {
+            return false;
+        }
+        String name = path.getName();
+        boolean isHourPartition = name.startsWith(HOUR_PARTITION_PREFIX);
+        if (!isHourPartition && !name.startsWith(DATE_PARTITION_PREFIX)) {
+            return true;
+        }
+        Instant start;
+        try {
+            start = pathParser.instantFromFilePath(path);
+        } catch (ParseException e) {
+            return true;
+        }
+        Partition partition = new Partition(start, start.plus(isHourPartition ? Duration.ofHours(1) : Duration.ofDays(1)));
+        if (!partition.getEnd().isAfter(completePartitionsEnd)) {
+            return false;
+        }
+        listedPartitions.add(partition);
+        return true;
+    }
+
+    private static class Partition {
+        private final Instant start;
+        private final Instant end;
+
+        Partition(Instant start, Instant end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        Instant getStart() {
+            return start;
+        }
+
+        Instant getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package io.odpf.dagger.core.source.parquet.filter;
+
+import com.google.protobuf.Descriptors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A comparison of an input column with a literal, taken from the WHERE clause of the SQL query.
+ * Only the conjuncts of a query reading this one table are taken, so that every row the query keeps
+ * matches all of them. Nested columns and anything other than a plain comparison are left out.
+ */
+@Getter
+@EqualsAndHashCode
+public class ColumnFilter implements Serializable {
+    private static final Pattern SELECT_PATTERN = Pattern.compile("(?i)\\bselect\\b");
+    private static final Pattern UNSUPPORTED_QUERY_PATTERN = Pattern.compile("(?i)\\b(join|union|intersect|except|minus)\\b");
+    private static final Pattern FROM_PATTERN = Pattern.compile("(?i)\\bfrom\\s+`?([A-Za-z_][A-Za-z0-9_]*)`?");
+    private static final Pattern WHERE_PATTERN = Pattern.compile("(?i)\\bwhere\\b");
+    private static final Pattern WHERE_END_PATTERN = Pattern.compile("(?i)\\b(group\\s+by|order\\s+by|having|limit|window)\\b");
+    private static final Pattern UNSUPPORTED_WHERE_PATTERN = Pattern.compile("(?i)\\b(or|not|between)\\b");
+    private static final Pattern AND_PATTERN = Pattern.compile("(?i)\\band\\b");
+    private static final int LITERAL_GROUP = 3;
+    private static final Pattern CONJUNCT_PATTERN = Pattern.compile("`?([A-Za-z_][A-Za-z0-9_]*)`?\\s*(=|<=|>=|<|>)\\s*('(?:[^']|'')*'|-?\\d+(?:\\.\\d+)?)");
+
+    private final String columnName;
+    private final Operator operator;
+    private final String literal;
+    private final boolean stringLiteral;
+
+    /**
+     * Instantiates a new Column filter.
+     *
+     * @param columnName    the column name
+     * @param operator      the operator
+     * @param literal       the literal, without quotes
+     * @param stringLiteral whether the literal is a string
+     */
+    public ColumnFilter(String columnName, Operator operator, String literal, boolean stringLiteral) {
+        this.columnName = columnName;
+        this.operator = operator;
+        this.literal = literal;
+        this.stringLiteral = stringLiteral;
+    }
+
+    /**
+     * Parse the column filters out of the WHERE clause of the SQL query. Nothing is returned when the
+     * query does not read just the given table or when its WHERE clause is not a conjunction.
+     *
+     * @param sqlQuery  the sql query
+     * @param tableName the name of the table the rows are read into
+     * @return the column filters
+     */
+    public static List<ColumnFilter> parse(String sqlQuery, String tableName) {
+        if (sqlQuery == null || tableName == null || countMatches(SELECT_PATTERN, sqlQuery) != 1
+                || UNSUPPORTED_QUERY_PATTERN.matcher(sqlQuery).find()) {
+            return Collections.emptyList();
+        }
+        Matcher fromMatcher = FROM_PATTERN.matcher(sqlQuery);
+        if (!fromMatcher.find() || !fromMatcher.group(1).equals(tableName)) {
+            return Collections.emptyList();
+        }
+        String afterTable = sqlQuery.substring(fromMatcher.end());
+        Matcher whereMatcher = WHERE_PATTERN.matcher(afterTable);
+        if (!whereMatcher.find() || afterTable.substring(0, whereMatcher.start()).matches("(?s).*[,(].*")) {
+            return Collections.emptyList();
+        }
+        String whereClause = afterTable.substring(whereMatcher.end());
+        Matcher whereEndMatcher = WHERE_END_PATTERN.matcher(whereClause);
+        if (whereEndMatcher.find()) {
+            whereClause = whereClause.substring(0, whereEndMatcher.start());
+        }
+        if (UNSUPPORTED_WHERE_PATTERN.matcher(whereClause).find()) {
+            return Collections.emptyList();
+        }
+        List<ColumnFilter> columnFilters = new ArrayList<>();
+        for (String conjunct : AND_PATTERN.split(whereClause)) {
+            Matcher conjunctMatcher = CONJUNCT_PATTERN.matcher(stripParentheses(conjunct.trim()));
+            if (conjunctMatcher.matches()) {
+                String literalToken = conjunctMatcher.group(LITERAL_GROUP);
+                boolean isStringLiteral = literalToken.startsWith("'");
+                String literalValue = isStringLiteral ? literalToken.substring(1, literalToken.length() - 1).replace("''", "'") : literalToken;
+                columnFilters.add(new ColumnFilter(conjunctMatcher.group(1), Operator.fromSymbol(conjunctMatcher.group(2)), literalValue, isStringLiteral));
+            }
+        }
+        return columnFilters;
+    }
+
+    /**
+     * Gets the parquet predicate of this filter on a file with the given schema. There is none when
+     * the column is not stored as the proto value itself, or when the rows missing the column would
+     * match the filter, as they are read with the default value of the field.
+     *
+     * @param fileSchema the schema of the parquet file
+     * @param descriptor the descriptor of the rows
+     * @return the filter predicate, or null when it can not be pushed down
+     */
+    public FilterPredicate toPredicate(MessageType fileSchema, Descriptors.Descriptor descriptor) {
+        Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByName(columnName);
+        if (fieldDescriptor == null || fieldDescriptor.isRepeated() || !fileSchema.containsField(columnName)) {
+            return null;
+        }
+        Type columnType = fileSchema.getType(columnName);
+        if (!columnType.isPrimitive() || columnType.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = columnType.asPrimitiveType();
+        LogicalTypeAnnotation logicalType = primitiveType.getLogicalTypeAnnotation();
+        try {
+            switch (fieldDescriptor.getType()) {
+                case INT32:
+                case SINT32:
+                case SFIXED32:
+                    if (stringLiteral || logicalType != null || primitiveType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.INT32) {
+                        return null;
+                    }
+                    int intValue = Integer.parseInt(literal);
+                    return operator.matches(Integer.compare(0, intValue)) ? null : operator.apply(FilterApi.intColumn(columnName), intValue);
+                case INT64:
+                case SINT64:
+                case SFIXED64:
+                    if (stringLiteral || logicalType != null || primitiveType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.INT64) {
+                        return null;
+                    }
+                    long longValue = Long.parseLong(literal);
+                    return operator.matches(Long.compare(0L, longValue)) ? null : operator.apply(FilterApi.longColumn(columnName), longValue);
+                case DOUBLE:
+                    if (stringLiteral || primitiveType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.DOUBLE) {
+                        return null;
+                    }
+                    double doubleValue = Double.parseDouble(literal);
+                    return operator.matches(Double.compare(0D, doubleValue)) ? null : operator.apply(FilterApi.doubleColumn(columnName), doubleValue);
+                case STRING:
+                    boolean isStringColumn = logicalType == null || logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation;
+                    if (!stringLiteral || operator != Operator.EQ || literal.isEmpty() || !isStringColumn
+                            || primitiveType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.BINARY) {
+                        return null;
+                    }
+                    return FilterApi.eq(FilterApi.binaryColumn(columnName), Binary.fromString(literal));
+                default:
+                    return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String stripParentheses(String conjunct) {
+        String stripped = conjunct;
+        while (stripped.startsWith("(") && stripped.endsWith(")")) {
+            stripped = stripped.substring(1, stripped.length() - 1).trim();
+        }
+        return stripped;
+    }
+
+    private static int countMatches(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * The comparison operators of a column filter.
+     */
+    public enum Operator {
+        EQ("="),
+        LT("<"),
+        LT_EQ("<="),
+        GT(">"),
+        GT_EQ(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported operator " + symbol);
+        }
+
+        boolean matches(int comparison) {
+            switch (this) {
+                case EQ:
+                    return comparison == 0;
+                case LT:
+                    return comparison < 0;
+                case LT_EQ:
+                    return comparison <= 0;
+                case GT:
+                    return comparison > 0;
+                case GT_EQ:
+                default:
+                    return comparison >= 0;
+            }
+        }
+
+        <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate apply(C column, T value) {
+            switch (this) {
+                case EQ:
+                    return FilterApi.eq(column, value);
+                case LT:
+                    return FilterApi.lt(column, value);
+                case LT_EQ:
+                    return FilterApi.ltEq(column, value);
+                case GT:
+                    return FilterApi.gt(column, value);
+                case GT_EQ:
+                default:
+                    return FilterApi.gtEq(column, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.odpf.dagger.core.source.parquet.filter;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import org.apache.flink.types.Row;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The filters pushed down into the parquet files read by the source. The rowtime range and the
+ * column filters become a predicate on the row group statistics, dictionaries and column indexes,
+ * so that the row groups and pages which can not hold a matching row are never read. As the
+ * statistics only narrow down what is read, the rows are checked against the rowtime range too.
+ */
+public class SourceParquetFilter implements Serializable {
+    private static final String SECONDS_FIELD_NAME = "seconds";
+
+    private final TimeRangePool timeRangePool;
+    private final List<ColumnFilter> columnFilters;
+
+    /**
+     * Instantiates a new Source parquet filter.
+     *
+     * @param timeRangePool the time ranges of the rowtime, all the rows are read when null
+     * @param columnFilters the column filters
+     */
+    public SourceParquetFilter(TimeRangePool timeRangePool, List<ColumnFilter> columnFilters) {
+        this.timeRangePool = timeRangePool;
+        this.columnFilters = columnFilters;
+    }
+
+    /**
+     * Gets the predicate to filter the row groups and pages of a parquet file with the given schema.
+     *
+     * @param fileSchema          the schema of the columns read from the parquet file
+     * @param descriptor          the descriptor of the rows
+     * @param timestampFieldIndex the field number of the rowtime field
+     * @return the filter predicate, or null when nothing can be filtered
+     */
+    public FilterPredicate getRowGroupPredicate(MessageType fileSchema, Descriptors.Descriptor descriptor, int timestampFieldIndex) {
+        FilterPredicate predicate = getTimeRangePredicate(fileSchema, descriptor.findFieldByNumber(timestampFieldIndex));
+        for (ColumnFilter columnFilter : columnFilters) {
+            FilterPredicate columnPredicate = columnFilter.toPredicate(fileSchema, descriptor);
+            if (columnPredicate != null) {
+                predicate = predicate == null ? columnPredicate : FilterApi.and(predicate, columnPredicate);
+            }
+        }
+        return predicate;
+    }
+
+    /**
+     * Check whether the rowtime of the row lies in the time ranges.
+     *
+     * @param row the row
+     * @return true if the row is to be read
+     */
+    public boolean contains(Row row) {
+        if (!hasTimeRanges()) {
+            return true;
+        }
+        Timestamp rowtime = (Timestamp) row.getField(row.getArity() - 1);
+        return rowtime != null && timeRangePool.contains(rowtime.toInstant());
+    }
+
+    private boolean hasTimeRanges() {
+        return timeRangePool != null && !timeRangePool.getTimeRanges().isEmpty();
+    }
+
+    private FilterPredicate getTimeRangePredicate(MessageType fileSchema, Descriptors.FieldDescriptor timestampField) {
+        /* rows without a rowtime are read with the epoch, which the statistics do not account for */
+        if (!hasTimeRanges() || timeRangePool.contains(Instant.EPOCH) || timestampField == null
+                || !fileSchema.containsField(timestampField.getName())) {
+            return null;
+        }
+        Type columnType = fileSchema.getType(timestampField.getName());
+        if (columnType.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        Operators.LongColumn column;
+        boolean isEpochMillis;
+        if (isInt64(columnType)) {
+            column = FilterApi.longColumn(columnType.getName());
+            isEpochMillis = true;
+        } else if (!columnType.isPrimitive() && hasSecondsColumn(columnType.asGroupType())) {
+            column = FilterApi.longColumn(columnType.getName() + "." + SECONDS_FIELD_NAME);
+            isEpochMillis = false;
+        } else {
+            return null;
+        }
+        FilterPredicate predicate = null;
+        for (TimeRange timeRange : timeRangePool.getTimeRanges()) {
+            long start = isEpochMillis ? timeRange.getStartInstant().toEpochMilli() : timeRange.getStartInstant().getEpochSecond();
+            long end = isEpochMillis ? timeRange.getEndInstant().toEpochMilli() : timeRange.getEndInstant().getEpochSecond();
+            FilterPredicate rangePredicate = FilterApi.and(FilterApi.gtEq(column, start), FilterApi.ltEq(column, end));
+            predicate = predicate == null ? rangePredicate : FilterApi.or(predicate, rangePredicate);
+        }
+        return predicate;
+    }
+
+    private boolean hasSecondsColumn(GroupType groupType) {
+        return groupType.containsField(SECONDS_FIELD_NAME) && isInt64(groupType.getType(SECONDS_FIELD_NAME))
+                && !groupType.getType(SECONDS_FIELD_NAME).isRepetition(Type.Repetition.REPEATED);
+    }
+
+    private boolean isInt64(Type type) {
+        return type.isPrimitive() && type.asPrimitiveType().getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT64;
+    }
+}
@@ -14,9 +14,10 @@ import java.util.regex.Pattern;
 public class HourDatePathParser implements PathParser, Serializable {
     @Override
     public Instant instantFromFilePath(Path path) throws ParseException {
-        Pattern filePathPattern = Pattern.compile("^.*/dt=([0-9][0-9][0-9][0-9]-[0-9][0-9]-[0-9][0-9])/(hr=([0-9][0-9]))?.*$");
+        /* the partition directories themselves are parsed as well, so that they can be pruned without being listed */
+        Pattern filePathPattern = Pattern.compile("^.*/dt=([0-9][0-9][0-9][0-9]-[0-9][0-9]-[0-9][0-9])(/(hr=([0-9][0-9]))?.*)?$");
         Matcher matcher = filePathPattern.matcher(path.toString());
-        final int hourMatcherGroupNumber = 3;
+        final int hourMatcherGroupNumber = 4;
         final int dateMatcherGroupNumber = 1;
         boolean matchFound = matcher.find();
         if (matchFound && matcher.group(hourMatcherGroupNumber) != null && matcher.group(dateMatcherGroupNumber) != null) {
@@ -3,22 +3,32 @@ package io.odpf.dagger.core.source.parquet.reader;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
+import io.odpf.dagger.core.metrics.reporters.statsd.manager.AggregationWindow;
 import io.odpf.dagger.core.metrics.reporters.statsd.manager.DaggerCounterManager;
 import io.odpf.dagger.core.metrics.reporters.statsd.manager.DaggerHistogramManager;
 import io.odpf.dagger.core.metrics.reporters.statsd.tags.StatsDTag;
+import io.odpf.dagger.common.serde.parquet.deserialization.ParquetRowMaterializer;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.exception.ParquetFileSourceReaderInitializationException;
 import io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects;
+import io.odpf.dagger.core.source.parquet.SourceParquetReadMode;
+import io.odpf.dagger.core.source.parquet.filter.SourceParquetFilter;
 import org.apache.flink.connector.file.src.reader.FileRecordFormat;
 import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.types.Row;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
-import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.format.converter.ParquetMetadataConverter.MetadataFilter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.io.ColumnIOFactory;
 import org.apache.parquet.io.MessageColumnIO;
@@ -29,9 +39,11 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.odpf.dagger.core.metrics.reporters.statsd.tags.ComponentTags.getParquetReaderTags;
+import static org.apache.parquet.format.converter.ParquetMetadataConverter.NO_FILTER;
 
 public class ParquetReader implements FileRecordFormat.Reader<Row> {
     private final Path hadoopFilePath;
@@ -40,32 +52,66 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
     private final ParquetFileReader parquetFileReader;
     private long rowCount;
     private boolean isRecordReaderInitialized;
-    private RecordReader<Group> recordReader;
+    private RecordReader<?> recordReader;
     private final MessageType schema;
-    private long totalEmittedRowCount;
+    private final MessageType requestedSchema;
+    private final SourceParquetFilter sourceParquetFilter;
+    private final ParquetRowMaterializer rowMaterializer;
+    private final MessageColumnIO columnIO;
+    private final boolean isRowGroupTracked;
+    private final List<BlockMetaData> rowGroups;
+    private int nextRowGroupIndex;
+    private long positionOffset;
+    private long recordsAfterPositionOffset;
+    private final RowGroupPrefetcher rowGroupPrefetcher;
     private DaggerCounterManager daggerCounterManager;
     private DaggerHistogramManager daggerHistogramManager;
     private final StatsDErrorReporter statsDErrorReporter;
     private static final Logger LOGGER = LoggerFactory.getLogger(ParquetReader.class.getName());
+    private static final long METRICS_FLUSH_INTERVAL_MS = 10_000L;
+    private static final int METRICS_FLUSH_EVERY_EVENTS = 100_000;
 
     private ParquetReader(Path hadoopFilePath, SimpleGroupDeserializer simpleGroupDeserializer, ParquetFileReader
-            parquetFileReader, SerializedStatsDReporterSupplier statsDReporterSupplier) throws IOException {
+            parquetFileReader, SourceParquetReadMode readMode, SourceParquetFilter sourceParquetFilter, long rangeStart,
+                          boolean isRowGroupTracked, long prefetchMemoryBytes, SerializedStatsDReporterSupplier statsDReporterSupplier) throws IOException {
         this.hadoopFilePath = hadoopFilePath;
         this.simpleGroupDeserializer = simpleGroupDeserializer;
         this.parquetFileReader = parquetFileReader;
+        this.sourceParquetFilter = sourceParquetFilter;
         this.schema = this.parquetFileReader.getFileMetaData().getSchema();
+        if (readMode == SourceParquetReadMode.ROW) {
+            this.rowMaterializer = simpleGroupDeserializer.createRowMaterializer(schema);
+            this.requestedSchema = rowMaterializer.getRequestedSchema();
+        } else {
+            this.rowMaterializer = null;
+            this.requestedSchema = simpleGroupDeserializer.getRequestedSchema(schema);
+        }
+        this.parquetFileReader.setRequestedSchema(requestedSchema);
+        this.columnIO = new ColumnIOFactory().getColumnIO(requestedSchema, schema);
         this.isRecordReaderInitialized = false;
-        this.totalEmittedRowCount = 0L;
+        this.isRowGroupTracked = isRowGroupTracked;
+        this.rowGroups = parquetFileReader.getRowGroups();
+        this.positionOffset = isRowGroupTracked && !rowGroups.isEmpty() ? rowGroups.get(0).getStartingPos() : rangeStart;
         this.registerTagsWithMeasurementManagers(statsDReporterSupplier);
         this.statsDErrorReporter = new StatsDErrorReporter(statsDReporterSupplier);
         daggerCounterManager.increment(ParquetReaderAspects.READER_CREATED);
+        int skippedRowGroups = parquetFileReader.getFooter().getBlocks().size() - parquetFileReader.getRowGroups().size();
+        if (skippedRowGroups > 0) {
+            daggerCounterManager.increment(ParquetReaderAspects.READER_ROW_GROUPS_SKIPPED, skippedRowGroups);
+        }
+        int maxRowGroupsInMemory = RowGroupPrefetcher.getMaxRowGroupsInMemory(rowGroups, prefetchMemoryBytes);
+        this.rowGroupPrefetcher = maxRowGroupsInMemory > 1
+                ? new RowGroupPrefetcher(parquetFileReader, maxRowGroupsInMemory, hadoopFilePath.getName()) : null;
     }
 
+    /* the metrics of every row are aggregated locally, rather than sent to StatsD one by one */
     private void registerTagsWithMeasurementManagers(SerializedStatsDReporterSupplier statsDReporterSupplier) {
         StatsDTag[] parquetReaderTags = getParquetReaderTags();
-        this.daggerCounterManager = new DaggerCounterManager(statsDReporterSupplier);
+        this.daggerCounterManager = new DaggerCounterManager(statsDReporterSupplier,
+                new AggregationWindow(METRICS_FLUSH_INTERVAL_MS, METRICS_FLUSH_EVERY_EVENTS));
         this.daggerCounterManager.register(parquetReaderTags);
-        this.daggerHistogramManager = new DaggerHistogramManager(statsDReporterSupplier);
+        this.daggerHistogramManager = new DaggerHistogramManager(statsDReporterSupplier,
+                new AggregationWindow(METRICS_FLUSH_INTERVAL_MS, METRICS_FLUSH_EVERY_EVENTS));
         this.daggerHistogramManager.register(parquetReaderTags);
     }
 
@@ -81,44 +127,98 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
     private void changeReaderPosition(PageReadStore pages) {
         rowCount = pages.getRowCount();
         currentRecordIndex = 0;
-        MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(schema);
-        recordReader = columnIO.getRecordReader(pages, new GroupRecordConverter(schema));
+        if (rowMaterializer == null) {
+            recordReader = columnIO.getRecordReader(pages, new GroupRecordConverter(requestedSchema));
+        } else {
+            recordReader = columnIO.getRecordReader(pages, rowMaterializer);
+        }
+        /* without a record filter the row groups are read one after the other, so the one being read is known */
+        if (isRowGroupTracked) {
+            positionOffset = rowGroups.get(nextRowGroupIndex).getStartingPos();
+            recordsAfterPositionOffset = 0;
+            nextRowGroupIndex++;
+        }
     }
 
-    private void initializeRecordReader() throws IOException {
-        PageReadStore nextPage = parquetFileReader.readNextRowGroup();
-        changeReaderPosition(nextPage);
+    private void initializeRecordReader() {
+        rowCount = 0;
+        currentRecordIndex = 0;
         this.isRecordReaderInitialized = true;
         String logMessage = String.format("Successfully created the ParquetFileReader and RecordReader for file %s", hadoopFilePath.getName());
         LOGGER.info(logMessage);
     }
 
     private Row readRecords() throws IOException {
-        long startReadTime = Instant.now().toEpochMilli();
+        long startReadTime = System.nanoTime();
+        while (hasNextRecord()) {
+            Row row = readRecord(startReadTime);
+            if (sourceParquetFilter == null || sourceParquetFilter.contains(row)) {
+                recordsAfterPositionOffset++;
+                return row;
+            }
+            daggerCounterManager.increment(ParquetReaderAspects.READER_ROWS_FILTERED);
+            startReadTime = System.nanoTime();
+        }
+        return null;
+    }
 
-        if (currentRecordIndex >= rowCount) {
-            PageReadStore nextPage = parquetFileReader.readNextRowGroup();
+    private boolean hasNextRecord() throws IOException {
+        while (currentRecordIndex >= rowCount) {
+            PageReadStore nextPage = readNextRowGroup();
             if (checkIfNullPage(nextPage)) {
-                return null;
+                return false;
             }
             changeReaderPosition(nextPage);
         }
+        return true;
+    }
+
+    private PageReadStore readNextRowGroup() throws IOException {
+        if (rowGroupPrefetcher == null) {
+            return parquetFileReader.readNextFilteredRowGroup();
+        }
+        long startWaitTime = System.nanoTime();
+        PageReadStore pages = rowGroupPrefetcher.readNextRowGroup();
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_PREFETCH_WAIT_TIME, elapsedMillis(startWaitTime, System.nanoTime()));
+        return pages;
+    }
+
+    private Row readRecord(long startReadTime) {
+        if (rowMaterializer != null) {
+            Row row = materialize();
+            long endReadTime = System.nanoTime();
+            currentRecordIndex++;
+            daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_READ_TIME, elapsedMillis(startReadTime, endReadTime));
+            return row;
+        }
         SimpleGroup simpleGroup = (SimpleGroup) recordReader.read();
-        long endReadTime = Instant.now().toEpochMilli();
+        long endReadTime = System.nanoTime();
 
         currentRecordIndex++;
-        long startDeserializationTime = Instant.now().toEpochMilli();
 
         Row row = deserialize(simpleGroup);
 
-        long endDeserializationTime = Instant.now().toEpochMilli();
-        totalEmittedRowCount++;
+        long endDeserializationTime = System.nanoTime();
 
-        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_READ_TIME, endReadTime - startReadTime);
-        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_DESERIALIZATION_TIME, endDeserializationTime - startDeserializationTime);
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_READ_TIME, elapsedMillis(startReadTime, endReadTime));
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_DESERIALIZATION_TIME, elapsedMillis(endReadTime, endDeserializationTime));
         return row;
     }
 
+    private static long elapsedMillis(long startNanos, long endNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+    }
+
+    private Row materialize() {
+        try {
+            return (Row) recordReader.read();
+        } catch (RuntimeException e) {
+            DaggerDeserializationException exception = new DaggerDeserializationException(e);
+            statsDErrorReporter.reportFatalException(exception);
+            throw exception;
+        }
+    }
+
     private Row deserialize(SimpleGroup simpleGroup) {
         try {
             return simpleGroupDeserializer.deserialize(simpleGroup);
@@ -141,11 +241,17 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
 
     @Override
     public void close() throws IOException {
-        parquetFileReader.close();
+        if (rowGroupPrefetcher != null) {
+            rowGroupPrefetcher.close();
+        } else {
+            parquetFileReader.close();
+        }
         closeRecordReader();
         String logMessage = String.format("Closed the ParquetFileReader and de-referenced the RecordReader for file %s", hadoopFilePath.getName());
         LOGGER.info(logMessage);
         daggerCounterManager.increment(ParquetReaderAspects.READER_CLOSED);
+        daggerCounterManager.flush();
+        daggerHistogramManager.flush();
     }
 
     private void closeRecordReader() {
@@ -155,32 +261,103 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
         recordReader = null;
     }
 
+    /**
+     * Gets the starting position of the row group being read and the number of rows read from it, so that
+     * a restored reader seeks straight to that row group. When a record filter is pushed down the row
+     * groups being read are not known, and the position is the start of the range with all the rows read.
+     *
+     * @return the checkpointed position
+     */
     @Override
     public CheckpointedPosition getCheckpointedPosition() {
-        return new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, totalEmittedRowCount);
+        return new CheckpointedPosition(positionOffset, recordsAfterPositionOffset);
     }
 
     public static class ParquetReaderProvider implements ReaderProvider {
         private final SimpleGroupDeserializer simpleGroupDeserializer;
+        private final SourceParquetReadMode readMode;
+        private final SourceParquetFilter sourceParquetFilter;
+        private final long prefetchMemoryBytes;
         private final SerializedStatsDReporterSupplier statsDReporterSupplier;
 
         public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+            this(simpleGroupDeserializer, SourceParquetReadMode.SIMPLE_GROUP, statsDReporterSupplier);
+        }
+
+        public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SourceParquetReadMode readMode, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+            this(simpleGroupDeserializer, readMode, null, statsDReporterSupplier);
+        }
+
+        public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SourceParquetReadMode readMode,
+                                     SourceParquetFilter sourceParquetFilter, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+            this(simpleGroupDeserializer, readMode, sourceParquetFilter, 0L, statsDReporterSupplier);
+        }
+
+        public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SourceParquetReadMode readMode,
+                                     SourceParquetFilter sourceParquetFilter, long prefetchMemoryBytes,
+                                     SerializedStatsDReporterSupplier statsDReporterSupplier) {
             this.simpleGroupDeserializer = simpleGroupDeserializer;
+            this.readMode = readMode;
+            this.sourceParquetFilter = sourceParquetFilter;
+            this.prefetchMemoryBytes = prefetchMemoryBytes;
             this.statsDReporterSupplier = statsDReporterSupplier;
         }
 
         @Override
         public ParquetReader getReader(String filePath) {
+            return createReader(filePath, NO_FILTER, 0L);
+        }
+
+        /**
+         * Gets a reader of the row groups of the file whose middle lies within the given byte range. Its
+         * checkpointed position is the starting position of the row group being read and the number of
+         * rows read from it, so that it can be restored by reading the range from that position.
+         *
+         * @param filePath   the file path
+         * @param rangeStart the start of the byte range
+         * @param rangeEnd   the end of the byte range, exclusive
+         * @return the parquet reader
+         */
+        @Override
+        public ParquetReader getReader(String filePath, long rangeStart, long rangeEnd) {
+            return createReader(filePath, ParquetMetadataConverter.range(rangeStart, rangeEnd), rangeStart);
+        }
+
+        private ParquetReader createReader(String filePath, MetadataFilter metadataFilter, long rangeStart) {
             try {
                 Configuration conf = new Configuration();
                 Path hadoopFilePath = new Path(filePath);
-                ParquetFileReader parquetFileReader = ParquetFileReader.open(HadoopInputFile.fromPath(hadoopFilePath, conf));
-                return new ParquetReader(hadoopFilePath, simpleGroupDeserializer, parquetFileReader, statsDReporterSupplier);
+                HadoopInputFile inputFile = HadoopInputFile.fromPath(hadoopFilePath, conf);
+                ParquetFileReader parquetFileReader = ParquetFileReader.open(inputFile,
+                        HadoopReadOptions.builder(conf).withMetadataFilter(metadataFilter).build());
+                FilterPredicate predicate = null;
+                if (sourceParquetFilter != null) {
+                    try {
+                        predicate = getRowGroupPredicate(parquetFileReader.getFooter());
+                    } catch (RuntimeException e) {
+                        parquetFileReader.close();
+                        throw e;
+                    }
+                }
+                if (predicate != null) {
+                    parquetFileReader.close();
+                    parquetFileReader = ParquetFileReader.open(inputFile, HadoopReadOptions.builder(conf)
+                            .withMetadataFilter(metadataFilter).withRecordFilter(FilterCompat.get(predicate)).build());
+                }
+                boolean isRowGroupTracked = predicate == null;
+                return new ParquetReader(hadoopFilePath, simpleGroupDeserializer, parquetFileReader, readMode, sourceParquetFilter,
+                        rangeStart, isRowGroupTracked, prefetchMemoryBytes, statsDReporterSupplier);
             } catch (IOException | RuntimeException ex) {
                 ParquetFileSourceReaderInitializationException exception = new ParquetFileSourceReaderInitializationException(ex);
                 new StatsDErrorReporter(statsDReporterSupplier).reportFatalException(exception);
                 throw exception;
             }
         }
+
+        private FilterPredicate getRowGroupPredicate(ParquetMetadata footer) {
+            MessageType requestedSchema = simpleGroupDeserializer.getRequestedSchema(footer.getFileMetaData().getSchema());
+            return sourceParquetFilter.getRowGroupPredicate(requestedSchema,
+                    simpleGroupDeserializer.getDescriptor(), simpleGroupDeserializer.getTimestampFieldIndex());
+        }
     }
 }
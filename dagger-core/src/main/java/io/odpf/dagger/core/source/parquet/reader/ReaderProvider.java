@@ -8,4 +8,16 @@ import java.io.Serializable;
 @FunctionalInterface
 public interface ReaderProvider extends Serializable {
     FileRecordFormat.Reader<Row> getReader(String filePath);
+
+    /**
+     * Gets a reader of the row groups of the file whose middle lies within the given byte range.
+     *
+     * @param filePath   the file path
+     * @param rangeStart the start of the byte range
+     * @param rangeEnd   the end of the byte range, exclusive
+     * @return the reader
+     */
+    default FileRecordFormat.Reader<Row> getReader(String filePath, long rangeStart, long rangeEnd) {
+        throw new UnsupportedOperationException("Error: this reader provider cannot read a range of a file");
+    }
 }
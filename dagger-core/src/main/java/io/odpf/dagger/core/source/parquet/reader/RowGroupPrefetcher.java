@@ -0,0 +1,182 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reads the row groups of a parquet file ahead of the reader on a background thread, so that the task
+ * thread does not wait on the file system while it reads the rows of the current row group. The row
+ * groups read ahead are held in memory along with the one being read, so a row group is only read
+ * ahead while fewer than the given number of them are held: the one being read counts until the
+ * reader moves on to the next one or the prefetcher is closed. The parquet file reader is closed
+ * along with the prefetcher, on the prefetch thread when a row group is still being read then.
+ */
+class RowGroupPrefetcher implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowGroupPrefetcher.class.getName());
+
+    private final ParquetFileReader parquetFileReader;
+    private final Semaphore prefetchPermits;
+    private final BlockingQueue<PrefetchedRowGroup> prefetchedRowGroups;
+    private final ExecutorService executorService;
+    private final AtomicBoolean isParquetFileReaderReleased = new AtomicBoolean();
+    private volatile boolean isClosed;
+    private boolean isEndOfFile;
+    private boolean isRowGroupHeld;
+
+    /**
+     * Instantiates a new Row group prefetcher and starts reading the row groups.
+     *
+     * @param parquetFileReader    the parquet file reader, only read and closed by the prefetcher from now on
+     * @param maxRowGroupsInMemory the maximum number of row groups held, the one being read included
+     * @param fileName             the file name
+     */
+    RowGroupPrefetcher(ParquetFileReader parquetFileReader, int maxRowGroupsInMemory, String fileName) {
+        this.parquetFileReader = parquetFileReader;
+        this.prefetchPermits = new Semaphore(maxRowGroupsInMemory);
+        this.prefetchedRowGroups = new LinkedBlockingQueue<>();
+        this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parquet-row-group-prefetch-" + fileName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executorService.execute(this::prefetch);
+    }
+
+    /**
+     * Gets the number of row groups of the file which fit in the given number of bytes, taking the
+     * size of every row group as that of the largest one, as the pages are held compressed. Row
+     * groups are only read ahead when at least two of them fit, one being read and one read ahead.
+     *
+     * @param rowGroups        the row groups of the file
+     * @param maxPrefetchBytes the maximum bytes of the row groups held, the one being read included
+     * @return the maximum number of row groups held in memory
+     */
+    static int getMaxRowGroupsInMemory(List<BlockMetaData> rowGroups, long maxPrefetchBytes) {
+        long largestRowGroupSize = rowGroups.stream().mapToLong(BlockMetaData::getCompressedSize).max().orElse(0L);
+        if (maxPrefetchBytes <= 0 || largestRowGroupSize <= 0) {
+            return 0;
+        }
+        return (int) Math.min(maxPrefetchBytes / largestRowGroupSize, rowGroups.size());
+    }
+
+    /**
+     * Gets the next row group, waiting for it to be read when it is not read yet. The row group
+     * returned before is let go of, so the caller must be done with it.
+     *
+     * @return the pages of the next row group, or null when there are no more row groups
+     * @throws IOException when the row group could not be read
+     */
+    PageReadStore readNextRowGroup() throws IOException {
+        releaseHeldRowGroup();
+        if (isEndOfFile) {
+            return null;
+        }
+        PrefetchedRowGroup prefetchedRowGroup;
+        try {
+            prefetchedRowGroup = prefetchedRowGroups.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next row group");
+        }
+        if (prefetchedRowGroup.exception != null) {
+            prefetchPermits.release();
+            isEndOfFile = true;
+            if (prefetchedRowGroup.exception instanceof RuntimeException) {
+                throw (RuntimeException) prefetchedRowGroup.exception;
+            }
+            throw (IOException) prefetchedRowGroup.exception;
+        }
+        isEndOfFile = prefetchedRowGroup.pages == null;
+        isRowGroupHeld = !isEndOfFile;
+        if (isEndOfFile) {
+            prefetchPermits.release();
+        }
+        return prefetchedRowGroup.pages;
+    }
+
+    private void releaseHeldRowGroup() {
+        if (isRowGroupHeld) {
+            isRowGroupHeld = false;
+            prefetchPermits.release();
+        }
+    }
+
+    private void prefetch() {
+        try {
+            PageReadStore pages;
+            do {
+                prefetchPermits.acquire();
+                pages = parquetFileReader.readNextFilteredRowGroup();
+                prefetchedRowGroups.add(new PrefetchedRowGroup(pages, null));
+            } while (pages != null && !isClosed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            prefetchedRowGroups.add(new PrefetchedRowGroup(null, e));
+        } catch (Throwable t) {
+            prefetchedRowGroups.add(new PrefetchedRowGroup(null, new IOException("Failed to read the next row group", t)));
+        } finally {
+            closeParquetFileReaderQuietly();
+        }
+    }
+
+    private void closeParquetFileReaderQuietly() {
+        try {
+            releaseParquetFileReader();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close the parquet file reader after the row group prefetch stopped", e);
+        }
+    }
+
+    private void releaseParquetFileReader() throws IOException {
+        if (!isParquetFileReaderReleased.compareAndSet(false, true)) {
+            parquetFileReader.close();
+        }
+    }
+
+    /**
+     * Stops reading ahead, drops the row groups read ahead and closes the parquet file reader. When
+     * the prefetch thread is still reading a row group, the parquet file reader is closed on that
+     * thread once the read returns, so that it is never closed while being read.
+     *
+     * @throws IOException when the parquet file reader could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        boolean isPrefetchNotStarted = !executorService.shutdownNow().isEmpty();
+        prefetchedRowGroups.clear();
+        releaseHeldRowGroup();
+        if (isPrefetchNotStarted) {
+            releaseParquetFileReader();
+        }
+        releaseParquetFileReader();
+    }
+
+    private static class PrefetchedRowGroup {
+        private final PageReadStore pages;
+        private final Exception exception;
+
+        PrefetchedRowGroup(PageReadStore pages, Exception exception) {
+            this.pages = pages;
+            this.exception = exception;
+        }
+    }
+}
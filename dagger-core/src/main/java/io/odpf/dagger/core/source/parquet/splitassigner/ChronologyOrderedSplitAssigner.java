@@ -65,11 +65,14 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
         return Optional.of(instantEnrichedSplit.getFileSourceSplit());
     }
 
+    /* called with the splits of the files discovered by a continuous source, and with the splits given back
+    by a failed reader, both of which are put back in the chronological order */
     @Override
     public void addSplits(Collection<FileSourceSplit> splits) {
         for (FileSourceSplit split : splits) {
             validateAndAddSplits(split);
         }
+        daggerGaugeManager.markValue(SPLITS_AWAITING_ASSIGNMENT, unassignedSplits.size());
     }
 
     @Override
@@ -93,6 +96,8 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
         }
     }
 
+    /* the splits of the same instant are ordered by file and then by their position in the file, so that the
+    row groups of a file split into many are handed out in the order they were written */
     private Comparator<InstantEnrichedSplit> getFileSourceSplitComparator() {
         return (instantEnrichedSplit1, instantEnrichedSplit2) -> {
             Instant instant1 = instantEnrichedSplit1.getInstant();
@@ -101,9 +106,14 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
                 return -1;
             } else if (instant1.isAfter(instant2)) {
                 return 1;
-            } else {
-                return 0;
             }
+            FileSourceSplit split1 = instantEnrichedSplit1.getFileSourceSplit();
+            FileSourceSplit split2 = instantEnrichedSplit2.getFileSourceSplit();
+            int pathComparison = split1.path().toString().compareTo(split2.path().toString());
+            if (pathComparison != 0) {
+                return pathComparison;
+            }
+            return Long.compare(split1.offset(), split2.offset());
         };
     }
 
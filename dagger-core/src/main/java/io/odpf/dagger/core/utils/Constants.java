@@ -8,6 +8,10 @@ public class Constants {
     public static final String PROCESSOR_POSTPROCESSOR_ENABLE_KEY = "PROCESSOR_POSTPROCESSOR_ENABLE";
     public static final boolean PROCESSOR_POSTPROCESSOR_ENABLE_DEFAULT = false;
     public static final String PROCESSOR_POSTPROCESSOR_CONFIG_KEY = "PROCESSOR_POSTPROCESSOR_CONFIG";
+    public static final String PROCESSOR_POSTPROCESSOR_FUSED_ENABLE_KEY = "PROCESSOR_POSTPROCESSOR_FUSED_ENABLE";
+    public static final boolean PROCESSOR_POSTPROCESSOR_FUSED_ENABLE_DEFAULT = false;
+    public static final String PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_KEY = "PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE";
+    public static final boolean PROCESSOR_POSTPROCESSOR_TYPED_ROWS_ENABLE_DEFAULT = false;
 
     public static final String LONGBOW_DURATION_KEY = "longbow_duration";
     public static final String LONGBOW_LATEST_KEY = "longbow_latest";
@@ -28,6 +32,12 @@ public class Constants {
     public static final String PROCESSOR_LONGBOW_ASYNC_TIMEOUT_KEY = "PROCESSOR_LONGBOW_ASYNC_TIMEOUT";
     public static final Integer PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT = 30;
     public static final String PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY = "PROCESSOR_LONGBOW_THREAD_CAPACITY";
+    public static final Integer PROCESSOR_LONGBOW_WRITE_BATCH_SIZE_DEFAULT = 1;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_SIZE_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_SIZE";
+    public static final Long PROCESSOR_LONGBOW_WRITE_BATCH_BYTES_DEFAULT = 2097152L;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_BYTES_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_BYTES";
+    public static final Long PROCESSOR_LONGBOW_WRITE_FLUSH_INTERVAL_MS_DEFAULT = 100L;
+    public static final String PROCESSOR_LONGBOW_WRITE_FLUSH_INTERVAL_MS_KEY = "PROCESSOR_LONGBOW_WRITE_FLUSH_INTERVAL_MS";
     public static final String DAGGER_NAME_KEY = "FLINK_JOB_ID";
     public static final String DAGGER_NAME_DEFAULT = "SQL Flink Job";
     public static final String EVENT_TIMESTAMP = "event_timestamp";
@@ -59,6 +69,8 @@ public class Constants {
     public static final String FLINK_ROWTIME_ATTRIBUTE_NAME_KEY = "FLINK_ROWTIME_ATTRIBUTE_NAME";
     public static final boolean FLINK_WATERMARK_PER_PARTITION_ENABLE_DEFAULT = false;
     public static final String FLINK_WATERMARK_PER_PARTITION_ENABLE_KEY = "FLINK_WATERMARK_PER_PARTITION_ENABLE";
+    public static final boolean FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_DEFAULT = false;
+    public static final String FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_KEY = "FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE";
     public static final String FLINK_JOB_ID_DEFAULT = "SQL Flink job";
     public static final String FLINK_JOB_ID_KEY = "FLINK_JOB_ID";
 
@@ -92,6 +104,9 @@ public class Constants {
     public static final String SQL_TRANSFORMER_CLASS = "io.odpf.dagger.functions.transformers.SQLTransformer";
 
     public static final String STREAM_INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX_KEY = "INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX";
+    public static final String STREAM_INPUT_SCHEMA_PROTO_DECODER_KEY = "INPUT_SCHEMA_PROTO_DECODER";
+    public static final String STREAM_INPUT_SCHEMA_PROTO_DECODER_DYNAMIC_MESSAGE = "DYNAMIC_MESSAGE";
+    public static final String STREAM_INPUT_SCHEMA_PROTO_DECODER_WIRE_FORMAT = "WIRE_FORMAT";
     public static final String STREAM_SOURCE_KAFKA_TOPIC_NAMES_KEY = "SOURCE_KAFKA_TOPIC_NAMES";
     public static final String STREAM_INPUT_STREAM_NAME_KEY = "SOURCE_KAFKA_NAME";
 
@@ -107,8 +122,18 @@ public class Constants {
     public static final String STREAM_SOURCE_PARQUET_READ_ORDER_STRATEGY_KEY = "SOURCE_PARQUET_READ_ORDER_STRATEGY";
     public static final String STREAM_SOURCE_PARQUET_READ_ORDER_STRATEGY_EARLIEST_TIME_URL_FIRST = "EARLIEST_TIME_URL_FIRST";
     public static final String STREAM_SOURCE_PARQUET_READ_ORDER_STRATEGY_EARLIEST_INDEX_FIRST = "EARLIEST_INDEX_FIRST";
+    public static final String STREAM_SOURCE_PARQUET_READ_MODE_KEY = "SOURCE_PARQUET_READ_MODE";
+    public static final String STREAM_SOURCE_PARQUET_READ_MODE_SIMPLE_GROUP = "SIMPLE_GROUP";
+    public static final String STREAM_SOURCE_PARQUET_READ_MODE_ROW = "ROW";
     public static final String STREAM_SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY_KEY = "SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY";
     public static final String STREAM_SOURCE_PARQUET_FILE_DATE_RANGE_KEY = "SOURCE_PARQUET_FILE_DATE_RANGE";
+    public static final String STREAM_SOURCE_PARQUET_FILTER_PUSHDOWN_ENABLE_KEY = "SOURCE_PARQUET_FILTER_PUSHDOWN_ENABLE";
+    public static final String STREAM_SOURCE_PARQUET_ROW_GROUP_SPLIT_ENABLE_KEY = "SOURCE_PARQUET_ROW_GROUP_SPLIT_ENABLE";
+    public static final String STREAM_SOURCE_PARQUET_PREFETCH_MEMORY_BYTES_KEY = "SOURCE_PARQUET_PREFETCH_MEMORY_BYTES";
+    public static final String STREAM_SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY = "SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS";
+    public static final long STREAM_SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT = 60L;
+    public static final String STREAM_SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS_KEY = "SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS";
+    public static final long STREAM_SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS_DEFAULT = 3600L;
     public static final String STREAM_SOURCE_PARQUET_SAME_SCHEMA_MATCH_STRATEGY = "SAME_SCHEMA_WITH_FAIL_ON_MISMATCH";
     public static final String STREAM_SOURCE_PARQUET_BACKWARD_COMPATIBLE_SCHEMA_MATCH_STRATEGY = "BACKWARD_COMPATIBLE_SCHEMA_WITH_FAIL_ON_TYPE_MISMATCH";
 
@@ -154,9 +179,13 @@ public class Constants {
     public static final int SINK_INFLUX_BATCH_SIZE_DEFAULT = 0;
     public static final String SINK_INFLUX_FLUSH_DURATION_MS_KEY = "SINK_INFLUX_FLUSH_DURATION_MS";
     public static final int SINK_INFLUX_FLUSH_DURATION_MS_DEFAULT = 0;
+    public static final String SINK_INFLUX_LINE_PROTOCOL_ENABLE_KEY = "SINK_INFLUX_LINE_PROTOCOL_ENABLE";
+    public static final boolean SINK_INFLUX_LINE_PROTOCOL_ENABLE_DEFAULT = false;
 
     public static final String SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_KEY = "SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE";
     public static final boolean SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_DEFAULT = false;
+    public static final String SOURCE_PROJECTION_PUSHDOWN_ENABLE_KEY = "SOURCE_PROJECTION_PUSHDOWN_ENABLE";
+    public static final boolean SOURCE_PROJECTION_PUSHDOWN_ENABLE_DEFAULT = false;
     public static final String SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_KEY = "max.partition.fetch.bytes";
     public static final String SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_DEFAULT = "5242880";
 
@@ -171,6 +200,8 @@ public class Constants {
 
     public static final String SINK_BIGQUERY_BATCH_SIZE = "SINK_BIGQUERY_BATCH_SIZE";
     public static final int SINK_BIGQUERY_BATCH_SIZE_DEFAULT = 500;
+    public static final String SINK_BIGQUERY_MAX_IN_FLIGHT_BATCHES = "SINK_BIGQUERY_MAX_IN_FLIGHT_BATCHES";
+    public static final int SINK_BIGQUERY_MAX_IN_FLIGHT_BATCHES_DEFAULT = 0;
     // Comma seperated error types
     public static final String SINK_ERROR_TYPES_FOR_FAILURE = "SINK_ERROR_TYPES_FOR_FAILURE";
     public static final String SINK_ERROR_TYPES_FOR_FAILURE_DEFAULT = "";
@@ -1,5 +1,6 @@
 package io.odpf.dagger.core.deserializer;
 
+import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.json.deserialization.JsonDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
@@ -20,6 +21,9 @@ public class JsonDeserializerProviderTest {
     @Mock
     private StreamConfig streamConfig;
 
+    @Mock
+    private Configuration configuration;
+
     @Before
     public void setUp() throws Exception {
         initMocks(this);
@@ -30,7 +34,7 @@ public class JsonDeserializerProviderTest {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
         when(streamConfig.getDataType()).thenReturn("JSON");
 
-        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig);
+        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig, configuration);
 
         assertTrue(provider.canProvide());
     }
@@ -40,7 +44,7 @@ public class JsonDeserializerProviderTest {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_CONSUMER, SourceType.UNBOUNDED)});
         when(streamConfig.getDataType()).thenReturn("JSON");
 
-        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig);
+        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig, configuration);
 
         assertTrue(provider.canProvide());
     }
@@ -50,7 +54,7 @@ public class JsonDeserializerProviderTest {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
         when(streamConfig.getDataType()).thenReturn("JSON");
 
-        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig);
+        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig, configuration);
 
         assertFalse(provider.canProvide());
     }
@@ -60,7 +64,7 @@ public class JsonDeserializerProviderTest {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
         when(streamConfig.getDataType()).thenReturn("PROTO");
 
-        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig);
+        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig, configuration);
 
         assertFalse(provider.canProvide());
     }
@@ -71,7 +75,7 @@ public class JsonDeserializerProviderTest {
         when(streamConfig.getDataType()).thenReturn("JSON");
         when(streamConfig.getJsonSchema()).thenReturn("{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"string\", \"format\" : \"date-time\" } }, \"required\": [ \"id\", \"time\" ] }");
 
-        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig);
+        JsonDeserializerProvider provider = new JsonDeserializerProvider(streamConfig, configuration);
         DaggerDeserializer<Row> daggerDeserializer = provider.getDaggerDeserializer();
 
         assertTrue(daggerDeserializer instanceof JsonDeserializer);
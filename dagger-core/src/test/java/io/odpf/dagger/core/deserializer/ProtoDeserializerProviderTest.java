@@ -4,17 +4,29 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.ProtoWireDeserializer;
 import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.source.config.models.ProtoDecoderType;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.stencil.client.StencilClient;
+import com.google.protobuf.Timestamp;
+import org.apache.flink.api.common.functions.util.ListCollector;
 import org.apache.flink.types.Row;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_DELAY_MS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_DELAY_MS_KEY;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_KEY;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -91,4 +103,42 @@ public class ProtoDeserializerProviderTest {
 
         assertTrue(daggerDeserializer instanceof ProtoDeserializer);
     }
+
+    @Test
+    public void shouldReturnProtoWireDeserializerWhenWireFormatDecoderIsConfigured() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_CONSUMER, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+        when(streamConfig.getEventTimestampFieldIndex()).thenReturn("5");
+        when(streamConfig.getProtoClass()).thenReturn("com.tests.TestMessage");
+        when(streamConfig.getProtoDecoderType()).thenReturn(ProtoDecoderType.WIRE_FORMAT);
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+
+        ProtoDeserializerProvider provider = new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+        DaggerDeserializer<Row> daggerDeserializer = provider.getDaggerDeserializer();
+
+        assertTrue(daggerDeserializer instanceof ProtoWireDeserializer);
+    }
+
+    @Test
+    public void shouldDropLateRecordsWhenConfigured() throws Exception {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_CONSUMER, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+        when(streamConfig.getEventTimestampFieldIndex()).thenReturn("5");
+        when(streamConfig.getProtoClass()).thenReturn("com.tests.TestMessage");
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+        when(configuration.getBoolean(FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_KEY, FLINK_WATERMARK_LATE_RECORD_DROP_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getLong(FLINK_WATERMARK_DELAY_MS_KEY, FLINK_WATERMARK_DELAY_MS_DEFAULT)).thenReturn(1000L);
+
+        ProtoDeserializer protoDeserializer = (ProtoDeserializer) new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator)
+                .getDaggerDeserializer();
+        List<Row> rows = new ArrayList<>();
+        for (long eventSeconds : new long[]{100L, 99L, 98L}) {
+            byte[] protoBytes = TestBookingLogMessage.newBuilder().setEventTimestamp(Timestamp.newBuilder().setSeconds(eventSeconds)).build().toByteArray();
+            protoDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes), new ListCollector<>(rows));
+        }
+
+        assertEquals(2, rows.size());
+    }
 }
@@ -0,0 +1,82 @@
+package io.odpf.dagger.core.deserializer;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.odpf.dagger.core.utils.Constants.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class SourceFieldProjectionTest {
+
+    @Mock
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getBoolean(SOURCE_PROJECTION_PUSHDOWN_ENABLE_KEY, SOURCE_PROJECTION_PUSHDOWN_ENABLE_DEFAULT)).thenReturn(true);
+    }
+
+    @Test
+    public void shouldNotProjectWhenPushdownIsDisabled() {
+        when(configuration.getBoolean(SOURCE_PROJECTION_PUSHDOWN_ENABLE_KEY, SOURCE_PROJECTION_PUSHDOWN_ENABLE_DEFAULT)).thenReturn(false);
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream");
+
+        assertTrue(new SourceFieldProjection(configuration).getProjectedFields().isEmpty());
+    }
+
+    @Test
+    public void shouldProjectIdentifiersUsedInQuery() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT))
+                .thenReturn("SELECT order_number, COUNT(*) AS cnt FROM data_stream WHERE driver_pickup_location.name = 'x' GROUP BY order_number, TUMBLE(rowtime, INTERVAL '60' SECOND)");
+
+        Set<String> projectedFields = new SourceFieldProjection(configuration).getProjectedFields();
+
+        assertTrue(projectedFields.containsAll(Arrays.asList("order_number", "driver_pickup_location", "rowtime")));
+        assertFalse(projectedFields.contains("customer_id"));
+    }
+
+    @Test
+    public void shouldNotProjectWhenQuerySelectsWildcard() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT * FROM data_stream");
+
+        assertTrue(new SourceFieldProjection(configuration).getProjectedFields().isEmpty());
+    }
+
+    @Test
+    public void shouldNotProjectWhenQuerySelectsQualifiedWildcard() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT ds.order_number, other.* FROM data_stream ds JOIN other_stream other ON ds.id = other.id");
+
+        assertTrue(new SourceFieldProjection(configuration).getProjectedFields().isEmpty());
+    }
+
+    @Test
+    public void shouldNotProjectWhenQueryIsEmpty() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("");
+
+        assertTrue(new SourceFieldProjection(configuration).getProjectedFields().isEmpty());
+    }
+
+    @Test
+    public void shouldIncludeIdentifiersUsedInProcessorConfigs() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream");
+        when(configuration.getBoolean(PROCESSOR_PREPROCESSOR_ENABLE_KEY, PROCESSOR_PREPROCESSOR_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(PROCESSOR_PREPROCESSOR_CONFIG_KEY, "")).thenReturn("{\"table_transformers\": [{\"table_name\": \"data_stream\", \"transformers\": [{\"transformation_arguments\": {\"sqlQuery\": \"SELECT customer_id FROM data_stream\"}}]}]}");
+        when(configuration.getBoolean(PROCESSOR_POSTPROCESSOR_ENABLE_KEY, PROCESSOR_POSTPROCESSOR_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(PROCESSOR_POSTPROCESSOR_CONFIG_KEY, "")).thenReturn("{\"internal_source\": [{\"output_field\": \"driver_id\", \"value\": \"driver_id\", \"type\": \"sql\"}]}");
+
+        Set<String> projectedFields = new SourceFieldProjection(configuration).getProjectedFields();
+
+        assertTrue(projectedFields.containsAll(new HashSet<>(Arrays.asList("order_number", "customer_id", "driver_id"))));
+        assertFalse(projectedFields.contains("customer_email"));
+    }
+}
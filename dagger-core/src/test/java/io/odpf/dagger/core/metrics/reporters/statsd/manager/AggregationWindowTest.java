@@ -0,0 +1,54 @@
+package io.odpf.dagger.core.metrics.reporters.statsd.manager;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class AggregationWindowTest {
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    public void shouldEndTheWindowEveryGivenEvents() {
+        AggregationWindow aggregationWindow = new AggregationWindow(60_000L, 2, nanoClock::get);
+
+        assertFalse(aggregationWindow.addEvent());
+        assertTrue(aggregationWindow.addEvent());
+        aggregationWindow.reset();
+        assertFalse(aggregationWindow.addEvent());
+    }
+
+    @Test
+    public void shouldEndTheWindowOnceTheFlushIntervalHasPassedWhenTheClockIsChecked() {
+        AggregationWindow aggregationWindow = new AggregationWindow(1_000L, 1000, nanoClock::get);
+
+        assertFalse(aggregationWindow.addEvent());
+        nanoClock.addAndGet(1_000_000_000L);
+        for (int event = 2; event < 64; event++) {
+            assertFalse(aggregationWindow.addEvent());
+        }
+        assertTrue(aggregationWindow.addEvent());
+        aggregationWindow.reset();
+        for (int event = 1; event <= 64; event++) {
+            assertFalse(aggregationWindow.addEvent());
+        }
+    }
+
+    @Test
+    public void shouldReadTheClockOnlyEveryFewEvents() {
+        AtomicInteger clockReadings = new AtomicInteger();
+        AggregationWindow aggregationWindow = new AggregationWindow(60_000L, 1000, () -> {
+            clockReadings.incrementAndGet();
+            return nanoClock.get();
+        });
+
+        for (int event = 1; event <= 128; event++) {
+            aggregationWindow.addEvent();
+        }
+
+        assertEquals(3, clockReadings.get());
+    }
+}
@@ -8,6 +8,11 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_CLOSED;
+import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROWS_EMITTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -78,4 +83,36 @@ public class DaggerCounterManagerTest {
 
         verify(statsDReporter, times(1)).captureCount(READER_CLOSED.getValue(), -1L, "tag1=value1", "tag2=value2");
     }
+
+    @Test
+    public void shouldSumTheAggregatedCountsUntilFlushed() {
+        DaggerCounterManager daggerCounterManager = new DaggerCounterManager(statsDReporterSupplier, new AggregationWindow(60_000L, 100));
+        daggerCounterManager.register(new StatsDTag[]{new StatsDTag("tag1", "value1")});
+
+        daggerCounterManager.increment(READER_ROWS_EMITTED);
+        daggerCounterManager.increment(READER_ROWS_EMITTED, 4L);
+        daggerCounterManager.increment(READER_CLOSED);
+        verify(statsDReporter, never()).captureCount(anyString(), anyLong(), any(String.class));
+
+        daggerCounterManager.flush();
+
+        verify(statsDReporter, times(1)).captureCount(READER_ROWS_EMITTED.getValue(), 5L, "tag1=value1");
+        verify(statsDReporter, times(1)).captureCount(READER_CLOSED.getValue(), 1L, "tag1=value1");
+    }
+
+    @Test
+    public void shouldFlushTheAggregatedCountsEveryGivenEvents() {
+        DaggerCounterManager daggerCounterManager = new DaggerCounterManager(statsDReporterSupplier, new AggregationWindow(60_000L, 3));
+        daggerCounterManager.register(new StatsDTag[]{new StatsDTag("tag1", "value1")});
+
+        for (int i = 0; i < 7; i++) {
+            daggerCounterManager.increment(READER_ROWS_EMITTED);
+        }
+
+        verify(statsDReporter, times(2)).captureCount(READER_ROWS_EMITTED.getValue(), 3L, "tag1=value1");
+        daggerCounterManager.flush();
+        verify(statsDReporter, times(1)).captureCount(READER_ROWS_EMITTED.getValue(), 1L, "tag1=value1");
+        daggerCounterManager.flush();
+        verify(statsDReporter, times(3)).captureCount(anyString(), anyLong(), any(String.class));
+    }
 }
@@ -8,6 +8,10 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_READ_TIME;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -41,4 +45,35 @@ public class DaggerHistogramManagerTest {
 
         verify(statsDReporter, times(1)).captureHistogram(READER_ROW_READ_TIME.getValue(), 6L, "tag1=value1", "tag2=value2");
     }
+
+    @Test
+    public void shouldSendTheSummaryOfTheAggregatedValuesWhenFlushed() {
+        DaggerHistogramManager daggerHistogramManager = new DaggerHistogramManager(statsDReporterSupplier, new AggregationWindow(60_000L, 1000));
+        daggerHistogramManager.register(new StatsDTag[]{new StatsDTag("tag1", "value1")});
+
+        for (long value = 1; value <= 100; value++) {
+            daggerHistogramManager.recordValue(READER_ROW_READ_TIME, value);
+        }
+        verify(statsDReporter, never()).captureHistogram(anyString(), anyLong(), anyString());
+        daggerHistogramManager.flush();
+
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_50_percentile", 50, "tag1=value1");
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_95_percentile", 95, "tag1=value1");
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_99_percentile", 99, "tag1=value1");
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_upper", 100, "tag1=value1");
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_mean", 51, "tag1=value1");
+        verify(statsDReporter, times(1)).captureCount(READER_ROW_READ_TIME.getValue() + "_count", 100L, "tag1=value1");
+    }
+
+    @Test
+    public void shouldNotSendSummariesOfAspectsWithoutValuesSinceTheLastFlush() {
+        DaggerHistogramManager daggerHistogramManager = new DaggerHistogramManager(statsDReporterSupplier, new AggregationWindow(60_000L, 1));
+        daggerHistogramManager.register(new StatsDTag[]{new StatsDTag("tag1", "value1")});
+
+        daggerHistogramManager.recordValue(READER_ROW_READ_TIME, 5L);
+        daggerHistogramManager.flush();
+
+        verify(statsDReporter, times(1)).gauge(READER_ROW_READ_TIME.getValue() + "_50_percentile", 5, "tag1=value1");
+        verify(statsDReporter, times(5)).gauge(anyString(), anyInt(), anyString());
+    }
 }
@@ -3,6 +3,7 @@ package io.odpf.dagger.core.processors;
 import com.jayway.jsonpath.InvalidJsonException;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.external.ExternalSourceConfig;
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
 import io.odpf.dagger.core.processors.external.es.EsSourceConfig;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
 import io.odpf.dagger.core.processors.external.pg.PgSourceConfig;
@@ -69,6 +70,20 @@ public class PostProcessorConfigTest {
         assertEquals(httpSourceConfig, defaultPostProcessorConfig.getExternalSource().getHttpConfig().get(0));
     }
 
+    @Test
+    public void shouldParseExternalSourceRequestCoalescingAndResponseCacheConfig() {
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"coalesce_requests\": true, "
+                + "\"cache\": {\"ttl\": \"60000\", \"max_entries\": \"500\", \"negative_ttl\": \"1000\"}, \"output_mapping\": {\"surge_factor\": {\"path\": \"$.surge\"}}}]}}";
+
+        HttpSourceConfig httpSourceConfig = PostProcessorConfig.parse(configuration).getExternalSource().getHttpConfig().get(0);
+
+        assertTrue(httpSourceConfig.isRequestCoalescingEnabled());
+        assertEquals(new ResponseCacheConfig("60000", "500", "1000"), httpSourceConfig.getCacheConfig());
+        assertEquals(Long.valueOf(60000L), httpSourceConfig.getCacheConfig().getTtl());
+        assertEquals(Integer.valueOf(500), httpSourceConfig.getCacheConfig().getMaxEntries());
+        assertEquals(Long.valueOf(1000L), httpSourceConfig.getCacheConfig().getNegativeTtl());
+    }
+
     @Test
     public void shouldReturnEsExternalSourceConfig() {
         defaultPostProcessorConfig = PostProcessorConfig.parse(defaultConfiguration);
@@ -348,6 +348,24 @@ public class EndpointHandlerTest {
         verify(meterStatsManager, times(1)).markEvent(ExternalSourceAspects.EMPTY_INPUT);
     }
 
+    @Test
+    public void shouldResolveVariableBindingsOnceForAllRows() {
+        StencilClientOrchestrator orchestrator = mock(StencilClientOrchestrator.class);
+        when(orchestrator.getStencilClient()).thenReturn(StencilClientFactory.getClient());
+        DescriptorManager spiedDescriptorManager = spy(new DescriptorManager(orchestrator));
+        endpointHandler = new EndpointHandler(meterStatsManager, errorReporter,
+                inputProtoClasses, getColumnNameManager(new String[] {"order_number", "customer_id"}), spiedDescriptorManager);
+
+        Object[] firstValues = endpointHandler.getVariablesValue(new RowManager(Row.of(Row.of("order-1", "customer-1"), new Row(1))),
+                ExternalPostProcessorVariableType.REQUEST_VARIABLES, "customer_id,order_number", resultFuture);
+        Object[] secondValues = endpointHandler.getVariablesValue(new RowManager(Row.of(Row.of("order-2", "customer-2"), new Row(1))),
+                ExternalPostProcessorVariableType.REQUEST_VARIABLES, "customer_id,order_number", resultFuture);
+
+        assertArrayEquals(new Object[] {"customer-1", "order-1"}, firstValues);
+        assertArrayEquals(new Object[] {"customer-2", "order-2"}, secondValues);
+        verify(spiedDescriptorManager, times(2)).getDescriptor(inputProtoClasses[0]);
+    }
+
     private ColumnNameManager getColumnNameManager(String[] columnNames) {
         List<String> outputColumnNames = Collections.singletonList("value");
         return new ColumnNameManager(columnNames, outputColumnNames);
@@ -85,6 +85,17 @@ public class FetchOutputDecoratorTest {
         verify(inputDataStream, times(1)).map(fetchOutputDecorator);
     }
 
+    @Test
+    public void shouldDecorateStreamWithGivenMapFunctionAndReturnTypesIfSqlProcessorEnabled() {
+        MapFunction<Row, Row> outputMapper = mock(MapFunction.class);
+        when(inputDataStream.map(any(MapFunction.class))).thenReturn(outputDataStream);
+        FetchOutputDecorator fetchOutputDecorator = new FetchOutputDecorator(schemaConfig, true);
+        fetchOutputDecorator.decorate(inputDataStream, outputMapper);
+        verify(inputDataStream, times(1)).map(outputMapper);
+        RowTypeInfo rowTypeInfo = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.STRING}, outputColumnNames);
+        verify(outputDataStream, times(1)).returns(rowTypeInfo);
+    }
+
     @Test
     public void shouldNotReturnTypeInformationIfSqlProcessorNotEnabled() {
         when(inputDataStream.map(any(MapFunction.class))).thenReturn(outputDataStream);
@@ -1,6 +1,11 @@
 package io.odpf.dagger.core.processors.common;
 
 import io.odpf.dagger.core.processors.ColumnNameManager;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
@@ -9,6 +14,8 @@ import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 public class InitializationDecoratorTest {
 
@@ -29,4 +36,29 @@ public class InitializationDecoratorTest {
         Row outputRow = ((Row) actualRow.getField(1));
         assertEquals(3, outputRow.getArity());
     }
+
+    @Test
+    public void shouldDecorateStreamWithGivenRowType() {
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputOutputRowType = new RowTypeInfo(new RowTypeInfo(Types.STRING), new RowTypeInfo(Types.STRING));
+        InitializationDecorator initializationDecorator = new InitializationDecorator(new ColumnNameManager(new String[]{"one"}, Arrays.asList("one")), inputOutputRowType);
+        when(inputStream.map(initializationDecorator)).thenReturn(outputStream);
+
+        initializationDecorator.decorate(inputStream);
+
+        verify(outputStream, times(1)).returns(inputOutputRowType);
+    }
+
+    @Test
+    public void shouldNotDeclareRowTypeWhenNotGiven() {
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        InitializationDecorator initializationDecorator = new InitializationDecorator(new ColumnNameManager(new String[]{"one"}, Arrays.asList("one")));
+        when(inputStream.map(initializationDecorator)).thenReturn(outputStream);
+
+        initializationDecorator.decorate(inputStream);
+
+        verify(outputStream, never()).returns(any(TypeInformation.class));
+    }
 }
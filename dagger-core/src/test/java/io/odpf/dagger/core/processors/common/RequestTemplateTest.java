@@ -0,0 +1,69 @@
+package io.odpf.dagger.core.processors.common;
+
+import org.apache.flink.util.InstantiationUtil;
+import org.junit.Test;
+
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+import static org.junit.Assert.*;
+
+public class RequestTemplateTest {
+
+    @Test
+    public void shouldRenderPatternSameAsStringFormat() {
+        String pattern = "{\"key\": \"%s\", \"other_key\": \"%s\"}";
+        Object[] values = new Object[] {"123456", 42};
+
+        RequestTemplate requestTemplate = new RequestTemplate(pattern);
+
+        assertTrue(requestTemplate.isCompiled());
+        assertEquals(String.format(pattern, values), requestTemplate.render(values));
+    }
+
+    @Test
+    public void shouldRenderEscapedPercentAndNullValues() {
+        String pattern = "/customers/%s?discount=10%%&note=%s";
+        Object[] values = new Object[] {"customer-1", null};
+
+        assertEquals(String.format(pattern, values), new RequestTemplate(pattern).render(values));
+    }
+
+    @Test
+    public void shouldIgnoreExtraValues() {
+        assertEquals("select * from customers where id = 'c1'", new RequestTemplate("select * from customers where id = '%s'").render(new Object[] {"c1", "c2"}));
+    }
+
+    @Test
+    public void shouldRenderPatternWithoutPlaceholders() {
+        assertEquals("/customers", new RequestTemplate("/customers").render(new Object[0]));
+    }
+
+    @Test
+    public void shouldRenderPatternOnceSerializedWithTheConnector() throws Exception {
+        RequestTemplate requestTemplate = InstantiationUtil.clone(new RequestTemplate("/customers/%s"));
+
+        assertTrue(requestTemplate.isCompiled());
+        assertEquals("/customers/c1", requestTemplate.render(new Object[] {"c1"}));
+    }
+
+    @Test
+    public void shouldFallBackToStringFormatForOtherFormatSpecifiers() {
+        String pattern = "{\"id\": %d, \"name\": \"%1$s\"}";
+
+        RequestTemplate requestTemplate = new RequestTemplate(pattern);
+
+        assertFalse(requestTemplate.isCompiled());
+        assertEquals("{\"id\": 12, \"name\": \"12\"}", requestTemplate.render(new Object[] {12}));
+    }
+
+    @Test(expected = MissingFormatArgumentException.class)
+    public void shouldThrowWhenValuesAreMissing() {
+        new RequestTemplate("/customers/%s/orders/%s").render(new Object[] {"customer-1"});
+    }
+
+    @Test(expected = UnknownFormatConversionException.class)
+    public void shouldThrowForInvalidPattern() {
+        new RequestTemplate("/customers/%").render(new Object[] {"customer-1"});
+    }
+}
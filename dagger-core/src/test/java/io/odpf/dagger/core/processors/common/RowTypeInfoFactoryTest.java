@@ -0,0 +1,132 @@
+package io.odpf.dagger.core.processors.common;
+
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.internal.InternalSourceConfig;
+import io.odpf.stencil.client.StencilClient;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RowTypeInfoFactoryTest {
+
+    @Mock
+    private SchemaConfig schemaConfig;
+
+    @Mock
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private StencilClient stencilClient;
+
+    private RowTypeInfo inputRowType;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        String[] inputColumnNames = {"order_number", "rowtime", "amount"};
+        ColumnNameManager columnNameManager = new ColumnNameManager(inputColumnNames,
+                new ArrayList<>(Arrays.asList("order_number", "rowtime", "unknown_field", "customer_id")));
+        inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.LOCAL_DATE_TIME, Types.INT}, inputColumnNames);
+        when(schemaConfig.getColumnNameManager()).thenReturn(columnNameManager);
+        when(schemaConfig.getOutputProtoClassName()).thenReturn("TestProtoClass");
+        when(schemaConfig.getStencilClientOrchestrator()).thenReturn(stencilClientOrchestrator);
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("TestProtoClass")).thenReturn(TestBookingLogMessage.getDescriptor());
+    }
+
+    @Test
+    public void shouldTypeOutputColumnsFromOutputProtoThenInputColumns() {
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, inputRowType, null);
+
+        RowTypeInfo expectedRowType = new RowTypeInfo(
+                new TypeInformation[]{Types.STRING, Types.LOCAL_DATE_TIME, TypeInformation.of(Object.class), Types.STRING},
+                new String[]{"order_number", "rowtime", "unknown_field", "customer_id"});
+        assertEquals(expectedRowType, rowTypeInfoFactory.getOutputRowType());
+    }
+
+    @Test
+    public void shouldTypeOutputColumnsOnlyFromInputColumnsWhenOutputProtoIsNotFound() {
+        when(stencilClient.get("TestProtoClass")).thenReturn(null);
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, inputRowType, null);
+
+        RowTypeInfo expectedRowType = new RowTypeInfo(
+                new TypeInformation[]{Types.STRING, Types.LOCAL_DATE_TIME, TypeInformation.of(Object.class), TypeInformation.of(Object.class)},
+                new String[]{"order_number", "rowtime", "unknown_field", "customer_id"});
+        assertEquals(expectedRowType, rowTypeInfoFactory.getOutputRowType());
+    }
+
+    @Test
+    public void shouldTypeTimestampFieldFedBySqlAsTheInputColumn() throws IOException {
+        ColumnNameManager columnNameManager = new ColumnNameManager(new String[]{"order_number", "rowtime", "amount"},
+                new ArrayList<>(Arrays.asList("order_number", "event_timestamp", "booking_creation_time")));
+        when(schemaConfig.getColumnNameManager()).thenReturn(columnNameManager);
+        InternalSourceConfig sqlSourceConfig = new InternalSourceConfig("event_timestamp", "rowtime", "sql", Collections.emptyMap());
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, inputRowType, Collections.singletonList(sqlSourceConfig));
+
+        RowTypeInfo outputRowType = rowTypeInfoFactory.getOutputRowType();
+        TypeSerializer<Row> serializer = outputRowType.createSerializer(new ExecutionConfig());
+        Row outputRow = Row.of("order_1", LocalDateTime.of(2022, 2, 13, 14, 0), "2022-02-13T13:00:00Z");
+        DataOutputSerializer outputView = new DataOutputSerializer(64);
+        serializer.serialize(outputRow, outputView);
+
+        assertEquals(Types.LOCAL_DATE_TIME, outputRowType.getTypeAt("event_timestamp"));
+        assertEquals(TypeInformation.of(Object.class), outputRowType.getTypeAt("booking_creation_time"));
+        assertEquals(outputRow, serializer.deserialize(new DataInputDeserializer(outputView.getCopyOfBuffer())));
+    }
+
+    @Test
+    public void shouldTypeOutputColumnsCopiedWithSelectAllAsTheInputColumns() {
+        InternalSourceConfig sqlSourceConfig = new InternalSourceConfig("*", "*", "sql", Collections.emptyMap());
+        InternalSourceConfig constantSourceConfig = new InternalSourceConfig("customer_id", "some_customer", "constant", Collections.emptyMap());
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, inputRowType, Arrays.asList(sqlSourceConfig, constantSourceConfig));
+
+        RowTypeInfo outputRowType = rowTypeInfoFactory.getOutputRowType();
+
+        assertEquals(Types.STRING, outputRowType.getTypeAt("order_number"));
+        assertEquals(Types.LOCAL_DATE_TIME, outputRowType.getTypeAt("rowtime"));
+        assertEquals(Types.STRING, outputRowType.getTypeAt("customer_id"));
+    }
+
+    @Test
+    public void shouldNestInputAndOutputRowTypes() {
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, inputRowType, null);
+
+        RowTypeInfo inputOutputRowType = rowTypeInfoFactory.getInputOutputRowType();
+
+        assertEquals(2, inputOutputRowType.getArity());
+        assertEquals(inputRowType, inputOutputRowType.getTypeAt(RowManager.INPUT_ROW_INDEX));
+        assertEquals(rowTypeInfoFactory.getOutputRowType(), inputOutputRowType.getTypeAt(RowManager.OUTPUT_ROW_INDEX));
+    }
+
+    @Test
+    public void shouldKeepInputRowGenericWhenItsTypeIsUnknown() {
+        RowTypeInfoFactory rowTypeInfoFactory = new RowTypeInfoFactory(schemaConfig, null, null);
+
+        RowTypeInfo inputOutputRowType = rowTypeInfoFactory.getInputOutputRowType();
+
+        assertEquals(new GenericTypeInfo<>(Row.class), inputOutputRowType.getTypeAt(RowManager.INPUT_ROW_INDEX));
+        assertEquals(TypeInformation.of(Object.class), rowTypeInfoFactory.getOutputRowType().getTypeAt("rowtime"));
+        assertEquals(Types.STRING, rowTypeInfoFactory.getOutputRowType().getTypeAt("order_number"));
+    }
+}
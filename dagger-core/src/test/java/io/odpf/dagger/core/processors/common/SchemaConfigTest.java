@@ -3,6 +3,8 @@ package io.odpf.dagger.core.processors.common;
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.processors.ColumnNameManager;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -11,6 +13,8 @@ import static io.odpf.dagger.common.core.Constants.INPUT_STREAMS;
 import static io.odpf.dagger.core.utils.Constants.SINK_KAFKA_PROTO_MESSAGE_KEY;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -57,4 +61,25 @@ public class SchemaConfigTest {
         assertEquals("OutputProtoMessage", schemaConfig.getOutputProtoClassName());
     }
 
+    @Test
+    public void shouldNotTypeRowsByDefault() {
+        SchemaConfig schemaConfig = new SchemaConfig(configuration, stencilClientOrchestrator, columnNameManager);
+        assertNull(schemaConfig.getInputOutputRowType());
+        assertNull(schemaConfig.getOutputRowType());
+    }
+
+    @Test
+    public void shouldReturnRowTypesOfRowTypeInfoFactory() {
+        SchemaConfig schemaConfig = new SchemaConfig(configuration, stencilClientOrchestrator, columnNameManager);
+        RowTypeInfoFactory rowTypeInfoFactory = mock(RowTypeInfoFactory.class);
+        RowTypeInfo outputRowType = new RowTypeInfo(Types.STRING);
+        RowTypeInfo inputOutputRowType = new RowTypeInfo(Types.STRING, outputRowType);
+        when(rowTypeInfoFactory.getOutputRowType()).thenReturn(outputRowType);
+        when(rowTypeInfoFactory.getInputOutputRowType()).thenReturn(inputOutputRowType);
+
+        schemaConfig.setRowTypes(rowTypeInfoFactory);
+
+        assertEquals(inputOutputRowType, schemaConfig.getInputOutputRowType());
+        assertEquals(outputRowType, schemaConfig.getOutputRowType());
+    }
 }
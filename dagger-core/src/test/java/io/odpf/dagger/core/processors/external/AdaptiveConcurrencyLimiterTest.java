@@ -0,0 +1,224 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Mock
+    private ResultFuture<Row> resultFuture;
+    @Mock
+    private Clock clock;
+
+    private List<ResultFuture<Row>> dispatchedCalls;
+    private BiConsumer<Row, ResultFuture<Row>> dispatcher;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(clock.millis()).thenReturn(0L);
+        dispatchedCalls = new ArrayList<>();
+        dispatcher = (input, callFuture) -> dispatchedCalls.add(callFuture);
+    }
+
+    private void submitAndComplete(AdaptiveConcurrencyLimiter limiter, int index, long latency) {
+        when(clock.millis()).thenReturn(0L);
+        limiter.submit(Row.of(String.valueOf(index)), resultFuture, dispatcher);
+        completeCall(index, latency);
+    }
+
+    private void completeCall(int index, long latency) {
+        when(clock.millis()).thenReturn(latency);
+        ((ResponseResultFuture) dispatchedCalls.get(index)).completeWithResponse(Collections.singleton(new Row(1)));
+    }
+
+    @Test
+    public void shouldDispatchCallsUpToTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10, clock);
+
+        limiter.submit(Row.of("1"), resultFuture, dispatcher);
+        limiter.submit(Row.of("2"), resultFuture, dispatcher);
+        limiter.submit(Row.of("3"), resultFuture, dispatcher);
+
+        assertEquals(2, dispatchedCalls.size());
+        assertEquals(2, limiter.getInFlightCount());
+        assertEquals(1, limiter.getPendingCount());
+    }
+
+    @Test
+    public void shouldDispatchQueuedCallWhenCallInFlightCompletes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, clock);
+        limiter.submit(Row.of("1"), resultFuture, dispatcher);
+        limiter.submit(Row.of("2"), resultFuture, dispatcher);
+
+        completeCall(0, 10);
+
+        verify(resultFuture, times(1)).complete(Collections.singleton(new Row(1)));
+        assertEquals(2, dispatchedCalls.size());
+        assertEquals(1, limiter.getInFlightCount());
+        assertEquals(0, limiter.getPendingCount());
+    }
+
+    @Test
+    public void shouldIncreaseLimitAdditivelyOnSuccessfulCallsUpToMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 3, clock);
+
+        for (int i = 0; i < 20; i++) {
+            submitAndComplete(limiter, i, 10);
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldDecreaseLimitMultiplicativelyOnFailedCall() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 20, clock);
+        limiter.submit(Row.of("1"), resultFuture, dispatcher);
+
+        dispatchedCalls.get(0).completeExceptionally(new RuntimeException("failed"));
+
+        verify(resultFuture, times(1)).completeExceptionally(any(RuntimeException.class));
+        assertEquals(18, limiter.getLimit());
+        assertEquals(0, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void shouldDecreaseLimitOnCallsCompletedWithoutResponse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 20, clock);
+        for (int i = 0; i < 3; i++) {
+            limiter.submit(Row.of(String.valueOf(i)), resultFuture, dispatcher);
+            dispatchedCalls.get(i).complete(Collections.singleton(new Row(1)));
+        }
+
+        verify(resultFuture, times(3)).complete(Collections.singleton(new Row(1)));
+        assertEquals(18, limiter.getLimit());
+        assertEquals(0, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void shouldDecreaseLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 20, clock);
+        for (int i = 0; i < 5; i++) {
+            submitAndComplete(limiter, i, 10);
+        }
+        assertEquals(20, limiter.getLimit());
+
+        for (int i = 5; i < 10; i++) {
+            submitAndComplete(limiter, i, 100);
+        }
+
+        assertTrue(limiter.getLimit() < 20);
+    }
+
+    @Test
+    public void shouldOnlyTrySubmitCallsWhenTheLimitHasRoom() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, clock);
+
+        assertTrue(limiter.trySubmit(Row.of("1"), resultFuture, dispatcher));
+        assertFalse(limiter.trySubmit(Row.of("2"), resultFuture, dispatcher));
+        completeCall(0, 10);
+
+        assertTrue(limiter.trySubmit(Row.of("3"), resultFuture, dispatcher));
+        assertEquals(2, dispatchedCalls.size());
+        assertEquals(0, limiter.getPendingCount());
+    }
+
+    @Test
+    public void shouldReleaseTimedOutCallAndIgnoreItsLateCompletion() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, clock);
+        Row input = Row.of("1");
+        limiter.submit(input, resultFuture, dispatcher);
+
+        limiter.timeout(input);
+        completeCall(0, 10);
+
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void shouldDiscardQueuedCallOnTimeout() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, clock);
+        limiter.submit(Row.of("1"), resultFuture, dispatcher);
+        Row queuedInput = Row.of("2");
+        limiter.submit(queuedInput, resultFuture, dispatcher);
+
+        limiter.timeout(queuedInput);
+        completeCall(0, 10);
+
+        assertEquals(1, dispatchedCalls.size());
+        assertEquals(0, limiter.getPendingCount());
+    }
+
+    @Test
+    public void shouldDispatchQueuedCallsOnTheDispatchExecutorWhenCallsCompleteOnOtherThreads() throws Exception {
+        ExecutorService taskThread = Executors.newSingleThreadExecutor();
+        ExecutorService clientThreads = Executors.newFixedThreadPool(4);
+        try {
+            Thread taskThreadInstance = taskThread.submit(Thread::currentThread).get();
+            List<Thread> dispatchingThreads = Collections.synchronizedList(new ArrayList<>());
+            List<ResultFuture<Row>> callsInFlight = Collections.synchronizedList(new ArrayList<>());
+            BiConsumer<Row, ResultFuture<Row>> recordingDispatcher = (input, callFuture) -> {
+                dispatchingThreads.add(Thread.currentThread());
+                callsInFlight.add(callFuture);
+            };
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 2, clock, taskThread);
+            int callCount = 200;
+            taskThread.submit(() -> {
+                for (int i = 0; i < callCount; i++) {
+                    limiter.submit(Row.of(String.valueOf(i)), resultFuture, recordingDispatcher);
+                }
+            }).get();
+
+            long deadline = System.currentTimeMillis() + 10000;
+            int completed = 0;
+            while (completed < callCount && System.currentTimeMillis() < deadline) {
+                if (callsInFlight.size() > completed) {
+                    ResultFuture<Row> callFuture = callsInFlight.get(completed++);
+                    clientThreads.execute(() -> ((ResponseResultFuture) callFuture).completeWithResponse(Collections.singleton(new Row(1))));
+                } else {
+                    Thread.sleep(1);
+                }
+            }
+
+            assertEquals(callCount, completed);
+            assertEquals(callCount, dispatchingThreads.size());
+            assertTrue(dispatchingThreads.stream().allMatch(thread -> thread == taskThreadInstance));
+        } finally {
+            clientThreads.shutdownNow();
+            taskThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotDispatchQueuedCallTimedOutBeforeItsDispatchRuns() {
+        List<Runnable> taskCommands = new ArrayList<>();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, clock, taskCommands::add);
+        limiter.submit(Row.of("1"), resultFuture, dispatcher);
+        Row queuedInput = Row.of("2");
+        limiter.submit(queuedInput, resultFuture, dispatcher);
+
+        completeCall(0, 10);
+        limiter.timeout(queuedInput);
+        taskCommands.forEach(Runnable::run);
+
+        assertEquals(1, taskCommands.size());
+        assertEquals(1, dispatchedCalls.size());
+        assertEquals(0, limiter.getInFlightCount());
+    }
+}
@@ -0,0 +1,58 @@
+package io.odpf.dagger.core.processors.external;
+
+import org.apache.flink.api.common.operators.MailboxExecutor;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.streaming.api.transformations.OneInputTransformation;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.function.ThrowingRunnable;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class AsyncConnectorOperatorFactoryTest {
+
+    @Mock
+    private AsyncConnector asyncConnector;
+
+    @Mock
+    private MailboxExecutor mailboxExecutor;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldRunTheCommandsOfTheConnectorOnTheMailboxOfTheOperator() {
+        AsyncConnectorOperatorFactory operatorFactory = new AsyncConnectorOperatorFactory(asyncConnector, 5000, 30);
+        ArgumentCaptor<Executor> taskExecutorCaptor = ArgumentCaptor.forClass(Executor.class);
+
+        operatorFactory.setMailboxExecutor(mailboxExecutor);
+        verify(asyncConnector, times(1)).setTaskExecutor(taskExecutorCaptor.capture());
+        taskExecutorCaptor.getValue().execute(() -> { });
+
+        verify(mailboxExecutor, times(1)).execute(any(ThrowingRunnable.class), eq("external source call"));
+    }
+
+    @Test
+    public void shouldApplyTheConnectorThroughItsOperatorFactory() {
+        StreamExecutionEnvironment environment = StreamExecutionEnvironment.getExecutionEnvironment();
+        DataStream<Row> inputStream = environment.fromElements(Row.class, Row.of("1"));
+        AsyncConnector serializableAsyncConnector = mock(AsyncConnector.class, withSettings().serializable());
+
+        SingleOutputStreamOperator<Row> outputStream = AsyncConnectorOperatorFactory.orderedWait(inputStream, serializableAsyncConnector, 5000, 30);
+
+        assertTrue(((OneInputTransformation<?, ?>) outputStream.getTransformation()).getOperatorFactory() instanceof AsyncConnectorOperatorFactory);
+    }
+}
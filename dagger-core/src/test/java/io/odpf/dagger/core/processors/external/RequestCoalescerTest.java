@@ -0,0 +1,129 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RequestCoalescerTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+    @Mock
+    private ResultFuture<Row> leaderResultFuture;
+    @Mock
+    private ResultFuture<Row> followerResultFuture;
+    @Mock
+    private ResultFuture<Row> otherResultFuture;
+
+    private RequestCoalescer requestCoalescer;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        String[] inputColumnNames = new String[]{"order_id", "customer_id", "driver_id"};
+        List<String> outputColumnNames = new ArrayList<>(Arrays.asList("customer_profile", "driver_profile"));
+        ColumnNameManager columnNameManager = new ColumnNameManager(inputColumnNames, outputColumnNames);
+        requestCoalescer = new RequestCoalescer(columnNameManager, Collections.singletonList("customer_id"),
+                Collections.singletonList("customer_profile"), meterStatsManager);
+    }
+
+    private Row createInput(String orderId, String customerId) {
+        return new RowManager(Row.of(orderId, customerId, "driver-1"), 2).getAll();
+    }
+
+    @Test
+    public void shouldDispatchFirstRequestWithCoalescedResultFuture() {
+        Row input = createInput("order-1", "customer-1");
+
+        ResultFuture<Row> requestFuture = requestCoalescer.coalesce(input, leaderResultFuture);
+
+        assertNotNull(requestFuture);
+        assertNotSame(leaderResultFuture, requestFuture);
+        assertEquals(1, requestCoalescer.getInFlightRequestCount());
+    }
+
+    @Test
+    public void shouldNotDispatchIdenticalRequestWhileFirstIsInFlight() {
+        requestCoalescer.coalesce(createInput("order-1", "customer-1"), leaderResultFuture);
+
+        assertNull(requestCoalescer.coalesce(createInput("order-2", "customer-1"), followerResultFuture));
+        assertNotNull(requestCoalescer.coalesce(createInput("order-3", "customer-2"), otherResultFuture));
+        assertEquals(2, requestCoalescer.getInFlightRequestCount());
+    }
+
+    @Test
+    public void shouldCompleteAttachedRequestsWithOutputOfFirstRequest() {
+        Row leaderInput = createInput("order-1", "customer-1");
+        Row followerInput = createInput("order-2", "customer-1");
+        ResultFuture<Row> requestFuture = requestCoalescer.coalesce(leaderInput, leaderResultFuture);
+        requestCoalescer.coalesce(followerInput, followerResultFuture);
+
+        RowManager leaderRowManager = new RowManager(leaderInput);
+        leaderRowManager.setInOutput(0, "profile-1");
+        requestFuture.complete(Collections.singleton(leaderRowManager.getAll()));
+
+        verify(leaderResultFuture, times(1)).complete(Collections.singleton(leaderRowManager.getAll()));
+        ArgumentCaptor<Collection<Row>> followerResult = ArgumentCaptor.forClass(Collection.class);
+        verify(followerResultFuture, times(1)).complete(followerResult.capture());
+        RowManager followerRowManager = new RowManager(followerResult.getValue().iterator().next());
+        assertEquals("order-2", followerRowManager.getFromInput(0));
+        assertEquals("profile-1", followerRowManager.getOutputData().getField(0));
+        assertNull(followerRowManager.getOutputData().getField(1));
+        verify(meterStatsManager, times(1)).updateHistogram(ExternalSourceAspects.COALESCED_BATCH_SIZE, 2);
+        assertEquals(0, requestCoalescer.getInFlightRequestCount());
+    }
+
+    @Test
+    public void shouldCompleteAttachedRequestsExceptionallyOnFailureOfFirstRequest() {
+        ResultFuture<Row> requestFuture = requestCoalescer.coalesce(createInput("order-1", "customer-1"), leaderResultFuture);
+        requestCoalescer.coalesce(createInput("order-2", "customer-1"), followerResultFuture);
+        Exception exception = new RuntimeException("request failed");
+
+        requestFuture.completeExceptionally(exception);
+
+        verify(leaderResultFuture, times(1)).completeExceptionally(exception);
+        verify(followerResultFuture, times(1)).completeExceptionally(exception);
+        assertEquals(0, requestCoalescer.getInFlightRequestCount());
+    }
+
+    @Test
+    public void shouldDispatchNewRequestAfterFirstRequestIsReleased() {
+        Row leaderInput = createInput("order-1", "customer-1");
+        requestCoalescer.coalesce(leaderInput, leaderResultFuture);
+
+        requestCoalescer.release(createInput("order-2", "customer-1"));
+        assertEquals(1, requestCoalescer.getInFlightRequestCount());
+        requestCoalescer.release(leaderInput);
+
+        assertEquals(0, requestCoalescer.getInFlightRequestCount());
+        assertNotNull(requestCoalescer.coalesce(createInput("order-3", "customer-1"), otherResultFuture));
+    }
+
+    @Test
+    public void shouldNotCoalesceWhenRequestColumnIsNotInInput() {
+        ColumnNameManager columnNameManager = new ColumnNameManager(new String[]{"order_id"}, new ArrayList<>(Collections.singletonList("customer_profile")));
+        RequestCoalescer coalescer = new RequestCoalescer(columnNameManager, Collections.singletonList("customer_id"),
+                Collections.singletonList("customer_profile"), meterStatsManager);
+        Row input = new RowManager(Row.of("order-1"), 1).getAll();
+
+        assertSame(leaderResultFuture, coalescer.coalesce(input, leaderResultFuture));
+        assertEquals(0, coalescer.getInFlightRequestCount());
+    }
+}
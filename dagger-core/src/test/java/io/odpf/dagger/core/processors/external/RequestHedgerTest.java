@@ -0,0 +1,248 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RequestHedgerTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+    @Mock
+    private ScheduledExecutorService scheduler;
+    @Mock
+    private ScheduledFuture scheduledHedge;
+    @Mock
+    private ResultFuture<Row> resultFuture;
+    @Mock
+    private Clock clock;
+
+    private List<Row> attemptInputs;
+    private List<ResultFuture<Row>> attempts;
+    private List<Boolean> hedges;
+    private RequestHedger.AttemptDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(clock.millis()).thenReturn(0L);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(scheduledHedge);
+        attemptInputs = new ArrayList<>();
+        attempts = new ArrayList<>();
+        hedges = new ArrayList<>();
+        dispatcher = (input, attemptFuture, hedge) -> {
+            attemptInputs.add(input);
+            attempts.add(attemptFuture);
+            hedges.add(hedge);
+            return true;
+        };
+    }
+
+    private Row streamRow(String value) {
+        Row row = new Row(2);
+        row.setField(0, Row.of(value));
+        row.setField(1, new Row(1));
+        return row;
+    }
+
+    private RequestHedger warmedUpHedger(String budget) {
+        return warmedUpHedger(budget, Runnable::run);
+    }
+
+    private RequestHedger warmedUpHedger(String budget, Executor taskExecutor) {
+        RequestHedger requestHedger = new RequestHedger(new HedgeConfig("90", budget), meterStatsManager, scheduler, clock, taskExecutor);
+        for (int i = 1; i <= 100; i++) {
+            when(clock.millis()).thenReturn(0L);
+            requestHedger.submit(streamRow(String.valueOf(i)), resultFuture, dispatcher);
+            when(clock.millis()).thenReturn((long) i);
+            attempts.get(attempts.size() - 1).complete(Collections.singleton(new Row(2)));
+        }
+        when(clock.millis()).thenReturn(0L);
+        attemptInputs.clear();
+        attempts.clear();
+        hedges.clear();
+        reset(resultFuture, meterStatsManager, scheduledHedge);
+        return requestHedger;
+    }
+
+    private Runnable scheduledHedge() {
+        ArgumentCaptor<Runnable> hedgeCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(hedgeCaptor.capture(), anyLong(), any(TimeUnit.class));
+        return hedgeCaptor.getValue();
+    }
+
+    @Test
+    public void shouldNotScheduleHedgesUntilEnoughCallsCompleted() {
+        RequestHedger requestHedger = new RequestHedger(new HedgeConfig("90", "0.5"), meterStatsManager, scheduler, clock);
+
+        requestHedger.submit(streamRow("1"), resultFuture, dispatcher);
+
+        assertEquals(-1, requestHedger.getHedgeDelay());
+        assertEquals(1, attempts.size());
+        assertFalse(hedges.get(0));
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void shouldScheduleHedgeAfterThePercentileOfRecentLatency() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+
+        requestHedger.submit(streamRow("101"), resultFuture, dispatcher);
+
+        assertEquals(87, requestHedger.getHedgeDelay());
+        verify(scheduler, atLeastOnce()).schedule(any(Runnable.class), eq(87L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldCompleteWithTheHedgedAttemptWhenItWins() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+        Row input = streamRow("101");
+        requestHedger.submit(input, resultFuture, dispatcher);
+
+        scheduledHedge().run();
+        Row hedgedInput = attemptInputs.get(1);
+        attempts.get(1).complete(Collections.singleton(hedgedInput));
+        attempts.get(0).complete(Collections.singleton(input));
+
+        assertTrue(hedges.get(1));
+        assertNotSame(input, hedgedInput);
+        assertSame(input.getField(0), hedgedInput.getField(0));
+        assertNotSame(input.getField(1), hedgedInput.getField(1));
+        verify(resultFuture, times(1)).complete(Collections.singleton(hedgedInput));
+        verify(resultFuture, times(1)).complete(any());
+        verify(meterStatsManager, times(1)).markEvent(HEDGED_REQUESTS);
+        verify(meterStatsManager, times(1)).markEvent(HEDGES_WON);
+        verify(meterStatsManager, never()).markEvent(HEDGES_LOST);
+        verify(meterStatsManager, times(1)).updateHistogram(eq(HEDGED_RESPONSE_TIME), anyLong());
+    }
+
+    @Test
+    public void shouldCountHedgeAsLostWhenFirstAttemptWins() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+        Row input = streamRow("101");
+        requestHedger.submit(input, resultFuture, dispatcher);
+
+        scheduledHedge().run();
+        attempts.get(0).complete(Collections.singleton(input));
+
+        verify(resultFuture, times(1)).complete(Collections.singleton(input));
+        verify(scheduledHedge, times(1)).cancel(false);
+        verify(meterStatsManager, times(1)).markEvent(HEDGES_LOST);
+        verify(meterStatsManager, never()).markEvent(HEDGES_WON);
+    }
+
+    @Test
+    public void shouldNotHedgeCallThatAlreadyCompleted() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+        Row input = streamRow("101");
+        requestHedger.submit(input, resultFuture, dispatcher);
+
+        attempts.get(0).complete(Collections.singleton(input));
+        scheduledHedge().run();
+
+        assertEquals(1, attempts.size());
+        verify(meterStatsManager, never()).markEvent(HEDGED_REQUESTS);
+    }
+
+    @Test
+    public void shouldNotHedgeOverTheBudget() {
+        RequestHedger requestHedger = warmedUpHedger("0.01");
+        requestHedger.submit(streamRow("101"), resultFuture, dispatcher);
+        scheduledHedge().run();
+        requestHedger.submit(streamRow("102"), resultFuture, dispatcher);
+
+        scheduledHedge().run();
+
+        assertEquals(3, attempts.size());
+        verify(meterStatsManager, times(1)).markEvent(HEDGED_REQUESTS);
+    }
+
+    @Test
+    public void shouldWaitForTheOtherAttemptWhenOneFails() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+        Row input = streamRow("101");
+        requestHedger.submit(input, resultFuture, dispatcher);
+        scheduledHedge().run();
+
+        attempts.get(0).completeExceptionally(new RuntimeException("failed"));
+        verify(resultFuture, never()).completeExceptionally(any());
+
+        attempts.get(1).completeExceptionally(new RuntimeException("failed"));
+        verify(resultFuture, times(1)).completeExceptionally(any(RuntimeException.class));
+    }
+
+    @Test
+    public void shouldNotHedgeTimedOutCall() {
+        RequestHedger requestHedger = warmedUpHedger("0.5");
+        Row input = streamRow("101");
+        requestHedger.submit(input, resultFuture, dispatcher);
+
+        requestHedger.timeout(input);
+        scheduledHedge().run();
+        attempts.get(0).complete(Collections.singleton(input));
+
+        assertEquals(1, attempts.size());
+        verify(scheduledHedge, times(1)).cancel(false);
+        verify(resultFuture, never()).complete(any());
+        verify(meterStatsManager, never()).markEvent(HEDGED_REQUESTS);
+    }
+
+    @Test
+    public void shouldSendHedgedAttemptFromTheTaskExecutor() {
+        List<Runnable> taskCommands = new ArrayList<>();
+        RequestHedger requestHedger = warmedUpHedger("0.5", taskCommands::add);
+        requestHedger.submit(streamRow("101"), resultFuture, dispatcher);
+
+        scheduledHedge().run();
+        assertEquals(1, attempts.size());
+        taskCommands.forEach(Runnable::run);
+
+        assertEquals(2, attempts.size());
+        assertTrue(hedges.get(1));
+    }
+
+    @Test
+    public void shouldKeepTheBudgetOfHedgeTurnedDownByTheDispatcher() {
+        RequestHedger requestHedger = warmedUpHedger("0.01");
+        RequestHedger.AttemptDispatcher firstAttemptsOnlyDispatcher = (input, attemptFuture, hedge) -> {
+            attempts.add(attemptFuture);
+            return !hedge;
+        };
+        requestHedger.submit(streamRow("101"), resultFuture, firstAttemptsOnlyDispatcher);
+        scheduledHedge().run();
+        requestHedger.submit(streamRow("102"), resultFuture, dispatcher);
+
+        scheduledHedge().run();
+
+        assertTrue(hedges.get(hedges.size() - 1));
+        verify(meterStatsManager, times(1)).markEvent(HEDGED_REQUESTS);
+    }
+
+    @Test
+    public void shouldStopSchedulerOnClose() {
+        RequestHedger requestHedger = new RequestHedger(new HedgeConfig(null, null), meterStatsManager, scheduler, clock);
+
+        requestHedger.close();
+
+        verify(scheduler, times(1)).shutdownNow();
+    }
+}
@@ -0,0 +1,176 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.ExternalSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.streaming.api.functions.async.ResultFuture;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ResponseCacheTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+    @Mock
+    private ResultFuture<Row> resultFuture;
+    @Mock
+    private Clock clock;
+
+    private ColumnNameManager columnNameManager;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        String[] inputColumnNames = new String[]{"order_id", "customer_id"};
+        columnNameManager = new ColumnNameManager(inputColumnNames, new ArrayList<>(Arrays.asList("customer_profile", "customer_segment")));
+        when(clock.millis()).thenReturn(1000L);
+    }
+
+    private ResponseCache createCache(String ttl, String maxEntries, String negativeTtl) {
+        return new ResponseCache(new ResponseCacheConfig(ttl, maxEntries, negativeTtl), columnNameManager,
+                Collections.singletonList("customer_id"), Arrays.asList("customer_profile", "customer_segment"), meterStatsManager, clock);
+    }
+
+    private Row createInput(String orderId, String customerId) {
+        return new RowManager(Row.of(orderId, customerId), 2).getAll();
+    }
+
+    private void respond(ResponseCache responseCache, Row input, Object profile, Object segment) {
+        RowManager rowManager = new RowManager(input);
+        rowManager.setInOutput(0, profile);
+        rowManager.setInOutput(1, segment);
+        ((ResponseResultFuture) responseCache.caching(input, resultFuture)).completeWithResponse(Collections.singleton(rowManager.getAll()));
+    }
+
+    @Test
+    public void shouldMissWhenResponseIsNotCached() {
+        ResponseCache responseCache = createCache("60000", "10", null);
+
+        assertFalse(responseCache.lookup(createInput("order-1", "customer-1")));
+        verify(meterStatsManager, times(1)).markEvent(ExternalSourceAspects.CACHE_MISSES);
+    }
+
+    @Test
+    public void shouldPopulateOutputFromCachedResponseOfSameRequest() {
+        ResponseCache responseCache = createCache("60000", "10", null);
+        respond(responseCache, createInput("order-1", "customer-1"), "profile-1", "segment-1");
+        Row input = createInput("order-2", "customer-1");
+
+        assertTrue(responseCache.lookup(input));
+
+        RowManager rowManager = new RowManager(input);
+        assertEquals("order-2", rowManager.getFromInput(0));
+        assertEquals(Row.of("profile-1", "segment-1"), rowManager.getOutputData());
+        verify(meterStatsManager, times(1)).markEvent(ExternalSourceAspects.CACHE_HITS);
+        verify(resultFuture, times(1)).complete(any());
+    }
+
+    @Test
+    public void shouldExpireCachedResponseAfterTtl() {
+        ResponseCache responseCache = createCache("500", "10", null);
+        respond(responseCache, createInput("order-1", "customer-1"), "profile-1", "segment-1");
+
+        when(clock.millis()).thenReturn(1499L);
+        assertTrue(responseCache.lookup(createInput("order-2", "customer-1")));
+        when(clock.millis()).thenReturn(1500L);
+        assertFalse(responseCache.lookup(createInput("order-3", "customer-1")));
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResponseBeyondMaxEntries() {
+        ResponseCache responseCache = createCache("60000", "2", null);
+        respond(responseCache, createInput("order-1", "customer-1"), "profile-1", null);
+        respond(responseCache, createInput("order-2", "customer-2"), "profile-2", null);
+        responseCache.lookup(createInput("order-3", "customer-1"));
+
+        respond(responseCache, createInput("order-4", "customer-3"), "profile-3", null);
+
+        assertEquals(2, responseCache.size());
+        assertTrue(responseCache.lookup(createInput("order-5", "customer-1")));
+        assertFalse(responseCache.lookup(createInput("order-6", "customer-2")));
+        verify(meterStatsManager, times(1)).markEvent(ExternalSourceAspects.CACHE_EVICTIONS);
+    }
+
+    @Test
+    public void shouldNotCacheEmptyResponseWithoutNegativeTtl() {
+        ResponseCache responseCache = createCache("60000", "10", null);
+
+        respond(responseCache, createInput("order-1", "customer-1"), null, null);
+
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    public void shouldCacheEmptyResponseForNegativeTtl() {
+        ResponseCache responseCache = createCache("60000", "10", "100");
+        respond(responseCache, createInput("order-1", "customer-1"), null, null);
+
+        assertTrue(responseCache.lookup(createInput("order-2", "customer-1")));
+        when(clock.millis()).thenReturn(1100L);
+        assertFalse(responseCache.lookup(createInput("order-3", "customer-1")));
+    }
+
+    @Test
+    public void shouldNotCacheFailedResponse() {
+        ResponseCache responseCache = createCache("60000", "10", "100");
+        Exception exception = new RuntimeException("request failed");
+
+        responseCache.caching(createInput("order-1", "customer-1"), resultFuture).completeExceptionally(exception);
+
+        verify(resultFuture, times(1)).completeExceptionally(exception);
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    public void shouldNotCacheRowCompletedOnErrorPath() {
+        ResponseCache responseCache = createCache("60000", "10", "100");
+        Row input = createInput("order-1", "customer-1");
+
+        responseCache.caching(input, resultFuture).complete(Collections.singleton(input));
+
+        verify(resultFuture, times(1)).complete(Collections.singleton(input));
+        assertEquals(0, responseCache.size());
+        assertFalse(responseCache.lookup(createInput("order-2", "customer-1")));
+    }
+
+    @Test
+    public void shouldNotCacheResponseCompletedAfterFailure() {
+        ResponseCache responseCache = createCache("60000", "10", "100");
+        Row input = createInput("order-1", "customer-1");
+        ResponseResultFuture cachingResultFuture = (ResponseResultFuture) responseCache.caching(input, resultFuture);
+
+        cachingResultFuture.completeExceptionally(new RuntimeException("invalid path"));
+        cachingResultFuture.completeWithResponse(Collections.singleton(input));
+
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    public void shouldHandOutACopyOfTheCachedResponse() {
+        ResponseCache responseCache = createCache("60000", "10", null);
+        respond(responseCache, createInput("order-1", "customer-1"), Row.of("name-1"), new ArrayList<>(Arrays.asList("segment-1")));
+        Row firstInput = createInput("order-2", "customer-1");
+        Row secondInput = createInput("order-3", "customer-1");
+
+        responseCache.lookup(firstInput);
+        Row firstOutput = new RowManager(firstInput).getOutputData();
+        ((Row) firstOutput.getField(0)).setField(0, "changed");
+        ((java.util.List<String>) firstOutput.getField(1)).add("changed");
+        responseCache.lookup(secondInput);
+
+        assertEquals(Row.of(Row.of("name-1"), Arrays.asList("segment-1")), new RowManager(secondInput).getOutputData());
+    }
+}
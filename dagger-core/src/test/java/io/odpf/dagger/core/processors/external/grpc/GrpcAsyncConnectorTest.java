@@ -15,6 +15,7 @@ import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.DescriptorManager;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.HedgeConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.external.grpc.client.GrpcClient;
 import org.apache.flink.configuration.Configuration;
@@ -263,13 +264,31 @@ public class GrpcAsyncConnectorTest {
                 .asyncUnaryCall(dynamicMessageCaptor.capture(),
                         any(),
                         eq(TestGrpcRequest.getDescriptor()),
-                        any());
+                        any(),
+                        eq(false));
         assertEquals(expectedRequest, dynamicMessageCaptor.getValue());
         verify(meterStatsManager, times(1)).markEvent(TOTAL_EXTERNAL_CALLS);
         verify(meterStatsManager, times(0)).markEvent(INVALID_CONFIGURATION);
         verify(errorReporter, never()).reportFatalException(any(InvalidConfigurationException.class));
     }
 
+    @Test
+    public void shouldHedgeCallsWhenHedgeIsConfigured() throws Exception {
+        when(descriptorManager.getDescriptor(inputProtoClasses[0])).thenReturn(TestBookingLogMessage.getDescriptor());
+        when(descriptorManager.getDescriptor(grpcSourceConfig.getGrpcRequestProtoSchema())).thenReturn(TestGrpcRequest.getDescriptor());
+        grpcSourceConfig.setHedge(new HedgeConfig("95", "0.1"));
+        GrpcAsyncConnector grpcAsyncConnector = new GrpcAsyncConnector(grpcSourceConfig, externalMetricConfig, schemaConfig, grpcClient, errorReporter, meterStatsManager, descriptorManager);
+
+        grpcAsyncConnector.open(flinkConfiguration);
+        grpcAsyncConnector.asyncInvoke(streamData, resultFuture);
+
+        assertNotNull(grpcAsyncConnector.getRequestHedger());
+        assertEquals(-1, grpcAsyncConnector.getRequestHedger().getHedgeDelay());
+        verify(grpcClient, times(1)).asyncUnaryCall(any(), any(), eq(TestGrpcRequest.getDescriptor()), any(), eq(false));
+        verify(meterStatsManager, times(1)).markEvent(TOTAL_EXTERNAL_CALLS);
+        grpcAsyncConnector.close();
+    }
+
     @Test
     public void shouldCompleteExceptionallyWhenEndpointPatternIsInvalid() throws Exception {
         when(descriptorManager.getDescriptor(inputProtoClasses[0])).thenReturn(TestBookingLogMessage.getDescriptor());
@@ -50,4 +50,23 @@ public class GrpcClientTest {
 
     }
 
+    @Test
+    public void hedgeChannelShouldBeAddedAlongsideTheChannel() {
+
+        grpcSourceConfig = mock(GrpcSourceConfig.class);
+
+        GrpcClient grpcClient = new GrpcClient(grpcSourceConfig);
+
+        when(grpcSourceConfig.getEndpoint()).thenReturn("localhost");
+        when(grpcSourceConfig.getServicePort()).thenReturn(8080);
+
+        grpcClient.addChannel();
+        grpcClient.addHedgeChannel();
+
+        assertNotNull(grpcClient.getHedgeChannel());
+        assertNotSame(grpcClient.getDecoratedChannel(), grpcClient.getHedgeChannel());
+
+        grpcClient.close();
+        assertNull(grpcClient.getHedgeChannel());
+    }
 }
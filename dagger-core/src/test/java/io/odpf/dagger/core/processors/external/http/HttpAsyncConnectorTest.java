@@ -3,6 +3,7 @@ package io.odpf.dagger.core.processors.external.http;
 import io.odpf.stencil.client.StencilClient;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.consumer.TestBookingLogMessage;
 import io.odpf.dagger.core.exception.InvalidConfigurationException;
@@ -15,6 +16,8 @@ import io.odpf.dagger.core.processors.common.DescriptorManager;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.external.AsyncConnector;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.ResponseCacheConfig;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
@@ -55,6 +58,8 @@ public class HttpAsyncConnectorTest {
     @Mock
     private MeterStatsManager meterStatsManager;
     @Mock
+    private GaugeStatsManager gaugeStatsManager;
+    @Mock
     private TelemetrySubscriber telemetrySubscriber;
     @Mock
     private ErrorReporter errorReporter;
@@ -166,6 +171,70 @@ public class HttpAsyncConnectorTest {
         verify(stencilClient, times(1)).get(httpConfigType);
     }
 
+    @Test
+    public void shouldNotCallExternalSourceForIdenticalInFlightRequestWhenCoalescingEnabled() throws Exception {
+        when(httpClient.preparePost("http://localhost:8080/test")).thenReturn(boundRequestBuilder);
+        when(boundRequestBuilder.setBody("{\"key\": \"123456\"}")).thenReturn(boundRequestBuilder);
+        when(defaultDescriptorManager.getDescriptor(inputProtoClasses[0])).thenReturn(TestBookingLogMessage.getDescriptor());
+        defaultHttpSourceConfig.setCoalesceRequests(true);
+        Row otherStreamData = new Row(2);
+        Row otherInputData = new Row(3);
+        otherInputData.setField(1, "123456");
+        otherStreamData.setField(0, otherInputData);
+        otherStreamData.setField(1, new Row(1));
+        HttpAsyncConnector httpAsyncConnector = new HttpAsyncConnector(defaultHttpSourceConfig, externalMetricConfig, schemaConfig, httpClient, errorReporter, meterStatsManager, defaultDescriptorManager);
+
+        httpAsyncConnector.open(flinkConfiguration);
+        httpAsyncConnector.asyncInvoke(streamData, resultFuture);
+        httpAsyncConnector.asyncInvoke(otherStreamData, resultFuture);
+
+        verify(boundRequestBuilder, times(1)).execute(any(HttpResponseHandler.class));
+        verify(meterStatsManager, times(1)).markEvent(TOTAL_EXTERNAL_CALLS);
+        verify(meterStatsManager, times(1)).markEvent(COALESCED_REQUESTS);
+    }
+
+    @Test
+    public void shouldLimitCallsInFlightAdaptivelyWhenCapacityIsAdaptive() throws Exception {
+        when(httpClient.preparePost("http://localhost:8080/test")).thenReturn(boundRequestBuilder);
+        when(boundRequestBuilder.setBody("{\"key\": \"123456\"}")).thenReturn(boundRequestBuilder);
+        when(defaultDescriptorManager.getDescriptor(inputProtoClasses[0])).thenReturn(TestBookingLogMessage.getDescriptor());
+        defaultHttpSourceConfig.setAdaptiveCapacity(true);
+        HttpAsyncConnector httpAsyncConnector = new HttpAsyncConnector(defaultHttpSourceConfig, externalMetricConfig, schemaConfig, httpClient, errorReporter, meterStatsManager, defaultDescriptorManager);
+        httpAsyncConnector.setGaugeStatsManager(gaugeStatsManager);
+
+        httpAsyncConnector.open(flinkConfiguration);
+        httpAsyncConnector.asyncInvoke(streamData, resultFuture);
+
+        verify(gaugeStatsManager, times(1)).register(eq("source_metricId"), eq("HTTP.metricId-http-01"), eq(CONCURRENCY_LIMIT), any());
+        verify(gaugeStatsManager, times(1)).register(eq("source_metricId"), eq("HTTP.metricId-http-01"), eq(PENDING_REQUESTS), any());
+        assertEquals(172, httpAsyncConnector.getConcurrencyLimiter().getLimit());
+        assertEquals(1, httpAsyncConnector.getConcurrencyLimiter().getInFlightCount());
+        verify(boundRequestBuilder, times(1)).execute(any(HttpResponseHandler.class));
+    }
+
+    @Test
+    public void shouldCompleteFromResponseCacheWithoutCallingExternalSource() throws Exception {
+        outputMapping.put("value", new OutputMapping("$.value"));
+        defaultHttpSourceConfig.setCache(new ResponseCacheConfig("60000", null, null));
+        HttpAsyncConnector httpAsyncConnector = new HttpAsyncConnector(defaultHttpSourceConfig, externalMetricConfig, schemaConfig, httpClient, errorReporter, meterStatsManager, defaultDescriptorManager);
+        httpAsyncConnector.open(flinkConfiguration);
+        Row cachedStreamData = new Row(2);
+        Row cachedInputData = new Row(3);
+        cachedInputData.setField(1, "123456");
+        cachedStreamData.setField(0, cachedInputData);
+        cachedStreamData.setField(1, Row.of("cached value"));
+        ((ResponseResultFuture) httpAsyncConnector.getResponseCache().caching(cachedStreamData, mock(ResultFuture.class)))
+                .completeWithResponse(Collections.singleton(cachedStreamData));
+
+        httpAsyncConnector.asyncInvoke(streamData, resultFuture);
+
+        verify(resultFuture, times(1)).complete(Collections.singleton(streamData));
+        assertEquals("cached value", ((Row) streamData.getField(1)).getField(0));
+        verify(httpClient, never()).preparePost(any(String.class));
+        verify(meterStatsManager, times(1)).markEvent(CACHE_HITS);
+        verify(meterStatsManager, never()).markEvent(TOTAL_EXTERNAL_CALLS);
+    }
+
 
     @Test
     public void shouldCompleteExceptionallyIfOutputDescriptorNotFound() throws Exception {
@@ -11,6 +11,7 @@ import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.common.PostResponseTelemetry;
 import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.external.ResponseResultFuture;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.types.Row;
 import org.asynchttpclient.Response;
@@ -278,6 +279,27 @@ public class HttpResponseHandlerTest {
         verify(resultFuture, times(1)).complete(Collections.singleton(resultStreamData));
     }
 
+    @Test
+    public void shouldCompleteWithResponseOnlyOnSuccess() {
+        outputMapping.put("surge_factor", new OutputMapping("$.surge"));
+        columnNameManager = new ColumnNameManager(inputColumnNames, Collections.singletonList("surge_factor"));
+        httpSourceConfig = new HttpSourceConfig("http://localhost:8080/test", "POST", "{\"key\": \"%s\"}", "customer_id", "", "", "123", "234", false, httpConfigType, "345", headers, outputMapping, "metricId_02", false);
+        ResponseResultFuture responseResultFuture = mock(ResponseResultFuture.class);
+        when(response.getResponseBody()).thenReturn("{\"surge\": 0.732}");
+        HttpResponseHandler successfulResponseHandler = new HttpResponseHandler(httpSourceConfig, meterStatsManager, rowManager, columnNameManager, descriptor, responseResultFuture, errorReporter, new PostResponseTelemetry());
+        HttpResponseHandler failedResponseHandler = new HttpResponseHandler(httpSourceConfig, meterStatsManager, rowManager, columnNameManager, descriptor, responseResultFuture, errorReporter, new PostResponseTelemetry());
+        successfulResponseHandler.startTimer();
+        failedResponseHandler.startTimer();
+
+        when(response.getStatusCode()).thenReturn(200);
+        successfulResponseHandler.onCompleted(response);
+        when(response.getStatusCode()).thenReturn(502);
+        failedResponseHandler.onCompleted(response);
+
+        verify(responseResultFuture, times(1)).completeWithResponse(any());
+        verify(responseResultFuture, times(1)).complete(any());
+    }
+
     @Test
     public void shouldPopulateMultipleResultsFromHttpCallInInputRow() {
         outputMapping.put("surge_factor", new OutputMapping("$.surge"));
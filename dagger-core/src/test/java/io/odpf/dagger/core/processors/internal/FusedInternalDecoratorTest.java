@@ -0,0 +1,111 @@
+package io.odpf.dagger.core.processors.internal;
+
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.FetchOutputDecorator;
+import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class FusedInternalDecoratorTest {
+
+    @Mock
+    private FetchOutputDecorator fetchOutputDecorator;
+
+    @Mock
+    private DataStream<Row> inputStream;
+
+    private ColumnNameManager columnNameManager;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        columnNameManager = new ColumnNameManager(new String[]{"order_id", "customer_id"}, Arrays.asList("order_number", "customer", "constant"));
+        when(fetchOutputDecorator.getOutput(any(RowManager.class))).thenAnswer(invocation -> ((RowManager) invocation.getArgument(0)).getOutputData());
+    }
+
+    @Test
+    public void shouldAlwaysBeAbleToDecorate() {
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(Collections.emptyList(), columnNameManager, false, fetchOutputDecorator);
+
+        assertTrue(fusedInternalDecorator.canDecorate());
+    }
+
+    @Test
+    public void shouldRunAllProcessorsInOrderOnUnwrappedInput() {
+        InternalConfigProcessor orderNumberProcessor = getInputCopyingProcessor(0);
+        InternalConfigProcessor customerProcessor = getInputCopyingProcessor(1);
+        InternalConfigProcessor constantProcessor = getConstantProcessor(2, "constant");
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(
+                Arrays.asList(orderNumberProcessor, customerProcessor, constantProcessor), columnNameManager, false, fetchOutputDecorator);
+
+        Row outputRow = fusedInternalDecorator.map(Row.of("123", "456"));
+
+        assertEquals(Row.of("123", "456", "constant"), outputRow);
+    }
+
+    @Test
+    public void shouldRunProcessorsOnWrappedInputAndKeepOutputOfPreviousStages() {
+        InternalConfigProcessor constantProcessor = getConstantProcessor(2, "constant");
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(
+                Collections.singletonList(constantProcessor), columnNameManager, true, fetchOutputDecorator);
+        Row parentRow = new Row(2);
+        parentRow.setField(RowManager.INPUT_ROW_INDEX, Row.of("123", "456"));
+        parentRow.setField(RowManager.OUTPUT_ROW_INDEX, Row.of("123", "external", null));
+
+        Row outputRow = fusedInternalDecorator.map(parentRow);
+
+        assertEquals(Row.of("123", "external", "constant"), outputRow);
+    }
+
+    @Test
+    public void shouldResizeWrappedOutputRowWhenOutputColumnSizeIsDifferent() {
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(Collections.emptyList(), columnNameManager, true, fetchOutputDecorator);
+        Row parentRow = new Row(2);
+        parentRow.setField(RowManager.INPUT_ROW_INDEX, Row.of("123", "456"));
+        parentRow.setField(RowManager.OUTPUT_ROW_INDEX, new Row(1));
+
+        Row outputRow = fusedInternalDecorator.map(parentRow);
+
+        assertEquals(3, outputRow.getArity());
+    }
+
+    @Test
+    public void shouldDecorateStreamThroughFetchOutputDecorator() {
+        FusedInternalDecorator fusedInternalDecorator = new FusedInternalDecorator(Collections.emptyList(), columnNameManager, false, fetchOutputDecorator);
+
+        fusedInternalDecorator.decorate(inputStream);
+
+        verify(fetchOutputDecorator, times(1)).decorate(inputStream, fusedInternalDecorator);
+    }
+
+    private InternalConfigProcessor getInputCopyingProcessor(int fieldIndex) {
+        InternalConfigProcessor internalConfigProcessor = mock(InternalConfigProcessor.class);
+        doAnswer(invocation -> {
+            RowManager rowManager = invocation.getArgument(0);
+            rowManager.setInOutput(fieldIndex, rowManager.getFromInput(fieldIndex));
+            return null;
+        }).when(internalConfigProcessor).process(any(RowManager.class));
+        return internalConfigProcessor;
+    }
+
+    private InternalConfigProcessor getConstantProcessor(int fieldIndex, Object value) {
+        InternalConfigProcessor internalConfigProcessor = mock(InternalConfigProcessor.class);
+        doAnswer(invocation -> {
+            ((RowManager) invocation.getArgument(0)).setInOutput(fieldIndex, value);
+            return null;
+        }).when(internalConfigProcessor).process(any(RowManager.class));
+        return internalConfigProcessor;
+    }
+}
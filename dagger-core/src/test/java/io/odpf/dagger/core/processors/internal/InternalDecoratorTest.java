@@ -3,6 +3,10 @@ package io.odpf.dagger.core.processors.internal;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
@@ -11,6 +15,7 @@ import java.util.Arrays;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class InternalDecoratorTest {
 
@@ -58,4 +63,18 @@ public class InternalDecoratorTest {
         assertEquals(2, outputRow.getArity());
         verify(processorMock).process(new RowManager(dataStreamRow));
     }
+
+    @Test
+    public void shouldDecorateStreamWithGivenRowType() {
+        columnNameManager = new ColumnNameManager(new String[]{}, Arrays.asList("output1"));
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputOutputRowType = new RowTypeInfo(new RowTypeInfo(Types.STRING), new RowTypeInfo(Types.STRING));
+        InternalDecorator internalDecorator = new InternalDecorator(mock(InternalSourceConfig.class), mock(InternalConfigProcessor.class), columnNameManager, inputOutputRowType);
+        when(inputStream.map(internalDecorator)).thenReturn(outputStream);
+
+        internalDecorator.decorate(inputStream);
+
+        verify(outputStream).returns(inputOutputRowType);
+    }
 }
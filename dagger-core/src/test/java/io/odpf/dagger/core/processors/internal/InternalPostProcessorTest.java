@@ -1,10 +1,15 @@
 package io.odpf.dagger.core.processors.internal;
 
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
+import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.external.ExternalSourceConfig;
+import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
 import io.odpf.dagger.core.processors.transformers.TransformConfig;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -60,7 +65,7 @@ public class InternalPostProcessorTest {
         ArrayList<InternalSourceConfig> internalSourceConfigs = new ArrayList<>();
         internalSourceConfigs.add(new InternalSourceConfig("output", "order_id", "sql", null));
         PostProcessorConfig postProcessorConfig = new PostProcessorConfig(externalSource, transformers, internalSourceConfigs);
-        InternalPostProcessor internalPostProcessor = new InternalPostProcessor(postProcessorConfig, null);
+        InternalPostProcessor internalPostProcessor = new InternalPostProcessor(postProcessorConfig, mock(SchemaConfig.class));
 
         StreamInfo streamInfoMock = mock(StreamInfo.class);
         DataStream resultStream = mock(DataStream.class);
@@ -71,4 +76,38 @@ public class InternalPostProcessorTest {
         verify(resultStream, times(1)).map(any(InternalDecorator.class));
         assertArrayEquals(new String[] {"output"}, process.getColumnNames());
     }
+
+    @Test
+    public void shouldGetInternalConfigProcessorsInOrderOfConfigs() {
+        ArrayList<InternalSourceConfig> internalSourceConfigs = new ArrayList<>();
+        internalSourceConfigs.add(new InternalSourceConfig("output", "order_id", "sql", null));
+        internalSourceConfigs.add(new InternalSourceConfig("customer", "customer_id", "sql", null));
+        PostProcessorConfig postProcessorConfig = new PostProcessorConfig(null, new ArrayList<>(), internalSourceConfigs);
+        InternalPostProcessor internalPostProcessor = new InternalPostProcessor(postProcessorConfig, null);
+        ColumnNameManager columnNameManager = new ColumnNameManager(new String[] {"order_id", "customer_id"}, Arrays.asList("output", "customer"));
+
+        List<InternalConfigProcessor> internalConfigProcessors = internalPostProcessor.getInternalConfigProcessors(columnNameManager);
+        Row parentRow = new Row(2);
+        parentRow.setField(0, Row.of("123", "456"));
+        parentRow.setField(1, new Row(2));
+        RowManager rowManager = new RowManager(parentRow);
+        internalConfigProcessors.forEach(internalConfigProcessor -> internalConfigProcessor.process(rowManager));
+
+        assertEquals(2, internalConfigProcessors.size());
+        assertEquals(Row.of("123", "456"), rowManager.getOutputData());
+    }
+
+    @Test
+    public void shouldValidateConfigsWhenGettingInternalConfigProcessors() {
+        String exceptionMsg = "Missing required fields: [output_field]";
+        InternalSourceConfig mockConfig = mock(InternalSourceConfig.class);
+        doThrow(new IllegalArgumentException(exceptionMsg)).when(mockConfig).validateFields();
+        PostProcessorConfig postProcessorConfig = new PostProcessorConfig(null, Collections.emptyList(), Arrays.asList(mockConfig));
+        InternalPostProcessor internalPostProcessor = new InternalPostProcessor(postProcessorConfig, null);
+        ColumnNameManager columnNameManager = new ColumnNameManager(new String[] {"order_id"}, Arrays.asList("output"));
+
+        IllegalArgumentException actualException = assertThrows(IllegalArgumentException.class,
+                () -> internalPostProcessor.getInternalConfigProcessors(columnNameManager));
+        assertEquals(exceptionMsg, actualException.getMessage());
+    }
 }
@@ -144,6 +144,50 @@ public class LongbowWriterTest {
                 .updateHistogram(eq(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME), any(Long.class));
     }
 
+    @Test
+    public void shouldWriteBufferedDocumentsToBigTableInBatches() throws Exception {
+        when(configuration.getInteger("PROCESSOR_LONGBOW_WRITE_BATCH_SIZE", 1)).thenReturn(2);
+        when(configuration.getLong("PROCESSOR_LONGBOW_WRITE_BATCH_BYTES", 2097152L)).thenReturn(2097152L);
+        LongbowWriter longbowWriter = new LongbowWriter(configuration, defaultLongbowSchema, meterStatsManager, errorReporter,
+                longBowStore, putRequestFactory, tableId, writerOutputRow);
+        longbowWriter.setRuntimeContext(runtimeContext);
+        Row firstInput = Row.of(longbowKey, longbowData1, longbowDuration, longbowRowtime);
+        Row secondInput = Row.of(longbowKey, "RB-1234", longbowDuration, longbowRowtime);
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        longbowWriter.open(flinkInternalConfig);
+        longbowWriter.asyncInvoke(firstInput, resultFuture);
+        verify(resultFuture, never()).complete(any());
+
+        longbowWriter.asyncInvoke(secondInput, resultFuture);
+
+        verify(longBowStore, never()).put(any(PutRequest.class));
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 2));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(firstInput));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(secondInput));
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowWriterAspects.WRITE_BATCH_SIZE, 2);
+    }
+
+    @Test
+    public void shouldFlushBufferedDocumentsOnSnapshotState() throws Exception {
+        when(configuration.getInteger("PROCESSOR_LONGBOW_WRITE_BATCH_SIZE", 1)).thenReturn(10);
+        when(configuration.getLong("PROCESSOR_LONGBOW_WRITE_BATCH_BYTES", 2097152L)).thenReturn(2097152L);
+        LongbowWriter longbowWriter = new LongbowWriter(configuration, defaultLongbowSchema, meterStatsManager, errorReporter,
+                longBowStore, putRequestFactory, tableId, writerOutputRow);
+        longbowWriter.setRuntimeContext(runtimeContext);
+        Row input = Row.of(longbowKey, longbowData1, longbowDuration, longbowRowtime);
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        longbowWriter.open(flinkInternalConfig);
+        longbowWriter.asyncInvoke(input, resultFuture);
+        longbowWriter.snapshotState(null);
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 1));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(input));
+    }
+
     @Test(expected = RuntimeException.class)
     public void shouldCaptureExceptionWithStatsDManagerAndRethrowExceptionOnCreateTableFailure() throws Exception {
         long nintyDays = (long) 90 * 24 * 60 * 60 * 1000;
@@ -0,0 +1,115 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LongbowWriteBufferTest {
+
+    @Mock
+    private LongbowStore longbowStore;
+    @Mock
+    private MeterStatsManager meterStatsManager;
+    @Mock
+    private Clock clock;
+
+    private String tableId = "tableId";
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    private PutRequest putRequest(String rowKey) {
+        Put put = new Put(Bytes.toBytes(rowKey));
+        put.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("proto"), Bytes.toBytes("value"));
+        PutRequest putRequest = mock(PutRequest.class);
+        when(putRequest.get()).thenReturn(put);
+        when(putRequest.getTableId()).thenReturn(tableId);
+        return putRequest;
+    }
+
+    @Test
+    public void shouldBufferPutsUntilTheBatchIsFull() {
+        when(longbowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        LongbowWriteBuffer writeBuffer = new LongbowWriteBuffer(longbowStore, tableId, 3, 1024 * 1024, meterStatsManager, clock);
+
+        CompletableFuture<Void> firstPut = writeBuffer.put(putRequest("key1"));
+        CompletableFuture<Void> secondPut = writeBuffer.put(putRequest("key2"));
+
+        assertFalse(firstPut.isDone());
+        assertEquals(2, writeBuffer.size());
+        verify(longbowStore, never()).putAll(eq(tableId), anyList());
+
+        CompletableFuture<Void> thirdPut = writeBuffer.put(putRequest("key3"));
+
+        assertTrue(firstPut.isDone() && secondPut.isDone() && thirdPut.isDone());
+        assertEquals(0, writeBuffer.size());
+        verify(longbowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 3));
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowWriterAspects.WRITE_BATCH_SIZE, 3);
+    }
+
+    @Test
+    public void shouldFlushWhenTheBatchExceedsMaxBytes() {
+        when(longbowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        LongbowWriteBuffer writeBuffer = new LongbowWriteBuffer(longbowStore, tableId, 100, 1, meterStatsManager, clock);
+
+        CompletableFuture<Void> put = writeBuffer.put(putRequest("key1"));
+
+        assertTrue(put.isDone());
+        verify(longbowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 1));
+    }
+
+    @Test
+    public void shouldCompletePutsWhenTheirBatchCommits() {
+        CompletableFuture<Void> batchFuture = new CompletableFuture<>();
+        when(longbowStore.putAll(eq(tableId), anyList())).thenReturn(batchFuture);
+        LongbowWriteBuffer writeBuffer = new LongbowWriteBuffer(longbowStore, tableId, 100, 1024 * 1024, meterStatsManager, clock);
+        CompletableFuture<Void> put = writeBuffer.put(putRequest("key1"));
+
+        writeBuffer.flush();
+        assertFalse(put.isDone());
+
+        when(clock.millis()).thenReturn(25L);
+        batchFuture.complete(null);
+
+        assertTrue(put.isDone());
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowWriterAspects.WRITE_BATCH_FLUSH_TIME, 25L);
+    }
+
+    @Test
+    public void shouldFailAllPutsOfAFailedBatch() {
+        CompletableFuture<Void> batchFuture = new CompletableFuture<>();
+        batchFuture.completeExceptionally(new RuntimeException("bulk mutation failed"));
+        when(longbowStore.putAll(eq(tableId), anyList())).thenReturn(batchFuture);
+        LongbowWriteBuffer writeBuffer = new LongbowWriteBuffer(longbowStore, tableId, 100, 1024 * 1024, meterStatsManager, clock);
+        CompletableFuture<Void> firstPut = writeBuffer.put(putRequest("key1"));
+        CompletableFuture<Void> secondPut = writeBuffer.put(putRequest("key2"));
+
+        writeBuffer.flush();
+
+        assertTrue(firstPut.isCompletedExceptionally());
+        assertTrue(secondPut.isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldNotWriteEmptyBatch() {
+        LongbowWriteBuffer writeBuffer = new LongbowWriteBuffer(longbowStore, tableId, 100, 1024 * 1024, meterStatsManager, clock);
+
+        assertTrue(writeBuffer.flush().isDone());
+        verify(longbowStore, never()).putAll(eq(tableId), anyList());
+    }
+}
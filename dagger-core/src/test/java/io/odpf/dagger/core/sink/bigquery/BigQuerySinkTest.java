@@ -44,6 +44,7 @@ public class BigQuerySinkTest {
         Sink.InitContext context = Mockito.mock(Sink.InitContext.class);
         SinkWriterMetricGroup metricGroup = Mockito.mock(SinkWriterMetricGroup.class);
         Mockito.when(context.metricGroup()).thenReturn(metricGroup);
+        Mockito.when(metricGroup.addGroup(Mockito.anyString(), Mockito.anyString())).thenReturn(metricGroup);
         OdpfSink odpfSink = Mockito.mock(OdpfSink.class);
         Map<String, String> configMap = new HashMap<>();
         Configuration configuration = new Configuration(ParameterTool.fromMap(configMap));
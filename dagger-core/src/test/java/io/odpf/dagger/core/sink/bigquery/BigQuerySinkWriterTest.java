@@ -1,18 +1,25 @@
 package io.odpf.dagger.core.sink.bigquery;
 
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializer;
+import io.odpf.dagger.core.metrics.aspects.BigQuerySinkWriterAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.depot.OdpfSink;
 import io.odpf.depot.OdpfSinkResponse;
 import io.odpf.depot.error.ErrorInfo;
 import io.odpf.depot.error.ErrorType;
+import org.apache.flink.metrics.Gauge;
 import org.apache.flink.types.Row;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class BigQuerySinkWriterTest {
 
@@ -176,4 +183,125 @@ public class BigQuerySinkWriterTest {
         bigquerySinkWriter.write(row, null);
         Mockito.verify(sink, Mockito.times(4)).pushToSink(Mockito.anyList());
     }
+
+    @Test
+    public void shouldPushBatchesAsynchronouslyAndWaitForThemWhilePrepareForCommit() throws Exception {
+        ProtoSerializer protoSerializer = Mockito.mock(ProtoSerializer.class);
+        OdpfSink sink = Mockito.mock(OdpfSink.class);
+        MeterStatsManager meterStatsManager = Mockito.mock(MeterStatsManager.class);
+        BigQuerySinkWriter bigquerySinkWriter = new BigQuerySinkWriter(protoSerializer, sink, 3, 2, null, null,
+                meterStatsManager, new GaugeStatsManager(null, false));
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        Mockito.when(protoSerializer.serializeKey(row)).thenReturn("test".getBytes());
+        Mockito.when(protoSerializer.serializeValue(row)).thenReturn("testMessage".getBytes());
+        OdpfSinkResponse response = Mockito.mock(OdpfSinkResponse.class);
+        Mockito.when(response.hasErrors()).thenReturn(false);
+        CountDownLatch pushLatch = new CountDownLatch(1);
+        Mockito.when(sink.pushToSink(Mockito.anyList())).thenAnswer(invocation -> {
+            pushLatch.await(10, TimeUnit.SECONDS);
+            return response;
+        });
+        for (int i = 0; i < 7; i++) {
+            bigquerySinkWriter.write(row, null);
+        }
+        Mockito.verify(meterStatsManager, Mockito.never()).updateHistogram(Mockito.eq(BigQuerySinkWriterAspects.BATCH_SIZE_BYTES), Mockito.anyLong());
+        pushLatch.countDown();
+        bigquerySinkWriter.prepareCommit(true);
+        Mockito.verify(sink, Mockito.times(3)).pushToSink(Mockito.anyList());
+        Mockito.verify(meterStatsManager, Mockito.times(2)).updateHistogram(BigQuerySinkWriterAspects.BATCH_SIZE_BYTES, 45L);
+        Mockito.verify(meterStatsManager, Mockito.times(1)).updateHistogram(BigQuerySinkWriterAspects.BATCH_SIZE_BYTES, 15L);
+        Mockito.verify(meterStatsManager, Mockito.times(3)).updateHistogram(Mockito.eq(BigQuerySinkWriterAspects.BATCH_PUSH_TIME), Mockito.anyLong());
+        bigquerySinkWriter.prepareCommit(true);
+        Mockito.verify(sink, Mockito.times(3)).pushToSink(Mockito.anyList());
+        bigquerySinkWriter.close();
+        Mockito.verify(sink, Mockito.times(1)).close();
+    }
+
+    @Test
+    public void shouldNotHaveMoreThanTheMaximumBatchesInFlight() throws Exception {
+        ProtoSerializer protoSerializer = Mockito.mock(ProtoSerializer.class);
+        OdpfSink sink = Mockito.mock(OdpfSink.class);
+        GaugeStatsManager gaugeStatsManager = Mockito.mock(GaugeStatsManager.class);
+        BigQuerySinkWriter bigquerySinkWriter = new BigQuerySinkWriter(protoSerializer, sink, 1, 2, null, null,
+                new MeterStatsManager(null, false), gaugeStatsManager);
+        ArgumentCaptor<Gauge> gaugeCaptor = ArgumentCaptor.forClass(Gauge.class);
+        Mockito.verify(gaugeStatsManager).register(Mockito.eq("sink"), Mockito.eq("bigquery"),
+                Mockito.eq(BigQuerySinkWriterAspects.IN_FLIGHT_BATCHES), gaugeCaptor.capture());
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        Mockito.when(protoSerializer.serializeKey(row)).thenReturn("test".getBytes());
+        Mockito.when(protoSerializer.serializeValue(row)).thenReturn("testMessage".getBytes());
+        OdpfSinkResponse response = Mockito.mock(OdpfSinkResponse.class);
+        CountDownLatch pushLatch = new CountDownLatch(1);
+        Mockito.when(sink.pushToSink(Mockito.anyList())).thenAnswer(invocation -> {
+            pushLatch.await(10, TimeUnit.SECONDS);
+            return response;
+        });
+        bigquerySinkWriter.write(row, null);
+        bigquerySinkWriter.write(row, null);
+        Assert.assertEquals(2, gaugeCaptor.getValue().getValue());
+        Thread writerThread = new Thread(() -> {
+            try {
+                bigquerySinkWriter.write(row, null);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writerThread.start();
+        writerThread.join(200);
+        Assert.assertTrue(writerThread.isAlive());
+        pushLatch.countDown();
+        writerThread.join(10000);
+        Assert.assertFalse(writerThread.isAlive());
+        bigquerySinkWriter.prepareCommit(true);
+        Assert.assertEquals(0, gaugeCaptor.getValue().getValue());
+        Mockito.verify(sink, Mockito.times(3)).pushToSink(Mockito.anyList());
+        bigquerySinkWriter.close();
+    }
+
+    @Test
+    public void shouldThrowTheAsynchronousPushFailureOnTheNextCall() throws Exception {
+        ProtoSerializer protoSerializer = Mockito.mock(ProtoSerializer.class);
+        OdpfSink sink = Mockito.mock(OdpfSink.class);
+        ErrorReporter reporter = Mockito.mock(ErrorReporter.class);
+        BigQuerySinkWriter bigquerySinkWriter = new BigQuerySinkWriter(protoSerializer, sink, 3, 2, reporter, Collections.emptySet(),
+                new MeterStatsManager(null, false), new GaugeStatsManager(null, false));
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        Mockito.when(protoSerializer.serializeKey(row)).thenReturn("test".getBytes());
+        Mockito.when(protoSerializer.serializeValue(row)).thenReturn("testMessage".getBytes());
+        RuntimeException pushException = new RuntimeException("test");
+        Mockito.when(sink.pushToSink(Mockito.anyList())).thenThrow(pushException);
+        bigquerySinkWriter.write(row, null);
+        bigquerySinkWriter.write(row, null);
+        bigquerySinkWriter.write(row, null);
+        RuntimeException thrown = Assert.assertThrows(RuntimeException.class, () -> bigquerySinkWriter.prepareCommit(true));
+        Assert.assertEquals(pushException, thrown);
+        Assert.assertThrows(RuntimeException.class, () -> bigquerySinkWriter.write(row, null));
+        Mockito.verify(sink, Mockito.times(1)).pushToSink(Mockito.anyList());
+        Mockito.verify(reporter, Mockito.times(1)).reportFatalException(pushException);
+        bigquerySinkWriter.close();
+    }
+
+    @Test
+    public void shouldFailTheNextCommitWhenTheAsynchronousPushThrowsAnError() throws Exception {
+        ProtoSerializer protoSerializer = Mockito.mock(ProtoSerializer.class);
+        OdpfSink sink = Mockito.mock(OdpfSink.class);
+        ErrorReporter reporter = Mockito.mock(ErrorReporter.class);
+        BigQuerySinkWriter bigquerySinkWriter = new BigQuerySinkWriter(protoSerializer, sink, 3, 2, reporter, Collections.emptySet(),
+                new MeterStatsManager(null, false), new GaugeStatsManager(null, false));
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        Mockito.when(protoSerializer.serializeKey(row)).thenReturn("test".getBytes());
+        Mockito.when(protoSerializer.serializeValue(row)).thenReturn("testMessage".getBytes());
+        OutOfMemoryError pushError = new OutOfMemoryError("test");
+        Mockito.when(sink.pushToSink(Mockito.anyList())).thenThrow(pushError);
+        bigquerySinkWriter.write(row, null);
+        bigquerySinkWriter.write(row, null);
+        bigquerySinkWriter.write(row, null);
+        IOException thrown = Assert.assertThrows(IOException.class, () -> bigquerySinkWriter.prepareCommit(true));
+        Assert.assertEquals(pushError, thrown.getCause());
+        bigquerySinkWriter.close();
+    }
 }
@@ -0,0 +1,189 @@
+package io.odpf.dagger.core.sink.influx;
+
+import org.apache.flink.api.connector.sink.Sink.InitContext;
+import org.apache.flink.api.connector.sink.Sink.ProcessingTimeService;
+import org.apache.flink.api.connector.sink.Sink.ProcessingTimeService.ProcessingTimeCallback;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.groups.SinkWriterMetricGroup;
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.exception.InfluxWriteException;
+import io.odpf.dagger.core.metrics.aspects.InfluxDBWriterAspects;
+import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
+import io.odpf.dagger.core.utils.Constants;
+import org.influxdb.InfluxDB;
+import org.influxdb.InfluxDBException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.odpf.dagger.core.utils.Constants.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class InfluxDBBatchWriterTest {
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private InfluxDB influxDb;
+
+    @Mock
+    private SinkWriterMetricGroup metricGroup;
+
+    @Mock
+    private ErrorReporter errorReporter;
+
+    @Mock
+    private Counter counter;
+
+    @Mock
+    private InitContext initContext;
+
+    @Mock
+    private ProcessingTimeService processingTimeService;
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    private ErrorHandler errorHandler = new ErrorHandler();
+
+    private final String[] columnNames = {"tag_zone", "order_count"};
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getString(SINK_INFLUX_DB_NAME_KEY, SINK_INFLUX_DB_NAME_DEFAULT)).thenReturn("dagger_test");
+        when(configuration.getString(SINK_INFLUX_RETENTION_POLICY_KEY, SINK_INFLUX_RETENTION_POLICY_DEFAULT)).thenReturn("two_day_policy");
+        when(configuration.getString(SINK_INFLUX_MEASUREMENT_NAME_KEY, SINK_INFLUX_MEASUREMENT_NAME_DEFAULT)).thenReturn("test_table");
+        when(configuration.getInteger(SINK_INFLUX_BATCH_SIZE_KEY, SINK_INFLUX_BATCH_SIZE_DEFAULT)).thenReturn(2);
+        when(configuration.getInteger(SINK_INFLUX_FLUSH_DURATION_MS_KEY, SINK_INFLUX_FLUSH_DURATION_MS_DEFAULT)).thenReturn(1000);
+        when(processingTimeService.getCurrentProcessingTime()).thenReturn(5000L);
+        when(initContext.metricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup(Constants.SINK_INFLUX_LATE_RECORDS_DROPPED_KEY)).thenReturn(metricGroup);
+        when(metricGroup.addGroup(Constants.NONFATAL_EXCEPTION_METRIC_GROUP_KEY,
+                InfluxDBException.class.getName())).thenReturn(metricGroup);
+        when(metricGroup.counter("value")).thenReturn(counter);
+        errorHandler.init(initContext);
+    }
+
+    private InfluxDBBatchWriter createWriter() {
+        return new InfluxDBBatchWriter(configuration, influxDb, columnNames, errorHandler, errorReporter, processingTimeService, meterStatsManager);
+    }
+
+    @Test
+    public void shouldWriteFullBatchesAsLineProtocol() throws Exception {
+        InfluxDBBatchWriter writer = createWriter();
+
+        writer.write(Row.of("north", 1), null);
+        writer.write(Row.of("south", 2), null);
+        writer.write(Row.of("east", 3), null);
+        writer.prepareCommit(false);
+
+        verify(influxDb).write("dagger_test", "two_day_policy", InfluxDB.ConsistencyLevel.ONE,
+                "test_table,tag_zone=north order_count=1i\ntest_table,tag_zone=south order_count=2i");
+        verify(influxDb).write("dagger_test", "two_day_policy", InfluxDB.ConsistencyLevel.ONE,
+                "test_table,tag_zone=east order_count=3i");
+        verify(meterStatsManager).register("sink", "influx", InfluxDBWriterAspects.values());
+        verify(meterStatsManager).updateHistogram(InfluxDBWriterAspects.BATCH_SIZE, 2L);
+        verify(meterStatsManager).markEvent(InfluxDBWriterAspects.POINTS_WRITTEN, 2L);
+        verify(meterStatsManager).markEvent(InfluxDBWriterAspects.POINTS_WRITTEN, 1L);
+        verify(meterStatsManager, times(2)).updateHistogram(eq(InfluxDBWriterAspects.WRITE_TIME), anyLong());
+        writer.close();
+        verify(influxDb).close();
+    }
+
+    @Test
+    public void shouldWriteThePendingPointsWhenTheFlushDurationHasPassed() throws Exception {
+        InfluxDBBatchWriter writer = createWriter();
+        ArgumentCaptor<ProcessingTimeCallback> callbackCaptor = ArgumentCaptor.forClass(ProcessingTimeCallback.class);
+        verify(processingTimeService).registerProcessingTimer(eq(6000L), callbackCaptor.capture());
+
+        writer.write(Row.of("north", 1), null);
+        callbackCaptor.getValue().onProcessingTime(6000L);
+        writer.prepareCommit(false);
+
+        verify(influxDb).write("dagger_test", "two_day_policy", InfluxDB.ConsistencyLevel.ONE, "test_table,tag_zone=north order_count=1i");
+        verify(processingTimeService, times(2)).registerProcessingTimer(eq(6000L), any());
+        writer.close();
+    }
+
+    @Test
+    public void shouldNotWriteAnEmptyBatchOnCheckpoint() throws Exception {
+        InfluxDBBatchWriter writer = createWriter();
+
+        writer.prepareCommit(false);
+        writer.snapshotState(1L);
+
+        verify(influxDb, never()).write(anyString(), anyString(), any(InfluxDB.ConsistencyLevel.class), anyString());
+        writer.close();
+    }
+
+    @Test
+    public void shouldWaitForTheBatchBeingWrittenOnCheckpoint() throws Exception {
+        CountDownLatch writeLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writeLatch.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(influxDb).write(anyString(), anyString(), any(InfluxDB.ConsistencyLevel.class), anyString());
+        InfluxDBBatchWriter writer = createWriter();
+        writer.write(Row.of("north", 1), null);
+        writer.write(Row.of("south", 2), null);
+
+        Thread checkpointThread = new Thread(() -> {
+            try {
+                writer.prepareCommit(false);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        checkpointThread.start();
+        checkpointThread.join(200);
+        assertTrue(checkpointThread.isAlive());
+        writeLatch.countDown();
+        checkpointThread.join(10000);
+        assertFalse(checkpointThread.isAlive());
+        writer.close();
+    }
+
+    @Test
+    public void shouldThrowTheWriteFailureOnCheckpoint() throws Exception {
+        doThrow(new InfluxDBException("write failed")).when(influxDb).write(anyString(), anyString(), any(InfluxDB.ConsistencyLevel.class), anyString());
+        InfluxDBBatchWriter writer = createWriter();
+        writer.write(Row.of("north", 1), null);
+        writer.write(Row.of("south", 2), null);
+
+        InfluxWriteException exception = assertThrows(InfluxWriteException.class, () -> writer.prepareCommit(false));
+        assertEquals("org.influxdb.InfluxDBException: write failed", exception.getMessage());
+        verify(errorReporter).reportFatalException(any(InfluxWriteException.class));
+        assertThrows(InfluxWriteException.class, () -> writer.write(Row.of("east", 3), null));
+        writer.close();
+    }
+
+    @Test
+    public void shouldNotFailOnLateRecordsDropped() throws Exception {
+        doThrow(new InfluxDBException("{\"error\":\"partial write: points beyond retention policy dropped=2\"}"))
+                .when(influxDb).write(anyString(), anyString(), any(InfluxDB.ConsistencyLevel.class), anyString());
+        InfluxDBBatchWriter writer = createWriter();
+        writer.write(Row.of("north", 1), null);
+        writer.write(Row.of("south", 2), null);
+
+        writer.prepareCommit(false);
+
+        verify(counter).inc(2);
+        verify(errorReporter, never()).reportFatalException(any());
+        writer.close();
+    }
+}
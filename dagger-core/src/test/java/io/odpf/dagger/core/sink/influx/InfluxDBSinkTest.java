@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.sink.influx;
 
 import org.apache.flink.api.connector.sink.Sink.InitContext;
+import org.apache.flink.api.connector.sink.Sink.ProcessingTimeService;
 import org.apache.flink.api.connector.sink.SinkWriter;
 import org.apache.flink.metrics.Counter;
 import org.apache.flink.metrics.groups.SinkWriterMetricGroup;
@@ -24,7 +25,10 @@ import java.util.function.BiConsumer;
 import static io.odpf.dagger.core.utils.Constants.*;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -52,6 +56,9 @@ public class InfluxDBSinkTest {
     @Mock
     private SinkWriterMetricGroup metricGroup;
 
+    @Mock
+    private ProcessingTimeService processingTimeService;
+
     private ErrorHandler errorHandler = new ErrorHandler();
 
     @Before
@@ -98,4 +105,20 @@ public class InfluxDBSinkTest {
         influxDBSink.createWriter(context, state);
         verify(influxDb).enableBatch(eq(SINK_INFLUX_BATCH_SIZE), eq(INFLUX_FLUSH_DURATION), eq(TimeUnit.MILLISECONDS), any(ThreadFactory.class), any(BiConsumer.class));
     }
+
+    @Test
+    public void shouldCreateInfluxBatchWriterWithoutClientBatchingWhenLineProtocolIsEnabled() throws Exception {
+        when(configuration.getBoolean(SINK_INFLUX_LINE_PROTOCOL_ENABLE_KEY, SINK_INFLUX_LINE_PROTOCOL_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(SINK_INFLUX_MEASUREMENT_NAME_KEY, SINK_INFLUX_MEASUREMENT_NAME_DEFAULT)).thenReturn("test_table");
+        when(context.getProcessingTimeService()).thenReturn(processingTimeService);
+        when(metricGroup.addGroup(anyString(), anyString())).thenReturn(metricGroup);
+        InfluxDBSink influxDBSink = new InfluxDBSink(influxDBFactory, configuration, new String[]{}, errorHandler);
+        List<Void> state = new ArrayList<>();
+        SinkWriter<Row, Void, Void> writer = influxDBSink.createWriter(context, state);
+
+        assertEquals(writer.getClass(), InfluxDBBatchWriter.class);
+        verify(influxDb, never()).enableBatch(anyInt(), anyInt(), any(TimeUnit.class), any(ThreadFactory.class), any(BiConsumer.class));
+        verify(processingTimeService).registerProcessingTimer(eq((long) INFLUX_FLUSH_DURATION), any());
+        writer.close();
+    }
 }
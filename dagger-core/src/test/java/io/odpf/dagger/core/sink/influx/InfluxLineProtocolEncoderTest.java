@@ -0,0 +1,76 @@
+package io.odpf.dagger.core.sink.influx;
+
+import org.apache.flink.types.Row;
+
+import org.influxdb.dto.Point;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class InfluxLineProtocolEncoderTest {
+
+    private String encode(String[] columnNames, Row row) {
+        StringBuilder buffer = new StringBuilder();
+        new InfluxLineProtocolEncoder("test_table", columnNames).encode(row, buffer);
+        return buffer.toString();
+    }
+
+    @Test
+    public void shouldEncodeTheSameLineAsTheInfluxClient() {
+        Instant now = Instant.now();
+        String[] columnNames = {"tag_zone", "label_service_type", "window_timestamp", "order_count", "price", "status", "is_valid", "ratio"};
+        Row row = Row.of(123, "GO_RIDE", LocalDateTime.ofInstant(now, ZoneOffset.UTC), 100L, 12.5D, "completed", true, new BigDecimal("0.25"));
+        Point point = Point.measurement("test_table")
+                .tag("tag_zone", "123")
+                .tag("service_type", "GO_RIDE")
+                .addField("order_count", 100L)
+                .addField("price", 12.5D)
+                .addField("status", "completed")
+                .addField("is_valid", true)
+                .addField("ratio", new BigDecimal("0.25"))
+                .time(now.toEpochMilli(), TimeUnit.MILLISECONDS).build();
+
+        assertEquals(point.lineProtocol(), encode(columnNames, row));
+    }
+
+    @Test
+    public void shouldEscapeTheKeysAndValuesAsTheInfluxClient() {
+        String[] columnNames = {"tag_a b", "field,1", "field=2"};
+        Row row = Row.of("x,y=z", "say \"hi\" \\o/", 1.0F);
+        Point point = Point.measurement("test_table")
+                .tag("tag_a b", "x,y=z")
+                .addField("field,1", "say \"hi\" \\o/")
+                .addField("field=2", 1.0F)
+                .build();
+
+        assertEquals(point.lineProtocol(), encode(columnNames, row));
+    }
+
+    @Test
+    public void shouldLeaveOutNullFieldsAndEmptyTags() {
+        String[] columnNames = {"label_empty", "field1", "field2", ""};
+        Row row = Row.of("", null, 7, "unnamed");
+        Point point = Point.measurement("test_table")
+                .tag("empty", "")
+                .addField("field2", 7)
+                .build();
+
+        assertEquals(point.lineProtocol(), encode(columnNames, row));
+    }
+
+    @Test
+    public void shouldNotAppendAnythingWhenTheRowHasNoFields() {
+        StringBuilder buffer = new StringBuilder("previous line");
+        InfluxLineProtocolEncoder encoder = new InfluxLineProtocolEncoder("test_table", new String[]{"tag_zone", "field1"});
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(Row.of("zone", null), buffer));
+        assertEquals("previous line", buffer.toString());
+    }
+}
@@ -3,6 +3,7 @@ package io.odpf.dagger.core.source.config;
 import com.google.gson.JsonSyntaxException;
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.core.source.config.models.*;
+import io.odpf.dagger.core.source.parquet.SourceParquetReadMode;
 import io.odpf.dagger.core.source.parquet.SourceParquetReadOrderStrategy;
 import io.odpf.dagger.core.source.parquet.SourceParquetSchemaMatchStrategy;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
@@ -25,8 +26,10 @@ import static io.odpf.dagger.core.source.parquet.SourceParquetReadOrderStrategy.
 import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_DEFAULT;
 import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_KEY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -283,6 +286,33 @@ public class StreamConfigTest {
         assertEquals(EARLIEST_TIME_URL_FIRST, actualReadOrderStrategy);
     }
 
+    @Test
+    public void shouldGetDynamicMessageAsProtoDecoderTypeWhenNotGiven() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"INPUT_SCHEMA_TABLE\": \"data_stream\","
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"INPUT_SCHEMA_PROTO_CLASS\": \"com.tests.TestMessage\","
+                        + "\"INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX\": \"41\"}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(ProtoDecoderType.DYNAMIC_MESSAGE, streamConfigs[0].getProtoDecoderType());
+    }
+
+    @Test
+    public void shouldGetConfiguredProtoDecoderType() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"INPUT_SCHEMA_TABLE\": \"data_stream\","
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"INPUT_SCHEMA_PROTO_CLASS\": \"com.tests.TestMessage\","
+                        + "\"INPUT_SCHEMA_PROTO_DECODER\": \"WIRE_FORMAT\","
+                        + "\"INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX\": \"41\"}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(ProtoDecoderType.WIRE_FORMAT, streamConfigs[0].getProtoDecoderType());
+    }
+
     @Test
     public void shouldGetParquetSourceProperties() {
         when(configuration.getString(INPUT_STREAMS, ""))
@@ -297,6 +327,132 @@ public class StreamConfigTest {
         assertEquals(SourceParquetSchemaMatchStrategy.valueOf("BACKWARD_COMPATIBLE_SCHEMA_WITH_FAIL_ON_TYPE_MISMATCH"), streamConfigs[0].getParquetSchemaMatchStrategy());
     }
 
+    @Test
+    public void shouldGetSimpleGroupAsParquetReadModeWhenNotGiven() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(SourceParquetReadMode.SIMPLE_GROUP, streamConfigs[0].getParquetReadMode());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetReadMode() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_READ_MODE\": \"ROW\"}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(SourceParquetReadMode.ROW, streamConfigs[0].getParquetReadMode());
+    }
+
+    @Test
+    public void shouldDisableParquetFilterPushdownWhenNotGiven() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertFalse(streamConfigs[0].isParquetFilterPushdownEnabled());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetFilterPushdown() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_FILTER_PUSHDOWN_ENABLE\": true}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertTrue(streamConfigs[0].isParquetFilterPushdownEnabled());
+    }
+
+    @Test
+    public void shouldNotSplitParquetFilesByRowGroupsByDefault() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertFalse(streamConfigs[0].isParquetRowGroupSplitEnabled());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetRowGroupSplit() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_ROW_GROUP_SPLIT_ENABLE\": true}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertTrue(streamConfigs[0].isParquetRowGroupSplitEnabled());
+    }
+
+    @Test
+    public void shouldNotPrefetchParquetRowGroupsByDefault() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(0L, streamConfigs[0].getParquetPrefetchMemoryBytes());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetPrefetchMemoryBytes() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_PREFETCH_MEMORY_BYTES\": 268435456}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(268435456L, streamConfigs[0].getParquetPrefetchMemoryBytes());
+    }
+
+    @Test
+    public void shouldDiscoverNewParquetFilesEveryMinuteByDefault() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(60L, streamConfigs[0].getParquetDiscoveryIntervalSeconds());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetDiscoveryInterval() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS\": 300}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(300L, streamConfigs[0].getParquetDiscoveryIntervalSeconds());
+    }
+
+    @Test
+    public void shouldGetDefaultParquetPartitionAllowedLateness() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"]}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(3600L, streamConfigs[0].getParquetPartitionAllowedLatenessSeconds());
+    }
+
+    @Test
+    public void shouldGetConfiguredParquetPartitionAllowedLateness() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_PARQUET_PARTITION_ALLOWED_LATENESS_SECONDS\": 600}]");
+
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(600L, streamConfigs[0].getParquetPartitionAllowedLatenessSeconds());
+    }
+
     @Test
     public void shouldParseParquetFileDateRange() {
         when(configuration.getString(INPUT_STREAMS, ""))
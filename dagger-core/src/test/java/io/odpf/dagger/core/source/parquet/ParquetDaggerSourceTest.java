@@ -12,6 +12,7 @@ import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.depot.metrics.StatsDReporter;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.api.connector.source.Boundedness;
 import org.apache.flink.connector.file.src.FileSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.types.Row;
@@ -89,11 +90,11 @@ public class ParquetDaggerSourceTest {
     }
 
     @Test
-    public void shouldNotBeAbleToBuildSourceIfSourceTypeIsUnsupported() {
+    public void shouldBeAbleToBuildSourceIfSourceDetailsIsUnboundedParquet() {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.UNBOUNDED)});
         ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
 
-        assertFalse(daggerSource.canBuild());
+        assertTrue(daggerSource.canBuild());
     }
 
     @Test
@@ -123,12 +124,36 @@ public class ParquetDaggerSourceTest {
         when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
         when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_TIME_URL_FIRST);
         when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://sshsh", "gs://shadd"});
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
 
         ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
 
         daggerSource.register(streamExecutionEnvironment, strategy);
     }
 
+    @Test
+    public void shouldBuildAContinuousFileSourceWhenTheSourceTypeIsUnbounded() {
+        when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_TIME_URL_FIRST);
+        when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://landing-zone/bid-log"});
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getParquetDiscoveryIntervalSeconds()).thenReturn(300L);
+
+        ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertEquals(Boundedness.CONTINUOUS_UNBOUNDED, daggerSource.buildFileSource().getBoundedness());
+    }
+
+    @Test
+    public void shouldBuildABoundedFileSourceWhenTheSourceTypeIsBounded() {
+        when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_TIME_URL_FIRST);
+        when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://landing-zone/bid-log"});
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
+
+        ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertEquals(Boundedness.BOUNDED, daggerSource.buildFileSource().getBoundedness());
+    }
+
     @Test
     public void shouldThrowRuntimeExceptionAndReportErrorIfReadOrderStrategyIsNotSupported() {
         when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_INDEX_FIRST);
@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class ParquetFileRecordFormatTest {
@@ -35,6 +36,9 @@ public class ParquetFileRecordFormatTest {
     @Mock
     private StatsDReporter statsDReporter;
 
+    @Mock
+    private ReaderProvider rangeReaderProvider;
+
     private final ReaderProvider readerProviderMock = (filePath) -> parquetReader;
     private final Supplier<TypeInformation<Row>> typeInformationProviderMock = () -> typeInformation;
     private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
@@ -112,7 +116,52 @@ public class ParquetFileRecordFormatTest {
     }
 
     @Test
-    public void shouldThrowUnsupportedOperationExceptionAndReportErrorWhenRestoreReaderIsCalled() {
+    public void shouldReadTheRangeOfTheSplitWhenSplittable() {
+        when(rangeReaderProvider.getReader("gs://file-path", 1024, 3072)).thenReturn(parquetReader);
+        ParquetFileRecordFormat parquetFileRecordFormat = ParquetFileRecordFormat.Builder.getInstance()
+                .setParquetFileReaderProvider(rangeReaderProvider)
+                .setTypeInformationProvider(typeInformationProviderMock)
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .setSplittable(true)
+                .build();
+
+        FileRecordFormat.Reader<Row> reader = parquetFileRecordFormat.createReader(configuration, new Path("gs://file-path"), 1024, 2048);
+
+        assertTrue(parquetFileRecordFormat.isSplittable());
+        assertEquals(parquetReader, reader);
+    }
+
+    @Test
+    public void shouldRestoreTheReaderFromTheRestoredOffsetToTheEndOfTheSplitWhenSplittable() {
+        when(rangeReaderProvider.getReader("gs://file-path", 1500, 3072)).thenReturn(parquetReader);
+        ParquetFileRecordFormat parquetFileRecordFormat = ParquetFileRecordFormat.Builder.getInstance()
+                .setParquetFileReaderProvider(rangeReaderProvider)
+                .setTypeInformationProvider(typeInformationProviderMock)
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .setSplittable(true)
+                .build();
+
+        FileRecordFormat.Reader<Row> reader = parquetFileRecordFormat.restoreReader(configuration, new Path("gs://file-path"), 1500, 1024, 2048);
+
+        assertEquals(parquetReader, reader);
+    }
+
+    @Test
+    public void shouldRestoreTheReaderOfAWholeFileFromTheRestoredOffset() {
+        when(rangeReaderProvider.getReader("gs://file-path", 2048, 4096)).thenReturn(parquetReader);
+        ParquetFileRecordFormat parquetFileRecordFormat = ParquetFileRecordFormat.Builder.getInstance()
+                .setParquetFileReaderProvider(rangeReaderProvider)
+                .setTypeInformationProvider(typeInformationProviderMock)
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build();
+
+        FileRecordFormat.Reader<Row> reader = parquetFileRecordFormat.restoreReader(configuration, new Path("gs://file-path"), 2048, 0, 4096);
+
+        assertEquals(parquetReader, reader);
+    }
+
+    @Test
+    public void shouldThrowUnsupportedOperationExceptionAndReportErrorWhenTheReaderProviderCannotReadARange() {
         ParquetFileRecordFormat.Builder builder = ParquetFileRecordFormat.Builder.getInstance();
         ParquetFileRecordFormat parquetFileRecordFormat = builder.setTypeInformationProvider(typeInformationProviderMock)
                 .setParquetFileReaderProvider(readerProviderMock)
@@ -122,7 +171,7 @@ public class ParquetFileRecordFormatTest {
         UnsupportedOperationException ex = assertThrows(UnsupportedOperationException.class,
                 () -> parquetFileRecordFormat.restoreReader(configuration, new Path("gs://some-path"), 12, 0, 1024));
 
-        assertEquals("Error: ParquetReader do not have offsets and hence cannot be restored via this method.", ex.getMessage());
+        assertEquals("Error: this reader provider cannot read a range of a file", ex.getMessage());
         verify(statsDReporter, times(1))
                 .captureCount("fatal.exception", 1L, "fatal_exception_type=" + UnsupportedOperationException.class.getName());
     }
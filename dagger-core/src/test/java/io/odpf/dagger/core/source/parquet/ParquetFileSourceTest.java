@@ -4,10 +4,13 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.parquet.ParquetFileSource.Builder;
+import io.odpf.dagger.core.source.parquet.enumerator.PartitionDiscoveringFileEnumerator;
 import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
 import io.odpf.dagger.core.source.parquet.splitassigner.ChronologyOrderedSplitAssigner;
 import io.odpf.depot.metrics.StatsDReporter;
+import org.apache.flink.api.connector.source.Boundedness;
 import org.apache.flink.connector.file.src.assigners.LocalityAwareSplitAssigner;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
 import org.apache.flink.connector.file.src.reader.FileRecordFormat;
 import org.apache.flink.core.fs.Path;
 import org.apache.flink.types.Row;
@@ -15,6 +18,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.time.Duration;
+
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.times;
@@ -62,7 +67,28 @@ public class ParquetFileSourceTest {
     }
 
     @Test
-    public void shouldThrowExceptionAndReportErrorIfSourceTypeConfiguredAsUnbounded() {
+    public void shouldBuildAnUnboundedParquetFileSourceWithTheDiscoveryInterval() {
+        Builder builder = Builder.getInstance();
+        Path[] filePaths = new Path[]{new Path("gs://landing-zone/bid-log")};
+        FileEnumerator.Provider fileEnumerator = () -> new PartitionDiscoveringFileEnumerator(new HourDatePathParser(), false, Duration.ofHours(1));
+
+        ParquetFileSource parquetFileSource = builder.setConfiguration(configuration)
+                .setFileRecordFormat(fileRecordFormat)
+                .setSourceType(SourceType.UNBOUNDED)
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .setFileEnumerator(fileEnumerator)
+                .setDiscoveryInterval(Duration.ofMinutes(5))
+                .setFilePaths(filePaths)
+                .build();
+
+        assertEquals(SourceType.UNBOUNDED, parquetFileSource.getSourceType());
+        assertEquals(Duration.ofMinutes(5), parquetFileSource.getDiscoveryInterval());
+        assertEquals(fileEnumerator, parquetFileSource.getFileEnumerator());
+        assertEquals(Boundedness.CONTINUOUS_UNBOUNDED, parquetFileSource.buildFileSource().getBoundedness());
+    }
+
+    @Test
+    public void shouldThrowExceptionAndReportErrorIfSourceTypeConfiguredAsUnboundedWithoutDiscoveryInterval() {
         Builder builder = Builder.getInstance();
         Path[] filePaths = new Path[]{new Path("gs://aadadc"), new Path("gs://sjsjhd")};
 
@@ -75,7 +101,7 @@ public class ParquetFileSourceTest {
                         .setFilePaths(filePaths)
                         .build());
 
-        assertEquals("Running Parquet FileSource in UNBOUNDED mode is not supported yet", ex.getMessage());
+        assertEquals("A positive discovery interval is required to run Parquet FileSource in UNBOUNDED mode", ex.getMessage());
         verify(statsDReporter, times(1))
                 .captureCount("fatal.exception", 1L, "fatal_exception_type=" + IllegalArgumentException.class.getName());
     }
@@ -0,0 +1,127 @@
+package io.odpf.dagger.core.source.parquet.enumerator;
+
+import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.core.fs.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class PartitionDiscoveringFileEnumeratorTest {
+    @Rule
+    public TemporaryFolder tempFolder = TemporaryFolder.builder().assureDeletion().build();
+
+    @Mock
+    private Clock clock;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(clock.instant()).thenReturn(Instant.parse("2022-02-14T00:00:00Z"));
+    }
+
+    private PartitionDiscoveringFileEnumerator enumerator(boolean splittable) {
+        return new PartitionDiscoveringFileEnumerator(new HourDatePathParser(), splittable, Duration.ofHours(1), clock);
+    }
+
+    private String writeFile(String relativePath) throws IOException {
+        File file = new File(tempFolder.getRoot(), relativePath);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "parquet".getBytes(StandardCharsets.UTF_8));
+        return new Path(file.toURI()).toString();
+    }
+
+    private Set<String> enumerate(PartitionDiscoveringFileEnumerator enumerator) throws IOException {
+        return enumerator.enumerateSplits(new Path[]{new Path(tempFolder.getRoot().toURI())}, 1)
+                .stream()
+                .map(FileSourceSplit::path)
+                .map(Path::toString)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void shouldEnumerateTheFilesOfAllThePartitionsTheFirstTime() throws IOException {
+        String firstFile = writeFile("dt=2022-02-12/hr=23/part-0.parquet");
+        String secondFile = writeFile("dt=2022-02-13/hr=00/part-0.parquet");
+        String thirdFile = writeFile("dt=2022-02-13/hr=01/part-0.parquet");
+        writeFile("dt=2022-02-13/hr=01/_SUCCESS");
+        PartitionDiscoveringFileEnumerator enumerator = enumerator(false);
+
+        assertEquals(new HashSet<>(Arrays.asList(firstFile, secondFile, thirdFile)), enumerate(enumerator));
+    }
+
+    @Test
+    public void shouldNotListThePartitionsCompletedBeforeTheLatestPartitionAgain() throws IOException {
+        writeFile("dt=2022-02-12/hr=23/part-0.parquet");
+        writeFile("dt=2022-02-13/hr=00/part-0.parquet");
+        String latestPartitionFile = writeFile("dt=2022-02-13/hr=01/part-0.parquet");
+        PartitionDiscoveringFileEnumerator enumerator = enumerator(false);
+        enumerate(enumerator);
+
+        writeFile("dt=2022-02-13/hr=00/part-1.parquet");
+        String latestPartitionNewFile = writeFile("dt=2022-02-13/hr=01/part-1.parquet");
+        String newPartitionFile = writeFile("dt=2022-02-13/hr=02/part-0.parquet");
+
+        assertEquals(new HashSet<>(Arrays.asList(latestPartitionFile, latestPartitionNewFile, newPartitionFile)), enumerate(enumerator));
+    }
+
+    @Test
+    public void shouldListTheFilesWrittenLateToAnEarlierPartitionWithinTheAllowedLateness() throws IOException {
+        when(clock.instant()).thenReturn(Instant.parse("2022-02-13T01:30:00Z"));
+        String earlierPartitionFile = writeFile("dt=2022-02-13/hr=00/part-0.parquet");
+        String latestPartitionFile = writeFile("dt=2022-02-13/hr=01/part-0.parquet");
+        PartitionDiscoveringFileEnumerator enumerator = enumerator(false);
+        enumerate(enumerator);
+
+        String lateFile = writeFile("dt=2022-02-13/hr=00/part-1.parquet");
+        assertEquals(new HashSet<>(Arrays.asList(earlierPartitionFile, lateFile, latestPartitionFile)), enumerate(enumerator));
+
+        when(clock.instant()).thenReturn(Instant.parse("2022-02-13T02:00:00Z"));
+        String newPartitionFile = writeFile("dt=2022-02-13/hr=02/part-0.parquet");
+        enumerate(enumerator);
+
+        assertEquals(new HashSet<>(Arrays.asList(latestPartitionFile, newPartitionFile)), enumerate(enumerator));
+    }
+
+    @Test
+    public void shouldFollowDatePartitionsWithoutHours() throws IOException {
+        writeFile("dt=2022-02-12/part-0.parquet");
+        String latestPartitionFile = writeFile("dt=2022-02-13/part-0.parquet");
+        PartitionDiscoveringFileEnumerator enumerator = enumerator(false);
+        enumerate(enumerator);
+
+        String newPartitionFile = writeFile("dt=2022-02-14/part-0.parquet");
+
+        assertEquals(new HashSet<>(Arrays.asList(latestPartitionFile, newPartitionFile)), enumerate(enumerator));
+    }
+
+    @Test
+    public void shouldSplitTheFilesWhenSplittable() throws IOException {
+        String file = writeFile("dt=2022-02-13/hr=01/part-0.parquet");
+        PartitionDiscoveringFileEnumerator enumerator = enumerator(true);
+
+        FileSourceSplit split = enumerator.enumerateSplits(new Path[]{new Path(tempFolder.getRoot().toURI())}, 1).iterator().next();
+
+        assertEquals(file, split.path().toString());
+        assertEquals(0, split.offset());
+        assertEquals(7, split.length());
+    }
+}
@@ -0,0 +1,103 @@
+package io.odpf.dagger.core.source.parquet.filter;
+
+import io.odpf.dagger.consumer.TestPrimitiveMessage;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.DOUBLE;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.FLOAT;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.apache.parquet.schema.Types.buildMessage;
+import static org.junit.Assert.*;
+
+public class ColumnFilterTest {
+    private final MessageType fileSchema = buildMessage()
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_number")
+            .optional(DOUBLE).named("latitude")
+            .optional(FLOAT).named("price")
+            .optional(INT32).named("packet_count")
+            .optional(INT64).named("phone")
+            .optional(BINARY).named("service_type")
+            .named("TestGroupType");
+
+    @Test
+    public void shouldParseTheComparisonsOfTheWhereClause() {
+        String sqlQuery = "SELECT order_number, phone FROM data_stream WHERE packet_count > 10 AND (order_number = 'ORDER''S_1') "
+                + "and latitude <= -6.25 GROUP BY order_number, phone";
+
+        List<ColumnFilter> columnFilters = ColumnFilter.parse(sqlQuery, "data_stream");
+
+        assertEquals(Arrays.asList(
+                new ColumnFilter("packet_count", ColumnFilter.Operator.GT, "10", false),
+                new ColumnFilter("order_number", ColumnFilter.Operator.EQ, "ORDER'S_1", true),
+                new ColumnFilter("latitude", ColumnFilter.Operator.LT_EQ, "-6.25", false)), columnFilters);
+    }
+
+    @Test
+    public void shouldSkipTheConjunctsWhichAreNotPlainComparisons() {
+        String sqlQuery = "SELECT order_number FROM data_stream WHERE phone IS NOT NULL AND packet_count >= 3 AND UPPER(order_number) = 'A'";
+
+        assertEquals(Collections.emptyList(), ColumnFilter.parse(sqlQuery, "data_stream"));
+
+        sqlQuery = "SELECT order_number FROM data_stream WHERE UPPER(order_number) = 'A' AND packet_count >= 3";
+
+        assertEquals(Collections.singletonList(new ColumnFilter("packet_count", ColumnFilter.Operator.GT_EQ, "3", false)),
+                ColumnFilter.parse(sqlQuery, "data_stream"));
+    }
+
+    @Test
+    public void shouldNotParseFiltersOfDisjunctions() {
+        String sqlQuery = "SELECT order_number FROM data_stream WHERE packet_count > 10 OR phone > 5";
+
+        assertEquals(Collections.emptyList(), ColumnFilter.parse(sqlQuery, "data_stream"));
+    }
+
+    @Test
+    public void shouldNotParseFiltersOfQueriesReadingOtherTablesOrSubqueries() {
+        assertEquals(Collections.emptyList(), ColumnFilter.parse("SELECT order_number FROM other_stream WHERE packet_count > 10", "data_stream"));
+        assertEquals(Collections.emptyList(), ColumnFilter.parse("SELECT a.order_number FROM data_stream a JOIN other_stream b ON a.phone = b.phone "
+                + "WHERE packet_count > 10", "data_stream"));
+        assertEquals(Collections.emptyList(), ColumnFilter.parse("SELECT order_number FROM (SELECT order_number, packet_count FROM data_stream) "
+                + "WHERE packet_count > 10", "data_stream"));
+        assertEquals(Collections.emptyList(), ColumnFilter.parse("SELECT order_number FROM data_stream", "data_stream"));
+    }
+
+    @Test
+    public void shouldBuildThePredicateOfIntLongDoubleAndStringColumns() {
+        assertEquals(FilterApi.gt(FilterApi.intColumn("packet_count"), 10),
+                new ColumnFilter("packet_count", ColumnFilter.Operator.GT, "10", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertEquals(FilterApi.ltEq(FilterApi.longColumn("phone"), -5L),
+                new ColumnFilter("phone", ColumnFilter.Operator.LT_EQ, "-5", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertEquals(FilterApi.gtEq(FilterApi.doubleColumn("latitude"), 6.25D),
+                new ColumnFilter("latitude", ColumnFilter.Operator.GT_EQ, "6.25", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertEquals(FilterApi.eq(FilterApi.binaryColumn("order_number"), Binary.fromString("ORDER_1")),
+                new ColumnFilter("order_number", ColumnFilter.Operator.EQ, "ORDER_1", true).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+    }
+
+    @Test
+    public void shouldNotBuildThePredicateWhenTheRowsMissingTheColumnWouldMatch() {
+        assertNull(new ColumnFilter("packet_count", ColumnFilter.Operator.LT, "10", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("phone", ColumnFilter.Operator.EQ, "0", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("order_number", ColumnFilter.Operator.EQ, "", true).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+    }
+
+    @Test
+    public void shouldNotBuildThePredicateOfUnsupportedColumns() {
+        assertNull(new ColumnFilter("price", ColumnFilter.Operator.GT, "1.5", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("service_type", ColumnFilter.Operator.EQ, "GO_RIDE", true).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("order_number", ColumnFilter.Operator.GT, "A", true).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("packet_count", ColumnFilter.Operator.GT, "'10'", true).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("packet_count", ColumnFilter.Operator.GT, "10.5", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("is_valid", ColumnFilter.Operator.GT, "1", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+        assertNull(new ColumnFilter("unknown", ColumnFilter.Operator.GT, "1", false).toPredicate(fileSchema, TestPrimitiveMessage.getDescriptor()));
+    }
+}
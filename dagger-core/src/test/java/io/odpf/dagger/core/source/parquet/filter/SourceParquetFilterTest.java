@@ -0,0 +1,96 @@
+package io.odpf.dagger.core.source.parquet.filter;
+
+import io.odpf.dagger.consumer.TestPrimitiveMessage;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import org.apache.flink.types.Row;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.apache.parquet.schema.Types.buildMessage;
+import static org.junit.Assert.*;
+
+public class SourceParquetFilterTest {
+    private static final int EVENT_TIMESTAMP_FIELD_INDEX = 9;
+
+    private TimeRangePool timeRangePool(String start, String end) {
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse(start), Instant.parse(end)));
+        return timeRangePool;
+    }
+
+    @Test
+    public void shouldBuildTheTimeRangePredicateOnAMillisRowtimeColumn() {
+        MessageType fileSchema = buildMessage()
+                .optional(INT64).named("event_timestamp")
+                .named("TestGroupType");
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(timeRangePool("2022-02-13T14:00:00Z", "2022-02-13T16:00:00Z"), Collections.emptyList());
+
+        FilterPredicate predicate = sourceParquetFilter.getRowGroupPredicate(fileSchema, TestPrimitiveMessage.getDescriptor(), EVENT_TIMESTAMP_FIELD_INDEX);
+
+        assertEquals(FilterApi.and(FilterApi.gtEq(FilterApi.longColumn("event_timestamp"), 1644760800000L),
+                FilterApi.ltEq(FilterApi.longColumn("event_timestamp"), 1644768000000L)), predicate);
+    }
+
+    @Test
+    public void shouldBuildTheTimeRangePredicateOnTheSecondsOfATimestampGroupAndAddTheColumnFilters() {
+        MessageType fileSchema = buildMessage()
+                .optional(INT32).named("packet_count")
+                .optionalGroup()
+                .optional(INT64).named("seconds")
+                .optional(INT32).named("nanos")
+                .named("event_timestamp")
+                .named("TestGroupType");
+        TimeRangePool timeRangePool = timeRangePool("2022-02-13T14:00:00Z", "2022-02-13T16:00:00Z");
+        timeRangePool.add(new TimeRange(Instant.parse("2022-02-14T14:00:00Z"), Instant.parse("2022-02-14T16:00:00Z")));
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(timeRangePool,
+                Collections.singletonList(new ColumnFilter("packet_count", ColumnFilter.Operator.GT, "10", false)));
+
+        FilterPredicate predicate = sourceParquetFilter.getRowGroupPredicate(fileSchema, TestPrimitiveMessage.getDescriptor(), EVENT_TIMESTAMP_FIELD_INDEX);
+
+        FilterPredicate expectedPredicate = FilterApi.and(FilterApi.or(
+                        FilterApi.and(FilterApi.gtEq(FilterApi.longColumn("event_timestamp.seconds"), 1644760800L),
+                                FilterApi.ltEq(FilterApi.longColumn("event_timestamp.seconds"), 1644768000L)),
+                        FilterApi.and(FilterApi.gtEq(FilterApi.longColumn("event_timestamp.seconds"), 1644847200L),
+                                FilterApi.ltEq(FilterApi.longColumn("event_timestamp.seconds"), 1644854400L))),
+                FilterApi.gt(FilterApi.intColumn("packet_count"), 10));
+        assertEquals(expectedPredicate, predicate);
+    }
+
+    @Test
+    public void shouldNotBuildThePredicateWhenTheRowsWithoutRowtimeAreInTheTimeRange() {
+        MessageType fileSchema = buildMessage()
+                .optional(INT64).named("event_timestamp")
+                .named("TestGroupType");
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(timeRangePool("1970-01-01T00:00:00Z", "2022-02-13T16:00:00Z"), Collections.emptyList());
+
+        assertNull(sourceParquetFilter.getRowGroupPredicate(fileSchema, TestPrimitiveMessage.getDescriptor(), EVENT_TIMESTAMP_FIELD_INDEX));
+    }
+
+    @Test
+    public void shouldNotBuildThePredicateWhenThereIsNothingToFilter() {
+        MessageType fileSchema = buildMessage()
+                .optional(INT64).named("event_timestamp")
+                .named("TestGroupType");
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(null, Collections.emptyList());
+
+        assertNull(sourceParquetFilter.getRowGroupPredicate(fileSchema, TestPrimitiveMessage.getDescriptor(), EVENT_TIMESTAMP_FIELD_INDEX));
+    }
+
+    @Test
+    public void shouldCheckTheRowtimeOfTheRowsAgainstTheTimeRanges() {
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(timeRangePool("2022-02-13T14:00:00Z", "2022-02-13T16:00:00Z"), Collections.emptyList());
+
+        assertTrue(sourceParquetFilter.contains(Row.of("ORDER_1", true, Timestamp.from(Instant.parse("2022-02-13T16:00:00Z")))));
+        assertFalse(sourceParquetFilter.contains(Row.of("ORDER_1", true, Timestamp.from(Instant.parse("2022-02-13T16:00:00.001Z")))));
+        assertTrue(new SourceParquetFilter(null, Collections.emptyList()).contains(Row.of("ORDER_1", true, Timestamp.from(Instant.EPOCH))));
+    }
+}
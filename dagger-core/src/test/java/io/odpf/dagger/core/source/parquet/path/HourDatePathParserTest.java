@@ -34,6 +34,23 @@ public class HourDatePathParserTest {
         assertEquals(1570838400, instant.getEpochSecond());
     }
 
+    @Test
+    public void shouldReturnInstantFromPartitionDirectoryPaths() throws ParseException {
+        HourDatePathParser hourDatePathParser = new HourDatePathParser();
+
+        assertEquals(1570849200, hourDatePathParser.instantFromFilePath(new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=03")).getEpochSecond());
+        assertEquals(1570838400, hourDatePathParser.instantFromFilePath(new Path("gs://my-bucket/bid-log/dt=2019-10-12")).getEpochSecond());
+    }
+
+    @Test
+    public void shouldThrowExceptionIfDatePartitionIsFollowedByOtherCharacters() {
+        Path path = new Path("gs://my-bucket/bid-log/dt=2019-10-12_backup/file");
+
+        HourDatePathParser hourDatePathParser = new HourDatePathParser();
+
+        assertThrows(ParseException.class, () -> hourDatePathParser.instantFromFilePath(path));
+    }
+
     @Test
     public void shouldThrowExceptionIfFilePathNotCompatible() {
         Path path = new Path("gs://my-bucket/bid-log/date=2019-10-12/file");
@@ -1,17 +1,32 @@
 package io.odpf.dagger.core.source.parquet.reader;
 
 
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.exception.ParquetFileSourceReaderInitializationException;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import io.odpf.dagger.core.source.parquet.SourceParquetReadMode;
+import io.odpf.dagger.core.source.parquet.filter.SourceParquetFilter;
+import io.odpf.dagger.consumer.TestPrimitiveMessage;
 import io.odpf.depot.metrics.StatsDReporter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.types.Row;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,24 +37,45 @@ import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
+import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT;
+import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_ENABLE_KEY;
+import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT;
+import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_URLS_KEY;
+
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_CLOSED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_CREATED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROWS_EMITTED;
+import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_GROUPS_SKIPPED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_DESERIALIZATION_TIME;
+import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_PREFETCH_WAIT_TIME;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_READ_TIME;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.FLOAT;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
 import static org.apache.parquet.schema.Types.*;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 public class ParquetReaderTest {
+    /* the first row group starts right after the PAR1 magic bytes */
+    private static final long FIRST_ROW_GROUP_OFFSET = 4L;
+
     @Mock
     private SimpleGroupDeserializer deserializer;
 
@@ -49,20 +85,24 @@ public class ParquetReaderTest {
     @Mock
     private StatsDReporter statsDReporter;
 
+    @Mock
+    private Configuration configuration;
+
     private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
 
     @Before
     public void setup() {
         initMocks(this);
+        when(deserializer.getRequestedSchema(any(MessageType.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
-    public void shouldRaiseMetricsWhenInitialized() {
+    public void shouldRaiseMetricsWhenInitialized() throws IOException {
         ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
         ClassLoader classLoader = getClass().getClassLoader();
         String filePath = classLoader.getResource("test_file.parquet").getPath();
 
-        provider.getReader(filePath);
+        provider.getReader(filePath).close();
 
         verify(statsDReporter, Mockito.times(1)).captureCount(READER_CREATED.getValue(), 1L, "component=parquet_reader");
     }
@@ -75,19 +115,31 @@ public class ParquetReaderTest {
 
         ParquetReader reader = provider.getReader(filePath);
         reader.read();
+        reader.close();
 
         verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROWS_EMITTED.getValue(), 1L, "component=parquet_reader");
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROW_READ_TIME.getValue() + "_count", 1L, "component=parquet_reader");
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROW_DESERIALIZATION_TIME.getValue() + "_count", 1L, "component=parquet_reader");
+        verify(statsDReporter, Mockito.times(1)).gauge(eq(READER_ROW_READ_TIME.getValue() + "_99_percentile"), anyInt(), eq("component=parquet_reader"));
+        verify(statsDReporter, Mockito.never()).captureHistogram(anyString(), anyLong(), any(String.class));
+    }
+
+    @Test
+    public void shouldAggregateTheMetricsOfEveryRowUntilTheReaderIsClosed() throws IOException {
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
+        ClassLoader classLoader = getClass().getClassLoader();
+        String filePath = classLoader.getResource("test_file.parquet").getPath();
+
+        ParquetReader reader = provider.getReader(filePath);
+        reader.read();
+        reader.read();
 
-        ArgumentCaptor<String> measurementNameCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Long> executionTimeCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<String> tagCaptor = ArgumentCaptor.forClass(String.class);
+        verify(statsDReporter, Mockito.never()).captureCount(eq(READER_ROWS_EMITTED.getValue()), anyLong(), any(String.class));
 
-        verify(statsDReporter, Mockito.times(2)).captureHistogram(measurementNameCaptor.capture(), executionTimeCaptor.capture(), tagCaptor.capture());
+        reader.close();
 
-        assertEquals(READER_ROW_READ_TIME.getValue(), measurementNameCaptor.getAllValues().get(0));
-        assertEquals(READER_ROW_DESERIALIZATION_TIME.getValue(), measurementNameCaptor.getAllValues().get(1));
-        assertEquals("component=parquet_reader", tagCaptor.getAllValues().get(0));
-        assertEquals("component=parquet_reader", tagCaptor.getAllValues().get(1));
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROWS_EMITTED.getValue(), 2L, "component=parquet_reader");
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROW_READ_TIME.getValue() + "_count", 2L, "component=parquet_reader");
     }
 
     @Test
@@ -218,27 +270,27 @@ public class ParquetReaderTest {
     }
 
     @Test
-    public void shouldReturnCheckPointedPositionWithNoOffsetAndZeroRecordsAfterOffsetWhenReadHasNotBeenCalledYet() {
+    public void shouldReturnCheckPointedPositionOfTheFirstRowGroupAndZeroRecordsAfterOffsetWhenReadHasNotBeenCalledYet() {
         ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
         ClassLoader classLoader = getClass().getClassLoader();
         ParquetReader reader = provider.getReader(classLoader.getResource("test_file.parquet").getPath());
 
-        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 0);
+        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 0);
 
         assertEquals(expectedCheckpointedPosition, reader.getCheckpointedPosition());
     }
 
     @Test
-    public void shouldUpdateCheckPointedPositionWithNoOffsetAndCountOfTotalRecordsReadYet() throws IOException {
+    public void shouldUpdateCheckPointedPositionWithTheRowGroupOffsetAndCountOfRecordsReadFromIt() throws IOException {
         ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
         ClassLoader classLoader = getClass().getClassLoader();
         ParquetReader reader = provider.getReader(classLoader.getResource("test_file.parquet").getPath());
 
         reader.read();
-        assertEquals(new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 1), reader.getCheckpointedPosition());
+        assertEquals(new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 1), reader.getCheckpointedPosition());
 
         reader.read();
-        assertEquals(new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 2), reader.getCheckpointedPosition());
+        assertEquals(new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 2), reader.getCheckpointedPosition());
     }
 
     @Test
@@ -253,11 +305,265 @@ public class ParquetReaderTest {
         /* This 4th call to read will return null as there are only 3 rows in test_file.parquet */
         reader.read();
 
-        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 3);
+        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 3);
 
         assertEquals(expectedCheckpointedPosition, reader.getCheckpointedPosition());
     }
 
+    @Test
+    public void shouldReadTheSameRowsInRowModeAsInSimpleGroupMode() throws IOException {
+        SimpleGroupDeserializer simpleGroupDeserializer = primitiveMessageDeserializer();
+        MessageType schema = buildMessage()
+                .optional(BINARY).named("order_number")
+                .optional(FLOAT).named("price")
+                .optional(INT64).named("event_timestamp")
+                .optional(BINARY).named("service_type")
+                .named("schema");
+        String filePath = writePrimitiveMessageFile(schema, "ORDER_1", 1637829201000L, "ORDER_2", 1637829202000L);
+        ParquetReader simpleGroupReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock).getReader(filePath);
+        ParquetReader rowReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, SourceParquetReadMode.ROW, statsDReporterSupplierMock).getReader(filePath);
+
+        List<Row> simpleGroupRows = readAll(simpleGroupReader);
+        List<Row> rows = readAll(rowReader);
+
+        assertEquals(2, rows.size());
+        assertEquals(simpleGroupRows, rows);
+        assertEquals(new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 2), rowReader.getCheckpointedPosition());
+    }
+
+    @Test
+    public void shouldReportErrorAndRethrowWhenRowMaterializationFails() throws IOException {
+        MessageType schema = buildMessage()
+                .optional(INT32).named("order_number")
+                .optional(INT64).named("event_timestamp")
+                .named("schema");
+        Path path = new Path(tempFolder.getRoot().getPath(), "type_mismatch.parquet");
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path).withType(schema).build()) {
+            SimpleGroup simpleGroup = new SimpleGroup(schema);
+            simpleGroup.add("order_number", 1);
+            writer.write(simpleGroup);
+        }
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(), SourceParquetReadMode.ROW, statsDReporterSupplierMock);
+
+        assertThrows(DaggerDeserializationException.class, () -> provider.getReader(path.toString()).read());
+        verify(statsDReporter, times(1))
+                .captureCount("fatal.exception", 1L, "fatal_exception_type=" + DaggerDeserializationException.class.getName());
+    }
+
+    @Test
+    public void shouldSkipTheRowGroupsAndRowsOutsideTheTimeRangeWhenFilterIsPushedDown() throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).named("order_number")
+                .optional(INT64).named("event_timestamp")
+                .named("schema");
+        Path path = new Path(tempFolder.getRoot().getPath(), "time_range.parquet");
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path).withType(schema).withRowGroupSize(1).build()) {
+            for (int i = 0; i < 200; i++) {
+                SimpleGroup simpleGroup = new SimpleGroup(schema);
+                simpleGroup.add("order_number", "ORDER_" + i);
+                simpleGroup.add("event_timestamp", i < 100 ? 1644746400000L : 1644760800000L + i);
+                writer.write(simpleGroup);
+            }
+        }
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse("2022-02-13T14:00:00Z"), Instant.parse("2022-02-13T14:00:00.150Z")));
+        SourceParquetFilter sourceParquetFilter = new SourceParquetFilter(timeRangePool, Collections.emptyList());
+        ParquetReader reader = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(), SourceParquetReadMode.ROW,
+                sourceParquetFilter, statsDReporterSupplierMock).getReader(path.toString());
+
+        List<Row> rows = readAll(reader);
+
+        assertEquals(51, rows.size());
+        assertEquals("ORDER_100", rows.get(0).getField(1));
+        assertEquals("ORDER_150", rows.get(50).getField(1));
+        assertEquals(new CheckpointedPosition(0, 51), reader.getCheckpointedPosition());
+        reader.close();
+        verify(statsDReporter, times(1)).captureCount(READER_ROW_GROUPS_SKIPPED.getValue(), 1L, "component=parquet_reader");
+    }
+
+    @Test
+    public void shouldReadOnlyTheProjectedColumnsInSimpleGroupMode() throws IOException {
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime",
+                new StencilClientOrchestrator(configuration), new HashSet<>(Collections.singletonList("order_number")));
+        MessageType schema = buildMessage()
+                .optional(BINARY).named("order_number")
+                .optional(FLOAT).named("price")
+                .optional(INT64).named("event_timestamp")
+                .optional(BINARY).named("service_type")
+                .named("schema");
+        String filePath = writePrimitiveMessageFile(schema, "ORDER_1", 1637829201000L, "ORDER_2", 1637829202000L);
+        ParquetReader reader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock).getReader(filePath);
+
+        List<Row> rows = readAll(reader);
+
+        assertEquals(2, rows.size());
+        assertEquals("ORDER_1", rows.get(0).getField(1));
+        assertNull(rows.get(0).getField(5));
+        assertEquals(Timestamp.from(Instant.ofEpochMilli(1637829202000L)), rows.get(1).getField(rows.get(1).getArity() - 1));
+    }
+
+    @Test
+    public void shouldReadOnlyTheRowGroupsWhoseMiddleLiesWithinTheRange() throws IOException {
+        String filePath = writeTwoRowGroupFile();
+        long secondRowGroupStart = getRowGroupStartingPositions(filePath).get(1);
+        long fileLength = new File(filePath).length();
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(),
+                SourceParquetReadMode.ROW, statsDReporterSupplierMock);
+
+        List<Row> firstSplitRows = readAll(provider.getReader(filePath, 0, secondRowGroupStart));
+        List<Row> secondSplitRows = readAll(provider.getReader(filePath, secondRowGroupStart, fileLength));
+
+        assertEquals(100, firstSplitRows.size());
+        assertEquals("ORDER_0", firstSplitRows.get(0).getField(1));
+        assertEquals(100, secondSplitRows.size());
+        assertEquals("ORDER_100", secondSplitRows.get(0).getField(1));
+    }
+
+    @Test
+    public void shouldCheckpointTheStartingPositionOfTheRowGroupAndTheRowsReadFromItWhenReadingARange() throws IOException {
+        String filePath = writeTwoRowGroupFile();
+        long secondRowGroupStart = getRowGroupStartingPositions(filePath).get(1);
+        long fileLength = new File(filePath).length();
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(),
+                SourceParquetReadMode.ROW, statsDReporterSupplierMock);
+        ParquetReader reader = provider.getReader(filePath, 0, fileLength);
+
+        assertEquals(new CheckpointedPosition(FIRST_ROW_GROUP_OFFSET, 0), reader.getCheckpointedPosition());
+        for (int i = 0; i < 103; i++) {
+            reader.read();
+        }
+        CheckpointedPosition checkpointedPosition = reader.getCheckpointedPosition();
+        ParquetReader restoredReader = provider.getReader(filePath, checkpointedPosition.getOffset(), fileLength);
+        for (long i = 0; i < checkpointedPosition.getRecordsAfterOffset(); i++) {
+            restoredReader.read();
+        }
+
+        assertEquals(new CheckpointedPosition(secondRowGroupStart, 3), checkpointedPosition);
+        assertEquals("ORDER_103", restoredReader.read().getField(1));
+    }
+
+    @Test
+    public void shouldReadTheSameRowsAndCheckpointsWhenTheRowGroupsArePrefetched() throws IOException {
+        String filePath = writeTwoRowGroupFile();
+        long secondRowGroupStart = getRowGroupStartingPositions(filePath).get(1);
+        long fileLength = new File(filePath).length();
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(),
+                SourceParquetReadMode.ROW, null, 1024 * 1024L, statsDReporterSupplierMock);
+        ParquetReader reader = provider.getReader(filePath, 0, fileLength);
+
+        for (int i = 0; i < 103; i++) {
+            reader.read();
+        }
+        CheckpointedPosition checkpointedPosition = reader.getCheckpointedPosition();
+        List<Row> remainingRows = readAll(reader);
+
+        assertEquals(new CheckpointedPosition(secondRowGroupStart, 3), checkpointedPosition);
+        assertEquals(97, remainingRows.size());
+        assertEquals("ORDER_103", remainingRows.get(0).getField(1));
+        reader.close();
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_PREFETCH_WAIT_TIME.getValue() + "_count", 3L, "component=parquet_reader");
+    }
+
+    @Test
+    public void shouldNotPrefetchTheRowGroupsLargerThanThePrefetchMemory() throws IOException {
+        String filePath = writeTwoRowGroupFile();
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(),
+                SourceParquetReadMode.ROW, null, 1L, statsDReporterSupplierMock);
+
+        ParquetReader reader = provider.getReader(filePath);
+        List<Row> rows = readAll(reader);
+        reader.close();
+
+        assertEquals(200, rows.size());
+        verify(statsDReporter, Mockito.never()).captureCount(eq(READER_PREFETCH_WAIT_TIME.getValue() + "_count"), anyLong(), any(String.class));
+    }
+
+    @Test
+    public void shouldSeekToTheCheckpointedRowGroupWhenRestoringAWholeFileReader() throws IOException {
+        String filePath = writeTwoRowGroupFile();
+        long fileLength = new File(filePath).length();
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(primitiveMessageDeserializer(),
+                SourceParquetReadMode.ROW, statsDReporterSupplierMock);
+        ParquetReader reader = provider.getReader(filePath);
+        for (int i = 0; i < 150; i++) {
+            reader.read();
+        }
+        CheckpointedPosition checkpointedPosition = reader.getCheckpointedPosition();
+
+        ParquetReader restoredReader = provider.getReader(filePath, checkpointedPosition.getOffset(), fileLength);
+        for (long i = 0; i < checkpointedPosition.getRecordsAfterOffset(); i++) {
+            restoredReader.read();
+        }
+        List<Row> remainingRows = readAll(restoredReader);
+
+        assertEquals(50, checkpointedPosition.getRecordsAfterOffset());
+        assertEquals(50, remainingRows.size());
+        assertEquals("ORDER_150", remainingRows.get(0).getField(1));
+    }
+
+    private String writeTwoRowGroupFile() throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).named("order_number")
+                .optional(INT64).named("event_timestamp")
+                .named("schema");
+        Path path = new Path(tempFolder.getRoot().getPath(), "two_row_groups.parquet");
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path).withType(schema).withRowGroupSize(1).build()) {
+            for (int i = 0; i < 200; i++) {
+                SimpleGroup simpleGroup = new SimpleGroup(schema);
+                simpleGroup.add("order_number", "ORDER_" + i);
+                simpleGroup.add("event_timestamp", 1644760800000L + i);
+                writer.write(simpleGroup);
+            }
+        }
+        return path.toString();
+    }
+
+    private List<Long> getRowGroupStartingPositions(String filePath) throws IOException {
+        List<Long> startingPositions = new ArrayList<>();
+        try (ParquetFileReader fileReader = ParquetFileReader.open(HadoopInputFile.fromPath(new Path(filePath), new org.apache.hadoop.conf.Configuration()))) {
+            for (BlockMetaData block : fileReader.getRowGroups()) {
+                startingPositions.add(block.getStartingPos());
+            }
+        }
+        assertEquals(2, startingPositions.size());
+        return startingPositions;
+    }
+
+    private SimpleGroupDeserializer primitiveMessageDeserializer() {
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        return new SimpleGroupDeserializer(TestPrimitiveMessage.class.getTypeName(), 9, "rowtime", new StencilClientOrchestrator(configuration));
+    }
+
+    private String writePrimitiveMessageFile(MessageType schema, String firstOrderNumber, long firstTimestamp, String secondOrderNumber, long secondTimestamp) throws IOException {
+        Path path = new Path(tempFolder.getRoot().getPath(), "primitive_message.parquet");
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path).withType(schema).build()) {
+            SimpleGroup firstGroup = new SimpleGroup(schema);
+            firstGroup.add("order_number", firstOrderNumber);
+            firstGroup.add("price", 10.5F);
+            firstGroup.add("event_timestamp", firstTimestamp);
+            firstGroup.add("service_type", "GO_RIDE");
+            writer.write(firstGroup);
+            SimpleGroup secondGroup = new SimpleGroup(schema);
+            secondGroup.add("order_number", secondOrderNumber);
+            secondGroup.add("event_timestamp", secondTimestamp);
+            writer.write(secondGroup);
+        }
+        return path.toString();
+    }
+
+    private List<Row> readAll(ParquetReader reader) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        Row row = reader.read();
+        while (row != null) {
+            rows.add(row);
+            row = reader.read();
+        }
+        return rows;
+    }
+
     private SimpleGroup[] getSimpleGroups() {
         GroupType expectedSchema = buildMessage()
                 .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("name")
@@ -0,0 +1,148 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RowGroupPrefetcherTest {
+    @Mock
+    private ParquetFileReader parquetFileReader;
+
+    @Mock
+    private PageReadStore firstRowGroup;
+
+    @Mock
+    private PageReadStore secondRowGroup;
+
+    @Mock
+    private PageReadStore thirdRowGroup;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    private BlockMetaData rowGroupOfSize(long compressedSize) {
+        BlockMetaData blockMetaData = mock(BlockMetaData.class);
+        when(blockMetaData.getCompressedSize()).thenReturn(compressedSize);
+        return blockMetaData;
+    }
+
+    @Test
+    public void shouldFitAsManyOfTheLargestRowGroupsAsThePrefetchMemoryAllows() {
+        assertEquals(2, RowGroupPrefetcher.getMaxRowGroupsInMemory(Arrays.asList(rowGroupOfSize(100), rowGroupOfSize(400), rowGroupOfSize(50)), 1000));
+        assertEquals(3, RowGroupPrefetcher.getMaxRowGroupsInMemory(Arrays.asList(rowGroupOfSize(100), rowGroupOfSize(400), rowGroupOfSize(50)), 100000));
+    }
+
+    @Test
+    public void shouldNotPrefetchWhenTheLargestRowGroupDoesNotFitOrThereAreNoRowGroups() {
+        assertEquals(0, RowGroupPrefetcher.getMaxRowGroupsInMemory(Arrays.asList(rowGroupOfSize(100), rowGroupOfSize(400)), 300));
+        assertEquals(0, RowGroupPrefetcher.getMaxRowGroupsInMemory(Collections.emptyList(), 300));
+        assertEquals(0, RowGroupPrefetcher.getMaxRowGroupsInMemory(Collections.singletonList(rowGroupOfSize(100)), 0));
+    }
+
+    @Test
+    public void shouldReturnTheRowGroupsInOrderAndThenNull() throws IOException {
+        when(parquetFileReader.readNextFilteredRowGroup()).thenReturn(firstRowGroup, secondRowGroup, null);
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 1, "file.parquet");
+
+        assertEquals(firstRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        assertEquals(secondRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        assertNull(rowGroupPrefetcher.readNextRowGroup());
+        assertNull(rowGroupPrefetcher.readNextRowGroup());
+        rowGroupPrefetcher.close();
+
+        verify(parquetFileReader, times(3)).readNextFilteredRowGroup();
+        verify(parquetFileReader, timeout(1000).times(1)).close();
+    }
+
+    @Test
+    public void shouldThrowTheExceptionOfTheRowGroupReadOnTheReadingThread() throws IOException {
+        IOException readException = new IOException("connection reset");
+        when(parquetFileReader.readNextFilteredRowGroup()).thenReturn(firstRowGroup).thenThrow(readException);
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 2, "file.parquet");
+
+        assertEquals(firstRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        IOException exception = assertThrows(IOException.class, rowGroupPrefetcher::readNextRowGroup);
+        rowGroupPrefetcher.close();
+
+        assertEquals(readException, exception);
+    }
+
+    @Test
+    public void shouldCountTheRowGroupBeingReadUntilTheNextOneIsRead() throws IOException, InterruptedException {
+        when(parquetFileReader.readNextFilteredRowGroup()).thenReturn(firstRowGroup, secondRowGroup, thirdRowGroup, null);
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 2, "file.parquet");
+
+        verify(parquetFileReader, timeout(1000).times(2)).readNextFilteredRowGroup();
+        assertEquals(firstRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        Thread.sleep(100);
+        verify(parquetFileReader, times(2)).readNextFilteredRowGroup();
+
+        assertEquals(secondRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        verify(parquetFileReader, timeout(1000).times(3)).readNextFilteredRowGroup();
+        rowGroupPrefetcher.close();
+    }
+
+    @Test
+    public void shouldLetGoOfTheRowGroupBeingReadWhenClosed() throws IOException, InterruptedException {
+        when(parquetFileReader.readNextFilteredRowGroup()).thenReturn(firstRowGroup, secondRowGroup, null);
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 1, "file.parquet");
+
+        assertEquals(firstRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        Thread.sleep(100);
+        verify(parquetFileReader, times(1)).readNextFilteredRowGroup();
+        rowGroupPrefetcher.close();
+        rowGroupPrefetcher.close();
+    }
+
+    @Test
+    public void shouldThrowTheErrorOfTheRowGroupReadOnTheReadingThread() throws IOException {
+        OutOfMemoryError readError = new OutOfMemoryError("test");
+        when(parquetFileReader.readNextFilteredRowGroup()).thenReturn(firstRowGroup).thenThrow(readError);
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 2, "file.parquet");
+
+        assertEquals(firstRowGroup, rowGroupPrefetcher.readNextRowGroup());
+        IOException exception = assertThrows(IOException.class, rowGroupPrefetcher::readNextRowGroup);
+        rowGroupPrefetcher.close();
+
+        assertEquals(readError, exception.getCause());
+    }
+
+    @Test
+    public void shouldCloseTheParquetFileReaderOnlyOnceTheRowGroupBeingReadAheadIsRead() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readAllowed = new CountDownLatch(1);
+        when(parquetFileReader.readNextFilteredRowGroup()).thenAnswer(invocation -> {
+            readStarted.countDown();
+            while (readAllowed.getCount() > 0) {
+                try {
+                    readAllowed.await();
+                } catch (InterruptedException e) {
+                    // the read carries on when interrupted, like a read blocked on the file system
+                }
+            }
+            return firstRowGroup;
+        });
+        RowGroupPrefetcher rowGroupPrefetcher = new RowGroupPrefetcher(parquetFileReader, 2, "file.parquet");
+        readStarted.await();
+
+        rowGroupPrefetcher.close();
+        verify(parquetFileReader, never()).close();
+        readAllowed.countDown();
+
+        verify(parquetFileReader, timeout(1000).times(1)).close();
+    }
+}
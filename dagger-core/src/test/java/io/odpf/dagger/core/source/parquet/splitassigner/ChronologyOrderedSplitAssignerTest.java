@@ -86,6 +86,27 @@ public class ChronologyOrderedSplitAssignerTest {
         }
     }
 
+    @Test
+    public void shouldReturnTheSplitsOfTheSameHourOrderedByFileAndOffset() {
+        FileSourceSplit firstSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=03/file_a"), 0, 1024);
+        FileSourceSplit secondSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=03/file_a"), 1024, 1024);
+        FileSourceSplit thirdSplit = new FileSourceSplit("3", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=03/file_b"), 0, 1024);
+        FileSourceSplit fourthSplit = new FileSourceSplit("4", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=04/file_a"), 0, 1024);
+        List<FileSourceSplit> inputSplits = Arrays.asList(fourthSplit, thirdSplit, secondSplit, firstSplit);
+        FileSourceSplit[] expectedOrdering = new FileSourceSplit[]{firstSplit, secondSplit, thirdSplit, fourthSplit};
+
+        ChronologyOrderedSplitAssigner splitAssigner = new ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(inputSplits);
+
+        for (int i = 0; i < 4; i++) {
+            Optional<FileSourceSplit> split = splitAssigner.getNext(null);
+            assertTrue(split.isPresent());
+            assertEquals("AssertionError when testing for file split number " + (i + 1), expectedOrdering[i], split.get());
+        }
+    }
+
     @Test
     public void shouldReturnEmptyOptionalWhenNoMoreSplitsToReturn() {
         FileSourceSplit firstSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2019-10-12/shs6s5sdg"), 0, 1024);
@@ -2,29 +2,73 @@ package io.odpf.dagger.functions.transformers;
 
 import io.odpf.dagger.common.core.DaggerContext;
 import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.api.common.state.MapState;
 import org.apache.flink.api.common.state.MapStateDescriptor;
 import org.apache.flink.api.common.state.StateTtlConfig;
 import org.apache.flink.api.common.time.Time;
+import org.apache.flink.api.common.typeinfo.PrimitiveArrayTypeInfo;
 import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.runtime.state.FunctionInitializationContext;
+import org.apache.flink.runtime.state.FunctionSnapshotContext;
+import org.apache.flink.runtime.state.KeyGroupRange;
+import org.apache.flink.runtime.state.KeyGroupRangeAssignment;
+import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.common.core.Transformer;
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.functions.transformers.deduplication.TimeBucketedBloomFilter;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.odpf.dagger.functions.transformers.deduplication.DeDuplicationAspects.ESTIMATED_FALSE_POSITIVE_RATE;
+import static io.odpf.dagger.functions.transformers.deduplication.DeDuplicationAspects.FILTER_STATE_SIZE_BYTES;
 
 /**
  * Allows to deduplicate data produced by the dagger.
+ * In the default STATE mode every distinct key is kept in keyed state until its TTL expires. In the
+ * BLOOM_FILTER mode the keys are kept in time bucketed bloom filters in operator state instead, which
+ * take a fixed amount of memory per bucket at the cost of dropping some records with unseen keys.
+ * The filters are snapshotted with the key groups of the subtask which wrote them, so that a subtask
+ * restores only the filters of the keys it is assigned rather than those of every subtask.
  */
-public class DeDuplicationTransformer extends RichFilterFunction<Row> implements Transformer {
+public class DeDuplicationTransformer extends RichFilterFunction<Row> implements Transformer, CheckpointedFunction {
     private static final String DE_DUP_STATE = "DE_DUP_STATE";
-    private final int keyIndex;
+    private static final String DE_DUP_FILTER_STATE = "DE_DUP_FILTER_STATE";
+    private static final String STATE_MODE = "STATE";
+    private static final String BLOOM_FILTER_MODE = "BLOOM_FILTER";
+    private static final String METRIC_GROUP_KEY = "transformer";
+    private static final String METRIC_GROUP_VALUE = "deduplication";
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final int DEFAULT_EXPECTED_KEYS_PER_BUCKET = 1_000_000;
+    private static final int DEFAULT_BUCKET_COUNT = 4;
+    private static final int KEY_GROUP_RANGE_BYTES = 2 * Integer.BYTES;
+    private final int[] keyIndexes;
     private final Integer ttlInSeconds;
+    private final boolean bloomFilterMode;
+    private final double falsePositiveRate;
+    private final int expectedKeysPerBucket;
+    private final int bucketCount;
     private MapState<String, Integer> mapState;
+    private transient ListState<byte[]> filterState;
+    private transient TimeBucketedBloomFilter bloomFilter;
+    private transient KeyGroupRange keyGroupRange;
+    /* read by the metric reporter thread, so updated at every checkpoint rather than computed on read */
+    private transient volatile long filterStateSizeBytes;
+    private transient volatile double estimatedFalsePositiveRate;
 
     /**
      * Instantiates a new De duplication transformer.
@@ -34,22 +78,98 @@ public class DeDuplicationTransformer extends RichFilterFunction<Row> implements
      * @param daggerContext           the daggerContext
      */
     public DeDuplicationTransformer(Map<String, Object> transformationArguments, String[] columnNames, DaggerContext daggerContext) {
-        keyIndex = Arrays.asList(columnNames).indexOf(String.valueOf(transformationArguments.get("key_column")));
+        List<String> columns = Arrays.asList(columnNames);
+        keyIndexes = getKeyColumns(transformationArguments).stream().mapToInt(columns::indexOf).toArray();
         ttlInSeconds = Integer.valueOf(String.valueOf(transformationArguments.get("ttl_in_seconds")));
+        String dedupMode = String.valueOf(transformationArguments.getOrDefault("dedup_mode", STATE_MODE)).toUpperCase();
+        if (!STATE_MODE.equals(dedupMode) && !BLOOM_FILTER_MODE.equals(dedupMode)) {
+            throw new IllegalArgumentException("Invalid dedup_mode " + dedupMode + ", expected " + STATE_MODE + " or " + BLOOM_FILTER_MODE);
+        }
+        bloomFilterMode = BLOOM_FILTER_MODE.equals(dedupMode);
+        falsePositiveRate = Double.parseDouble(String.valueOf(
+                transformationArguments.getOrDefault("false_positive_rate", DEFAULT_FALSE_POSITIVE_RATE)));
+        expectedKeysPerBucket = (int) Double.parseDouble(String.valueOf(
+                transformationArguments.getOrDefault("expected_keys_per_bucket", DEFAULT_EXPECTED_KEYS_PER_BUCKET)));
+        bucketCount = (int) Double.parseDouble(String.valueOf(
+                transformationArguments.getOrDefault("bucket_count", DEFAULT_BUCKET_COUNT)));
+    }
+
+    private static List<String> getKeyColumns(Map<String, Object> transformationArguments) {
+        Object keyColumns = transformationArguments.getOrDefault("key_columns", transformationArguments.get("key_column"));
+        if (keyColumns instanceof List) {
+            return ((List<?>) keyColumns).stream().map(String::valueOf).collect(Collectors.toList());
+        }
+        return Arrays.asList(String.valueOf(keyColumns).split("\\s*,\\s*"));
     }
 
     @Override
     public StreamInfo transform(StreamInfo inputStreamInfo) {
         DataStream<Row> inputStream = inputStreamInfo.getDataStream();
+        int[] indexes = keyIndexes;
+        KeySelector<Row, Object> keySelector = indexes.length == 1
+                ? value -> value.getField(indexes[0])
+                : value -> Row.project(value, indexes);
         SingleOutputStreamOperator<Row> outputStream = inputStream
-                .keyBy((KeySelector<Row, Object>) value -> value.getField(keyIndex))
+                .keyBy(keySelector)
                 .filter(this);
         return new StreamInfo(outputStream, inputStreamInfo.getColumnNames());
     }
 
+    @Override
+    public void initializeState(FunctionInitializationContext context) throws Exception {
+        if (bloomFilterMode) {
+            bloomFilter = new TimeBucketedBloomFilter(TimeUnit.SECONDS.toMillis(ttlInSeconds), bucketCount, expectedKeysPerBucket, falsePositiveRate);
+            filterState = context.getOperatorStateStore()
+                    .getUnionListState(new ListStateDescriptor<>(DE_DUP_FILTER_STATE, PrimitiveArrayTypeInfo.BYTE_PRIMITIVE_ARRAY_TYPE_INFO));
+            RuntimeContext runtimeContext = getRuntimeContext();
+            keyGroupRange = KeyGroupRangeAssignment.computeKeyGroupRangeForOperatorIndex(runtimeContext.getMaxNumberOfParallelSubtasks(),
+                    runtimeContext.getNumberOfParallelSubtasks(), runtimeContext.getIndexOfThisSubtask());
+            if (context.isRestored()) {
+                for (byte[] snapshottedBucket : filterState.get()) {
+                    ByteBuffer buffer = ByteBuffer.wrap(snapshottedBucket);
+                    KeyGroupRange writerKeyGroupRange = KeyGroupRange.of(buffer.getInt(), buffer.getInt());
+                    /* the filters of other key groups only raise the false positive rate of this subtask */
+                    if (keyGroupRange.getIntersection(writerKeyGroupRange).getNumberOfKeyGroups() > 0) {
+                        bloomFilter.merge(Arrays.copyOfRange(snapshottedBucket, KEY_GROUP_RANGE_BYTES, snapshottedBucket.length));
+                    }
+                }
+                updateFilterMetrics(bloomFilter.serialize());
+            }
+        }
+    }
+
+    @Override
+    public void snapshotState(FunctionSnapshotContext context) throws Exception {
+        if (bloomFilterMode) {
+            List<byte[]> serializedBuckets = bloomFilter.serialize();
+            List<byte[]> snapshottedBuckets = new ArrayList<>();
+            for (byte[] serializedBucket : serializedBuckets) {
+                snapshottedBuckets.add(ByteBuffer.allocate(KEY_GROUP_RANGE_BYTES + serializedBucket.length)
+                        .putInt(keyGroupRange.getStartKeyGroup())
+                        .putInt(keyGroupRange.getEndKeyGroup())
+                        .put(serializedBucket)
+                        .array());
+            }
+            filterState.update(snapshottedBuckets);
+            updateFilterMetrics(serializedBuckets);
+        }
+    }
+
+    private void updateFilterMetrics(List<byte[]> serializedBuckets) {
+        filterStateSizeBytes = serializedBuckets.stream().mapToLong(serializedBucket -> serializedBucket.length).sum();
+        estimatedFalsePositiveRate = bloomFilter.getEstimatedFalsePositiveRate();
+    }
+
     @Override
     public void open(org.apache.flink.configuration.Configuration internalFlinkConfig) throws Exception {
         super.open(internalFlinkConfig);
+        if (bloomFilterMode) {
+            GaugeStatsManager gaugeStatsManager = new GaugeStatsManager(getRuntimeContext().getMetricGroup(), true);
+            gaugeStatsManager.register(METRIC_GROUP_KEY, METRIC_GROUP_VALUE, FILTER_STATE_SIZE_BYTES, (Gauge<Long>) () -> filterStateSizeBytes);
+            gaugeStatsManager.register(METRIC_GROUP_KEY, METRIC_GROUP_VALUE, ESTIMATED_FALSE_POSITIVE_RATE,
+                    (Gauge<Double>) () -> estimatedFalsePositiveRate);
+            return;
+        }
         MapStateDescriptor<String, Integer> deDupState = new MapStateDescriptor<>(DE_DUP_STATE, String.class, Integer.class);
         StateTtlConfig ttlConfig = StateTtlConfig
                 .newBuilder(Time.seconds(ttlInSeconds))
@@ -63,11 +183,23 @@ public class DeDuplicationTransformer extends RichFilterFunction<Row> implements
 
     @Override
     public boolean filter(Row value) throws Exception {
-        String key = (String) value.getField(keyIndex);
+        if (bloomFilterMode) {
+            return bloomFilter.putIfAbsent(Row.project(value, keyIndexes), System.currentTimeMillis());
+        }
+        String key = getStateKey(value);
         boolean keyAlreadyPresent = mapState.contains(key);
         if (!keyAlreadyPresent) {
             mapState.put(key, 1);
         }
         return !keyAlreadyPresent;
     }
+
+    /* the state is scoped to the key of the stream already, so the map key only has to be stable */
+    private String getStateKey(Row value) {
+        if (keyIndexes.length > 1) {
+            return Row.project(value, keyIndexes).toString();
+        }
+        Object key = value.getField(keyIndexes[0]);
+        return key instanceof String ? (String) key : String.valueOf(key);
+    }
 }
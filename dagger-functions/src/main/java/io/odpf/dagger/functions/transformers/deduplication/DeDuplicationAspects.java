@@ -0,0 +1,36 @@
+package io.odpf.dagger.functions.transformers.deduplication;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum De duplication aspects.
+ */
+public enum DeDuplicationAspects implements Aspects {
+    /**
+     * Size in bytes of the filters in the last checkpoint.
+     */
+    FILTER_STATE_SIZE_BYTES("filter_state_size_bytes", AspectType.Gauge),
+    /**
+     * Estimated false positive rate of the filters in the last checkpoint.
+     */
+    ESTIMATED_FALSE_POSITIVE_RATE("estimated_false_positive_rate", AspectType.Gauge);
+
+    DeDuplicationAspects(String value, AspectType type) {
+        this.value = value;
+        this.type = type;
+    }
+
+    private String value;
+    private AspectType type;
+
+    @Override
+    public String getValue() {
+        return this.value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return this.type;
+    }
+}
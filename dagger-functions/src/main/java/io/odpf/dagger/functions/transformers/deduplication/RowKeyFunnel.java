@@ -0,0 +1,49 @@
+package io.odpf.dagger.functions.transformers.deduplication;
+
+import org.apache.flink.types.Row;
+
+import com.google.common.hash.Funnel;
+import com.google.common.hash.PrimitiveSink;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Funnels the values of a key row into a bloom filter. Every value is prefixed with its kind, so that
+ * keys of different types or split differently across the columns do not funnel the same bytes.
+ */
+public enum RowKeyFunnel implements Funnel<Row> {
+    INSTANCE;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte INTEGRAL_VALUE = 2;
+    private static final byte FLOATING_POINT_VALUE = 3;
+    private static final byte BOOLEAN_VALUE = 4;
+    private static final byte OTHER_VALUE = 5;
+
+    @Override
+    public void funnel(Row key, PrimitiveSink into) {
+        int arity = key.getArity();
+        into.putInt(arity);
+        for (int index = 0; index < arity; index++) {
+            Object value = key.getField(index);
+            if (value == null) {
+                into.putByte(NULL_VALUE);
+            } else if (value instanceof String) {
+                putString(into.putByte(STRING_VALUE), (String) value);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                into.putByte(INTEGRAL_VALUE).putLong(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                into.putByte(FLOATING_POINT_VALUE).putDouble(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                into.putByte(BOOLEAN_VALUE).putBoolean((Boolean) value);
+            } else {
+                putString(into.putByte(OTHER_VALUE), value.toString());
+            }
+        }
+    }
+
+    private static void putString(PrimitiveSink into, String value) {
+        into.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+}
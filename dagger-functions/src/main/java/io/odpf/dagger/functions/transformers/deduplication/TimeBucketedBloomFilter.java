@@ -0,0 +1,133 @@
+package io.odpf.dagger.functions.transformers.deduplication;
+
+import org.apache.flink.types.Row;
+
+import com.google.common.hash.BloomFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bloom filters of the keys seen in consecutive time buckets. A key is taken as seen when any of the
+ * buckets of the last TTL might contain it, so a key is remembered for at least the TTL and at most
+ * one bucket longer. The buckets start at multiples of the bucket duration, so that the filters of
+ * the same bucket written by different subtasks can be merged.
+ */
+public class TimeBucketedBloomFilter {
+    private final long bucketDurationMillis;
+    private final int retainedBuckets;
+    private final int expectedKeysPerBucket;
+    private final double falsePositiveRate;
+    private final TreeMap<Long, List<BloomFilter<Row>>> buckets;
+
+    /**
+     * Instantiates a new Time bucketed bloom filter.
+     *
+     * @param ttlMillis             the time to remember the keys for
+     * @param bucketCount           the number of buckets the TTL is split into
+     * @param expectedKeysPerBucket the number of distinct keys expected in a bucket
+     * @param falsePositiveRate     the false positive rate of a single bucket with the expected keys
+     */
+    public TimeBucketedBloomFilter(long ttlMillis, int bucketCount, int expectedKeysPerBucket, double falsePositiveRate) {
+        if (ttlMillis <= 0 || bucketCount <= 0 || expectedKeysPerBucket <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The TTL, bucket count and expected keys must be positive and the false positive rate between 0 and 1");
+        }
+        this.bucketDurationMillis = Math.max(1, ttlMillis / bucketCount);
+        this.retainedBuckets = bucketCount + 1;
+        this.expectedKeysPerBucket = expectedKeysPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+        this.buckets = new TreeMap<>();
+    }
+
+    /**
+     * Add the key to the bucket of the given time unless it might have been seen within the TTL.
+     *
+     * @param key             the key
+     * @param timestampMillis the time the key is seen at
+     * @return true when the key was not seen within the TTL
+     */
+    public boolean putIfAbsent(Row key, long timestampMillis) {
+        long currentBucket = Math.floorDiv(timestampMillis, bucketDurationMillis);
+        buckets.headMap(currentBucket - retainedBuckets, true).clear();
+        for (List<BloomFilter<Row>> bucketFilters : buckets.values()) {
+            for (BloomFilter<Row> bloomFilter : bucketFilters) {
+                if (bloomFilter.mightContain(key)) {
+                    return false;
+                }
+            }
+        }
+        getBucketFilters(currentBucket).get(0).put(key);
+        return true;
+    }
+
+    /* the first filter of a bucket is always one of the configured dimensions */
+    private List<BloomFilter<Row>> getBucketFilters(long bucket) {
+        List<BloomFilter<Row>> bucketFilters = buckets.computeIfAbsent(bucket, key -> new ArrayList<>());
+        if (bucketFilters.isEmpty()) {
+            bucketFilters.add(BloomFilter.create(RowKeyFunnel.INSTANCE, expectedKeysPerBucket, falsePositiveRate));
+        }
+        return bucketFilters;
+    }
+
+    /**
+     * Gets the estimated probability of taking a new key as seen, given the keys in the buckets.
+     *
+     * @return the estimated false positive rate
+     */
+    public double getEstimatedFalsePositiveRate() {
+        double trueNegativeRate = 1D;
+        for (List<BloomFilter<Row>> bucketFilters : buckets.values()) {
+            for (BloomFilter<Row> bloomFilter : bucketFilters) {
+                trueNegativeRate *= 1D - bloomFilter.expectedFpp();
+            }
+        }
+        return 1D - trueNegativeRate;
+    }
+
+    /**
+     * Serialize the filters of every bucket.
+     *
+     * @return the serialized buckets
+     * @throws IOException when a filter can not be serialized
+     */
+    public List<byte[]> serialize() throws IOException {
+        List<byte[]> serializedBuckets = new ArrayList<>();
+        for (Map.Entry<Long, List<BloomFilter<Row>>> bucket : buckets.entrySet()) {
+            for (BloomFilter<Row> bloomFilter : bucket.getValue()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+                dataOutputStream.writeLong(bucket.getKey());
+                bloomFilter.writeTo(dataOutputStream);
+                dataOutputStream.flush();
+                serializedBuckets.add(outputStream.toByteArray());
+            }
+        }
+        return serializedBuckets;
+    }
+
+    /**
+     * Merge a serialized filter into the filters of its bucket. A filter of different dimensions is
+     * kept next to the filter of its bucket, as it can not be merged into it.
+     *
+     * @param serializedBucket the serialized bucket
+     * @throws IOException when the filter can not be deserialized
+     */
+    public void merge(byte[] serializedBucket) throws IOException {
+        DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(serializedBucket));
+        long bucket = inputStream.readLong();
+        BloomFilter<Row> restoredFilter = BloomFilter.readFrom(inputStream, RowKeyFunnel.INSTANCE);
+        List<BloomFilter<Row>> bucketFilters = getBucketFilters(bucket);
+        if (bucketFilters.get(0).isCompatible(restoredFilter)) {
+            bucketFilters.get(0).putAll(restoredFilter);
+        } else {
+            bucketFilters.add(restoredFilter);
+        }
+    }
+}
@@ -3,13 +3,11 @@ package io.odpf.dagger.functions.udfs.scalar;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.CacheRefresher;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
 import org.apache.flink.table.functions.FunctionContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
 
 /**
@@ -17,7 +15,7 @@ import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
  */
 public class DartContains extends ScalarUdf {
     private final GcsDataStore dataStore;
-    private final Map<String, SetCache> setCache;
+    private final CacheRefresher<SetCache> setCache;
 
     /**
      * Instantiates a new Dart contains.
@@ -26,7 +24,7 @@ public class DartContains extends ScalarUdf {
      */
     DartContains(GcsDataStore dataStore) {
         this.dataStore = dataStore;
-        setCache = new HashMap<>();
+        setCache = new CacheRefresher<>();
     }
 
     /**
@@ -47,7 +45,13 @@ public class DartContains extends ScalarUdf {
         meterStatsManager.register(UDF_TELEMETRY_GROUP_KEY, this.getName(), DartAspects.values());
         this.dataStore.setMeterStatsManager(meterStatsManager);
         this.dataStore.setGaugeStatsManager(getGaugeStatsManager());
+        setCache.startBackgroundRefresh(getName() + "-refresh");
+    }
 
+    @Override
+    public void close() throws Exception {
+        setCache.close();
+        super.close();
     }
 
     /**
@@ -107,11 +111,11 @@ public class DartContains extends ScalarUdf {
     }
 
     private SetCache getListData(String listName, String field, int refreshRateInHours) {
-        if (setCache.isEmpty() || !setCache.containsKey(listName) || setCache.get(listName).hasExpired(refreshRateInHours) || setCache.get(listName).isEmpty()) {
-            setCache.put(listName, dataStore.getSet(listName));
+        return setCache.get(listName, refreshRateInHours, name -> {
+            SetCache listData = dataStore.getSet(name);
             dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
-        }
-        return setCache.get(listName);
+            return listData;
+        });
     }
 
     private void updateMetrics(boolean isPresent) {
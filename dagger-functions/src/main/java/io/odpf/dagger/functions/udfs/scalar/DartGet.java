@@ -4,13 +4,11 @@ import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.functions.exceptions.KeyDoesNotExistException;
 import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.CacheRefresher;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
 import org.apache.flink.table.functions.FunctionContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
 
 /**
@@ -18,7 +16,7 @@ import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
  */
 public class DartGet extends ScalarUdf {
     private final GcsDataStore dataStore;
-    private final Map<String, MapCache> cache;
+    private final CacheRefresher<MapCache> cache;
 
     /**
      * Instantiates a new Dart get.
@@ -27,7 +25,7 @@ public class DartGet extends ScalarUdf {
      */
     public DartGet(GcsDataStore dataStore) {
         this.dataStore = dataStore;
-        cache = new HashMap<>();
+        cache = new CacheRefresher<>();
     }
 
     /**
@@ -48,6 +46,13 @@ public class DartGet extends ScalarUdf {
         meterStatsManager.register(UDF_TELEMETRY_GROUP_KEY, this.getName(), DartAspects.values());
         dataStore.setMeterStatsManager(meterStatsManager);
         dataStore.setGaugeStatsManager(getGaugeStatsManager());
+        cache.startBackgroundRefresh(getName() + "-refresh");
+    }
+
+    @Override
+    public void close() throws Exception {
+        cache.close();
+        super.close();
     }
 
     /**
@@ -61,12 +66,13 @@ public class DartGet extends ScalarUdf {
      * @team DE
      */
     public String eval(String collectionName, String key, Integer refreshRateInHours) {
-        if (cache.isEmpty() || !cache.containsKey(collectionName) || cache.get(collectionName).hasExpired(refreshRateInHours) || cache.get(collectionName).isEmpty()) {
-            cache.put(collectionName, dataStore.getMap(collectionName));
+        MapCache mapCache = cache.get(collectionName, refreshRateInHours, name -> {
+            MapCache collection = dataStore.getMap(name);
             dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
-        }
+            return collection;
+        });
         dataStore.getMeterStatsManager().markEvent(DartAspects.DART_CACHE_HIT);
-        return cache.get(collectionName).get(key);
+        return mapCache.get(key);
     }
 
     /**
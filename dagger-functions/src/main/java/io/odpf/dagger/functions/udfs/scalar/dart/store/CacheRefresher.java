@@ -0,0 +1,94 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store;
+
+import io.odpf.dagger.functions.udfs.scalar.dart.types.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Holds the caches of the DART udfs by name. A cache is loaded on the calling thread the first time
+ * it is asked for. Once the background refresh is started, an expired or empty cache is reloaded on
+ * a separate thread while the previous copy is still returned, so the task thread never waits on the
+ * data store for a cache it already has.
+ *
+ * @param <T> the type of the cache
+ */
+public class CacheRefresher<T extends Cache> implements Serializable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheRefresher.class.getName());
+    private final Map<String, T> caches;
+    private final Set<String> refreshingCaches;
+    private transient ExecutorService refreshExecutor;
+
+    /**
+     * Instantiates a new Cache refresher.
+     */
+    public CacheRefresher() {
+        this.caches = new ConcurrentHashMap<>();
+        this.refreshingCaches = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Refresh the caches on a background thread from now on.
+     *
+     * @param threadName the name of the refresh thread
+     */
+    public void startBackgroundRefresh(String threadName) {
+        refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the cache of the given name, loading it when it is not there yet and refreshing it when
+     * it has expired or is empty.
+     *
+     * @param cacheName              the cache name
+     * @param refreshIntervalInHours the refresh interval in hours
+     * @param loader                 the function loading a cache by its name
+     * @return the cache
+     */
+    public T get(String cacheName, int refreshIntervalInHours, Function<String, T> loader) {
+        T cache = caches.get(cacheName);
+        boolean isStale = cache == null || cache.hasExpired(refreshIntervalInHours) || cache.isEmpty();
+        if (!isStale) {
+            return cache;
+        }
+        if (cache == null || refreshExecutor == null) {
+            cache = loader.apply(cacheName);
+            caches.put(cacheName, cache);
+            return cache;
+        }
+        if (refreshingCaches.add(cacheName)) {
+            refreshExecutor.execute(() -> refresh(cacheName, loader));
+        }
+        return cache;
+    }
+
+    private void refresh(String cacheName, Function<String, T> loader) {
+        try {
+            caches.put(cacheName, loader.apply(cacheName));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error refreshing the cache " + cacheName + ", keeping the previous copy", e);
+        } finally {
+            refreshingCaches.remove(cacheName);
+        }
+    }
+
+    /**
+     * Stop the background refresh.
+     */
+    public void close() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+}
@@ -132,11 +132,11 @@ public class GcsDataStore implements DataStore, Serializable {
     }
 
     /**
-     * Gets gcs client.
+     * Gets gcs client, created on first use by either the task thread or the cache refresh thread.
      *
      * @return the gcs client
      */
-    GcsClient getGcsClient() {
+    synchronized GcsClient getGcsClient() {
         if (this.gcsClient == null) {
             this.gcsClient = new GcsClient(this.projectId);
         }
@@ -36,4 +36,13 @@ public abstract class Cache implements Serializable {
         return currentTime.after(timeOfExpire);
     }
 
+    /**
+     * Is empty boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return false;
+    }
+
 }
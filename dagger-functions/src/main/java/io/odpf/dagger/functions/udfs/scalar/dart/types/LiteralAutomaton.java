@@ -0,0 +1,156 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.types;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton over a set of literal strings, matching a text against all of them in a
+ * single pass over its characters. The edges of every state are kept as sorted character arrays.
+ */
+class LiteralAutomaton {
+    private static final int ROOT = 0;
+    private final char[][] edgeCharacters;
+    private final int[][] edgeTargets;
+    private final int[] failures;
+    private final boolean[] terminals;
+    private final boolean[] outputs;
+
+    /**
+     * Instantiates a new Literal automaton.
+     *
+     * @param literals the literals
+     */
+    LiteralAutomaton(Iterable<String> literals) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Boolean> terminalStates = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        terminalStates.add(false);
+        for (String literal : literals) {
+            int state = ROOT;
+            for (int index = 0; index < literal.length(); index++) {
+                Integer next = edges.get(state).get(literal.charAt(index));
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(state).put(literal.charAt(index), next);
+                    edges.add(new TreeMap<>());
+                    terminalStates.add(false);
+                }
+                state = next;
+            }
+            terminalStates.set(state, true);
+        }
+        int stateCount = edges.size();
+        edgeCharacters = new char[stateCount][];
+        edgeTargets = new int[stateCount][];
+        terminals = new boolean[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> stateEdges = edges.get(state);
+            edgeCharacters[state] = new char[stateEdges.size()];
+            edgeTargets[state] = new int[stateEdges.size()];
+            int position = 0;
+            for (Map.Entry<Character, Integer> edge : stateEdges.entrySet()) {
+                edgeCharacters[state][position] = edge.getKey();
+                edgeTargets[state][position] = edge.getValue();
+                position++;
+            }
+            terminals[state] = terminalStates.get(state);
+        }
+        failures = new int[stateCount];
+        outputs = new boolean[stateCount];
+        buildFailures();
+    }
+
+    /* breadth first, so that the failure of a state is set before the states below it */
+    private void buildFailures() {
+        Queue<Integer> states = new ArrayDeque<>();
+        outputs[ROOT] = terminals[ROOT];
+        for (int child : edgeTargets[ROOT]) {
+            failures[child] = ROOT;
+            states.add(child);
+        }
+        while (!states.isEmpty()) {
+            int state = states.poll();
+            outputs[state] = terminals[state] || outputs[failures[state]];
+            for (int position = 0; position < edgeCharacters[state].length; position++) {
+                int child = edgeTargets[state][position];
+                failures[child] = next(failures[state], edgeCharacters[state][position]);
+                states.add(child);
+            }
+        }
+    }
+
+    private int target(int state, char character) {
+        int position = Arrays.binarySearch(edgeCharacters[state], character);
+        return position < 0 ? -1 : edgeTargets[state][position];
+    }
+
+    private int next(int state, char character) {
+        int currentState = state;
+        while (true) {
+            int target = target(currentState, character);
+            if (target != -1) {
+                return target;
+            }
+            if (currentState == ROOT) {
+                return ROOT;
+            }
+            currentState = failures[currentState];
+        }
+    }
+
+    /**
+     * Check if any literal occurs in the text.
+     *
+     * @param text the text
+     * @return the boolean
+     */
+    boolean isContainedIn(String text) {
+        int state = ROOT;
+        if (outputs[state]) {
+            return true;
+        }
+        for (int index = 0; index < text.length(); index++) {
+            state = next(state, text.charAt(index));
+            if (outputs[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the text starts with any literal.
+     *
+     * @param text the text
+     * @return the boolean
+     */
+    boolean isPrefixOf(String text) {
+        int state = ROOT;
+        for (int index = 0; index < text.length() && !terminals[state]; index++) {
+            state = target(state, text.charAt(index));
+            if (state == -1) {
+                return false;
+            }
+        }
+        return terminals[state];
+    }
+
+    /**
+     * Check if the text ends with any literal.
+     *
+     * @param text the text
+     * @return the boolean
+     */
+    boolean isSuffixOf(String text) {
+        int state = ROOT;
+        for (int index = 0; index < text.length(); index++) {
+            state = next(state, text.charAt(index));
+        }
+        return outputs[state];
+    }
+}
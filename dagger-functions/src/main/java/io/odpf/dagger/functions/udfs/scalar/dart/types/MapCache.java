@@ -59,6 +59,7 @@ public class MapCache extends Cache implements Serializable {
      *
      * @return the boolean
      */
+    @Override
     public boolean isEmpty() {
         return cache.isEmpty();
     }
@@ -1,20 +1,32 @@
 package io.odpf.dagger.functions.udfs.scalar.dart.types;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
- * The type Set cache.
+ * The type Set cache. The set is kept as a sorted array. Matching against the common regex templates,
+ * a value alone or followed, preceded or surrounded by {@code .*}, goes through a single automaton of
+ * all the values without regex metacharacters, and the other values are compiled once per template.
  */
 public class SetCache extends Cache implements Serializable {
     /**
      * The constant NULL_CACHE.
      */
     public static final SetCache NULL_CACHE = new SetCache(new HashSet<>(), null);
-    private Set<String> cache;
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+    private final String[] cache;
+    private transient String[] literals;
+    private transient LiteralAutomaton literalAutomaton;
+    private transient Map<String, Pattern[]> compiledPatterns;
 
     /**
      * Instantiates a new Set cache.
@@ -27,7 +39,8 @@ public class SetCache extends Cache implements Serializable {
 
     private SetCache(Set<String> cache, Date timeOfCaching) {
         super(timeOfCaching);
-        this.cache = cache;
+        this.cache = cache.toArray(new String[0]);
+        Arrays.sort(this.cache);
     }
 
     /**
@@ -37,7 +50,7 @@ public class SetCache extends Cache implements Serializable {
      * @return the boolean
      */
     public boolean contains(String data) {
-        return cache.contains(data);
+        return Arrays.binarySearch(cache, data) >= 0;
     }
 
     /**
@@ -45,8 +58,9 @@ public class SetCache extends Cache implements Serializable {
      *
      * @return the boolean
      */
+    @Override
     public boolean isEmpty() {
-        return cache.isEmpty();
+        return cache.length == 0;
     }
 
     @Override
@@ -60,24 +74,140 @@ public class SetCache extends Cache implements Serializable {
 
         SetCache setCache = (SetCache) o;
 
-        return cache != null ? cache.equals(setCache.cache) : setCache.cache == null;
+        return Arrays.equals(cache, setCache.cache);
     }
 
     @Override
     public int hashCode() {
-        return cache != null ? cache.hashCode() : 0;
+        return Arrays.hashCode(cache);
     }
 
     /**
-     * Matches boolean.
+     * Matches boolean, true when the field matches the regex formatted with any value of the set.
      *
      * @param field the field
      * @param regex the regex
      * @return the boolean
      */
     public boolean matches(String field, String regex) {
-        return cache
-                .stream()
-                .anyMatch(s -> Pattern.matches(String.format(regex, s), field));
+        RegexTemplate template = RegexTemplate.of(regex);
+        if (template != null && matchesLiterals(field, template)) {
+            return true;
+        }
+        for (Pattern pattern : getCompiledPatterns(regex, template != null)) {
+            if (pattern.matcher(field).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesLiterals(String field, RegexTemplate template) {
+        if (literals == null) {
+            literals = Arrays.stream(cache).filter(SetCache::isLiteral).toArray(String[]::new);
+            literalAutomaton = new LiteralAutomaton(Arrays.asList(literals));
+        }
+        if (template != RegexTemplate.EXACT && indexOfLineTerminator(field, 0, field.length()) != -1) {
+            return Arrays.stream(literals).anyMatch(literal -> template.matchesAcrossLines(field, literal));
+        }
+        switch (template) {
+            case EXACT:
+                return Arrays.binarySearch(literals, field) >= 0;
+            case PREFIX:
+                return literalAutomaton.isPrefixOf(field);
+            case SUFFIX:
+                return literalAutomaton.isSuffixOf(field);
+            default:
+                return literalAutomaton.isContainedIn(field);
+        }
+    }
+
+    private Pattern[] getCompiledPatterns(String regex, boolean skipLiterals) {
+        if (compiledPatterns == null) {
+            compiledPatterns = new HashMap<>();
+        }
+        return compiledPatterns.computeIfAbsent(regex, key -> {
+            List<Pattern> patterns = new ArrayList<>();
+            for (String value : cache) {
+                if (!skipLiterals || !isLiteral(value)) {
+                    patterns.add(Pattern.compile(String.format(regex, value)));
+                }
+            }
+            return patterns.toArray(new Pattern[0]);
+        });
+    }
+
+    private static boolean isLiteral(String value) {
+        for (int index = 0; index < value.length(); index++) {
+            if (REGEX_METACHARACTERS.indexOf(value.charAt(index)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfLineTerminator(String field, int fromIndex, int toIndex) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            if (LINE_TERMINATORS.indexOf(field.charAt(index)) != -1) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfLineTerminator(String field) {
+        for (int index = field.length() - 1; index >= 0; index--) {
+            if (LINE_TERMINATORS.indexOf(field.charAt(index)) != -1) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The regex templates matched without regex, where {@code .*} does not match line terminators.
+     */
+    private enum RegexTemplate {
+        EXACT, PREFIX, SUFFIX, INFIX;
+
+        private static final String VALUE = "%s";
+        private static final String ANY = ".*";
+
+        static RegexTemplate of(String regex) {
+            String template = regex.startsWith("^") ? regex.substring(1) : regex;
+            if (template.endsWith("$") && !template.endsWith("\\$")) {
+                template = template.substring(0, template.length() - 1);
+            }
+            if (template.equals(VALUE)) {
+                return EXACT;
+            } else if (template.equals(VALUE + ANY)) {
+                return PREFIX;
+            } else if (template.equals(ANY + VALUE)) {
+                return SUFFIX;
+            } else if (template.equals(ANY + VALUE + ANY)) {
+                return INFIX;
+            }
+            return null;
+        }
+
+        boolean matchesAcrossLines(String field, String literal) {
+            switch (this) {
+                case EXACT:
+                    return field.equals(literal);
+                case PREFIX:
+                    return field.startsWith(literal) && indexOfLineTerminator(field, literal.length(), field.length()) == -1;
+                case SUFFIX:
+                    return field.endsWith(literal) && indexOfLineTerminator(field, 0, field.length() - literal.length()) == -1;
+                default:
+                    int firstLineTerminator = indexOfLineTerminator(field, 0, field.length());
+                    int lastLineTerminator = lastIndexOfLineTerminator(field);
+                    for (int index = field.indexOf(literal); index != -1 && index <= firstLineTerminator; index = field.indexOf(literal, index + 1)) {
+                        if (index + literal.length() > lastLineTerminator) {
+                            return true;
+                        }
+                    }
+                    return false;
+            }
+        }
     }
 }
@@ -2,24 +2,40 @@ package io.odpf.dagger.functions.transformers;
 
 import io.odpf.dagger.common.core.DaggerContextTestBase;
 import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.api.common.state.MapState;
 import org.apache.flink.api.common.state.MapStateDescriptor;
+import org.apache.flink.api.common.state.OperatorStateStore;
 import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.groups.OperatorMetricGroup;
+import org.apache.flink.runtime.state.FunctionInitializationContext;
+import org.apache.flink.runtime.state.FunctionSnapshotContext;
 import org.apache.flink.streaming.api.datastream.KeyedStream;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.core.StreamInfo;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +44,9 @@ import static org.mockito.MockitoAnnotations.initMocks;
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class DeDuplicationTransformerTest extends DaggerContextTestBase {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Mock
     private RuntimeContext runtimeContext;
 
@@ -40,9 +59,50 @@ public class DeDuplicationTransformerTest extends DaggerContextTestBase {
     @Mock
     private KeyedStream<Row, Object> keyedStream;
 
+    @Mock
+    private FunctionInitializationContext functionInitializationContext;
+
+    @Mock
+    private FunctionSnapshotContext functionSnapshotContext;
+
+    @Mock
+    private OperatorStateStore operatorStateStore;
+
+    @Mock
+    private ListState<byte[]> filterState;
+
+    @Mock
+    private OperatorMetricGroup metricGroup;
+
     @Before
-    public void setup() {
+    public void setup() throws Exception {
         initMocks(this);
+        when(functionInitializationContext.getOperatorStateStore()).thenReturn(operatorStateStore);
+        when(operatorStateStore.getUnionListState(any(ListStateDescriptor.class))).thenReturn(filterState);
+        when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
+        when(runtimeContext.getMaxNumberOfParallelSubtasks()).thenReturn(128);
+        when(runtimeContext.getNumberOfParallelSubtasks()).thenReturn(1);
+        when(metricGroup.addGroup(anyString(), anyString())).thenReturn(metricGroup);
+    }
+
+    private RuntimeContext subtaskContext(int indexOfThisSubtask, int numberOfParallelSubtasks) {
+        RuntimeContext subtaskContext = mock(RuntimeContext.class);
+        when(subtaskContext.getMetricGroup()).thenReturn(metricGroup);
+        when(subtaskContext.getMaxNumberOfParallelSubtasks()).thenReturn(128);
+        when(subtaskContext.getNumberOfParallelSubtasks()).thenReturn(numberOfParallelSubtasks);
+        when(subtaskContext.getIndexOfThisSubtask()).thenReturn(indexOfThisSubtask);
+        return subtaskContext;
+    }
+
+    private List<byte[]> snapshotOf(DeDuplicationTransformerStub... subtasks) throws Exception {
+        ArgumentCaptor<List<byte[]>> snapshotCaptor = ArgumentCaptor.forClass(List.class);
+        for (DeDuplicationTransformerStub subtask : subtasks) {
+            subtask.snapshotState(functionSnapshotContext);
+        }
+        verify(filterState, times(subtasks.length)).update(snapshotCaptor.capture());
+        List<byte[]> unionState = new ArrayList<>();
+        snapshotCaptor.getAllValues().forEach(unionState::addAll);
+        return unionState;
     }
 
     @Test
@@ -138,15 +198,150 @@ public class DeDuplicationTransformerTest extends DaggerContextTestBase {
         Assert.assertArrayEquals(columnNames, outputStreamInfo.getColumnNames());
     }
 
+    @Test
+    public void shouldUseTheStringValueOfNonStringKeys() throws Exception {
+        when(runtimeContext.getMapState(any(MapStateDescriptor.class))).thenReturn(mapState);
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_column", "order_number");
+        transformationArguments.put("ttl_in_seconds", 10);
+        String[] columnNames = {"order_number", "service_type", "status"};
+        DeDuplicationTransformerStub deDuplicationTransformerStub = new DeDuplicationTransformerStub(transformationArguments, columnNames);
+        deDuplicationTransformerStub.open(flinkInternalConfig);
+
+        Assert.assertTrue(deDuplicationTransformerStub.filter(Row.of(123L, "TEST_SERVICE_TYPE", "TEST_STATUS")));
+        verify(mapState, times(1)).put("123", 1);
+    }
+
+    @Test
+    public void shouldDeduplicateOnMultipleKeyColumnsWithBloomFilter() throws Exception {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_columns", Arrays.asList("order_number", "status"));
+        transformationArguments.put("ttl_in_seconds", 10);
+        transformationArguments.put("dedup_mode", "BLOOM_FILTER");
+        transformationArguments.put("expected_keys_per_bucket", 1000);
+        String[] columnNames = {"order_number", "service_type", "status"};
+        DeDuplicationTransformerStub deDuplicationTransformerStub = new DeDuplicationTransformerStub(transformationArguments, columnNames);
+        deDuplicationTransformerStub.initializeState(functionInitializationContext);
+        deDuplicationTransformerStub.open(flinkInternalConfig);
+
+        Assert.assertTrue(deDuplicationTransformerStub.filter(Row.of(123L, "GO_RIDE", "CREATED")));
+        Assert.assertTrue(deDuplicationTransformerStub.filter(Row.of(123L, "GO_RIDE", "COMPLETED")));
+        Assert.assertFalse(deDuplicationTransformerStub.filter(Row.of(123L, "GO_SEND", "CREATED")));
+        verify(runtimeContext, times(0)).getMapState(any(MapStateDescriptor.class));
+    }
+
+    @Test
+    public void shouldRestoreTheBloomFiltersOfEverySubtaskWhenScaledIn() throws Exception {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_column", "order_number");
+        transformationArguments.put("ttl_in_seconds", "10");
+        transformationArguments.put("dedup_mode", "bloom_filter");
+        transformationArguments.put("expected_keys_per_bucket", "1000");
+        transformationArguments.put("false_positive_rate", "0.001");
+        String[] columnNames = {"order_number", "service_type", "status"};
+        DeDuplicationTransformerStub firstSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(0, 2));
+        firstSubtask.initializeState(functionInitializationContext);
+        firstSubtask.filter(Row.of("order_1", "GO_RIDE", "CREATED"));
+        DeDuplicationTransformerStub secondSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(1, 2));
+        secondSubtask.initializeState(functionInitializationContext);
+        secondSubtask.filter(Row.of("order_2", "GO_RIDE", "CREATED"));
+        List<byte[]> unionState = snapshotOf(firstSubtask, secondSubtask);
+        when(functionInitializationContext.isRestored()).thenReturn(true);
+        when(filterState.get()).thenReturn(unionState);
+
+        DeDuplicationTransformerStub restoredSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(0, 1));
+        restoredSubtask.initializeState(functionInitializationContext);
+
+        Assert.assertFalse(restoredSubtask.filter(Row.of("order_1", "GO_RIDE", "COMPLETED")));
+        Assert.assertFalse(restoredSubtask.filter(Row.of("order_2", "GO_RIDE", "COMPLETED")));
+        Assert.assertTrue(restoredSubtask.filter(Row.of("order_3", "GO_RIDE", "CREATED")));
+    }
+
+    @Test
+    public void shouldRestoreOnlyTheBloomFilterOfTheKeyGroupsOfTheSubtask() throws Exception {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_column", "order_number");
+        transformationArguments.put("ttl_in_seconds", 10);
+        transformationArguments.put("dedup_mode", "BLOOM_FILTER");
+        transformationArguments.put("expected_keys_per_bucket", 1000);
+        String[] columnNames = {"order_number", "service_type", "status"};
+        DeDuplicationTransformerStub firstSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(0, 2));
+        firstSubtask.initializeState(functionInitializationContext);
+        DeDuplicationTransformerStub secondSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(1, 2));
+        secondSubtask.initializeState(functionInitializationContext);
+        for (int index = 0; index < 1000; index++) {
+            firstSubtask.filter(Row.of("first_order_" + index, "GO_RIDE", "CREATED"));
+            secondSubtask.filter(Row.of("second_order_" + index, "GO_RIDE", "CREATED"));
+        }
+        List<byte[]> unionState = snapshotOf(firstSubtask, secondSubtask);
+        when(functionInitializationContext.isRestored()).thenReturn(true);
+        when(filterState.get()).thenReturn(unionState);
+
+        DeDuplicationTransformerStub restoredSubtask = new DeDuplicationTransformerStub(transformationArguments, columnNames, subtaskContext(0, 2));
+        restoredSubtask.initializeState(functionInitializationContext);
+        restoredSubtask.open(flinkInternalConfig);
+        ArgumentCaptor<Gauge> falsePositiveRateCaptor = ArgumentCaptor.forClass(Gauge.class);
+        verify(metricGroup).gauge(eq("estimated_false_positive_rate"), falsePositiveRateCaptor.capture());
+
+        Assert.assertEquals(0.01, (Double) falsePositiveRateCaptor.getValue().getValue(), 0.005);
+        Assert.assertFalse(restoredSubtask.filter(Row.of("first_order_0", "GO_RIDE", "COMPLETED")));
+    }
+
+    @Test
+    public void shouldReportTheBloomFilterStateSizeAndFalsePositiveRate() throws Exception {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_column", "order_number");
+        transformationArguments.put("ttl_in_seconds", 10);
+        transformationArguments.put("dedup_mode", "BLOOM_FILTER");
+        transformationArguments.put("expected_keys_per_bucket", 1000);
+        String[] columnNames = {"order_number", "service_type", "status"};
+        DeDuplicationTransformerStub deDuplicationTransformerStub = new DeDuplicationTransformerStub(transformationArguments, columnNames);
+        deDuplicationTransformerStub.initializeState(functionInitializationContext);
+        deDuplicationTransformerStub.open(flinkInternalConfig);
+        ArgumentCaptor<Gauge> stateSizeCaptor = ArgumentCaptor.forClass(Gauge.class);
+        ArgumentCaptor<Gauge> falsePositiveRateCaptor = ArgumentCaptor.forClass(Gauge.class);
+        verify(metricGroup, times(2)).addGroup("transformer", "deduplication");
+        verify(metricGroup).gauge(eq("filter_state_size_bytes"), stateSizeCaptor.capture());
+        verify(metricGroup).gauge(eq("estimated_false_positive_rate"), falsePositiveRateCaptor.capture());
+
+        for (int index = 0; index < 1000; index++) {
+            deDuplicationTransformerStub.filter(Row.of("order_" + index, "GO_RIDE", "CREATED"));
+        }
+        deDuplicationTransformerStub.snapshotState(functionSnapshotContext);
+
+        Assert.assertTrue((Long) stateSizeCaptor.getValue().getValue() > 0L);
+        Assert.assertEquals(0.01, (Double) falsePositiveRateCaptor.getValue().getValue(), 0.005);
+    }
+
+    @Test
+    public void shouldThrowExceptionForAnInvalidDedupMode() {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("key_column", "status");
+        transformationArguments.put("ttl_in_seconds", 10);
+        transformationArguments.put("dedup_mode", "CUCKOO_FILTER");
+        String[] columnNames = {"order_number", "service_type", "status"};
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Invalid dedup_mode CUCKOO_FILTER, expected STATE or BLOOM_FILTER");
+
+        new DeDuplicationTransformer(transformationArguments, columnNames, daggerContext);
+    }
+
     public class DeDuplicationTransformerStub extends DeDuplicationTransformer {
 
+        private final RuntimeContext subtaskContext;
+
         public DeDuplicationTransformerStub(Map<String, Object> transformationArguments, String[] columnNames) {
+            this(transformationArguments, columnNames, runtimeContext);
+        }
+
+        public DeDuplicationTransformerStub(Map<String, Object> transformationArguments, String[] columnNames, RuntimeContext subtaskContext) {
             super(transformationArguments, columnNames, daggerContext);
+            this.subtaskContext = subtaskContext;
         }
 
         @Override
         public RuntimeContext getRuntimeContext() {
-            return runtimeContext;
+            return subtaskContext;
         }
     }
 
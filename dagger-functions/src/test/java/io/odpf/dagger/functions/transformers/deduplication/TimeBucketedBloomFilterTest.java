@@ -0,0 +1,101 @@
+package io.odpf.dagger.functions.transformers.deduplication;
+
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TimeBucketedBloomFilterTest {
+
+    @Test
+    public void shouldPutKeysNotSeenBefore() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+
+        assertTrue(bloomFilter.putIfAbsent(Row.of("order_1"), 0L));
+        assertTrue(bloomFilter.putIfAbsent(Row.of("order_2"), 10L));
+    }
+
+    @Test
+    public void shouldNotPutKeysSeenWithinTheTtl() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+
+        assertTrue(bloomFilter.putIfAbsent(Row.of("order_1"), 0L));
+        assertFalse(bloomFilter.putIfAbsent(Row.of("order_1"), 600L));
+        assertFalse(bloomFilter.putIfAbsent(Row.of("order_1"), 999L));
+    }
+
+    @Test
+    public void shouldForgetKeysAfterTheTtlAndOneBucket() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+
+        assertTrue(bloomFilter.putIfAbsent(Row.of("order_1"), 0L));
+        assertTrue(bloomFilter.putIfAbsent(Row.of("order_1"), 1250L));
+    }
+
+    @Test
+    public void shouldDistinguishKeysOfDifferentTypesAndColumns() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+
+        assertTrue(bloomFilter.putIfAbsent(Row.of(1L), 0L));
+        assertTrue(bloomFilter.putIfAbsent(Row.of("1"), 0L));
+        assertTrue(bloomFilter.putIfAbsent(Row.of("ab", "c"), 0L));
+        assertTrue(bloomFilter.putIfAbsent(Row.of("a", "bc"), 0L));
+        assertFalse(bloomFilter.putIfAbsent(Row.of(1), 0L));
+        assertFalse(bloomFilter.putIfAbsent(Row.of("a", "bc"), 0L));
+    }
+
+    @Test
+    public void shouldMergeTheSerializedBucketsOfOtherFilters() throws IOException {
+        TimeBucketedBloomFilter firstFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+        TimeBucketedBloomFilter secondFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+        firstFilter.putIfAbsent(Row.of("order_1"), 0L);
+        secondFilter.putIfAbsent(Row.of("order_2"), 300L);
+
+        TimeBucketedBloomFilter restoredFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+        for (byte[] serializedBucket : firstFilter.serialize()) {
+            restoredFilter.merge(serializedBucket);
+        }
+        for (byte[] serializedBucket : secondFilter.serialize()) {
+            restoredFilter.merge(serializedBucket);
+        }
+
+        assertFalse(restoredFilter.putIfAbsent(Row.of("order_1"), 500L));
+        assertFalse(restoredFilter.putIfAbsent(Row.of("order_2"), 500L));
+        assertTrue(restoredFilter.putIfAbsent(Row.of("order_3"), 500L));
+    }
+
+    @Test
+    public void shouldKeepRestoredFiltersOfOtherDimensions() throws IOException {
+        TimeBucketedBloomFilter previousFilter = new TimeBucketedBloomFilter(1000L, 4, 10, 0.01);
+        previousFilter.putIfAbsent(Row.of("order_1"), 0L);
+        List<byte[]> serializedBuckets = previousFilter.serialize();
+
+        TimeBucketedBloomFilter restoredFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.001);
+        for (byte[] serializedBucket : serializedBuckets) {
+            restoredFilter.merge(serializedBucket);
+        }
+
+        assertEquals(2, restoredFilter.serialize().size());
+        assertFalse(restoredFilter.putIfAbsent(Row.of("order_1"), 100L));
+    }
+
+    @Test
+    public void shouldEstimateTheFalsePositiveRateOfTheBuckets() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1000L, 4, 1000, 0.01);
+        assertEquals(0D, bloomFilter.getEstimatedFalsePositiveRate(), 0D);
+
+        for (int index = 0; index < 1000; index++) {
+            bloomFilter.putIfAbsent(Row.of(index), 0L);
+        }
+
+        assertEquals(0.01, bloomFilter.getEstimatedFalsePositiveRate(), 0.005);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForAnInvalidFalsePositiveRate() {
+        new TimeBucketedBloomFilter(1000L, 4, 1000, 1D);
+    }
+}
@@ -201,4 +201,17 @@ public class DartContainsTest {
         dartContains.open(functionContext);
         verify(metricGroup, Mockito.times(1)).gauge(any(String.class), any(Gauge.class));
     }
+
+    @Test
+    public void shouldRefreshInTheBackgroundAfterOpenWhenExceededRefreshRate() throws Exception {
+        when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")), new SetCache(singleton("otherField")));
+
+        DartContains dartContains = new DartContains(dataStore);
+        dartContains.open(functionContext);
+
+        assertEquals(true, dartContains.eval("someList", "someField", -1));
+        assertEquals(true, dartContains.eval("someList", "someField", -1));
+        verify(dataStore, timeout(5000).times(2)).getSet("someList");
+        dartContains.close();
+    }
 }
@@ -129,4 +129,17 @@ public class DartGetTest {
         dartGet.open(functionContext);
         verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
     }
+
+    @Test
+    public void shouldRefreshInTheBackgroundAfterOpenWhenExceededRefreshRate() throws Exception {
+        when(dataStore.getMap("someMap")).thenReturn(new MapCache(singletonMap("some-key", "value")), new MapCache(singletonMap("some-key", "new-value")));
+
+        DartGet dartGet = new DartGet(dataStore);
+        dartGet.open(functionContext);
+
+        assertEquals("value", dartGet.eval("someMap", "some-key", -1));
+        assertEquals("value", dartGet.eval("someMap", "some-key", -1));
+        verify(dataStore, timeout(5000).times(2)).getMap("someMap");
+        dartGet.close();
+    }
 }
@@ -0,0 +1,106 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store;
+
+import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CacheRefresherTest {
+    private static final long TIMEOUT_IN_SECONDS = 10;
+    private CacheRefresher<SetCache> cacheRefresher;
+    private AtomicInteger loadCount;
+    private CountDownLatch refreshed;
+
+    @Before
+    public void setUp() {
+        cacheRefresher = new CacheRefresher<>();
+        loadCount = new AtomicInteger();
+        refreshed = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        cacheRefresher.close();
+    }
+
+    private Function<String, SetCache> loader(SetCache... caches) {
+        return name -> {
+            SetCache cache = caches[Math.min(loadCount.getAndIncrement(), caches.length - 1)];
+            if (loadCount.get() > 1) {
+                refreshed.countDown();
+            }
+            return cache;
+        };
+    }
+
+    @Test
+    public void shouldLoadTheCacheOnceWithinTheRefreshInterval() {
+        SetCache cache = new SetCache(singleton("item1"));
+        Function<String, SetCache> loader = loader(cache);
+
+        assertSame(cache, cacheRefresher.get("someList", 1, loader));
+        assertSame(cache, cacheRefresher.get("someList", 1, loader));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void shouldReloadAnExpiredCacheSynchronouslyBeforeTheBackgroundRefreshStarts() {
+        SetCache cache = new SetCache(singleton("item1"));
+        SetCache refreshedCache = new SetCache(singleton("item2"));
+        Function<String, SetCache> loader = loader(cache, refreshedCache);
+
+        cacheRefresher.get("someList", -1, loader);
+
+        assertSame(refreshedCache, cacheRefresher.get("someList", -1, loader));
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void shouldServeThePreviousCacheWhileRefreshingInTheBackground() throws InterruptedException {
+        SetCache cache = new SetCache(singleton("item1"));
+        SetCache refreshedCache = new SetCache(singleton("item2"));
+        Function<String, SetCache> loader = loader(cache, refreshedCache);
+        cacheRefresher.startBackgroundRefresh("refresh");
+
+        assertSame(cache, cacheRefresher.get("someList", -1, loader));
+        assertSame(cache, cacheRefresher.get("someList", -1, loader));
+
+        assertTrue(refreshed.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS);
+        while (cacheRefresher.get("someList", 1, loader) != refreshedCache && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertSame(refreshedCache, cacheRefresher.get("someList", 1, loader));
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void shouldKeepThePreviousCacheWhenTheRefreshFails() throws InterruptedException {
+        SetCache cache = new SetCache(singleton("item1"));
+        CountDownLatch failed = new CountDownLatch(1);
+        Function<String, SetCache> loader = name -> {
+            if (loadCount.getAndIncrement() == 0) {
+                return cache;
+            }
+            failed.countDown();
+            throw new IllegalStateException("unavailable");
+        };
+        cacheRefresher.startBackgroundRefresh("refresh");
+
+        cacheRefresher.get("someList", -1, loader);
+        cacheRefresher.get("someList", -1, loader);
+
+        assertTrue(failed.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertSame(cache, cacheRefresher.get("someList", 1, loader));
+    }
+}
@@ -0,0 +1,56 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.types;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LiteralAutomatonTest {
+    private final LiteralAutomaton literalAutomaton = new LiteralAutomaton(Arrays.asList("he", "she", "his", "hers"));
+
+    @Test
+    public void shouldFindLiteralsContainedInTheText() {
+        assertTrue(literalAutomaton.isContainedIn("ushers"));
+        assertTrue(literalAutomaton.isContainedIn("this"));
+        assertTrue(literalAutomaton.isContainedIn("ahishers"));
+        assertFalse(literalAutomaton.isContainedIn("hits"));
+        assertFalse(literalAutomaton.isContainedIn(""));
+    }
+
+    @Test
+    public void shouldFindLiteralsStartingTheText() {
+        assertTrue(literalAutomaton.isPrefixOf("hers and his"));
+        assertTrue(literalAutomaton.isPrefixOf("hello"));
+        assertFalse(literalAutomaton.isPrefixOf("ushers"));
+        assertFalse(literalAutomaton.isPrefixOf("h"));
+    }
+
+    @Test
+    public void shouldFindLiteralsEndingTheText() {
+        assertTrue(literalAutomaton.isSuffixOf("ushe"));
+        assertTrue(literalAutomaton.isSuffixOf("this"));
+        assertFalse(literalAutomaton.isSuffixOf("shell"));
+        assertFalse(literalAutomaton.isSuffixOf("h"));
+    }
+
+    @Test
+    public void shouldMatchEveryTextWithAnEmptyLiteral() {
+        LiteralAutomaton emptyLiteralAutomaton = new LiteralAutomaton(Collections.singletonList(""));
+
+        assertTrue(emptyLiteralAutomaton.isContainedIn("anything"));
+        assertTrue(emptyLiteralAutomaton.isPrefixOf("anything"));
+        assertTrue(emptyLiteralAutomaton.isSuffixOf(""));
+    }
+
+    @Test
+    public void shouldMatchNothingWithoutLiterals() {
+        LiteralAutomaton noLiteralAutomaton = new LiteralAutomaton(Collections.emptyList());
+
+        assertFalse(noLiteralAutomaton.isContainedIn("anything"));
+        assertFalse(noLiteralAutomaton.isPrefixOf("anything"));
+        assertFalse(noLiteralAutomaton.isSuffixOf("anything"));
+    }
+}
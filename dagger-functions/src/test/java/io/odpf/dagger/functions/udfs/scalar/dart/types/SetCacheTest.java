@@ -7,7 +7,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static java.util.Collections.singleton;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class SetCacheTest {
     private Set<String> someContent;
@@ -51,4 +54,69 @@ public class SetCacheTest {
 
         assertEquals(false, setCache.hasExpired(1));
     }
+
+    @Test
+    public void shouldBeEmptyWhenSetIsEmpty() {
+        assertTrue(new SetCache(new HashSet<>()).isEmpty());
+        assertFalse(new SetCache(someContent).isEmpty());
+    }
+
+    @Test
+    public void shouldBeEqualForSameContent() {
+        SetCache setCache = new SetCache(someContent);
+        SetCache otherSetCache = new SetCache(new HashSet<>(Arrays.asList("item2", "item1")));
+
+        assertEquals(setCache, otherSetCache);
+        assertEquals(setCache.hashCode(), otherSetCache.hashCode());
+    }
+
+    @Test
+    public void shouldMatchTheCommonRegexTemplates() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertTrue(setCache.matches("item1", "%s"));
+        assertTrue(setCache.matches("item1-suffix", "%s.*"));
+        assertTrue(setCache.matches("prefix-item2", ".*%s"));
+        assertTrue(setCache.matches("prefix-item2-suffix", ".*%s.*"));
+        assertTrue(setCache.matches("prefix-item1-suffix", "^.*%s.*$"));
+        assertFalse(setCache.matches("item3", "%s"));
+        assertFalse(setCache.matches("prefix-item1", "%s.*"));
+        assertFalse(setCache.matches("item1-suffix", ".*%s"));
+        assertFalse(setCache.matches("prefix-item3-suffix", ".*%s.*"));
+    }
+
+    @Test
+    public void shouldMatchValuesWithRegexMetacharacters() {
+        SetCache setCache = new SetCache(new HashSet<>(Arrays.asList("item[0-9]", "a.c")));
+
+        assertTrue(setCache.matches("prefix-item7", ".*%s"));
+        assertTrue(setCache.matches("abc-suffix", "%s.*"));
+        assertFalse(setCache.matches("prefix-itemA", ".*%s"));
+    }
+
+    @Test
+    public void shouldMatchOtherRegexTemplates() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertTrue(setCache.matches("item1-123", "%s-[0-9]+"));
+        assertFalse(setCache.matches("item1-abc", "%s-[0-9]+"));
+    }
+
+    @Test
+    public void shouldNotMatchAnyAcrossALineTerminatorLikeTheRegex() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertFalse(setCache.matches("item1\nsuffix", "%s.*"));
+        assertFalse(setCache.matches("prefix\nitem1", ".*%s"));
+        assertFalse(setCache.matches("prefix\nitem1-suffix", ".*%s.*"));
+    }
+
+    @Test
+    public void shouldMatchValuesWithALineTerminatorLikeTheRegex() {
+        SetCache setCache = new SetCache(singleton("item1\nitem2"));
+
+        assertTrue(setCache.matches("prefix-item1\nitem2-suffix", ".*%s.*"));
+        assertTrue(setCache.matches("item1\nitem2-suffix", "%s.*"));
+        assertFalse(setCache.matches("prefix\nitem1\nitem2", ".*%s.*"));
+    }
 }